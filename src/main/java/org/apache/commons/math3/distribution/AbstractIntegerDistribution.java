@@ -19,11 +19,13 @@ package org.apache.commons.math3.distribution;
 import java.io.Serializable;
 import org.apache.commons.math3.exception.MathInternalError;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -212,6 +214,35 @@ public abstract class AbstractIntegerDistribution implements IntegerDistribution
         return out;
     }
 
+    /**
+     * Fills an array with values sampled from this distribution.
+     * <p>
+     * The values are drawn from the given generator rather than from the
+     * generator of this distribution, so that several threads can sample
+     * the same distribution with their own generators. Distributions that
+     * have a faster batch algorithm override this method; the sequence of
+     * values is then not the same as the one returned by {@link #sample()}.
+     * </p>
+     * <p>
+     * The default implementation uses the
+     * <a href="http://en.wikipedia.org/wiki/Inverse_transform_sampling">
+     * inversion method.
+     * </a>
+     * </p>
+     *
+     * @param out array to fill with the sampled values
+     * @param rng random generator to use
+     * @throws NullArgumentException if {@code out} or {@code rng} is null
+     * @since 3.7
+     */
+    public void sample(final int[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = inverseCumulativeProbability(rng.nextDouble());
+        }
+    }
+
     /**
      * Computes the cumulative probability function and checks for {@code NaN}
      * values returned. Throws {@code MathInternalError} if the value is
@@ -17,14 +17,21 @@
 package org.apache.commons.math3.distribution;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.analysis.solvers.UnivariateSolverUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.TaskRunner;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -50,6 +57,18 @@ public abstract class AbstractRealDistribution implements RealDistribution, Seri
      */
     private static final long serialVersionUID = -38038050983108802L;
 
+    /** Number of points evaluated by each task of the bulk evaluations. */
+    private static final int BULK_BLOCK_SIZE = 8192;
+
+    /** Identifier of the bulk evaluation of the density. */
+    private static final int DENSITY = 0;
+
+    /** Identifier of the bulk evaluation of the log density. */
+    private static final int LOG_DENSITY = 1;
+
+    /** Identifier of the bulk evaluation of the cumulative probability. */
+    private static final int CUMULATIVE_PROBABILITY = 2;
+
     /**
      * RandomData instance used to generate samples from the distribution.
      * @deprecated As of 3.1, to be removed in 4.0. Please use the
@@ -285,6 +304,35 @@ public abstract class AbstractRealDistribution implements RealDistribution, Seri
         return out;
     }
 
+    /**
+     * Fills an array with values sampled from this distribution.
+     * <p>
+     * The values are drawn from the given generator rather than from the
+     * generator of this distribution, so that several threads can sample
+     * the same distribution with their own generators. Distributions that
+     * have a faster batch algorithm override this method; the sequence of
+     * values is then not the same as the one returned by {@link #sample()}.
+     * </p>
+     * <p>
+     * The default implementation uses the
+     * <a href="http://en.wikipedia.org/wiki/Inverse_transform_sampling">
+     * inversion method.
+     * </a>
+     * </p>
+     *
+     * @param out array to fill with the sampled values
+     * @param rng random generator to use
+     * @throws NullArgumentException if {@code out} or {@code rng} is null
+     * @since 3.7
+     */
+    public void sample(final double[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = inverseCumulativeProbability(rng.nextDouble());
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -312,4 +360,235 @@ public abstract class AbstractRealDistribution implements RealDistribution, Seri
     public double logDensity(double x) {
         return FastMath.log(density(x));
     }
+
+    /**
+     * Evaluates the probability density function at several points.
+     *
+     * @param x points at which the PDF is evaluated
+     * @param out array receiving the values of the PDF, {@code out[i]} being
+     * the density at {@code x[i]} (may be the same array as {@code x})
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     * @since 3.7
+     */
+    public void density(final double[] x, final double[] out)
+        throws NullArgumentException, DimensionMismatchException {
+        evaluate(DENSITY, x, out, null);
+    }
+
+    /**
+     * Evaluates the probability density function at several points, in
+     * parallel.
+     * <p>
+     * The points are split into blocks evaluated by tasks submitted to the
+     * executor; the results are the same as in the sequential evaluation.
+     * </p>
+     *
+     * @param x points at which the PDF is evaluated
+     * @param out array receiving the values of the PDF, {@code out[i]} being
+     * the density at {@code x[i]} (may be the same array as {@code x})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the points in the calling thread
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     * @since 3.7
+     */
+    public void density(final double[] x, final double[] out, final ExecutorService executor)
+        throws NullArgumentException, DimensionMismatchException {
+        evaluate(DENSITY, x, out, executor);
+    }
+
+    /**
+     * Evaluates the logarithm of the probability density function at
+     * several points.
+     *
+     * @param x points at which the PDF is evaluated
+     * @param out array receiving the logarithms of the PDF, {@code out[i]}
+     * being the log density at {@code x[i]} (may be the same array as {@code x})
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     * @since 3.7
+     */
+    public void logDensity(final double[] x, final double[] out)
+        throws NullArgumentException, DimensionMismatchException {
+        evaluate(LOG_DENSITY, x, out, null);
+    }
+
+    /**
+     * Evaluates the logarithm of the probability density function at
+     * several points, in parallel.
+     *
+     * @param x points at which the PDF is evaluated
+     * @param out array receiving the logarithms of the PDF, {@code out[i]}
+     * being the log density at {@code x[i]} (may be the same array as {@code x})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the points in the calling thread
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     * @see #density(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public void logDensity(final double[] x, final double[] out, final ExecutorService executor)
+        throws NullArgumentException, DimensionMismatchException {
+        evaluate(LOG_DENSITY, x, out, executor);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function at several points.
+     *
+     * @param x points at which the CDF is evaluated
+     * @param out array receiving the values of the CDF, {@code out[i]} being
+     * the cumulative probability at {@code x[i]} (may be the same array as {@code x})
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     * @since 3.7
+     */
+    public void cumulativeProbability(final double[] x, final double[] out)
+        throws NullArgumentException, DimensionMismatchException {
+        evaluate(CUMULATIVE_PROBABILITY, x, out, null);
+    }
+
+    /**
+     * Evaluates the cumulative distribution function at several points, in
+     * parallel.
+     *
+     * @param x points at which the CDF is evaluated
+     * @param out array receiving the values of the CDF, {@code out[i]} being
+     * the cumulative probability at {@code x[i]} (may be the same array as {@code x})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the points in the calling thread
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     * @see #density(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public void cumulativeProbability(final double[] x, final double[] out, final ExecutorService executor)
+        throws NullArgumentException, DimensionMismatchException {
+        evaluate(CUMULATIVE_PROBABILITY, x, out, executor);
+    }
+
+    /**
+     * Evaluates the probability density function over a range of points.
+     * <p>
+     * This is the method that distributions override to provide a bulk
+     * evaluation, typically with parameter-dependent constants hoisted out
+     * of the loop. The default implementation calls {@link #density(double)}
+     * for each point.
+     * </p>
+     *
+     * @param x points at which the PDF is evaluated
+     * @param out array receiving the values of the PDF
+     * @param from index of the first point to evaluate
+     * @param to index after the last point to evaluate
+     * @since 3.7
+     */
+    protected void density(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = density(x[i]);
+        }
+    }
+
+    /**
+     * Evaluates the logarithm of the probability density function over a
+     * range of points.
+     * <p>
+     * The default implementation calls {@link #logDensity(double)} for each
+     * point.
+     * </p>
+     *
+     * @param x points at which the PDF is evaluated
+     * @param out array receiving the logarithms of the PDF
+     * @param from index of the first point to evaluate
+     * @param to index after the last point to evaluate
+     * @see #density(double[], double[], int, int)
+     * @since 3.7
+     */
+    protected void logDensity(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = logDensity(x[i]);
+        }
+    }
+
+    /**
+     * Evaluates the cumulative distribution function over a range of points.
+     * <p>
+     * The default implementation calls {@link #cumulativeProbability(double)}
+     * for each point.
+     * </p>
+     *
+     * @param x points at which the CDF is evaluated
+     * @param out array receiving the values of the CDF
+     * @param from index of the first point to evaluate
+     * @param to index after the last point to evaluate
+     * @see #density(double[], double[], int, int)
+     * @since 3.7
+     */
+    protected void cumulativeProbability(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = cumulativeProbability(x[i]);
+        }
+    }
+
+    /**
+     * Evaluates a function of the distribution at several points.
+     *
+     * @param function function to evaluate, one of {@link #DENSITY},
+     * {@link #LOG_DENSITY} or {@link #CUMULATIVE_PROBABILITY}
+     * @param x points at which the function is evaluated
+     * @param out array receiving the values
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the points in the calling thread
+     * @throws NullArgumentException if {@code x} or {@code out} is null
+     * @throws DimensionMismatchException if the arrays lengths differ
+     */
+    private void evaluate(final int function, final double[] x, final double[] out,
+                          final ExecutorService executor)
+        throws NullArgumentException, DimensionMismatchException {
+        MathUtils.checkNotNull(x);
+        MathUtils.checkNotNull(out);
+        if (out.length != x.length) {
+            throw new DimensionMismatchException(out.length, x.length);
+        }
+
+        if (executor == null) {
+            evaluate(function, x, out, 0, x.length);
+            return;
+        }
+
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        for (int start = 0; start < x.length; start += BULK_BLOCK_SIZE) {
+            final int from = start;
+            final int to = FastMath.min(start + BULK_BLOCK_SIZE, x.length);
+            tasks.add(new Runnable() {
+                /** {@inheritDoc} */
+                public void run() {
+                    evaluate(function, x, out, from, to);
+                }
+            });
+        }
+        TaskRunner.run(tasks, executor);
+    }
+
+    /**
+     * Evaluates a function of the distribution over a range of points.
+     *
+     * @param function function to evaluate
+     * @param x points at which the function is evaluated
+     * @param out array receiving the values
+     * @param from index of the first point to evaluate
+     * @param to index after the last point to evaluate
+     */
+    private void evaluate(final int function, final double[] x, final double[] out,
+                          final int from, final int to) {
+        switch (function) {
+        case DENSITY :
+            density(x, out, from, to);
+            break;
+        case LOG_DENSITY :
+            logDensity(x, out, from, to);
+            break;
+        default :
+            cumulativeProbability(x, out, from, to);
+        }
+    }
 }
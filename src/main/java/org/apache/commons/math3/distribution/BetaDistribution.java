@@ -317,6 +317,42 @@ public class BetaDistribution extends AbstractRealDistribution {
         return ChengBetaSampler.sample(random, alpha, beta);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void density(final double[] x, final double[] out, final int from, final int to) {
+        logDensity(x, out, from, to);
+        for (int i = from; i < to; i++) {
+            final double logDensity = out[i];
+            out[i] = (logDensity == Double.NEGATIVE_INFINITY) ? 0 : FastMath.exp(logDensity);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void logDensity(final double[] x, final double[] out, final int from, final int to) {
+        recomputeZ();
+        final double alphaMinus1 = alpha - 1;
+        final double betaMinus1 = beta - 1;
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            if (xi < 0 || xi > 1) {
+                out[i] = Double.NEGATIVE_INFINITY;
+            } else if (xi == 0) {
+                if (alpha < 1) {
+                    throw new NumberIsTooSmallException(LocalizedFormats.CANNOT_COMPUTE_BETA_DENSITY_AT_0_FOR_SOME_ALPHA, alpha, 1, false);
+                }
+                out[i] = Double.NEGATIVE_INFINITY;
+            } else if (xi == 1) {
+                if (beta < 1) {
+                    throw new NumberIsTooSmallException(LocalizedFormats.CANNOT_COMPUTE_BETA_DENSITY_AT_1_FOR_SOME_BETA, beta, 1, false);
+                }
+                out[i] = Double.NEGATIVE_INFINITY;
+            } else {
+                out[i] = alphaMinus1 * FastMath.log(xi) + betaMinus1 * FastMath.log1p(-xi) - z;
+            }
+        }
+    }
+
     /**
      * Utility class implementing Cheng's algorithms for beta distribution sampling.
      * <p>
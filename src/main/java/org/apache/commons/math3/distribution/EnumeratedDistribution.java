@@ -31,6 +31,7 @@ import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.util.MathArrays;
+import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.Pair;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -84,6 +85,11 @@ public class EnumeratedDistribution<T> implements Serializable {
      */
     private final double[] cumulativeProbabilities;
 
+    /**
+     * Alias table for batch sampling, built on first use.
+     */
+    private transient AliasTable aliasTable;
+
     /**
      * Create an enumerated distribution using the given probability mass function
      * enumeration.
@@ -280,4 +286,152 @@ public class EnumeratedDistribution<T> implements Serializable {
         }
         return out;
     }
+
+    /**
+     * Fills an array with values sampled from this distribution.
+     * <p>
+     * The values are drawn from the given generator rather than from the
+     * generator of this distribution. They are sampled in constant time with
+     * Walker's alias method, so the sequence of values is not the same as the
+     * one returned by {@link #sample()}. The alias table is built on the first
+     * call, in linear time.
+     * </p>
+     *
+     * @param out array to fill with the sampled values
+     * @param rng random generator to use
+     * @throws NullArgumentException if {@code out} or {@code rng} is null
+     * @since 3.7
+     */
+    public void sample(final T[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        final AliasTable table = getAliasTable();
+        for (int i = 0; i < out.length; i++) {
+            out[i] = singletons.get(table.sample(rng));
+        }
+    }
+
+    /**
+     * Samples the index of a value with Walker's alias method.
+     *
+     * @param rng random generator to use
+     * @return index of the sampled value in the list of values
+     */
+    int sampleIndex(final RandomGenerator rng) {
+        return getAliasTable().sample(rng);
+    }
+
+    /**
+     * Returns one of the values of this distribution.
+     *
+     * @param index index of the value in the list of values
+     * @return the value at the given index
+     */
+    T getSingleton(final int index) {
+        return singletons.get(index);
+    }
+
+    /**
+     * Returns the alias table, building it if needed.
+     *
+     * @return the alias table
+     */
+    private AliasTable getAliasTable() {
+        // the table is immutable, building it twice in concurrent threads is harmless
+        AliasTable table = aliasTable;
+        if (table == null) {
+            table = new AliasTable(probabilities);
+            aliasTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Alias table of a discrete distribution, as described by Vose.
+     * <p>
+     * The [0, n) interval is split into n unit columns. Column i returns
+     * value i if a uniform deviate falls below the column threshold, and
+     * the value of its alias otherwise.
+     * </p>
+     * <p>
+     * References:
+     * <ol>
+     * <li>Vose, M. D., <i>A Linear Algorithm for Generating Random Numbers
+     * with a Given Distribution.</i> IEEE Transactions on Software
+     * Engineering, Volume 17, Issue 9, 1991.</li>
+     * </ol>
+     * </p>
+     */
+    private static final class AliasTable {
+
+        /** Probability thresholds of the columns, in [0, 1]. */
+        private final double[] thresholds;
+
+        /** Alias of each column. */
+        private final int[] aliases;
+
+        /**
+         * Builds the table.
+         *
+         * @param probabilities normalized probabilities
+         */
+        AliasTable(final double[] probabilities) {
+            final int n = probabilities.length;
+            thresholds = new double[n];
+            aliases = new int[n];
+
+            final double[] scaled = new double[n];
+            final int[] small = new int[n];
+            final int[] large = new int[n];
+            int nSmall = 0;
+            int nLarge = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = probabilities[i] * n;
+                if (scaled[i] < 1) {
+                    small[nSmall++] = i;
+                } else {
+                    large[nLarge++] = i;
+                }
+            }
+
+            // complete each small column with a part of a large one
+            while (nSmall > 0 && nLarge > 0) {
+                final int s = small[--nSmall];
+                final int l = large[--nLarge];
+                thresholds[s] = scaled[s];
+                aliases[s] = l;
+                scaled[l] = (scaled[l] + scaled[s]) - 1;
+                if (scaled[l] < 1) {
+                    small[nSmall++] = l;
+                } else {
+                    large[nLarge++] = l;
+                }
+            }
+
+            // the remaining columns are full, up to rounding errors
+            while (nLarge > 0) {
+                final int l = large[--nLarge];
+                thresholds[l] = 1;
+                aliases[l] = l;
+            }
+            while (nSmall > 0) {
+                final int s = small[--nSmall];
+                thresholds[s] = 1;
+                aliases[s] = s;
+            }
+        }
+
+        /**
+         * Samples an index.
+         *
+         * @param rng random generator to use
+         * @return sampled index
+         */
+        int sample(final RandomGenerator rng) {
+            final double u = rng.nextDouble() * thresholds.length;
+            final int column = (int) u;
+            return (u - column < thresholds[column]) ? column : aliases[column];
+        }
+
+    }
 }
@@ -26,8 +26,10 @@ import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.NotANumberException;
 import org.apache.commons.math3.exception.NotFiniteNumberException;
 import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.Pair;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -277,4 +279,21 @@ public class EnumeratedIntegerDistribution extends AbstractIntegerDistribution {
     public int sample() {
         return innerDistribution.sample();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation uses Walker's alias method, which samples each
+     * value in constant time.</p>
+     *
+     * @since 3.7
+     */
+    @Override
+    public void sample(final int[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = innerDistribution.getSingleton(innerDistribution.sampleIndex(rng));
+        }
+    }
 }
@@ -17,12 +17,14 @@
 package org.apache.commons.math3.distribution;
 
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.util.CombinatoricsUtils;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.ResizableDoubleArray;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -293,6 +295,23 @@ public class ExponentialDistribution extends AbstractRealDistribution {
         return AOR_multiply(mean, (AOR_plus(a, AOR_multiply(umin, EXPONENTIAL_SA_QI[0], "org.apache.commons.math3.distribution.ExponentialDistribution.sample_243", _mut53764, _mut53765, _mut53766, _mut53767), "org.apache.commons.math3.distribution.ExponentialDistribution.sample_243", _mut53768, _mut53769, _mut53770, _mut53771)), "org.apache.commons.math3.distribution.ExponentialDistribution.sample_243", _mut53772, _mut53773, _mut53774, _mut53775);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation uses the ziggurat method of Marsaglia and Tsang,
+     * which needs a single random long for about 99% of the values.</p>
+     *
+     * @since 3.7
+     */
+    @Override
+    public void sample(final double[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = mean * ZigguratSampler.nextExponential(rng);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -368,4 +387,31 @@ public class ExponentialDistribution extends AbstractRealDistribution {
     public boolean isSupportConnected() {
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void density(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            out[i] = (xi < 0) ? 0 : FastMath.exp(-xi / mean - logMean);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void logDensity(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            out[i] = (xi < 0) ? Double.NEGATIVE_INFINITY : -xi / mean - logMean;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void cumulativeProbability(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            out[i] = (xi <= 0.0) ? 0.0 : 1.0 - FastMath.exp(-xi / mean);
+        }
+    }
 }
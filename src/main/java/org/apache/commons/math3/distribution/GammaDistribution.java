@@ -17,11 +17,13 @@
 package org.apache.commons.math3.distribution;
 
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.special.Gamma;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -520,4 +522,101 @@ public class GammaDistribution extends AbstractRealDistribution {
             }
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation uses the method of Marsaglia and Tsang for all
+     * shapes, with normal deviates generated by the ziggurat method. For
+     * shape &lt; 1, a Gamma(shape + 1) value is multiplied by
+     * U<sup>1 / shape</sup>, where U is uniform in (0, 1], as suggested in
+     * the same paper.</p>
+     *
+     * @since 3.7
+     */
+    @Override
+    public void sample(final double[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        final boolean boost = shape < 1;
+        final double d = (boost ? shape + 1 : shape) - 1.0 / 3.0;
+        final double c = 1 / (3 * FastMath.sqrt(d));
+        final double scaleD = scale * d;
+        final double invShape = 1 / shape;
+        for (int i = 0; i < out.length; i++) {
+            double value;
+            while (true) {
+                final double x = ZigguratSampler.nextNormal(rng);
+                final double t = 1 + c * x;
+                if (t <= 0) {
+                    continue;
+                }
+                final double v = t * t * t;
+                final double x2 = x * x;
+                final double u = 1 - rng.nextDouble();
+                // Squeeze
+                if (u < 1 - 0.0331 * x2 * x2 ||
+                    FastMath.log(u) < 0.5 * x2 + d * (1 - v + FastMath.log(v))) {
+                    value = scaleD * v;
+                    break;
+                }
+            }
+            if (boost) {
+                value *= FastMath.pow(1 - rng.nextDouble(), invShape);
+            }
+            out[i] = value;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void density(final double[] x, final double[] out, final int from, final int to) {
+        // see the comment in density(double) for computation details
+        final double shapeMinus1 = shape - 1;
+        final double gPlusHalf = Gamma.LANCZOS_G + 0.5;
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            if (xi < 0) {
+                out[i] = 0;
+                continue;
+            }
+            final double y = xi / scale;
+            if ((y <= minY) || (FastMath.log(y) >= maxLogY)) {
+                // overflow
+                final double aux1 = (y - shiftedShape) / shiftedShape;
+                final double aux2 = shape * (FastMath.log1p(aux1) - aux1);
+                final double aux3 = -y * gPlusHalf / shiftedShape + Gamma.LANCZOS_G + aux2;
+                out[i] = densityPrefactor2 / xi * FastMath.exp(aux3);
+            } else {
+                // natural calculation
+                out[i] = densityPrefactor1 * FastMath.exp(-y) * FastMath.pow(y, shapeMinus1);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void logDensity(final double[] x, final double[] out, final int from, final int to) {
+        // see the comment in density(double) for computation details
+        final double shapeMinus1 = shape - 1;
+        final double gPlusHalf = Gamma.LANCZOS_G + 0.5;
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            if (xi < 0) {
+                out[i] = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+            final double y = xi / scale;
+            if ((y <= minY) || (FastMath.log(y) >= maxLogY)) {
+                // overflow
+                final double aux1 = (y - shiftedShape) / shiftedShape;
+                final double aux2 = shape * (FastMath.log1p(aux1) - aux1);
+                final double aux3 = -y * gPlusHalf / shiftedShape + Gamma.LANCZOS_G + aux2;
+                out[i] = logDensityPrefactor2 - FastMath.log(xi) + aux3;
+            } else {
+                // natural calculation
+                out[i] = logDensityPrefactor1 - y + FastMath.log(y) * shapeMinus1;
+            }
+        }
+    }
 }
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.distribution;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * Precomputed inverse cumulative distribution function of a real distribution.
+ * <p>
+ * The default {@link AbstractRealDistribution#inverseCumulativeProbability(double)
+ * inverse cumulative probability} brackets the quantile and runs a Brent
+ * solver for each query. When many quantiles of the same distribution are
+ * needed, this class can be used instead: it tabulates the quantiles once,
+ * and answers each query with a few evaluations of the cumulative probability.
+ * </p>
+ * <p>
+ * The table holds quantiles {@code x[i]} at probabilities uniformly spaced in
+ * {@code (0, 1)}, completed by probabilities {@code 2^-k} and {@code 1 - 2^-k}
+ * in the tails, together with their exact cumulative probabilities
+ * {@code F(x[i])} and densities. For a probability {@code p}, the enclosing
+ * knots bracket the quantile; a monotone cubic Hermite interpolation between
+ * them, with slopes {@code 1 / density}, provides the initial guess, which is
+ * then refined by Newton iterations on {@code F(x) - p}. The iterations are
+ * safeguarded by bisection so that they never leave the bracket, and they stop
+ * only once the bracket around the quantile is narrower than the absolute
+ * accuracy: the returned value is then within the accuracy of the quantile.
+ * </p>
+ * <p>
+ * Beyond the first and last knots, the quantile is bracketed by the support
+ * bound, or by a geometrically growing distance to the knot, and refined in
+ * the same way. Probabilities 0 and 1, and all probabilities for
+ * distributions whose support is not connected, are delegated to the
+ * distribution. The table is only useful for distributions relying on the
+ * default solver-based implementation (e.g. {@link GammaDistribution},
+ * {@link BetaDistribution}, {@link FDistribution}, {@link TDistribution});
+ * distributions with a closed form inverse are faster on their own.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and can be shared between threads,
+ * provided the distribution's cumulative probability and density can.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class InverseCumulativeProbabilityTable {
+
+    /** Default number of uniformly spaced probabilities. */
+    public static final int DEFAULT_SIZE = 256;
+
+    /** Exponent of the smallest tail probabilities, {@code 2^-40}. */
+    private static final int TAIL_EXPONENT = 40;
+
+    /** Number of Newton iterations after which only bisection is used. */
+    private static final int MAX_NEWTON_ITERATIONS = 20;
+
+    /** Underlying distribution. */
+    private final AbstractRealDistribution distribution;
+
+    /** Absolute accuracy of the quantiles. */
+    private final double absoluteAccuracy;
+
+    /** Cumulative probabilities of the knots, strictly increasing. */
+    private final double[] probabilities;
+
+    /** Quantiles at the knots, strictly increasing. */
+    private final double[] quantiles;
+
+    /** Slopes of the interpolation at the left end of each interval. */
+    private final double[] leftSlopes;
+
+    /** Slopes of the interpolation at the right end of each interval. */
+    private final double[] rightSlopes;
+
+    /**
+     * Creates a table with {@link #DEFAULT_SIZE} uniformly spaced
+     * probabilities, and the absolute accuracy of the distribution solver.
+     *
+     * @param distribution distribution to invert
+     * @throws NullArgumentException if {@code distribution} is null
+     */
+    public InverseCumulativeProbabilityTable(final AbstractRealDistribution distribution)
+        throws NullArgumentException {
+        this(distribution, DEFAULT_SIZE, checkedAccuracy(distribution));
+    }
+
+    /**
+     * Creates a table.
+     *
+     * @param distribution distribution to invert
+     * @param size number of intervals of uniformly spaced probabilities
+     * @param absoluteAccuracy absolute accuracy of the quantiles
+     * @throws NullArgumentException if {@code distribution} is null
+     * @throws NumberIsTooSmallException if {@code size < 2}
+     * @throws NotStrictlyPositiveException if {@code absoluteAccuracy <= 0}
+     */
+    public InverseCumulativeProbabilityTable(final AbstractRealDistribution distribution,
+                                             final int size, final double absoluteAccuracy)
+        throws NullArgumentException, NumberIsTooSmallException, NotStrictlyPositiveException {
+        MathUtils.checkNotNull(distribution);
+        if (size < 2) {
+            throw new NumberIsTooSmallException(size, 2, true);
+        }
+        if (!(absoluteAccuracy > 0)) {
+            throw new NotStrictlyPositiveException(absoluteAccuracy);
+        }
+        this.distribution = distribution;
+        this.absoluteAccuracy = absoluteAccuracy;
+
+        if (!distribution.isSupportConnected()) {
+            // plateaus of the cumulative probability break the brackets
+            probabilities = new double[0];
+            quantiles = new double[0];
+            leftSlopes = new double[0];
+            rightSlopes = new double[0];
+            return;
+        }
+
+        // nominal probabilities: lower tail, uniform grid, upper tail
+        final double step = 1.0 / size;
+        final double[] nominal = new double[size - 1 + 2 * TAIL_EXPONENT];
+        int n = 0;
+        for (int k = TAIL_EXPONENT; k > 0; k--) {
+            final double p = FastMath.scalb(1.0, -k);
+            if (p < step) {
+                nominal[n++] = p;
+            }
+        }
+        for (int i = 1; i < size; i++) {
+            nominal[n++] = i * step;
+        }
+        for (int k = 1; k <= TAIL_EXPONENT; k++) {
+            final double p = 1 - FastMath.scalb(1.0, -k);
+            if (p > 1 - step) {
+                nominal[n++] = p;
+            }
+        }
+
+        // knots, keeping only strictly increasing quantiles and probabilities
+        final double[] c = new double[n];
+        final double[] x = new double[n];
+        final double[] slopes = new double[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            final double xi = distribution.inverseCumulativeProbability(nominal[i]);
+            final double ci = distribution.cumulativeProbability(xi);
+            if (Double.isInfinite(xi) || Double.isNaN(xi) || !(ci > 0 && ci < 1) ||
+                (m > 0 && (xi <= x[m - 1] || ci <= c[m - 1]))) {
+                continue;
+            }
+            c[m] = ci;
+            x[m] = xi;
+            slopes[m] = 1 / distribution.density(xi);
+            m++;
+        }
+        probabilities = new double[m];
+        quantiles = new double[m];
+        System.arraycopy(c, 0, probabilities, 0, m);
+        System.arraycopy(x, 0, quantiles, 0, m);
+
+        // Fritsch-Carlson monotone slopes, per interval
+        final int intervals = FastMath.max(m - 1, 0);
+        leftSlopes = new double[intervals];
+        rightSlopes = new double[intervals];
+        for (int i = 0; i < intervals; i++) {
+            final double secant = (x[i + 1] - x[i]) / (c[i + 1] - c[i]);
+            double a = slopes[i] / secant;
+            double b = slopes[i + 1] / secant;
+            if (!(a >= 0 && b >= 0) || Double.isInfinite(a) || Double.isInfinite(b)) {
+                // zero or undefined density at a knot, use a linear interpolation
+                a = 1;
+                b = 1;
+            }
+            final double norm2 = a * a + b * b;
+            if (norm2 > 9) {
+                final double tau = 3 / FastMath.sqrt(norm2);
+                a *= tau;
+                b *= tau;
+            }
+            leftSlopes[i] = a * secant;
+            rightSlopes[i] = b * secant;
+        }
+    }
+
+    /**
+     * Returns the underlying distribution.
+     *
+     * @return the distribution
+     */
+    public AbstractRealDistribution getDistribution() {
+        return distribution;
+    }
+
+    /**
+     * Returns the absolute accuracy of the quantiles.
+     *
+     * @return the absolute accuracy
+     */
+    public double getAbsoluteAccuracy() {
+        return absoluteAccuracy;
+    }
+
+    /**
+     * Computes the quantile function of the distribution.
+     *
+     * @param p cumulative probability
+     * @return the smallest {@code p}-quantile of the distribution, within the
+     * absolute accuracy of this table
+     * @throws OutOfRangeException if {@code p < 0} or {@code p > 1}
+     * @see AbstractRealDistribution#inverseCumulativeProbability(double)
+     */
+    public double inverseCumulativeProbability(final double p) throws OutOfRangeException {
+        final int last = probabilities.length - 1;
+        if (last < 1 || !(p > 0 && p < 1)) {
+            return distribution.inverseCumulativeProbability(p);
+        }
+        if (p < probabilities[0]) {
+            return refine(p, lowerTailBound(p), quantiles[0], Double.NaN);
+        }
+        if (p > probabilities[last]) {
+            return refine(p, quantiles[last], upperTailBound(p), Double.NaN);
+        }
+        final int index = Arrays.binarySearch(probabilities, p);
+        if (index >= 0) {
+            return quantiles[index];
+        }
+        final int i = -index - 2;
+        return refine(p, quantiles[i], quantiles[i + 1], interpolate(p, i));
+    }
+
+    /**
+     * Interpolates the quantile function within an interval of the table.
+     *
+     * @param p cumulative probability, within the interval
+     * @param i index of the interval
+     * @return the interpolated quantile
+     */
+    private double interpolate(final double p, final int i) {
+        final double h = probabilities[i + 1] - probabilities[i];
+        final double t = (p - probabilities[i]) / h;
+        final double t2 = t * t;
+        final double t3 = t2 * t;
+        final double h00 = 2 * t3 - 3 * t2 + 1;
+        final double h10 = t3 - 2 * t2 + t;
+        final double h01 = -2 * t3 + 3 * t2;
+        final double h11 = t3 - t2;
+        return h00 * quantiles[i] + h10 * h * leftSlopes[i] +
+               h01 * quantiles[i + 1] + h11 * h * rightSlopes[i];
+    }
+
+    /**
+     * Finds a lower bound for a quantile below the first knot of the table.
+     *
+     * @param p cumulative probability, smaller than the first tabulated one
+     * @return a value {@code x} such that {@code F(x) < p}
+     */
+    private double lowerTailBound(final double p) {
+        final double lower = distribution.getSupportLowerBound();
+        if (!Double.isInfinite(lower)) {
+            return lower;
+        }
+        double width = quantiles[quantiles.length - 1] - quantiles[0];
+        double bound = quantiles[0] - width;
+        while (distribution.cumulativeProbability(bound) >= p) {
+            width *= 2;
+            bound = quantiles[0] - width;
+        }
+        return bound;
+    }
+
+    /**
+     * Finds an upper bound for a quantile above the last knot of the table.
+     *
+     * @param p cumulative probability, larger than the last tabulated one
+     * @return a value {@code x} such that {@code F(x) > p}
+     */
+    private double upperTailBound(final double p) {
+        final double upper = distribution.getSupportUpperBound();
+        if (!Double.isInfinite(upper)) {
+            return upper;
+        }
+        final int last = quantiles.length - 1;
+        double width = quantiles[last] - quantiles[0];
+        double bound = quantiles[last] + width;
+        while (distribution.cumulativeProbability(bound) <= p) {
+            width *= 2;
+            bound = quantiles[last] + width;
+        }
+        return bound;
+    }
+
+    /**
+     * Refines a quantile by safeguarded Newton iterations.
+     *
+     * @param p cumulative probability
+     * @param lowerBound lower bound of the quantile, {@code F(lowerBound) < p}
+     * @param upperBound upper bound of the quantile, {@code F(upperBound) > p}
+     * @param guess initial guess, ignored if it is not within the bounds
+     * @return the quantile, within the absolute accuracy
+     */
+    private double refine(final double p, final double lowerBound, final double upperBound,
+                          final double guess) {
+        double lo = lowerBound;
+        double hi = upperBound;
+        double x = (guess > lo && guess < hi) ? guess : 0.5 * (lo + hi);
+        for (int iteration = 0; true; iteration++) {
+            final double fx = distribution.cumulativeProbability(x) - p;
+            if (fx == 0) {
+                return x;
+            }
+            if (fx < 0) {
+                lo = x;
+            } else {
+                hi = x;
+            }
+            final double mid = 0.5 * (lo + hi);
+            if (hi - lo <= absoluteAccuracy || mid <= lo || mid >= hi) {
+                // the bracket is narrow enough, or cannot be split anymore
+                return mid;
+            }
+
+            double next = mid;
+            if (iteration < MAX_NEWTON_ITERATIONS) {
+                final double newton = x - fx / distribution.density(x);
+                if (newton > lo && newton < hi) {
+                    next = newton;
+                    if (FastMath.abs(newton - x) <= 0.5 * absoluteAccuracy) {
+                        // converged: probe beyond the estimate, to close the bracket
+                        final double probe = (fx < 0) ?
+                                             newton + 0.5 * absoluteAccuracy :
+                                             newton - 0.5 * absoluteAccuracy;
+                        next = (probe > lo && probe < hi) ? probe : mid;
+                    }
+                }
+            }
+            x = next;
+        }
+    }
+
+    /**
+     * Returns the solver accuracy of a distribution, checking it is not null.
+     *
+     * @param distribution distribution
+     * @return the solver absolute accuracy of the distribution
+     * @throws NullArgumentException if {@code distribution} is null
+     */
+    private static double checkedAccuracy(final AbstractRealDistribution distribution)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(distribution);
+        return distribution.getSolverAbsoluteAccuracy();
+    }
+
+}
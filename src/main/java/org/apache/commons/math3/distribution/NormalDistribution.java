@@ -17,6 +17,7 @@
 package org.apache.commons.math3.distribution;
 
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
@@ -24,6 +25,7 @@ import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.special.Erf;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -341,4 +343,54 @@ public class NormalDistribution extends AbstractRealDistribution {
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.distribution.NormalDistribution.sample_307");
         return AOR_plus(AOR_multiply(standardDeviation, random.nextGaussian(), "org.apache.commons.math3.distribution.NormalDistribution.sample_307", _mut55171, _mut55172, _mut55173, _mut55174), mean, "org.apache.commons.math3.distribution.NormalDistribution.sample_307", _mut55175, _mut55176, _mut55177, _mut55178);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation uses the ziggurat method of Marsaglia and Tsang,
+     * which needs a single random long for about 99% of the values.</p>
+     *
+     * @since 3.7
+     */
+    @Override
+    public void sample(final double[] out, final RandomGenerator rng) throws NullArgumentException {
+        MathUtils.checkNotNull(out);
+        MathUtils.checkNotNull(rng);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = standardDeviation * ZigguratSampler.nextNormal(rng) + mean;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void density(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final double x1 = (x[i] - mean) / standardDeviation;
+            out[i] = FastMath.exp(-0.5 * x1 * x1 - logStandardDeviationPlusHalfLog2Pi);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void logDensity(final double[] x, final double[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final double x1 = (x[i] - mean) / standardDeviation;
+            out[i] = -0.5 * x1 * x1 - logStandardDeviationPlusHalfLog2Pi;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void cumulativeProbability(final double[] x, final double[] out, final int from, final int to) {
+        final double threshold = 40 * standardDeviation;
+        final double denom = standardDeviation * SQRT2;
+        for (int i = from; i < to; i++) {
+            final double dev = x[i] - mean;
+            if (FastMath.abs(dev) > threshold) {
+                out[i] = dev < 0 ? 0.0d : 1.0d;
+            } else {
+                out[i] = 0.5 * Erf.erfc(-dev / denom);
+            }
+        }
+    }
 }
@@ -283,4 +283,26 @@ public class TDistribution extends AbstractRealDistribution {
     public boolean isSupportConnected() {
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void density(final double[] x, final double[] out, final int from, final int to) {
+        final double n = degreesOfFreedom;
+        final double nPlus1Over2 = (n + 1) / 2;
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            out[i] = FastMath.exp(factor - nPlus1Over2 * FastMath.log(1 + xi * xi / n));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void logDensity(final double[] x, final double[] out, final int from, final int to) {
+        final double n = degreesOfFreedom;
+        final double nPlus1Over2 = (n + 1) / 2;
+        for (int i = from; i < to; i++) {
+            final double xi = x[i];
+            out[i] = factor - nPlus1Over2 * FastMath.log(1 + xi * xi / n);
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.distribution;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Standard normal and exponential deviates generated by the ziggurat method.
+ * <p>
+ * The density is covered by layers of equal area: 128 layers for the normal
+ * density and 256 layers for the exponential density. A single random long
+ * provides both the layer index (its low 8 bits) and the abscissa (its high
+ * 56 bits); the abscissa is accepted without further computation as long as
+ * it falls in the rectangular part of its layer, which happens about 99% of
+ * the time. The other cases are handled by rejection under the exact density
+ * or, for the base layer, by sampling the tail.
+ * </p>
+ * <p>
+ * References:
+ * <ol>
+ * <li>Marsaglia, G. and Tsang, W. W., <i>The Ziggurat Method for Generating
+ * Random Variables.</i> Journal of Statistical Software, Volume 5, Issue 8,
+ * 2000.</li>
+ * </ol>
+ * </p>
+ * <p>
+ * This class is not intended to be called directly.
+ * </p>
+ *
+ * @since 3.7
+ */
+final class ZigguratSampler {
+
+    /** Number of layers for the normal density. */
+    private static final int NORMAL_LAYERS = 128;
+
+    /** Start of the tail of the normal density. */
+    private static final double NORMAL_R = 3.442619855899;
+
+    /** Area of each layer of the normal density. */
+    private static final double NORMAL_V = 9.91256303526217e-3;
+
+    /** Number of layers for the exponential density. */
+    private static final int EXPONENTIAL_LAYERS = 256;
+
+    /** Start of the tail of the exponential density. */
+    private static final double EXPONENTIAL_R = 7.697117470131487;
+
+    /** Area of each layer of the exponential density. */
+    private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+
+    /** Scale of the 56 bits signed abscissa of the normal layers. */
+    private static final double NORMAL_SCALE = 0x1.0p55;
+
+    /** Scale of the 56 bits unsigned abscissa of the exponential layers. */
+    private static final double EXPONENTIAL_SCALE = 0x1.0p56;
+
+    /** Thresholds of the rectangular parts of the normal layers. */
+    private static final long[] KN = new long[NORMAL_LAYERS];
+
+    /** Widths of the normal layers, divided by the abscissa scale. */
+    private static final double[] WN = new double[NORMAL_LAYERS];
+
+    /** Density at the upper edge of the normal layers. */
+    private static final double[] FN = new double[NORMAL_LAYERS];
+
+    /** Thresholds of the rectangular parts of the exponential layers. */
+    private static final long[] KE = new long[EXPONENTIAL_LAYERS];
+
+    /** Widths of the exponential layers, divided by the abscissa scale. */
+    private static final double[] WE = new double[EXPONENTIAL_LAYERS];
+
+    /** Density at the upper edge of the exponential layers. */
+    private static final double[] FE = new double[EXPONENTIAL_LAYERS];
+
+    static {
+        // normal layers
+        double dn = NORMAL_R;
+        double tn = dn;
+        final double qn = NORMAL_V / FastMath.exp(-0.5 * dn * dn);
+        KN[0] = (long) ((dn / qn) * NORMAL_SCALE);
+        KN[1] = 0;
+        WN[0] = qn / NORMAL_SCALE;
+        WN[NORMAL_LAYERS - 1] = dn / NORMAL_SCALE;
+        FN[0] = 1.0;
+        FN[NORMAL_LAYERS - 1] = FastMath.exp(-0.5 * dn * dn);
+        for (int i = NORMAL_LAYERS - 2; i >= 1; i--) {
+            dn = FastMath.sqrt(-2 * FastMath.log(NORMAL_V / dn + FastMath.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (long) ((dn / tn) * NORMAL_SCALE);
+            tn = dn;
+            FN[i] = FastMath.exp(-0.5 * dn * dn);
+            WN[i] = dn / NORMAL_SCALE;
+        }
+
+        // exponential layers
+        double de = EXPONENTIAL_R;
+        double te = de;
+        final double qe = EXPONENTIAL_V / FastMath.exp(-de);
+        KE[0] = (long) ((de / qe) * EXPONENTIAL_SCALE);
+        KE[1] = 0;
+        WE[0] = qe / EXPONENTIAL_SCALE;
+        WE[EXPONENTIAL_LAYERS - 1] = de / EXPONENTIAL_SCALE;
+        FE[0] = 1.0;
+        FE[EXPONENTIAL_LAYERS - 1] = FastMath.exp(-de);
+        for (int i = EXPONENTIAL_LAYERS - 2; i >= 1; i--) {
+            de = -FastMath.log(EXPONENTIAL_V / de + FastMath.exp(-de));
+            KE[i + 1] = (long) ((de / te) * EXPONENTIAL_SCALE);
+            te = de;
+            FE[i] = FastMath.exp(-de);
+            WE[i] = de / EXPONENTIAL_SCALE;
+        }
+    }
+
+    /** Private constructor for utility class. */
+    private ZigguratSampler() {
+    }
+
+    /**
+     * Generates a standard normal deviate.
+     *
+     * @param rng random generator to use
+     * @return a normally distributed value with mean 0 and standard deviation 1
+     */
+    static double nextNormal(final RandomGenerator rng) {
+        final long bits = rng.nextLong();
+        final int i = (int) (bits & (NORMAL_LAYERS - 1));
+        // arithmetic shift: signed abscissa on 56 bits
+        final long j = bits >> 8;
+        if ((j < 0 ? -j : j) < KN[i]) {
+            return j * WN[i];
+        }
+        return normalFix(rng, j, i);
+    }
+
+    /**
+     * Generates a standard exponential deviate.
+     *
+     * @param rng random generator to use
+     * @return an exponentially distributed value with mean 1
+     */
+    static double nextExponential(final RandomGenerator rng) {
+        final long bits = rng.nextLong();
+        final int i = (int) (bits & (EXPONENTIAL_LAYERS - 1));
+        // logical shift: unsigned abscissa on 56 bits
+        final long j = bits >>> 8;
+        if (j < KE[i]) {
+            return j * WE[i];
+        }
+        return exponentialFix(rng, j, i);
+    }
+
+    /**
+     * Handles the normal abscissas falling outside of the rectangular part
+     * of their layer.
+     *
+     * @param rng random generator to use
+     * @param first signed abscissa
+     * @param firstLayer layer index
+     * @return a normally distributed value with mean 0 and standard deviation 1
+     */
+    private static double normalFix(final RandomGenerator rng, final long first, final int firstLayer) {
+        long j = first;
+        int i = firstLayer;
+        while (true) {
+            if (i == 0) {
+                // tail beyond R, sampled as in Marsaglia (1964)
+                double x;
+                double y;
+                do {
+                    x = -FastMath.log(1 - rng.nextDouble()) / NORMAL_R;
+                    y = -FastMath.log(1 - rng.nextDouble());
+                } while (y + y < x * x);
+                return (j > 0) ? NORMAL_R + x : -NORMAL_R - x;
+            }
+
+            final double x = j * WN[i];
+            if (FN[i] + rng.nextDouble() * (FN[i - 1] - FN[i]) < FastMath.exp(-0.5 * x * x)) {
+                return x;
+            }
+
+            final long bits = rng.nextLong();
+            i = (int) (bits & (NORMAL_LAYERS - 1));
+            j = bits >> 8;
+            if ((j < 0 ? -j : j) < KN[i]) {
+                return j * WN[i];
+            }
+        }
+    }
+
+    /**
+     * Handles the exponential abscissas falling outside of the rectangular
+     * part of their layer.
+     *
+     * @param rng random generator to use
+     * @param first unsigned abscissa
+     * @param firstLayer layer index
+     * @return an exponentially distributed value with mean 1
+     */
+    private static double exponentialFix(final RandomGenerator rng, final long first, final int firstLayer) {
+        long j = first;
+        int i = firstLayer;
+        while (true) {
+            if (i == 0) {
+                // the tail of the exponential is a shifted exponential
+                return EXPONENTIAL_R - FastMath.log(1 - rng.nextDouble());
+            }
+
+            final double x = j * WE[i];
+            if (FE[i] + rng.nextDouble() * (FE[i - 1] - FE[i]) < FastMath.exp(-x)) {
+                return x;
+            }
+
+            final long bits = rng.nextLong();
+            i = (int) (bits & (EXPONENTIAL_LAYERS - 1));
+            j = bits >>> 8;
+            if (j < KE[i]) {
+                return j * WE[i];
+            }
+        }
+    }
+
+}
@@ -17,15 +17,20 @@
 package org.apache.commons.math3.random;
 
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.ConstantRealDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
@@ -40,7 +45,9 @@ import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathArrays;
 import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.TaskRunner;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -96,7 +103,11 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  *    is to set the bin count to approximately the length of the input file divided
  *    by 10. </li>
  *<li>The input file <i>must</i> be a plain text file containing one valid numeric
- *    entry per line.</li>
+ *    entry per line, or a binary file of doubles for {@link #loadBinary(File,
+ *    java.util.concurrent.ExecutorService) loadBinary}.</li>
+ *<li>Files are memory-mapped and read by chunks, so they may be larger than the
+ *    available memory. The chunks can be parsed in parallel by a user-supplied
+ *    executor service; the values are still accumulated in file order.</li>
  * </ul></p>
  */
 public class EmpiricalDistribution extends AbstractRealDistribution {
@@ -114,6 +125,16 @@ public class EmpiricalDistribution extends AbstractRealDistribution {
      */
     private static final String FILE_CHARSET = "US-ASCII";
 
+    /**
+     * Nominal size in bytes of the chunks of memory-mapped files
+     */
+    private static final int MAPPED_CHUNK_SIZE = 1 << 22;
+
+    /**
+     * Maximal number of chunks of memory-mapped files parsed in parallel
+     */
+    private static final int PARSED_CHUNKS = 16;
+
     /**
      * Serializable version identifier
      */
@@ -317,26 +338,162 @@ public class EmpiricalDistribution extends AbstractRealDistribution {
      * @throws NullArgumentException if file is null
      */
     public void load(File file) throws IOException, NullArgumentException {
+        load(file, null);
+    }
+
+    /**
+     * Computes the empirical distribution from the input file, parsing
+     * it in parallel.
+     *
+     * <p>The input file <i>must</i> be an ASCII text file containing one
+     * valid numeric entry per line.</p>
+     *
+     * <p>The file is memory-mapped and split into chunks at line boundaries.
+     * The chunks are parsed by tasks submitted to the executor, while the
+     * parsed values are accumulated in the calling thread in file order, so
+     * the loaded distribution is exactly the same as the one computed by
+     * {@link #load(File)}.</p>
+     *
+     * @param file the input file
+     * @param executor executor service to which the parsing tasks are
+     * submitted, or null to parse the file in the calling thread
+     * @throws IOException if an IO error occurs
+     * @throws NullArgumentException if file is null
+     * @since 3.7
+     */
+    public void load(File file, ExecutorService executor) throws IOException, NullArgumentException {
+        loadMapped(file, false, MAPPED_CHUNK_SIZE, executor);
+    }
+
+    /**
+     * Computes the empirical distribution from a binary input file.
+     *
+     * <p>The input file <i>must</i> contain only big-endian IEEE 754
+     * double values, as written by {@link java.io.DataOutputStream#writeDouble(double)}.
+     * The file is memory-mapped and read by chunks, so it may be larger
+     * than the available memory.</p>
+     *
+     * @param file the input file
+     * @param executor executor service to which the reading tasks are
+     * submitted, or null to read the file in the calling thread
+     * @throws IOException if an IO error occurs, or if the file length is not
+     * a multiple of the size of a double
+     * @throws NullArgumentException if file is null
+     * @since 3.7
+     */
+    public void loadBinary(File file, ExecutorService executor) throws IOException, NullArgumentException {
+        loadMapped(file, true, MAPPED_CHUNK_SIZE, executor);
+    }
+
+    /**
+     * Computes the empirical distribution from a memory-mapped file.
+     *
+     * @param file the input file
+     * @param binary if true, the file contains binary double values,
+     * otherwise it contains one numeric entry per line
+     * @param chunkSize nominal size of the chunks in bytes (must be a
+     * multiple of 8 for binary files)
+     * @param executor executor service to which the reading tasks are
+     * submitted, or null to read the file in the calling thread
+     * @throws IOException if an IO error occurs
+     * @throws NullArgumentException if file is null
+     */
+    void loadMapped(final File file, final boolean binary, final int chunkSize,
+                    final ExecutorService executor)
+        throws IOException, NullArgumentException {
         MathUtils.checkNotNull(file);
-        Charset charset = Charset.forName(FILE_CHARSET);
-        InputStream is = new FileInputStream(file);
-        BufferedReader in = new BufferedReader(new InputStreamReader(is, charset));
+        final FileInputStream is = new FileInputStream(file);
         try {
-            DataAdapter da = new StreamDataAdapter(in);
+            final FileChannel channel = is.getChannel();
+            final long[] boundaries;
+            if (binary) {
+                if (channel.size() % 8 != 0) {
+                    throw new EOFException(file + " does not contain a whole number of doubles");
+                }
+                boundaries = fixedBoundaries(channel.size(), chunkSize);
+            } else {
+                boundaries = lineBoundaries(channel, chunkSize);
+            }
+            DataAdapter da = new MappedDataAdapter(channel, boundaries, binary, executor);
             da.computeStats();
-            // new adapter for second pass
-            is = new FileInputStream(file);
-            in = new BufferedReader(new InputStreamReader(is, charset));
-            fillBinStats(new StreamDataAdapter(in));
+            // the chunks are mapped again for the second pass
+            fillBinStats(new MappedDataAdapter(channel, boundaries, binary, executor));
             loaded = true;
         } finally {
             try {
-                in.close();
+                is.close();
             } catch (IOException ex) {
             }
         }
     }
 
+    /**
+     * Splits a file into chunks of a fixed size.
+     *
+     * @param length file length
+     * @param chunkSize size of the chunks
+     * @return boundaries of the chunks (the first one is 0, the last one is the file length)
+     */
+    private static long[] fixedBoundaries(final long length, final int chunkSize) {
+        final int chunks = (int) ((length + chunkSize - 1) / chunkSize);
+        final long[] boundaries = new long[chunks + 1];
+        for (int i = 1; i < chunks; i++) {
+            boundaries[i] = (long) i * chunkSize;
+        }
+        boundaries[chunks] = length;
+        return boundaries;
+    }
+
+    /**
+     * Splits a text file into chunks ending at line boundaries.
+     * <p>
+     * Each chunk but the last one extends from its nominal end to the
+     * following line feed, included.
+     * </p>
+     *
+     * @param channel channel to the file
+     * @param chunkSize nominal size of the chunks
+     * @return boundaries of the chunks (the first one is 0, the last one is the file length)
+     * @throws IOException if an IO error occurs
+     */
+    private static long[] lineBoundaries(final FileChannel channel, final int chunkSize)
+        throws IOException {
+        final long length = channel.size();
+        // all chunks but the last one have at least chunkSize bytes
+        final long[] boundaries = new long[(int) (length / chunkSize) + 2];
+        final ByteBuffer probe = ByteBuffer.allocate(256);
+        int count = 1;
+        long start = 0;
+        while (length - start > chunkSize) {
+            long end = -1;
+            long position = start + chunkSize - 1;
+            while (end < 0 && position < length) {
+                probe.clear();
+                final int read = channel.read(probe, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        end = position + i + 1;
+                        break;
+                    }
+                }
+                position += read;
+            }
+            if (end < 0 || end >= length) {
+                // no line feed until the end of the file
+                break;
+            }
+            boundaries[count++] = end;
+            start = end;
+        }
+        boundaries[count++] = length;
+        final long[] trimmed = new long[count];
+        System.arraycopy(boundaries, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
     /**
      * Provides methods for computing <code>sampleStats</code> and
      * <code>beanStats</code> abstracting the source of data.
@@ -462,6 +619,219 @@ public class EmpiricalDistribution extends AbstractRealDistribution {
         }
     }
 
+    /**
+     * <code>DataAdapter</code> for data read from a memory-mapped file.
+     * <p>
+     * The chunks of the file are read by windows of up to
+     * {@link #PARSED_CHUNKS} chunks: the chunks of a window are parsed in
+     * parallel, then their values are accumulated in file order.
+     * </p>
+     */
+    private class MappedDataAdapter extends DataAdapter {
+
+        /** Channel to the file. */
+        private final FileChannel channel;
+
+        /** Boundaries of the chunks. */
+        private final long[] boundaries;
+
+        /** Indicator for binary files. */
+        private final boolean binary;
+
+        /** Executor service for the parsing tasks (may be null). */
+        private final ExecutorService executor;
+
+        /** Parsed chunks of the current window. */
+        private final ParsedChunk[] window;
+
+        /**
+         * Create a MappedDataAdapter.
+         *
+         * @param channel channel to the file
+         * @param boundaries boundaries of the chunks
+         * @param binary if true, the file contains binary double values
+         * @param executor executor service for the parsing tasks, or null
+         */
+        MappedDataAdapter(final FileChannel channel, final long[] boundaries,
+                          final boolean binary, final ExecutorService executor) {
+            super();
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.binary = binary;
+            this.executor = executor;
+            final int chunks = boundaries.length - 1;
+            final int size = (executor == null) ? 1 : FastMath.min(PARSED_CHUNKS, chunks);
+            window = new ParsedChunk[size];
+            for (int i = 0; i < size; i++) {
+                window[i] = new ParsedChunk();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void computeBinStats() throws IOException {
+            readChunks(true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void computeStats() throws IOException {
+            sampleStats = new SummaryStatistics();
+            readChunks(false);
+        }
+
+        /**
+         * Reads all the chunks and accumulates their values.
+         *
+         * @param bins if true, the values are added to the bin statistics,
+         * otherwise they are added to the sample statistics
+         * @throws IOException if an IO error occurs
+         */
+        private void readChunks(final boolean bins) throws IOException {
+            final int chunks = boundaries.length - 1;
+            for (int first = 0; first < chunks; first += window.length) {
+                final int last = FastMath.min(first + window.length, chunks);
+                final List<Runnable> tasks = new ArrayList<Runnable>(last - first);
+                for (int c = first; c < last; c++) {
+                    final ParsedChunk parsed = window[c - first];
+                    final long start = boundaries[c];
+                    final long end = boundaries[c + 1];
+                    tasks.add(new Runnable() {
+                        /** {@inheritDoc} */
+                        public void run() {
+                            parsed.read(channel, start, end, binary);
+                        }
+                    });
+                }
+                TaskRunner.run(tasks, executor);
+
+                for (int c = first; c < last; c++) {
+                    final ParsedChunk parsed = window[c - first];
+                    if (parsed.failure != null) {
+                        throw parsed.failure;
+                    }
+                    final double[] values = parsed.values;
+                    final int size = parsed.size;
+                    if (bins) {
+                        for (int i = 0; i < size; i++) {
+                            binStats.get(findBin(values[i])).addValue(values[i]);
+                        }
+                    } else {
+                        for (int i = 0; i < size; i++) {
+                            sampleStats.addValue(values[i]);
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Values parsed from one chunk of a memory-mapped file.
+     * <p>
+     * The values array is reused from one chunk to the next.
+     * </p>
+     */
+    private static class ParsedChunk {
+
+        /** Parsed values. */
+        private double[] values = new double[1024];
+
+        /** Number of parsed values. */
+        private int size;
+
+        /** IO error raised while reading the chunk, if any. */
+        private IOException failure;
+
+        /**
+         * Reads a chunk.
+         *
+         * @param channel channel to the file
+         * @param start start of the chunk in the file
+         * @param end end of the chunk in the file (excluded)
+         * @param binary if true, the chunk contains binary double values,
+         * otherwise it contains one numeric entry per line
+         */
+        void read(final FileChannel channel, final long start, final long end,
+                  final boolean binary) {
+            size = 0;
+            failure = null;
+            final MappedByteBuffer bytes;
+            try {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException ioe) {
+                failure = ioe;
+                return;
+            }
+            if (binary) {
+                final DoubleBuffer doubles = bytes.asDoubleBuffer();
+                size = doubles.remaining();
+                if (values.length < size) {
+                    values = new double[size];
+                }
+                doubles.get(values, 0, size);
+            } else {
+                parseLines(bytes);
+            }
+        }
+
+        /**
+         * Parses one numeric entry per line.
+         * <p>
+         * Lines are terminated by a line feed, a carriage return, or a
+         * carriage return followed by a line feed, as in
+         * {@link BufferedReader#readLine()}.
+         * </p>
+         *
+         * @param bytes ASCII text of the chunk
+         * @throws NumberFormatException if a line does not contain a number
+         */
+        private void parseLines(final ByteBuffer bytes) throws NumberFormatException {
+            final int length = bytes.remaining();
+            char[] line = new char[32];
+            int lineLength = 0;
+            for (int i = 0; i < length; i++) {
+                final byte b = bytes.get(i);
+                if (b == '\n' || b == '\r') {
+                    add(Double.parseDouble(new String(line, 0, lineLength)));
+                    lineLength = 0;
+                    if (b == '\r' && i + 1 < length && bytes.get(i + 1) == '\n') {
+                        ++i;
+                    }
+                } else {
+                    if (lineLength == line.length) {
+                        final char[] larger = new char[2 * lineLength];
+                        System.arraycopy(line, 0, larger, 0, lineLength);
+                        line = larger;
+                    }
+                    line[lineLength++] = (char) (b & 0xff);
+                }
+            }
+            if (lineLength > 0) {
+                // last line of the file, without terminator
+                add(Double.parseDouble(new String(line, 0, lineLength)));
+            }
+        }
+
+        /**
+         * Adds a parsed value.
+         *
+         * @param value value to add
+         */
+        private void add(final double value) {
+            if (size == values.length) {
+                values = MathArrays.copyOf(values, 2 * size);
+            }
+            values[size++] = value;
+        }
+
+    }
+
     /**
      * Fills binStats array (second pass through data file).
      *
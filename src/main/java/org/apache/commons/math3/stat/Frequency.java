@@ -61,6 +61,9 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * <p>
  * The values are ordered using the default (natural order), unless a
  * <code>Comparator</code> is supplied in the constructor.</p>
+ * <p>
+ * For large numbers of int or long values, {@link LongFrequency} provides the
+ * same statistics without boxing the values and counts.</p>
  */
 public class Frequency implements Serializable {
 
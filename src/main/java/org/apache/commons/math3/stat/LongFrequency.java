@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat;
+
+import java.io.Serializable;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.OpenLongToLongHashMap;
+
+/**
+ * Maintains a frequency distribution of integral values.
+ * <p>
+ * This class provides the same statistics as {@link Frequency} for int and
+ * long values, without boxing either the values or the counts: the counts
+ * are stored in an {@link OpenLongToLongHashMap}, so that adding a value
+ * costs a single hash table probe and no allocation. This makes it suitable
+ * for very large numbers of events.
+ * </p>
+ * <p>
+ * Cumulative statistics ({@link #getCumFreq(long)}, {@link #getCumPct(long)})
+ * are computed by binary search from a sorted view of the distinct values
+ * and their cumulative counts. This view is built lazily, on the first such
+ * query following a modification, so interleaving many modifications and
+ * cumulative queries should be avoided.
+ * </p>
+ * <p>
+ * byte, short and char values are implicitly converted to long values by the
+ * compiler; unlike in {@link Frequency}, chars are therefore counted by code.
+ * </p>
+ * <p>
+ * Note that this implementation is not synchronized.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class LongFrequency implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20161019L;
+
+    /** Counts of the values. */
+    private OpenLongToLongHashMap counts;
+
+    /** Sum of the counts. */
+    private long sumFreq;
+
+    /** Sorted distinct values, or null if they must be recomputed. */
+    private transient long[] sortedValues;
+
+    /** Cumulative counts of the sorted values, up to and including each one. */
+    private transient long[] cumFreqs;
+
+    /**
+     * Creates an empty frequency distribution.
+     */
+    public LongFrequency() {
+        clear();
+    }
+
+    /**
+     * Adds 1 to the frequency count for v.
+     *
+     * @param v the value to add.
+     */
+    public void addValue(final long v) {
+        incrementValue(v, 1);
+    }
+
+    /**
+     * Increments the frequency count for v.
+     *
+     * @param v the value to add.
+     * @param increment the amount by which the value should be incremented
+     */
+    public void incrementValue(final long v, final long increment) {
+        counts.increment(v, increment);
+        sumFreq += increment;
+        sortedValues = null;
+    }
+
+    /** Clears the frequency table */
+    public void clear() {
+        counts = new OpenLongToLongHashMap();
+        sumFreq = 0;
+        sortedValues = null;
+    }
+
+    /**
+     * Returns the sum of all frequencies.
+     *
+     * @return the total frequency count.
+     */
+    public long getSumFreq() {
+        return sumFreq;
+    }
+
+    /**
+     * Returns the number of values equal to v.
+     *
+     * @param v the value to lookup.
+     * @return the frequency of v.
+     */
+    public long getCount(final long v) {
+        return counts.get(v);
+    }
+
+    /**
+     * Returns the number of values in the frequency table.
+     *
+     * @return the number of unique values that have been added to the frequency table.
+     */
+    public int getUniqueCount() {
+        return counts.size();
+    }
+
+    /**
+     * Returns the distinct values, in increasing order.
+     *
+     * @return a new array holding the sorted values
+     */
+    public long[] getValues() {
+        updateSortedView();
+        return sortedValues.clone();
+    }
+
+    /**
+     * Returns the percentage of values that are equal to v
+     * (as a proportion between 0 and 1).
+     * <p>
+     * Returns <code>Double.NaN</code> if no values have been added.</p>
+     *
+     * @param v the value to lookup
+     * @return the proportion of values equal to v
+     */
+    public double getPct(final long v) {
+        if (sumFreq == 0) {
+            return Double.NaN;
+        }
+        return (double) getCount(v) / (double) sumFreq;
+    }
+
+    /**
+     * Returns the cumulative frequency of values less than or equal to v.
+     *
+     * @param v the value to lookup.
+     * @return the number of values less than or equal to v
+     */
+    public long getCumFreq(final long v) {
+        if (sumFreq == 0) {
+            return 0;
+        }
+        updateSortedView();
+        final int index = Arrays.binarySearch(sortedValues, v);
+        if (index >= 0) {
+            return cumFreqs[index];
+        }
+        // v is not a key, count the values before its insertion point
+        final int insertion = -index - 1;
+        return (insertion == 0) ? 0 : cumFreqs[insertion - 1];
+    }
+
+    /**
+     * Returns the cumulative percentage of values less than or equal to v
+     * (as a proportion between 0 and 1).
+     * <p>
+     * Returns <code>Double.NaN</code> if no values have been added.</p>
+     *
+     * @param v the value to lookup
+     * @return the proportion of values less than or equal to v
+     */
+    public double getCumPct(final long v) {
+        if (sumFreq == 0) {
+            return Double.NaN;
+        }
+        return (double) getCumFreq(v) / (double) sumFreq;
+    }
+
+    /**
+     * Returns the mode value(s) in increasing order.
+     * <p>
+     * If there is a tie, all the values with the highest count are returned.
+     * </p>
+     *
+     * @return the modes, empty if no values have been added
+     */
+    public long[] getMode() {
+        updateSortedView();
+        // frequencies are always positive
+        long mostPopular = 0;
+        long previous = 0;
+        int modes = 0;
+        for (int i = 0; i < sortedValues.length; i++) {
+            final long frequency = cumFreqs[i] - previous;
+            previous = cumFreqs[i];
+            if (frequency > mostPopular) {
+                mostPopular = frequency;
+                modes = 1;
+            } else if (frequency == mostPopular) {
+                ++modes;
+            }
+        }
+        final long[] modeList = new long[modes];
+        int j = 0;
+        previous = 0;
+        for (int i = 0; i < sortedValues.length; i++) {
+            if (cumFreqs[i] - previous == mostPopular) {
+                modeList[j++] = sortedValues[i];
+            }
+            previous = cumFreqs[i];
+        }
+        return modeList;
+    }
+
+    /**
+     * Merge another LongFrequency object's counts into this instance.
+     * This LongFrequency's counts will be incremented (or set when not
+     * already set) by the counts represented by other.
+     *
+     * @param other the other {@link LongFrequency} object to be merged
+     * @throws NullArgumentException if {@code other} is null
+     */
+    public void merge(final LongFrequency other) throws NullArgumentException {
+        MathUtils.checkNotNull(other, LocalizedFormats.NULL_NOT_ALLOWED);
+        // the keys and values are copied first, as other may be this instance
+        final long[] keys = other.counts.keys();
+        final long[] values = other.counts.values();
+        for (int i = 0; i < keys.length; i++) {
+            counts.increment(keys[i], values[i]);
+        }
+        sumFreq += other.sumFreq;
+        sortedValues = null;
+    }
+
+    /**
+     * Merge a {@link Collection} of {@link LongFrequency} objects into this
+     * instance.
+     *
+     * @param others other {@link LongFrequency} objects to be merged
+     * @throws NullArgumentException if the collection is null
+     */
+    public void merge(final Collection<LongFrequency> others) throws NullArgumentException {
+        MathUtils.checkNotNull(others, LocalizedFormats.NULL_NOT_ALLOWED);
+        for (final LongFrequency freq : others) {
+            merge(freq);
+        }
+    }
+
+    /**
+     * Returns a {@link Frequency} holding the same counts.
+     *
+     * @return a new frequency distribution, with Long values
+     */
+    public Frequency toFrequency() {
+        final Frequency frequency = new Frequency();
+        final OpenLongToLongHashMap.Iterator iterator = counts.iterator();
+        while (iterator.hasNext()) {
+            iterator.advance();
+            frequency.incrementValue(iterator.key(), iterator.value());
+        }
+        return frequency;
+    }
+
+    /**
+     * Return a string representation of this frequency distribution.
+     *
+     * @return a string representation.
+     */
+    @Override
+    public String toString() {
+        updateSortedView();
+        final NumberFormat nf = NumberFormat.getPercentInstance();
+        final StringBuilder outBuffer = new StringBuilder();
+        outBuffer.append("Value \t Freq. \t Pct. \t Cum Pct. \n");
+        long previous = 0;
+        for (int i = 0; i < sortedValues.length; i++) {
+            final long count = cumFreqs[i] - previous;
+            previous = cumFreqs[i];
+            outBuffer.append(sortedValues[i]);
+            outBuffer.append('\t');
+            outBuffer.append(count);
+            outBuffer.append('\t');
+            outBuffer.append(nf.format((double) count / sumFreq));
+            outBuffer.append('\t');
+            outBuffer.append(nf.format((double) cumFreqs[i] / sumFreq));
+            outBuffer.append('\n');
+        }
+        return outBuffer.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        updateSortedView();
+        return 31 * Arrays.hashCode(sortedValues) + Arrays.hashCode(cumFreqs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongFrequency)) {
+            return false;
+        }
+        final LongFrequency other = (LongFrequency) obj;
+        updateSortedView();
+        other.updateSortedView();
+        return Arrays.equals(sortedValues, other.sortedValues) &&
+               Arrays.equals(cumFreqs, other.cumFreqs);
+    }
+
+    /**
+     * Sorts the distinct values and computes their cumulative counts, if they
+     * have been modified since the last call.
+     */
+    private void updateSortedView() {
+        if (sortedValues != null) {
+            return;
+        }
+        final long[] sorted = counts.keys();
+        Arrays.sort(sorted);
+        final long[] cumulative = new long[sorted.length];
+        long sum = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            sum += counts.get(sorted[i]);
+            cumulative[i] = sum;
+        }
+        cumFreqs = cumulative;
+        sortedValues = sorted;
+    }
+
+}
@@ -36,6 +36,7 @@ import org.apache.commons.math3.stat.descriptive.summary.Product;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfLogs;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfSquares;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -138,6 +139,26 @@ public final class StatUtils {
         return SUM.evaluate(values, begin, length);
     }
 
+    /**
+     * Returns the sum of the entries in the specified portion of
+     * the input array, computed with the specified summation method, or
+     * <code>Double.NaN</code> if the designated subarray is empty.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param method summation method
+     * @return the sum of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array is null or the array index
+     *  parameters are not valid
+     * @throws NullArgumentException if method is null
+     * @since 3.7
+     */
+    public static double sum(final double[] values, final int begin, final int length,
+                             final SummationMethod method) throws MathIllegalArgumentException {
+        return new Sum(method).evaluate(values, begin, length);
+    }
+
     /**
      * Returns the sum of the squares of the entries in the input array, or
      * <code>Double.NaN</code> if the array is empty.
@@ -281,6 +302,26 @@ public final class StatUtils {
         return MEAN.evaluate(values, begin, length);
     }
 
+    /**
+     * Returns the arithmetic mean of the entries in the specified portion of
+     * the input array, computed with the specified summation method, or
+     * <code>Double.NaN</code> if the designated subarray is empty.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param method summation method
+     * @return the mean of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array is null or the array index
+     * parameters are not valid
+     * @throws NullArgumentException if method is null
+     * @since 3.7
+     */
+    public static double mean(final double[] values, final int begin, final int length,
+                              final SummationMethod method) throws MathIllegalArgumentException {
+        return new Mean(method).evaluate(values, begin, length);
+    }
+
     /**
      * Returns the geometric mean of the entries in the input array, or
      * <code>Double.NaN</code> if the array is empty.
@@ -370,6 +411,26 @@ public final class StatUtils {
         return VARIANCE.evaluate(values, begin, length);
     }
 
+    /**
+     * Returns the bias-corrected variance of the entries in the specified
+     * portion of the input array, computed with the specified summation
+     * method, or <code>Double.NaN</code> if the designated subarray is empty.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param method summation method
+     * @return the variance of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array is null or the array index
+     *  parameters are not valid
+     * @throws NullArgumentException if method is null
+     * @since 3.7
+     */
+    public static double variance(final double[] values, final int begin, final int length,
+                                  final SummationMethod method) throws MathIllegalArgumentException {
+        return new Variance(true, method).evaluate(values, begin, length);
+    }
+
     /**
      * Returns the variance of the entries in the specified portion of
      * the input array, using the precomputed mean value.  Returns
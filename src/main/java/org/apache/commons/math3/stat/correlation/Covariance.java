@@ -16,13 +16,19 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
-import org.apache.commons.math3.stat.descriptive.moment.Variance;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.TaskRunner;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -43,12 +49,22 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  *
  * <p>Non-bias-corrected estimates use <code>n</code> in place of <code>n - 1</code>
  *
+ * <p>Covariance matrices are computed by centering all the columns once, then
+ * evaluating X<sup>T</sup>X by cache-friendly blocks, which may be computed
+ * concurrently on a user supplied executor service.</p>
+ *
  * @since 2.0
  */
 public class Covariance {
 
     @Conditional
-    public static boolean _mut10951 = false, _mut10952 = false, _mut10953 = false, _mut10954 = false, _mut10955 = false, _mut10956 = false, _mut10957 = false, _mut10958 = false, _mut10959 = false, _mut10960 = false, _mut10961 = false, _mut10962 = false, _mut10963 = false, _mut10964 = false, _mut10965 = false, _mut10966 = false, _mut10967 = false, _mut10968 = false, _mut10969 = false, _mut10970 = false, _mut10971 = false, _mut10972 = false, _mut10973 = false, _mut10974 = false, _mut10975 = false, _mut10976 = false, _mut10977 = false, _mut10978 = false, _mut10979 = false, _mut10980 = false, _mut10981 = false, _mut10982 = false, _mut10983 = false, _mut10984 = false, _mut10985 = false, _mut10986 = false, _mut10987 = false, _mut10988 = false, _mut10989 = false, _mut10990 = false, _mut10991 = false, _mut10992 = false, _mut10993 = false, _mut10994 = false, _mut10995 = false, _mut10996 = false, _mut10997 = false, _mut10998 = false, _mut10999 = false, _mut11000 = false, _mut11001 = false, _mut11002 = false, _mut11003 = false, _mut11004 = false, _mut11005 = false, _mut11006 = false, _mut11007 = false, _mut11008 = false, _mut11009 = false, _mut11010 = false, _mut11011 = false, _mut11012 = false, _mut11013 = false, _mut11014 = false, _mut11015 = false, _mut11016 = false, _mut11017 = false, _mut11018 = false, _mut11019 = false, _mut11020 = false, _mut11021 = false, _mut11022 = false;
+    public static boolean _mut10961 = false, _mut10962 = false, _mut10963 = false, _mut10964 = false, _mut10965 = false, _mut10966 = false, _mut10967 = false, _mut10968 = false, _mut10969 = false, _mut10970 = false, _mut10971 = false, _mut10972 = false, _mut10973 = false, _mut10974 = false, _mut10975 = false, _mut10976 = false, _mut10977 = false, _mut10978 = false, _mut10979 = false, _mut10980 = false, _mut10981 = false, _mut10982 = false, _mut10983 = false, _mut10984 = false, _mut10985 = false, _mut10986 = false, _mut10987 = false, _mut10988 = false, _mut10989 = false, _mut10990 = false, _mut10991 = false, _mut10992 = false, _mut10993 = false, _mut10994 = false, _mut10995 = false, _mut10996 = false, _mut10997 = false, _mut10998 = false, _mut10999 = false, _mut11000 = false, _mut11001 = false, _mut11002 = false, _mut11003 = false, _mut11004 = false, _mut11005 = false, _mut11006 = false, _mut11007 = false, _mut11008 = false, _mut11009 = false, _mut11010 = false, _mut11011 = false, _mut11012 = false, _mut11013 = false, _mut11014 = false, _mut11015 = false, _mut11016 = false, _mut11017 = false, _mut11018 = false, _mut11019 = false, _mut11020 = false, _mut11021 = false, _mut11022 = false;
+
+    /** Number of columns of the blocks used for computing covariance matrices. */
+    private static final int COLUMN_BLOCK_SIZE = 16;
+
+    /** Number of rows over which the blocks of covariance matrices are accumulated. */
+    private static final int ROW_BLOCK_SIZE = 512;
 
     /**
      * covariance matrix
@@ -127,6 +143,34 @@ public class Covariance {
         covarianceMatrix = computeCovarianceMatrix(matrix, biasCorrected);
     }
 
+    /**
+     * Create a covariance matrix from a matrix whose columns
+     * represent covariates, evaluating blocks of the matrix concurrently.
+     *
+     * <p>The <code>biasCorrected</code> parameter determines whether or not
+     * covariance estimates are bias-corrected.</p>
+     *
+     * <p>The matrix must have at least one column and two rows. No thread is
+     * created: the caller controls the parallelism through the executor, and
+     * remains responsible for shutting it down.</p>
+     *
+     * @param matrix matrix with columns representing covariates
+     * @param biasCorrected true means covariances are bias-corrected
+     * @param executor executor service to which the blocks of the computation
+     * are submitted
+     * @throws MathIllegalArgumentException if the input matrix does not have
+     * at least two rows and one column
+     * @throws NullArgumentException if {@code executor} is null
+     * @since 3.7
+     */
+    public Covariance(RealMatrix matrix, boolean biasCorrected, ExecutorService executor)
+        throws MathIllegalArgumentException, NullArgumentException {
+        MathUtils.checkNotNull(executor);
+        checkSufficientData(matrix);
+        n = matrix.getRowDimension();
+        covarianceMatrix = computeCovarianceMatrix(matrix, biasCorrected, executor);
+    }
+
     /**
      * Create a covariance matrix from a matrix whose columns
      * represent covariates.
@@ -168,21 +212,32 @@ public class Covariance {
      * @throws MathIllegalArgumentException if the matrix does not contain sufficient data
      */
     protected RealMatrix computeCovarianceMatrix(RealMatrix matrix, boolean biasCorrected) throws MathIllegalArgumentException {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.Covariance.computeCovarianceMatrix_167");
-        int dimension = matrix.getColumnDimension();
-        Variance variance = new Variance(biasCorrected);
-        RealMatrix outMatrix = new BlockRealMatrix(dimension, dimension);
-        for (int i = 0; ROR_less(i, dimension, "org.apache.commons.math3.stat.correlation.Covariance.computeCovarianceMatrix_167", _mut10956, _mut10957, _mut10958, _mut10959, _mut10960); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.Covariance.computeCovarianceMatrix_167");
-            for (int j = 0; ROR_less(j, i, "org.apache.commons.math3.stat.correlation.Covariance.computeCovarianceMatrix_167", _mut10951, _mut10952, _mut10953, _mut10954, _mut10955); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.Covariance.computeCovarianceMatrix_167");
-                double cov = covariance(matrix.getColumn(i), matrix.getColumn(j), biasCorrected);
-                outMatrix.setEntry(i, j, cov);
-                outMatrix.setEntry(j, i, cov);
+        return computeCovarianceMatrix(matrix, biasCorrected, null);
+    }
+
+    /**
+     * Compute a covariance matrix from a matrix whose columns represent
+     * covariates, evaluating blocks of the matrix concurrently.
+     * @param matrix input matrix (must have at least one column and two rows)
+     * @param biasCorrected determines whether or not covariance estimates are bias-corrected
+     * @param executor executor service to which the blocks of the computation are
+     * submitted, or null to compute them in the calling thread
+     * @return covariance matrix
+     * @throws MathIllegalArgumentException if the matrix does not contain sufficient data
+     * @since 3.7
+     */
+    protected RealMatrix computeCovarianceMatrix(RealMatrix matrix, boolean biasCorrected,
+                                                 ExecutorService executor)
+        throws MathIllegalArgumentException {
+        final double[][] products = crossProducts(centerColumns(matrix.transpose().getData()), executor);
+        final int length = matrix.getRowDimension();
+        final double divisor = biasCorrected ? length - 1 : length;
+        for (final double[] row : products) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] /= divisor;
             }
-            outMatrix.setEntry(i, i, variance.evaluate(matrix.getColumn(i)));
         }
-        return outMatrix;
+        return new BlockRealMatrix(products);
     }
 
     /**
@@ -276,6 +331,105 @@ public class Covariance {
         return covariance(xArray, yArray, true);
     }
 
+    /**
+     * Centers columns on their means, in place.
+     *
+     * @param columns columns to center
+     * @return the centered columns
+     */
+    static double[][] centerColumns(final double[][] columns) {
+        for (final double[] column : columns) {
+            final int length = column.length;
+            double sum = 0;
+            for (int k = 0; k < length; k++) {
+                sum += column[k];
+            }
+            double mean = sum / length;
+            // correction, as done by Mean
+            double correction = 0;
+            for (int k = 0; k < length; k++) {
+                correction += column[k] - mean;
+            }
+            mean += correction / length;
+            for (int k = 0; k < length; k++) {
+                column[k] -= mean;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Computes the matrix of the dot products of all the pairs of columns,
+     * i.e. X<sup>T</sup>X where the columns of X are the given columns.
+     * <p>
+     * The lower triangle of the product is split into square blocks of
+     * columns, each one evaluated by one task, and the dot products of each
+     * block are accumulated over chunks of rows small enough to stay in
+     * the processor cache. The upper triangle is filled by symmetry.
+     * </p>
+     *
+     * @param columns columns of X, all with the same length
+     * @param executor executor service to which the blocks are submitted,
+     * or null to compute them in the calling thread
+     * @return X<sup>T</sup>X
+     */
+    static double[][] crossProducts(final double[][] columns, final ExecutorService executor) {
+        final int dimension = columns.length;
+        final double[][] products = new double[dimension][dimension];
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        for (int iStart = 0; iStart < dimension; iStart += COLUMN_BLOCK_SIZE) {
+            for (int jStart = 0; jStart <= iStart; jStart += COLUMN_BLOCK_SIZE) {
+                final int i0 = iStart;
+                final int j0 = jStart;
+                tasks.add(new Runnable() {
+                    /** {@inheritDoc} */
+                    public void run() {
+                        crossProductsBlock(columns, i0, j0, products);
+                    }
+                });
+            }
+        }
+        TaskRunner.run(tasks, executor);
+
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < i; j++) {
+                products[j][i] = products[i][j];
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Computes one block of the lower triangle of X<sup>T</sup>X.
+     *
+     * @param columns columns of X
+     * @param iStart index of the first row of the block
+     * @param jStart index of the first column of the block
+     * @param products placeholder for the lower triangle of X<sup>T</sup>X
+     */
+    private static void crossProductsBlock(final double[][] columns, final int iStart, final int jStart,
+                                           final double[][] products) {
+        final int iEnd = FastMath.min(iStart + COLUMN_BLOCK_SIZE, columns.length);
+        final int jEnd = jStart + COLUMN_BLOCK_SIZE;
+        final int length = columns[0].length;
+        for (int kStart = 0; kStart < length; kStart += ROW_BLOCK_SIZE) {
+            final int kEnd = FastMath.min(kStart + ROW_BLOCK_SIZE, length);
+            for (int i = iStart; i < iEnd; i++) {
+                final double[] ci = columns[i];
+                final double[] row = products[i];
+                final int jMax = FastMath.min(jEnd, i + 1);
+                for (int j = jStart; j < jMax; j++) {
+                    final double[] cj = columns[j];
+                    double sum = 0;
+                    for (int k = kStart; k < kEnd; k++) {
+                        sum += ci[k] * cj[k];
+                    }
+                    row[j] += sum;
+                }
+            }
+        }
+    }
+
     /**
      * Throws MathIllegalArgumentException if the matrix does not have at least
      * one column and two rows.
@@ -17,13 +17,18 @@
 package org.apache.commons.math3.stat.correlation;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.util.FastMath;
-import org.apache.commons.math3.util.Pair;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.TaskRunner;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -59,7 +64,9 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * This implementation uses the O(n log n) algorithm described in
  * William R. Knight's 1966 paper "A Computer Method for Calculating
  * Kendall's Tau with Ungrouped Data" in the Journal of the American
- * Statistical Association.
+ * Statistical Association. The data are kept in primitive arrays, and when
+ * a correlation matrix is computed each column is sorted only once, its
+ * ordering being reused for all the pairs of columns involving it.
  *
  * @see <a href="http://en.wikipedia.org/wiki/Kendall_tau_rank_correlation_coefficient">
  * Kendall tau rank correlation coefficient (Wikipedia)</a>
@@ -71,7 +78,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 public class KendallsCorrelation {
 
     @Conditional
-    public static boolean _mut10695 = false, _mut10696 = false, _mut10697 = false, _mut10698 = false, _mut10699 = false, _mut10700 = false, _mut10701 = false, _mut10702 = false, _mut10703 = false, _mut10704 = false, _mut10705 = false, _mut10706 = false, _mut10707 = false, _mut10708 = false, _mut10709 = false, _mut10710 = false, _mut10711 = false, _mut10712 = false, _mut10713 = false, _mut10714 = false, _mut10715 = false, _mut10716 = false, _mut10717 = false, _mut10718 = false, _mut10719 = false, _mut10720 = false, _mut10721 = false, _mut10722 = false, _mut10723 = false, _mut10724 = false, _mut10725 = false, _mut10726 = false, _mut10727 = false, _mut10728 = false, _mut10729 = false, _mut10730 = false, _mut10731 = false, _mut10732 = false, _mut10733 = false, _mut10734 = false, _mut10735 = false, _mut10736 = false, _mut10737 = false, _mut10738 = false, _mut10739 = false, _mut10740 = false, _mut10741 = false, _mut10742 = false, _mut10743 = false, _mut10744 = false, _mut10745 = false, _mut10746 = false, _mut10747 = false, _mut10748 = false, _mut10749 = false, _mut10750 = false, _mut10751 = false, _mut10752 = false, _mut10753 = false, _mut10754 = false, _mut10755 = false, _mut10756 = false, _mut10757 = false, _mut10758 = false, _mut10759 = false, _mut10760 = false, _mut10761 = false, _mut10762 = false, _mut10763 = false, _mut10764 = false, _mut10765 = false, _mut10766 = false, _mut10767 = false, _mut10768 = false, _mut10769 = false, _mut10770 = false, _mut10771 = false, _mut10772 = false, _mut10773 = false, _mut10774 = false, _mut10775 = false, _mut10776 = false, _mut10777 = false, _mut10778 = false, _mut10779 = false, _mut10780 = false, _mut10781 = false, _mut10782 = false, _mut10783 = false, _mut10784 = false, _mut10785 = false, _mut10786 = false, _mut10787 = false, _mut10788 = false, _mut10789 = false, _mut10790 = false, _mut10791 = false, _mut10792 = false, _mut10793 = false, _mut10794 = false, _mut10795 = false, _mut10796 = false, _mut10797 = false, _mut10798 = false, _mut10799 = false, _mut10800 = false, _mut10801 = false, _mut10802 = false, _mut10803 = false, _mut10804 = false, _mut10805 = false, _mut10806 = false, _mut10807 = false, _mut10808 = false, _mut10809 = false, _mut10810 = false, _mut10811 = false, _mut10812 = false, _mut10813 = false, _mut10814 = false, _mut10815 = false, _mut10816 = false, _mut10817 = false, _mut10818 = false, _mut10819 = false, _mut10820 = false, _mut10821 = false, _mut10822 = false, _mut10823 = false, _mut10824 = false, _mut10825 = false, _mut10826 = false, _mut10827 = false, _mut10828 = false, _mut10829 = false, _mut10830 = false, _mut10831 = false, _mut10832 = false, _mut10833 = false, _mut10834 = false, _mut10835 = false, _mut10836 = false, _mut10837 = false, _mut10838 = false, _mut10839 = false, _mut10840 = false, _mut10841 = false, _mut10842 = false, _mut10843 = false, _mut10844 = false, _mut10845 = false, _mut10846 = false, _mut10847 = false, _mut10848 = false, _mut10849 = false, _mut10850 = false, _mut10851 = false, _mut10852 = false, _mut10853 = false, _mut10854 = false, _mut10855 = false, _mut10856 = false, _mut10857 = false;
+    public static boolean _mut10846 = false, _mut10847 = false, _mut10848 = false, _mut10849 = false, _mut10850 = false, _mut10851 = false, _mut10852 = false, _mut10853 = false, _mut10854 = false, _mut10855 = false, _mut10856 = false, _mut10857 = false;
 
     /**
      * correlation matrix
@@ -124,20 +131,64 @@ public class KendallsCorrelation {
      * @return correlation matrix
      */
     public RealMatrix computeCorrelationMatrix(final RealMatrix matrix) {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.computeCorrelationMatrix_120");
-        int nVars = matrix.getColumnDimension();
-        RealMatrix outMatrix = new BlockRealMatrix(nVars, nVars);
-        for (int i = 0; ROR_less(i, nVars, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.computeCorrelationMatrix_120", _mut10700, _mut10701, _mut10702, _mut10703, _mut10704); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.computeCorrelationMatrix_120");
-            for (int j = 0; ROR_less(j, i, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.computeCorrelationMatrix_120", _mut10695, _mut10696, _mut10697, _mut10698, _mut10699); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.computeCorrelationMatrix_120");
-                double corr = correlation(matrix.getColumn(i), matrix.getColumn(j));
-                outMatrix.setEntry(i, j, corr);
-                outMatrix.setEntry(j, i, corr);
-            }
-            outMatrix.setEntry(i, i, 1d);
+        final double[][] columns = matrix.transpose().getData();
+        final int[][] orders = new int[columns.length][];
+        final long[] tiedPairs = new long[columns.length];
+        sortColumns(columns, orders, tiedPairs);
+        final double[][] out = new double[columns.length][columns.length];
+        final int n = matrix.getRowDimension();
+        final double[] ys = new double[n];
+        final double[] work = new double[n];
+        for (int i = 0; i < columns.length; i++) {
+            computeRow(i, columns, orders, tiedPairs, ys, work, out);
         }
-        return outMatrix;
+        return new BlockRealMatrix(out);
+    }
+
+    /**
+     * Computes the Kendall's Tau rank correlation matrix for the columns of
+     * the input matrix, evaluating the rows of the matrix concurrently.
+     * <p>
+     * Each column is sorted only once, and the correlations of row {@code i}
+     * (i.e. of column {@code i} against all the previous columns) are computed
+     * by one task submitted to the given executor. No thread is created by this
+     * method: the caller controls the parallelism through the executor, and
+     * remains responsible for shutting it down.
+     * </p>
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor service to which the computation is submitted
+     * @return correlation matrix
+     * @throws NullArgumentException if {@code executor} is null
+     * @throws MathIllegalStateException if the calling thread is interrupted
+     * while waiting for the computation
+     * @since 3.7
+     */
+    public RealMatrix computeCorrelationMatrix(final RealMatrix matrix,
+                                               final ExecutorService executor)
+        throws NullArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(executor);
+        final double[][] columns = matrix.transpose().getData();
+        final int[][] orders = new int[columns.length][];
+        final long[] tiedPairs = new long[columns.length];
+        sortColumns(columns, orders, tiedPairs);
+        final double[][] out = new double[columns.length][columns.length];
+        final int n = matrix.getRowDimension();
+
+        final List<Runnable> tasks = new ArrayList<Runnable>(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            final int row = i;
+            tasks.add(new Runnable() {
+                /** {@inheritDoc} */
+                public void run() {
+                    computeRow(row, columns, orders, tiedPairs,
+                               new double[n], new double[n], out);
+                }
+            });
+        }
+        TaskRunner.run(tasks, executor);
+
+        return new BlockRealMatrix(out);
     }
 
     /**
@@ -161,112 +212,235 @@ public class KendallsCorrelation {
      * @throws DimensionMismatchException if the arrays lengths do not match
      */
     public double correlation(final double[] xArray, final double[] yArray) throws DimensionMismatchException {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
-        if (ROR_not_equals(xArray.length, yArray.length, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.correlation_154", _mut10705, _mut10706, _mut10707, _mut10708, _mut10709)) {
+        if (xArray.length != yArray.length) {
             throw new DimensionMismatchException(xArray.length, yArray.length);
         }
         final int n = xArray.length;
-        final long numPairs = sum(AOR_minus(n, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.correlation_154", _mut10710, _mut10711, _mut10712, _mut10713));
-        @SuppressWarnings("unchecked")
-        Pair<Double, Double>[] pairs = new Pair[n];
-        for (int i = 0; ROR_less(i, n, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.correlation_154", _mut10714, _mut10715, _mut10716, _mut10717, _mut10718); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.correlation_154");
-            pairs[i] = new Pair<Double, Double>(xArray[i], yArray[i]);
-        }
-        Arrays.sort(pairs, new Comparator<Pair<Double, Double>>() {
+        final double[] ys = new double[n];
+        final double[] work = new double[n];
+        return correlation(xArray, sortIndices(xArray, new int[n], new int[n]), tiedPairs(xArray, work),
+                           yArray, tiedPairs(yArray, work), ys, work);
+    }
 
-            /**
-             * {@inheritDoc}
-             */
-            public int compare(Pair<Double, Double> pair1, Pair<Double, Double> pair2) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
-                int compareFirst = pair1.getFirst().compareTo(pair2.getFirst());
-                return ROR_not_equals(compareFirst, 0, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10719, _mut10720, _mut10721, _mut10722, _mut10723) ? compareFirst : pair1.getSecond().compareTo(pair2.getSecond());
+    /**
+     * Sorts the columns of a matrix, for use by {@link #computeRow}.
+     *
+     * @param columns columns of the matrix
+     * @param orders placeholder for the indices of the values of each column,
+     * in increasing order of the values
+     * @param tiedPairs placeholder for the number of tied pairs in each column
+     */
+    private static void sortColumns(final double[][] columns, final int[][] orders,
+                                    final long[] tiedPairs) {
+        if (columns.length == 0) {
+            return;
+        }
+        final int n = columns[0].length;
+        int[] indicesWork = new int[n];
+        final double[] work = new double[n];
+        for (int i = 0; i < columns.length; i++) {
+            final int[] indices = new int[n];
+            orders[i] = sortIndices(columns[i], indices, indicesWork);
+            if (orders[i] != indices) {
+                // the sorted indices ended in the work array, which must not be reused
+                indicesWork = indices;
             }
-        });
-        long tiedXPairs = 0;
+            tiedPairs[i] = tiedPairs(columns[i], work);
+        }
+    }
+
+    /**
+     * Computes one row of the lower triangle of the correlation matrix, and
+     * stores it symmetrically.
+     *
+     * @param i index of the row
+     * @param columns columns of the matrix
+     * @param orders indices of the values of each column, in increasing order
+     * @param tiedPairs number of tied pairs in each column
+     * @param ys work array for the second variable
+     * @param work work array for the merge sort
+     * @param out correlation matrix entries
+     */
+    private static void computeRow(final int i, final double[][] columns,
+                                   final int[][] orders, final long[] tiedPairs,
+                                   final double[] ys, final double[] work,
+                                   final double[][] out) {
+        for (int j = 0; j < i; j++) {
+            final double corr = correlation(columns[i], orders[i], tiedPairs[i],
+                                            columns[j], tiedPairs[j], ys, work);
+            out[i][j] = corr;
+            out[j][i] = corr;
+        }
+        out[i][i] = 1d;
+    }
+
+    /**
+     * Computes the Kendall's Tau rank correlation coefficient between two
+     * arrays, the first one being already sorted.
+     * <p>
+     * The y values are laid out in the order of the x values, then sorted
+     * within each group of tied x values; the number of discordant pairs is
+     * then the number of swaps performed by a merge sort of the y values.
+     * </p>
+     *
+     * @param x first data array
+     * @param xOrder indices of the values of {@code x}, in increasing order
+     * @param tiedXPairs number of tied pairs in {@code x}
+     * @param y second data array
+     * @param tiedYPairs number of tied pairs in {@code y}
+     * @param ys work array for the y values, with the same length as {@code x}
+     * @param work work array for the merge sort, with the same length as {@code x}
+     * @return Kendall's Tau rank correlation coefficient for the two arrays
+     */
+    private static double correlation(final double[] x, final int[] xOrder, final long tiedXPairs,
+                                      final double[] y, final long tiedYPairs,
+                                      final double[] ys, final double[] work) {
+        final int n = x.length;
+        final long numPairs = sum(n - 1);
+
+        for (int k = 0; k < n; k++) {
+            ys[k] = y[xOrder[k]];
+        }
+
+        // sort y within the groups of tied x, counting the pairs tied in both
         long tiedXYPairs = 0;
-        long consecutiveXTies = 1;
-        long consecutiveXYTies = 1;
-        Pair<Double, Double> prev = pairs[0];
-        for (int i = 1; ROR_less(i, n, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10736, _mut10737, _mut10738, _mut10739, _mut10740); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
-            final Pair<Double, Double> curr = pairs[i];
-            if (curr.getFirst().equals(prev.getFirst())) {
-                consecutiveXTies++;
-                if (curr.getSecond().equals(prev.getSecond())) {
-                    consecutiveXYTies++;
-                } else {
-                    tiedXYPairs += sum(AOR_minus(consecutiveXYTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10732, _mut10733, _mut10734, _mut10735));
-                    consecutiveXYTies = 1;
+        int start = 0;
+        while (start < n) {
+            final double xStart = x[xOrder[start]];
+            int end = start + 1;
+            while (end < n && Double.compare(x[xOrder[end]], xStart) == 0) {
+                ++end;
+            }
+            if (end - start > 1) {
+                Arrays.sort(ys, start, end);
+                tiedXYPairs += tiedPairs(ys, start, end);
+            }
+            start = end;
+        }
+
+        final long swaps = countSwaps(ys, work);
+
+        final long concordantMinusDiscordant = numPairs - tiedXPairs - tiedYPairs + tiedXYPairs - 2 * swaps;
+        final double nonTiedPairsMultiplied = (numPairs - tiedXPairs) * (double) (numPairs - tiedYPairs);
+        return concordantMinusDiscordant / FastMath.sqrt(nonTiedPairsMultiplied);
+    }
+
+    /**
+     * Sorts the indices of an array in increasing order of its values.
+     * <p>
+     * Values are compared as by {@link Double#compare(double, double)}, so
+     * that NaN is greater than all the other values, and the sort is stable.
+     * </p>
+     *
+     * @param values values to sort
+     * @param indices placeholder for the sorted indices
+     * @param work work array, with the same length as {@code values}
+     * @return the sorted indices, either {@code indices} or {@code work}
+     */
+    private static int[] sortIndices(final double[] values, final int[] indices, final int[] work) {
+        final int n = values.length;
+        int[] src = indices;
+        int[] dst = work;
+        for (int k = 0; k < n; k++) {
+            src[k] = k;
+        }
+        for (int segmentSize = 1; segmentSize < n; segmentSize <<= 1) {
+            for (int offset = 0; offset < n; offset += 2 * segmentSize) {
+                int i = offset;
+                final int iEnd = FastMath.min(i + segmentSize, n);
+                int j = iEnd;
+                final int jEnd = FastMath.min(j + segmentSize, n);
+                int copyLocation = offset;
+                while (i < iEnd && j < jEnd) {
+                    if (Double.compare(values[src[i]], values[src[j]]) <= 0) {
+                        dst[copyLocation++] = src[i++];
+                    } else {
+                        dst[copyLocation++] = src[j++];
+                    }
                 }
-            } else {
-                tiedXPairs += sum(AOR_minus(consecutiveXTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10724, _mut10725, _mut10726, _mut10727));
-                consecutiveXTies = 1;
-                tiedXYPairs += sum(AOR_minus(consecutiveXYTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10728, _mut10729, _mut10730, _mut10731));
-                consecutiveXYTies = 1;
+                System.arraycopy(src, i, dst, copyLocation, iEnd - i);
+                System.arraycopy(src, j, dst, copyLocation + iEnd - i, jEnd - j);
             }
-            prev = curr;
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
         }
-        tiedXPairs += sum(AOR_minus(consecutiveXTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10741, _mut10742, _mut10743, _mut10744));
-        tiedXYPairs += sum(AOR_minus(consecutiveXYTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10745, _mut10746, _mut10747, _mut10748));
+        return src;
+    }
+
+    /**
+     * Counts the swaps needed to sort an array with a bottom-up merge sort.
+     * <p>
+     * The content of both arrays is destroyed.
+     * </p>
+     *
+     * @param values values to sort
+     * @param work work array, with the same length as {@code values}
+     * @return the number of swaps
+     */
+    private static long countSwaps(final double[] values, final double[] work) {
+        final int n = values.length;
+        double[] src = values;
+        double[] dst = work;
         long swaps = 0;
-        @SuppressWarnings("unchecked")
-        Pair<Double, Double>[] pairsDestination = new Pair[n];
-        for (int segmentSize = 1; ROR_less(segmentSize, n, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10792, _mut10793, _mut10794, _mut10795, _mut10796); segmentSize <<= 1) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
-            for (int offset = 0; ROR_less(offset, n, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10787, _mut10788, _mut10789, _mut10790, _mut10791); offset += 2 * segmentSize) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
+        for (int segmentSize = 1; segmentSize < n; segmentSize <<= 1) {
+            for (int offset = 0; offset < n; offset += 2 * segmentSize) {
                 int i = offset;
-                final int iEnd = FastMath.min(AOR_plus(i, segmentSize, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10749, _mut10750, _mut10751, _mut10752), n);
+                final int iEnd = FastMath.min(i + segmentSize, n);
                 int j = iEnd;
-                final int jEnd = FastMath.min(AOR_plus(j, segmentSize, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10753, _mut10754, _mut10755, _mut10756), n);
+                final int jEnd = FastMath.min(j + segmentSize, n);
                 int copyLocation = offset;
-                while ((_mut10786 ? (ROR_less(i, iEnd, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10776, _mut10777, _mut10778, _mut10779, _mut10780) && ROR_less(j, jEnd, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10781, _mut10782, _mut10783, _mut10784, _mut10785)) : (ROR_less(i, iEnd, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10776, _mut10777, _mut10778, _mut10779, _mut10780) || ROR_less(j, jEnd, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10781, _mut10782, _mut10783, _mut10784, _mut10785)))) {
-                    br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
-                    if (ROR_less(i, iEnd, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10757, _mut10758, _mut10759, _mut10760, _mut10761)) {
-                        if (ROR_less(j, jEnd, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10762, _mut10763, _mut10764, _mut10765, _mut10766)) {
-                            if (ROR_less_equals(pairs[i].getSecond().compareTo(pairs[j].getSecond()), 0, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10767, _mut10768, _mut10769, _mut10770, _mut10771)) {
-                                pairsDestination[copyLocation] = pairs[i];
-                                i++;
-                            } else {
-                                pairsDestination[copyLocation] = pairs[j];
-                                j++;
-                                swaps += AOR_minus(iEnd, i, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10772, _mut10773, _mut10774, _mut10775);
-                            }
-                        } else {
-                            pairsDestination[copyLocation] = pairs[i];
-                            i++;
-                        }
+                while (i < iEnd && j < jEnd) {
+                    if (Double.compare(src[i], src[j]) <= 0) {
+                        dst[copyLocation++] = src[i++];
                     } else {
-                        pairsDestination[copyLocation] = pairs[j];
-                        j++;
+                        dst[copyLocation++] = src[j++];
+                        swaps += iEnd - i;
                     }
-                    copyLocation++;
                 }
+                System.arraycopy(src, i, dst, copyLocation, iEnd - i);
+                System.arraycopy(src, j, dst, copyLocation + iEnd - i, jEnd - j);
             }
-            final Pair<Double, Double>[] pairsTemp = pairs;
-            pairs = pairsDestination;
-            pairsDestination = pairsTemp;
+            final double[] tmp = src;
+            src = dst;
+            dst = tmp;
         }
-        long tiedYPairs = 0;
-        long consecutiveYTies = 1;
-        prev = pairs[0];
-        for (int i = 1; ROR_less(i, n, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10801, _mut10802, _mut10803, _mut10804, _mut10805); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172");
-            final Pair<Double, Double> curr = pairs[i];
-            if (curr.getSecond().equals(prev.getSecond())) {
-                consecutiveYTies++;
+        return swaps;
+    }
+
+    /**
+     * Counts the tied pairs in an array.
+     *
+     * @param values values to check
+     * @param work work array, with the same length as {@code values}
+     * @return the number of pairs of equal values
+     */
+    private static long tiedPairs(final double[] values, final double[] work) {
+        System.arraycopy(values, 0, work, 0, values.length);
+        Arrays.sort(work);
+        return tiedPairs(work, 0, values.length);
+    }
+
+    /**
+     * Counts the tied pairs in a sorted range of an array.
+     *
+     * @param sorted sorted values
+     * @param start start of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @return the number of pairs of equal values in the range
+     */
+    private static long tiedPairs(final double[] sorted, final int start, final int end) {
+        long tied = 0;
+        long consecutiveTies = 1;
+        for (int i = start + 1; i < end; i++) {
+            if (Double.compare(sorted[i], sorted[i - 1]) == 0) {
+                consecutiveTies++;
             } else {
-                tiedYPairs += sum(AOR_minus(consecutiveYTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10797, _mut10798, _mut10799, _mut10800));
-                consecutiveYTies = 1;
+                tied += sum(consecutiveTies - 1);
+                consecutiveTies = 1;
             }
-            prev = curr;
         }
-        tiedYPairs += sum(AOR_minus(consecutiveYTies, 1, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10806, _mut10807, _mut10808, _mut10809));
-        final long concordantMinusDiscordant = AOR_minus(AOR_plus(AOR_minus(AOR_minus(numPairs, tiedXPairs, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10810, _mut10811, _mut10812, _mut10813), tiedYPairs, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10814, _mut10815, _mut10816, _mut10817), tiedXYPairs, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10818, _mut10819, _mut10820, _mut10821), AOR_multiply(2, swaps, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10822, _mut10823, _mut10824, _mut10825), "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10826, _mut10827, _mut10828, _mut10829);
-        final double nonTiedPairsMultiplied = AOR_multiply((AOR_minus(numPairs, tiedXPairs, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10830, _mut10831, _mut10832, _mut10833)), (double) (AOR_minus(numPairs, tiedYPairs, "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10834, _mut10835, _mut10836, _mut10837)), "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10838, _mut10839, _mut10840, _mut10841);
-        return AOR_divide(concordantMinusDiscordant, FastMath.sqrt(nonTiedPairsMultiplied), "org.apache.commons.math3.stat.correlation.KendallsCorrelation.compare_172", _mut10842, _mut10843, _mut10844, _mut10845);
+        return tied + sum(consecutiveTies - 1);
     }
 
     /**
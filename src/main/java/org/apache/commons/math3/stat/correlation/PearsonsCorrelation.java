@@ -16,6 +16,7 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
@@ -23,8 +24,8 @@ import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.BlockRealMatrix;
-import org.apache.commons.math3.stat.regression.SimpleRegression;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -53,7 +54,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 public class PearsonsCorrelation {
 
     @Conditional
-    public static boolean _mut11068 = false, _mut11069 = false, _mut11070 = false, _mut11071 = false, _mut11072 = false, _mut11073 = false, _mut11074 = false, _mut11075 = false, _mut11076 = false, _mut11077 = false, _mut11078 = false, _mut11079 = false, _mut11080 = false, _mut11081 = false, _mut11082 = false, _mut11083 = false, _mut11084 = false, _mut11085 = false, _mut11086 = false, _mut11087 = false, _mut11088 = false, _mut11089 = false, _mut11090 = false, _mut11091 = false, _mut11092 = false, _mut11093 = false, _mut11094 = false, _mut11095 = false, _mut11096 = false, _mut11097 = false, _mut11098 = false, _mut11099 = false, _mut11100 = false, _mut11101 = false, _mut11102 = false, _mut11103 = false, _mut11104 = false, _mut11105 = false, _mut11106 = false, _mut11107 = false, _mut11108 = false, _mut11109 = false, _mut11110 = false, _mut11111 = false, _mut11112 = false, _mut11113 = false, _mut11114 = false, _mut11115 = false, _mut11116 = false, _mut11117 = false, _mut11118 = false, _mut11119 = false, _mut11120 = false, _mut11121 = false, _mut11122 = false, _mut11123 = false, _mut11124 = false, _mut11125 = false, _mut11126 = false, _mut11127 = false, _mut11128 = false, _mut11129 = false, _mut11130 = false, _mut11131 = false, _mut11132 = false, _mut11133 = false, _mut11134 = false, _mut11135 = false, _mut11136 = false, _mut11137 = false, _mut11138 = false, _mut11139 = false, _mut11140 = false, _mut11141 = false, _mut11142 = false, _mut11143 = false, _mut11144 = false, _mut11145 = false, _mut11146 = false, _mut11147 = false, _mut11148 = false, _mut11149 = false, _mut11150 = false, _mut11151 = false, _mut11152 = false, _mut11153 = false, _mut11154 = false, _mut11155 = false, _mut11156 = false, _mut11157 = false, _mut11158 = false, _mut11159 = false, _mut11160 = false, _mut11161 = false, _mut11162 = false, _mut11163 = false, _mut11164 = false, _mut11165 = false, _mut11166 = false, _mut11167 = false, _mut11168 = false, _mut11169 = false, _mut11170 = false, _mut11171 = false, _mut11172 = false, _mut11173 = false, _mut11174 = false, _mut11175 = false, _mut11176 = false, _mut11177 = false, _mut11178 = false, _mut11179 = false, _mut11180 = false, _mut11181 = false, _mut11182 = false, _mut11183 = false, _mut11184 = false, _mut11185 = false, _mut11186 = false, _mut11187 = false, _mut11188 = false, _mut11189 = false, _mut11190 = false;
+    public static boolean _mut11068 = false, _mut11069 = false, _mut11070 = false, _mut11071 = false, _mut11072 = false, _mut11073 = false, _mut11074 = false, _mut11075 = false, _mut11076 = false, _mut11077 = false, _mut11078 = false, _mut11079 = false, _mut11080 = false, _mut11081 = false, _mut11082 = false, _mut11083 = false, _mut11084 = false, _mut11085 = false, _mut11086 = false, _mut11087 = false, _mut11088 = false, _mut11089 = false, _mut11090 = false, _mut11091 = false, _mut11092 = false, _mut11093 = false, _mut11094 = false, _mut11095 = false, _mut11096 = false, _mut11097 = false, _mut11098 = false, _mut11099 = false, _mut11100 = false, _mut11101 = false, _mut11102 = false, _mut11103 = false, _mut11104 = false, _mut11105 = false, _mut11106 = false, _mut11107 = false, _mut11108 = false, _mut11109 = false, _mut11110 = false, _mut11111 = false, _mut11112 = false, _mut11113 = false, _mut11114 = false, _mut11115 = false, _mut11116 = false, _mut11117 = false, _mut11118 = false, _mut11119 = false, _mut11120 = false, _mut11121 = false, _mut11122 = false, _mut11123 = false, _mut11124 = false, _mut11125 = false, _mut11126 = false, _mut11127 = false, _mut11128 = false, _mut11129 = false, _mut11130 = false, _mut11131 = false, _mut11132 = false, _mut11133 = false, _mut11134 = false, _mut11135 = false, _mut11136 = false, _mut11147 = false, _mut11148 = false, _mut11149 = false, _mut11150 = false, _mut11151 = false, _mut11152 = false, _mut11153 = false, _mut11154 = false, _mut11155 = false, _mut11156 = false, _mut11162 = false, _mut11163 = false, _mut11164 = false, _mut11165 = false, _mut11166 = false, _mut11167 = false, _mut11168 = false, _mut11169 = false, _mut11170 = false, _mut11171 = false, _mut11172 = false, _mut11173 = false, _mut11174 = false, _mut11175 = false, _mut11176 = false, _mut11177 = false, _mut11178 = false, _mut11179 = false, _mut11180 = false, _mut11181 = false, _mut11182 = false, _mut11183 = false, _mut11184 = false, _mut11185 = false, _mut11186 = false, _mut11187 = false, _mut11188 = false, _mut11189 = false, _mut11190 = false;
 
     /**
      * correlation matrix
@@ -226,7 +227,13 @@ public class PearsonsCorrelation {
 
     /**
      * Computes the correlation matrix for the columns of the
-     * input matrix, using {@link #correlation(double[], double[])}.
+     * input matrix.
+     * <p>
+     * The columns are centered once, and their cross products are
+     * evaluated by cache-friendly blocks; the result is the same as
+     * computing {@link #correlation(double[], double[])} for all the
+     * pairs of columns, up to rounding errors.
+     * </p>
      *
      * Throws MathIllegalArgumentException if the matrix does not have at least
      * two columns and two rows.  Pairwise correlations are set to NaN if one
@@ -238,21 +245,91 @@ public class PearsonsCorrelation {
      * @see #correlation(double[], double[])
      */
     public RealMatrix computeCorrelationMatrix(RealMatrix matrix) {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.PearsonsCorrelation.computeCorrelationMatrix_226");
         checkSufficientData(matrix);
-        int nVars = matrix.getColumnDimension();
-        RealMatrix outMatrix = new BlockRealMatrix(nVars, nVars);
-        for (int i = 0; ROR_less(i, nVars, "org.apache.commons.math3.stat.correlation.PearsonsCorrelation.computeCorrelationMatrix_226", _mut11142, _mut11143, _mut11144, _mut11145, _mut11146); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.PearsonsCorrelation.computeCorrelationMatrix_226");
-            for (int j = 0; ROR_less(j, i, "org.apache.commons.math3.stat.correlation.PearsonsCorrelation.computeCorrelationMatrix_226", _mut11137, _mut11138, _mut11139, _mut11140, _mut11141); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.PearsonsCorrelation.computeCorrelationMatrix_226");
-                double corr = correlation(matrix.getColumn(i), matrix.getColumn(j));
-                outMatrix.setEntry(i, j, corr);
-                outMatrix.setEntry(j, i, corr);
+        return correlationMatrix(matrix, null);
+    }
+
+    /**
+     * Computes the correlation matrix for the columns of the
+     * input matrix, evaluating blocks of the matrix concurrently.
+     *
+     * Throws MathIllegalArgumentException if the matrix does not have at least
+     * two columns and two rows.  Pairwise correlations are set to NaN if one
+     * of the correlates has zero variance. No thread is created: the caller
+     * controls the parallelism through the executor, and remains responsible
+     * for shutting it down.
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor service to which the blocks of the computation
+     * are submitted
+     * @return correlation matrix
+     * @throws MathIllegalArgumentException if the matrix does not contain sufficient data
+     * @throws NullArgumentException if {@code executor} is null
+     * @since 3.7
+     */
+    public RealMatrix computeCorrelationMatrix(RealMatrix matrix, ExecutorService executor) {
+        MathUtils.checkNotNull(executor);
+        checkSufficientData(matrix);
+        return correlationMatrix(matrix, executor);
+    }
+
+    /**
+     * Computes the correlation matrix by scaling the cross products of the
+     * centered columns.
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor service to which the blocks of the computation
+     * are submitted, or null to compute them in the calling thread
+     * @return correlation matrix
+     */
+    private RealMatrix correlationMatrix(final RealMatrix matrix, final ExecutorService executor) {
+        return new BlockRealMatrix(correlations(matrix.transpose().getData(), executor));
+    }
+
+    /**
+     * Computes the correlations of all the pairs of columns.
+     *
+     * @param columns columns of the variables to correlate, which are centered in place
+     * @param executor executor service to which the blocks of the computation
+     * are submitted, or null to compute them in the calling thread
+     * @return correlation matrix entries
+     */
+    private static double[][] correlations(final double[][] columns, final ExecutorService executor) {
+        final double[][] products = Covariance.crossProducts(Covariance.centerColumns(columns), executor);
+        final int nVars = products.length;
+        final double[] squares = new double[nVars];
+        for (int i = 0; i < nVars; i++) {
+            squares[i] = products[i][i];
+        }
+        for (int i = 0; i < nVars; i++) {
+            final double[] row = products[i];
+            for (int j = 0; j < nVars; j++) {
+                if (i == j) {
+                    row[j] = 1d;
+                } else {
+                    final double r = row[j] / norm(squares[i], squares[j]);
+                    // rounding may push perfect correlations slightly beyond 1
+                    row[j] = FastMath.max(-1d, FastMath.min(1d, r));
+                }
             }
-            outMatrix.setEntry(i, i, 1d);
         }
-        return outMatrix;
+        return products;
+    }
+
+    /**
+     * Computes the square root of the product of two sums of squares.
+     *
+     * @param sxx first sum of squares
+     * @param syy second sum of squares
+     * @return {@code sqrt(sxx * syy)}, computed as {@code sqrt(sxx) * sqrt(syy)}
+     * when the product underflows or overflows
+     */
+    private static double norm(final double sxx, final double syy) {
+        final double product = sxx * syy;
+        if (product >= Double.MIN_NORMAL && product < Double.POSITIVE_INFINITY) {
+            return FastMath.sqrt(product);
+        }
+        return FastMath.sqrt(sxx) * FastMath.sqrt(syy);
     }
 
     /**
@@ -289,17 +366,13 @@ public class PearsonsCorrelation {
      */
     public double correlation(final double[] xArray, final double[] yArray) {
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.PearsonsCorrelation.correlation_273");
-        SimpleRegression regression = new SimpleRegression();
         if (ROR_not_equals(xArray.length, yArray.length, "org.apache.commons.math3.stat.correlation.PearsonsCorrelation.correlation_273", _mut11147, _mut11148, _mut11149, _mut11150, _mut11151)) {
             throw new DimensionMismatchException(xArray.length, yArray.length);
         } else if (ROR_less(xArray.length, 2, "org.apache.commons.math3.stat.correlation.PearsonsCorrelation.correlation_273", _mut11152, _mut11153, _mut11154, _mut11155, _mut11156)) {
             throw new MathIllegalArgumentException(LocalizedFormats.INSUFFICIENT_DIMENSION, xArray.length, 2);
         } else {
-            for (int i = 0; ROR_less(i, xArray.length, "org.apache.commons.math3.stat.correlation.PearsonsCorrelation.correlation_273", _mut11157, _mut11158, _mut11159, _mut11160, _mut11161); i++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.PearsonsCorrelation.correlation_273");
-                regression.addData(xArray[i], yArray[i]);
-            }
-            return regression.getR();
+            // same computation as for a correlation matrix, for consistent results
+            return correlations(new double[][] { xArray.clone(), yArray.clone() }, null)[0][1];
         }
     }
 
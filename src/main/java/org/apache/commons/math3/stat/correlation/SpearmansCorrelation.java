@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
@@ -151,6 +152,25 @@ public class SpearmansCorrelation {
         return new PearsonsCorrelation().computeCorrelationMatrix(matrixCopy);
     }
 
+    /**
+     * Computes the Spearman's rank correlation matrix for the columns of the
+     * input matrix, evaluating blocks of the correlation matrix of the ranks
+     * concurrently.
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor service to which the blocks of the computation
+     * are submitted
+     * @return correlation matrix
+     * @throws org.apache.commons.math3.exception.NullArgumentException
+     * if {@code executor} is null
+     * @see PearsonsCorrelation#computeCorrelationMatrix(RealMatrix, ExecutorService)
+     * @since 3.7
+     */
+    public RealMatrix computeCorrelationMatrix(final RealMatrix matrix, final ExecutorService executor) {
+        final RealMatrix matrixCopy = rankTransform(matrix);
+        return new PearsonsCorrelation().computeCorrelationMatrix(matrixCopy, executor);
+    }
+
     /**
      * Computes the Spearman's rank correlation matrix for the columns of the
      * input rectangular array.  The columns of the array represent values
@@ -16,13 +16,16 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.Collection;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
-import gov.nasa.jpf.annotation.Conditional;
-import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Covariance implementation that does not require input data to be
@@ -37,24 +40,50 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * Sandia National Laboratories.</p>
  *
  * <p>Note: the underlying covariance matrix is symmetric, thus only the
- * upper triangular part of the matrix is stored and updated each increment.</p>
+ * upper triangular part of the matrix is stored and updated each increment.
+ * As all the pairs of variables are always updated together, they share the
+ * same number of observations and the same means: the state is held in
+ * primitive arrays, the co-moments being packed column by column, which takes
+ * 8 bytes per pair of variables.</p>
+ *
+ * <p>Rows can be added in batches with {@link #increment(double[][])}, which
+ * centers the batch on its own means and merges it as a rank-k update; this is
+ * both faster and more accurate than adding the rows one at a time. Streams
+ * can also be split between several instances, for example one per thread,
+ * which are then combined with {@link #append(StorelessCovariance)}.</p>
  *
  * @since 3.0
  */
 public class StorelessCovariance extends Covariance {
 
-    @Conditional
-    public static boolean _mut10596 = false, _mut10597 = false, _mut10598 = false, _mut10599 = false, _mut10600 = false, _mut10601 = false, _mut10602 = false, _mut10603 = false, _mut10604 = false, _mut10605 = false, _mut10606 = false, _mut10607 = false, _mut10608 = false, _mut10609 = false, _mut10610 = false, _mut10611 = false, _mut10612 = false, _mut10613 = false, _mut10614 = false, _mut10615 = false, _mut10616 = false, _mut10617 = false, _mut10618 = false, _mut10619 = false, _mut10620 = false, _mut10621 = false, _mut10622 = false, _mut10623 = false, _mut10624 = false, _mut10625 = false, _mut10626 = false, _mut10627 = false, _mut10628 = false, _mut10629 = false, _mut10630 = false, _mut10631 = false, _mut10632 = false, _mut10633 = false, _mut10634 = false, _mut10635 = false, _mut10636 = false, _mut10637 = false, _mut10638 = false, _mut10639 = false, _mut10640 = false, _mut10641 = false, _mut10642 = false, _mut10643 = false, _mut10644 = false, _mut10645 = false, _mut10646 = false, _mut10647 = false, _mut10648 = false, _mut10649 = false, _mut10650 = false, _mut10651 = false, _mut10652 = false, _mut10653 = false, _mut10654 = false, _mut10655 = false, _mut10656 = false, _mut10657 = false, _mut10658 = false, _mut10659 = false, _mut10660 = false, _mut10661 = false, _mut10662 = false, _mut10663 = false, _mut10664 = false, _mut10665 = false, _mut10666 = false, _mut10667 = false, _mut10668 = false, _mut10669 = false, _mut10670 = false, _mut10671 = false, _mut10672 = false, _mut10673 = false, _mut10674 = false, _mut10675 = false, _mut10676 = false, _mut10677 = false, _mut10678 = false, _mut10679 = false, _mut10680 = false, _mut10681 = false, _mut10682 = false, _mut10683 = false, _mut10684 = false, _mut10685 = false, _mut10686 = false, _mut10687 = false, _mut10688 = false, _mut10689 = false, _mut10690 = false, _mut10691 = false, _mut10692 = false, _mut10693 = false, _mut10694 = false;
+    /** Number of rows of the batches used for rank-k updates. */
+    private static final int BATCH_SIZE = 256;
 
     /**
-     * the square covariance matrix (upper triangular part)
+     * dimension of the square covariance matrix
      */
-    private StorelessBivariateCovariance[] covMatrix;
+    private int dimension;
 
     /**
-     * dimension of the square covariance matrix
+     * flag for bias correction
      */
-    private int dimension;
+    private final boolean biasCorrected;
+
+    /**
+     * number of observations
+     */
+    private double n;
+
+    /**
+     * means of the variables
+     */
+    private final double[] means;
+
+    /**
+     * running co-moments, i.e. sums of products of deviations from the means
+     * (upper triangular part, packed by columns)
+     */
+    private final double[] coMoments;
 
     /**
      * Create a bias corrected covariance matrix with a given dimension.
@@ -75,27 +104,11 @@ public class StorelessCovariance extends Covariance {
      * i.e. n in the denominator.
      */
     public StorelessCovariance(final int dim, final boolean biasCorrected) {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.StorelessCovariance_68");
         dimension = dim;
-        covMatrix = new StorelessBivariateCovariance[AOR_divide(AOR_multiply(dimension, (AOR_plus(dimension, 1, "org.apache.commons.math3.stat.correlation.StorelessCovariance.StorelessCovariance_68", _mut10596, _mut10597, _mut10598, _mut10599)), "org.apache.commons.math3.stat.correlation.StorelessCovariance.StorelessCovariance_68", _mut10600, _mut10601, _mut10602, _mut10603), 2, "org.apache.commons.math3.stat.correlation.StorelessCovariance.StorelessCovariance_68", _mut10604, _mut10605, _mut10606, _mut10607)];
-        initializeMatrix(biasCorrected);
-    }
-
-    /**
-     * Initialize the internal two-dimensional array of
-     * {@link StorelessBivariateCovariance} instances.
-     *
-     * @param biasCorrected if the covariance estimate shall be corrected for bias
-     */
-    private void initializeMatrix(final boolean biasCorrected) {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.initializeMatrix_80");
-        for (int i = 0; ROR_less(i, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.initializeMatrix_80", _mut10613, _mut10614, _mut10615, _mut10616, _mut10617); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.initializeMatrix_80");
-            for (int j = 0; ROR_less(j, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.initializeMatrix_80", _mut10608, _mut10609, _mut10610, _mut10611, _mut10612); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.initializeMatrix_80");
-                setElement(i, j, new StorelessBivariateCovariance(biasCorrected));
-            }
-        }
+        this.biasCorrected = biasCorrected;
+        n = 0;
+        means = new double[dimension];
+        coMoments = new double[dimension * (dimension + 1) / 2];
     }
 
     /**
@@ -108,28 +121,7 @@ public class StorelessCovariance extends Covariance {
      * @return the corresponding index in the matrix array
      */
     private int indexOf(final int i, final int j) {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97");
-        return ROR_less(j, i, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10618, _mut10619, _mut10620, _mut10621, _mut10622) ? AOR_plus(AOR_divide(AOR_multiply(i, (AOR_plus(i, 1, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10639, _mut10640, _mut10641, _mut10642)), "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10643, _mut10644, _mut10645, _mut10646), 2, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10647, _mut10648, _mut10649, _mut10650), j, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10651, _mut10652, _mut10653, _mut10654) : AOR_plus(AOR_divide(AOR_multiply(j, (AOR_plus(j, 1, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10623, _mut10624, _mut10625, _mut10626)), "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10627, _mut10628, _mut10629, _mut10630), 2, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10631, _mut10632, _mut10633, _mut10634), i, "org.apache.commons.math3.stat.correlation.StorelessCovariance.indexOf_97", _mut10635, _mut10636, _mut10637, _mut10638);
-    }
-
-    /**
-     * Gets the element at index (i, j) from the covariance matrix
-     * @param i the row index
-     * @param j the column index
-     * @return the {@link StorelessBivariateCovariance} element at the given index
-     */
-    private StorelessBivariateCovariance getElement(final int i, final int j) {
-        return covMatrix[indexOf(i, j)];
-    }
-
-    /**
-     * Sets the covariance element at index (i, j) in the covariance matrix
-     * @param i the row index
-     * @param j the column index
-     * @param cov the {@link StorelessBivariateCovariance} element to be set
-     */
-    private void setElement(final int i, final int j, final StorelessBivariateCovariance cov) {
-        covMatrix[indexOf(i, j)] = cov;
+        return j < i ? i * (i + 1) / 2 + j : j * (j + 1) / 2 + i;
     }
 
     /**
@@ -142,7 +134,10 @@ public class StorelessCovariance extends Covariance {
      * in the cell is &lt; 2
      */
     public double getCovariance(final int xIndex, final int yIndex) throws NumberIsTooSmallException {
-        return getElement(xIndex, yIndex).getResult();
+        if (n < 2) {
+            throw new NumberIsTooSmallException(LocalizedFormats.INSUFFICIENT_DIMENSION, n, 2, true);
+        }
+        return coMoments[indexOf(xIndex, yIndex)] / (biasCorrected ? n - 1 : n);
     }
 
     /**
@@ -153,19 +148,150 @@ public class StorelessCovariance extends Covariance {
      * does not match with the covariance matrix
      */
     public void increment(final double[] data) throws DimensionMismatchException {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.increment_146");
         int length = data.length;
-        if (ROR_not_equals(length, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.increment_146", _mut10655, _mut10656, _mut10657, _mut10658, _mut10659)) {
+        if (length != dimension) {
             throw new DimensionMismatchException(length, dimension);
         }
-        // as only these parts are actually stored
-        for (int i = 0; ROR_less(i, length, "org.apache.commons.math3.stat.correlation.StorelessCovariance.increment_146", _mut10665, _mut10666, _mut10667, _mut10668, _mut10669); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.increment_146");
-            for (int j = i; ROR_less(j, length, "org.apache.commons.math3.stat.correlation.StorelessCovariance.increment_146", _mut10660, _mut10661, _mut10662, _mut10663, _mut10664); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.increment_146");
-                getElement(i, j).increment(data[i], data[j]);
+        n++;
+        final double[] deltas = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            deltas[i] = data[i] - means[i];
+            means[i] += deltas[i] / n;
+        }
+        final double factor = (n - 1.0) / n;
+        int index = 0;
+        for (int j = 0; j < dimension; j++) {
+            final double scaled = factor * deltas[j];
+            for (int i = 0; i <= j; i++) {
+                coMoments[index++] += scaled * deltas[i];
+            }
+        }
+    }
+
+    /**
+     * Increment the covariance matrix with several rows of data.
+     * <p>
+     * The rows are processed by batches: each batch is centered on its own
+     * means, its co-moments are accumulated with dot products over the
+     * batch (a rank-k update of the packed matrix), and the batch is then
+     * merged into the current statistics.
+     * </p>
+     *
+     * @param rows arrays representing rows of data
+     * @throws DimensionMismatchException if the length of a row does not
+     * match with the covariance matrix
+     * @since 3.7
+     */
+    public void increment(final double[][] rows) throws DimensionMismatchException {
+        for (final double[] row : rows) {
+            if (row.length != dimension) {
+                throw new DimensionMismatchException(row.length, dimension);
+            }
+        }
+        final double[][] columns = new double[dimension][FastMath.min(BATCH_SIZE, rows.length)];
+        final double[] batchMeans = new double[dimension];
+        for (int start = 0; start < rows.length; start += BATCH_SIZE) {
+            final int size = FastMath.min(BATCH_SIZE, rows.length - start);
+
+            // transpose and center the batch
+            for (int i = 0; i < dimension; i++) {
+                final double[] column = columns[i];
+                for (int k = 0; k < size; k++) {
+                    column[k] = rows[start + k][i];
+                }
+            }
+            for (int i = 0; i < dimension; i++) {
+                final double[] column = columns[i];
+                double sum = 0;
+                for (int k = 0; k < size; k++) {
+                    sum += column[k];
+                }
+                double mean = sum / size;
+                double correction = 0;
+                for (int k = 0; k < size; k++) {
+                    correction += column[k] - mean;
+                }
+                mean += correction / size;
+                for (int k = 0; k < size; k++) {
+                    column[k] -= mean;
+                }
+                batchMeans[i] = mean;
+            }
+
+            // merge the co-moments of the batch
+            final double total = n + size;
+            final double factor = n * size / total;
+            final double[] deltas = new double[dimension];
+            for (int i = 0; i < dimension; i++) {
+                deltas[i] = batchMeans[i] - means[i];
+            }
+            // columns are processed by pairs, to reuse each loaded value twice
+            int j = 0;
+            for (; j + 1 < dimension; j += 2) {
+                final double[] cj0 = columns[j];
+                final double[] cj1 = columns[j + 1];
+                final double scaled0 = factor * deltas[j];
+                final double scaled1 = factor * deltas[j + 1];
+                final int base0 = j * (j + 1) / 2;
+                final int base1 = base0 + j + 1;
+                int i = 0;
+                for (; i < j; i += 2) {
+                    final double[] ci0 = columns[i];
+                    final double[] ci1 = columns[i + 1];
+                    double s00 = 0;
+                    double s10 = 0;
+                    double s01 = 0;
+                    double s11 = 0;
+                    for (int k = 0; k < size; k++) {
+                        final double a0 = ci0[k];
+                        final double a1 = ci1[k];
+                        final double b0 = cj0[k];
+                        final double b1 = cj1[k];
+                        s00 += a0 * b0;
+                        s10 += a1 * b0;
+                        s01 += a0 * b1;
+                        s11 += a1 * b1;
+                    }
+                    coMoments[base0 + i]     += s00 + scaled0 * deltas[i];
+                    coMoments[base0 + i + 1] += s10 + scaled0 * deltas[i + 1];
+                    coMoments[base1 + i]     += s01 + scaled1 * deltas[i];
+                    coMoments[base1 + i + 1] += s11 + scaled1 * deltas[i + 1];
+                }
+                // here i == j: remaining entries (j, j), (j, j + 1) and (j + 1, j + 1)
+                coMoments[base0 + j]     += dot(cj0, cj0, size) + scaled0 * deltas[j];
+                coMoments[base1 + j]     += dot(cj0, cj1, size) + scaled1 * deltas[j];
+                coMoments[base1 + j + 1] += dot(cj1, cj1, size) + scaled1 * deltas[j + 1];
+            }
+            if (j < dimension) {
+                // last column, when the dimension is odd
+                final double[] cj = columns[j];
+                final double scaled = factor * deltas[j];
+                final int base = j * (j + 1) / 2;
+                for (int i = 0; i <= j; i++) {
+                    coMoments[base + i] += dot(columns[i], cj, size) + scaled * deltas[i];
+                }
             }
+            for (int i = 0; i < dimension; i++) {
+                means[i] += deltas[i] * size / total;
+            }
+            n = total;
+        }
+    }
+
+    /**
+     * Computes the dot product of the first elements of two arrays.
+     *
+     * @param a first array
+     * @param b second array
+     * @param size number of elements to use
+     * @return the dot product
+     */
+    private static double dot(final double[] a, final double[] b, final int size) {
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += a[k] * b[k];
         }
+        return sum;
     }
 
     /**
@@ -179,18 +305,49 @@ public class StorelessCovariance extends Covariance {
      * @since 3.3
      */
     public void append(StorelessCovariance sc) throws DimensionMismatchException {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.append_174");
-        if (ROR_not_equals(sc.dimension, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.append_174", _mut10670, _mut10671, _mut10672, _mut10673, _mut10674)) {
+        if (sc.dimension != dimension) {
             throw new DimensionMismatchException(sc.dimension, dimension);
         }
-        // as only these parts are actually stored
-        for (int i = 0; ROR_less(i, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.append_174", _mut10680, _mut10681, _mut10682, _mut10683, _mut10684); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.append_174");
-            for (int j = i; ROR_less(j, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.append_174", _mut10675, _mut10676, _mut10677, _mut10678, _mut10679); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.append_174");
-                getElement(i, j).append(sc.getElement(i, j));
+        if (sc.n == 0) {
+            return;
+        }
+        final double total = n + sc.n;
+        final double factor = n * sc.n / total;
+        final double[] deltas = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            deltas[i] = sc.means[i] - means[i];
+        }
+        int index = 0;
+        for (int j = 0; j < dimension; j++) {
+            final double scaled = factor * deltas[j];
+            for (int i = 0; i <= j; i++) {
+                coMoments[index] += sc.coMoments[index] + scaled * deltas[i];
+                ++index;
             }
         }
+        for (int i = 0; i < dimension; i++) {
+            means[i] += deltas[i] * sc.n / total;
+        }
+        n = total;
+    }
+
+    /**
+     * Appends several instances to this, for example the partial accumulators
+     * filled by different threads.
+     *
+     * @param others externally computed StorelessCovariance instances to add to this
+     * @throws NullArgumentException if the collection is null
+     * @throws DimensionMismatchException if the dimension of one instance does not
+     * match this
+     * @see #append(StorelessCovariance)
+     * @since 3.7
+     */
+    public void append(Collection<StorelessCovariance> others)
+        throws NullArgumentException, DimensionMismatchException {
+        MathUtils.checkNotNull(others, LocalizedFormats.NULL_NOT_ALLOWED);
+        for (final StorelessCovariance sc : others) {
+            append(sc);
+        }
     }
 
     /**
@@ -211,13 +368,10 @@ public class StorelessCovariance extends Covariance {
      * for a cell is &lt; 2
      */
     public double[][] getData() throws NumberIsTooSmallException {
-        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.getData_205");
         final double[][] data = new double[dimension][dimension];
-        for (int i = 0; ROR_less(i, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.getData_205", _mut10690, _mut10691, _mut10692, _mut10693, _mut10694); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.getData_205");
-            for (int j = 0; ROR_less(j, dimension, "org.apache.commons.math3.stat.correlation.StorelessCovariance.getData_205", _mut10685, _mut10686, _mut10687, _mut10688, _mut10689); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.correlation.StorelessCovariance.getData_205");
-                data[i][j] = getElement(i, j).getResult();
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < dimension; j++) {
+                data[i][j] = getCovariance(i, j);
             }
         }
         return data;
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.stat.descriptive.moment.SecondMoment;
+import org.apache.commons.math3.stat.descriptive.rank.Max;
+import org.apache.commons.math3.stat.descriptive.rank.Min;
+import org.apache.commons.math3.stat.descriptive.summary.Sum;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Summary statistics that can be updated concurrently by many threads.
+ * <p>
+ * {@link SynchronizedSummaryStatistics} guards all its accumulators with a
+ * single monitor, so threads adding values at a high rate spend most of
+ * their time waiting for each other. This class instead spreads the values
+ * over several independent <em>stripes</em>, each holding its own count,
+ * sum, minimum, maximum and second moment, and each guarded by its own
+ * monitor. A thread always updates the same stripe, chosen from its
+ * identifier, so that threads rarely contend as long as there are more
+ * stripes than active threads.
+ * </p>
+ * <p>
+ * The statistics are computed on read, by combining the stripes with
+ * {@link AggregateSummaryStatistics#aggregate(java.util.Collection)}. Each
+ * stripe is read atomically, but the stripes are read one after the other:
+ * values added concurrently with a read may or may not be included in its
+ * result. Use {@link #getSummary()} to obtain several statistics from the
+ * same state.
+ * </p>
+ * <p>
+ * Only the statistics of {@link StatisticalSummary} are maintained. Use
+ * {@link SummaryStatistics} (or one of its synchronized variants) for sums
+ * of squares, sums of logarithms or pluggable implementations.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class ConcurrentSummaryStatistics implements StatisticalSummary, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20161019L;
+
+    /** Maximal default number of stripes. */
+    private static final int MAX_DEFAULT_STRIPES = 256;
+
+    /** Stripes. */
+    private final Stripe[] stripes;
+
+    /** Mask selecting a stripe from a hash (number of stripes minus one). */
+    private final int mask;
+
+    /**
+     * Creates statistics with a default number of stripes, the smallest power
+     * of two at least twice the number of available processors.
+     */
+    public ConcurrentSummaryStatistics() {
+        this(FastMath.min(MAX_DEFAULT_STRIPES, 2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates statistics with a given number of stripes.
+     *
+     * @param stripes Minimal number of stripes. It is rounded up to a power
+     * of two.
+     * @throws NotStrictlyPositiveException if {@code stripes <= 0}.
+     */
+    public ConcurrentSummaryStatistics(final int stripes)
+        throws NotStrictlyPositiveException {
+        if (stripes <= 0) {
+            throw new NotStrictlyPositiveException(stripes);
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the number of stripes.
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Adds a value to the data.
+     *
+     * @param value Value to add.
+     */
+    public void addValue(final double value) {
+        final long id = Thread.currentThread().getId();
+        // Fibonacci hashing: consecutive identifiers land on distinct stripes
+        final int hash = (int) ((id * 0x9e3779b97f4a7c15l) >>> 32);
+        stripes[hash & mask].add(value);
+    }
+
+    /**
+     * Returns the number of available values.
+     *
+     * @return the number of available values.
+     */
+    public long getN() {
+        long n = 0;
+        for (final Stripe stripe : stripes) {
+            n += stripe.getN();
+        }
+        return n;
+    }
+
+    /**
+     * Returns the sum of the values that have been added.
+     *
+     * @return the sum, or 0 if no values have been added.
+     */
+    public double getSum() {
+        return getSummary().getSum();
+    }
+
+    /**
+     * Returns the mean of the values that have been added.
+     *
+     * @return the mean, or {@code Double.NaN} if no values have been added.
+     */
+    public double getMean() {
+        return getSummary().getMean();
+    }
+
+    /**
+     * Returns the (sample) variance of the values that have been added.
+     *
+     * @return the variance, or {@code Double.NaN} if no values have been added.
+     */
+    public double getVariance() {
+        return getSummary().getVariance();
+    }
+
+    /**
+     * Returns the standard deviation of the values that have been added.
+     *
+     * @return the standard deviation, or {@code Double.NaN} if no values
+     * have been added.
+     */
+    public double getStandardDeviation() {
+        return getSummary().getStandardDeviation();
+    }
+
+    /**
+     * Returns the maximum of the values that have been added.
+     *
+     * @return the maximum, or {@code Double.NaN} if no values have been added.
+     */
+    public double getMax() {
+        return getSummary().getMax();
+    }
+
+    /**
+     * Returns the minimum of the values that have been added.
+     *
+     * @return the minimum, or {@code Double.NaN} if no values have been added.
+     */
+    public double getMin() {
+        return getSummary().getMin();
+    }
+
+    /**
+     * Returns the current values of the statistics, computed from a single
+     * pass over the stripes.
+     *
+     * @return the current statistics.
+     */
+    public StatisticalSummary getSummary() {
+        final List<StatisticalSummary> nonEmpty = new ArrayList<StatisticalSummary>(stripes.length);
+        for (final Stripe stripe : stripes) {
+            final StatisticalSummary summary = stripe.getSummary();
+            // empty stripes have a NaN variance which would spoil the aggregate
+            if (summary.getN() > 0) {
+                nonEmpty.add(summary);
+            }
+        }
+        if (nonEmpty.isEmpty()) {
+            return new StatisticalSummaryValues(Double.NaN, Double.NaN, 0, Double.NaN, Double.NaN, 0);
+        }
+        return AggregateSummaryStatistics.aggregate(nonEmpty);
+    }
+
+    /**
+     * Resets all the statistics.
+     * <p>
+     * The stripes are cleared one after the other: values added concurrently
+     * may or may not be retained.
+     * </p>
+     */
+    public void clear() {
+        for (final Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Generates a text report displaying summary statistics from values that
+     * have been added.
+     *
+     * @return String with line feeds displaying statistics
+     */
+    @Override
+    public String toString() {
+        final StatisticalSummary summary = getSummary();
+        StringBuilder outBuffer = new StringBuilder();
+        String endl = "\n";
+        outBuffer.append("ConcurrentSummaryStatistics:").append(endl);
+        outBuffer.append("n: ").append(summary.getN()).append(endl);
+        outBuffer.append("min: ").append(summary.getMin()).append(endl);
+        outBuffer.append("max: ").append(summary.getMax()).append(endl);
+        outBuffer.append("sum: ").append(summary.getSum()).append(endl);
+        outBuffer.append("mean: ").append(summary.getMean()).append(endl);
+        outBuffer.append("variance: ").append(summary.getVariance()).append(endl);
+        outBuffer.append("standard deviation: ").append(summary.getStandardDeviation()).append(endl);
+        return outBuffer.toString();
+    }
+
+    /** Accumulators updated by a subset of the threads. */
+    private static class Stripe implements Serializable {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20161019L;
+
+        /** Second moment, also holding the count. */
+        private final SecondMoment secondMoment = new SecondMoment();
+
+        /** Sum. */
+        private final Sum sum = new Sum();
+
+        /** Minimum. */
+        private final Min min = new Min();
+
+        /** Maximum. */
+        private final Max max = new Max();
+
+        /**
+         * Adds a value.
+         *
+         * @param value Value to add.
+         */
+        synchronized void add(final double value) {
+            secondMoment.increment(value);
+            sum.increment(value);
+            min.increment(value);
+            max.increment(value);
+        }
+
+        /**
+         * Returns the number of values added to this stripe.
+         *
+         * @return the number of values.
+         */
+        synchronized long getN() {
+            return secondMoment.getN();
+        }
+
+        /**
+         * Returns the statistics of this stripe.
+         *
+         * @return the statistics.
+         */
+        synchronized StatisticalSummary getSummary() {
+            final long n = secondMoment.getN();
+            final double variance;
+            if (n == 0) {
+                variance = Double.NaN;
+            } else if (n == 1) {
+                variance = 0;
+            } else {
+                variance = secondMoment.getResult() / (n - 1);
+            }
+            final double s = sum.getResult();
+            return new StatisticalSummaryValues(n == 0 ? Double.NaN : s / n, variance, n,
+                                                max.getResult(), min.getResult(), s);
+        }
+
+        /** Resets the accumulators. */
+        synchronized void clear() {
+            secondMoment.clear();
+            sum.clear();
+            min.clear();
+            max.clear();
+        }
+
+    }
+
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.commons.math3.stat.descriptive;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
@@ -30,9 +33,12 @@ import org.apache.commons.math3.stat.descriptive.moment.Skewness;
 import org.apache.commons.math3.stat.descriptive.moment.Variance;
 import org.apache.commons.math3.stat.descriptive.rank.Max;
 import org.apache.commons.math3.stat.descriptive.rank.Min;
+import org.apache.commons.math3.stat.descriptive.rank.OrderStatisticTree;
 import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfSquares;
+import org.apache.commons.math3.stat.ranking.NaNStrategy;
+import org.apache.commons.math3.util.CircularDoubleArray;
 import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.ResizableDoubleArray;
 import org.apache.commons.math3.util.FastMath;
@@ -52,6 +58,14 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * added in a "rolling" manner, with new values replacing the "oldest" values
  * in the dataset.
  *
+ * <p>Percentiles of a rolling window are maintained incrementally: the first
+ * call to {@link #getPercentile(double)} with a finite window size and the
+ * default {@link Percentile} implementation (with a NaN strategy other than
+ * {@link NaNStrategy#FIXED}) sorts the window into an
+ * {@link OrderStatisticTree}, which is then updated in O(log n) time as
+ * values are added and evicted, so that later percentile queries take
+ * O(log n) time instead of copying and partitioning the window.</p>
+ *
  * <p>Note: this class is not threadsafe.  Use
  * {@link SynchronizedDescriptiveStatistics} if concurrent access from multiple
  * threads is required.</p>
@@ -84,10 +98,25 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
     protected int windowSize = INFINITE_WINDOW;
 
     /**
-     *  Stored data values
+     *  Stored data values, for infinite windows; null for finite windows.
      */
     private ResizableDoubleArray eDA = new ResizableDoubleArray();
 
+    /**
+     * Stored data values for finite windows, in a circular buffer so that
+     * rolling never moves the values; null for infinite windows.
+     * <p>
+     * The serialized form always stores the values in {@link #eDA}.
+     * </p>
+     */
+    private transient CircularDoubleArray window;
+
+    /**
+     * Sorted view of the stored values, maintained for rolling windows once
+     * percentiles have been requested; null otherwise.
+     */
+    private transient OrderStatisticTree sortedWindow;
+
     /**
      * Mean statistic implementation - can be reset by setter.
      */
@@ -192,9 +221,16 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.addValue_163");
         if (ROR_not_equals(windowSize, INFINITE_WINDOW, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.addValue_163", _mut3431, _mut3432, _mut3433, _mut3434, _mut3435)) {
             if (ROR_equals(getN(), windowSize, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.addValue_163", _mut3436, _mut3437, _mut3438, _mut3439, _mut3440)) {
-                eDA.addElementRolling(v);
+                final double discarded = window.addElementRolling(v);
+                if (sortedWindow != null) {
+                    sortedWindow.remove(discarded);
+                    sortedWindow.insert(v);
+                }
             } else if (ROR_less(getN(), windowSize, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.addValue_163", _mut3441, _mut3442, _mut3443, _mut3444, _mut3445)) {
-                eDA.addElement(v);
+                window.addElement(v);
+                if (sortedWindow != null) {
+                    sortedWindow.insert(v);
+                }
             }
         } else {
             eDA.addElement(v);
@@ -207,8 +243,15 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      * @throws MathIllegalStateException if there are no elements stored
      */
     public void removeMostRecentValue() throws MathIllegalStateException {
+        if (sortedWindow != null && getN() > 0) {
+            sortedWindow.remove(getElement((int) getN() - 1));
+        }
         try {
-            eDA.discardMostRecentElements(1);
+            if (window != null) {
+                window.discardMostRecentElements(1);
+            } else {
+                eDA.discardMostRecentElements(1);
+            }
         } catch (MathIllegalArgumentException ex) {
             throw new MathIllegalStateException(LocalizedFormats.NO_DATA);
         }
@@ -223,7 +266,14 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      * @throws MathIllegalStateException if there are no elements stored
      */
     public double replaceMostRecentValue(double v) throws MathIllegalStateException {
-        return eDA.substituteMostRecentElement(v);
+        final double replaced = (window != null) ?
+                                window.substituteMostRecentElement(v) :
+                                eDA.substituteMostRecentElement(v);
+        if (sortedWindow != null) {
+            sortedWindow.remove(replaced);
+            sortedWindow.insert(v);
+        }
+        return replaced;
     }
 
     /**
@@ -345,7 +395,7 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      * @return The number of available values
      */
     public long getN() {
-        return eDA.getNumElements();
+        return (window != null) ? window.getNumElements() : eDA.getNumElements();
     }
 
     /**
@@ -369,7 +419,14 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      * Resets all statistics and storage
      */
     public void clear() {
-        eDA.clear();
+        if (window != null) {
+            window.clear();
+        } else {
+            eDA.clear();
+        }
+        if (sortedWindow != null) {
+            sortedWindow.clear();
+        }
     }
 
     /**
@@ -402,10 +459,26 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
             throw new MathIllegalArgumentException(LocalizedFormats.NOT_POSITIVE_WINDOW_SIZE, windowSize);
         }
         this.windowSize = windowSize;
+        // finite windows are stored in a circular buffer
+        if (windowSize != INFINITE_WINDOW && window == null) {
+            window = new CircularDoubleArray(eDA.getElements());
+            eDA = null;
+        } else if (windowSize == INFINITE_WINDOW && window != null) {
+            eDA = new ResizableDoubleArray(window.getElements());
+            window = null;
+        }
         // the current number of elements.
-        if ((_mut3486 ? (ROR_not_equals(windowSize, INFINITE_WINDOW, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3476, _mut3477, _mut3478, _mut3479, _mut3480) || ROR_less(windowSize, eDA.getNumElements(), "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3481, _mut3482, _mut3483, _mut3484, _mut3485)) : (ROR_not_equals(windowSize, INFINITE_WINDOW, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3476, _mut3477, _mut3478, _mut3479, _mut3480) && ROR_less(windowSize, eDA.getNumElements(), "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3481, _mut3482, _mut3483, _mut3484, _mut3485)))) {
-            eDA.discardFrontElements(AOR_minus(eDA.getNumElements(), windowSize, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3487, _mut3488, _mut3489, _mut3490));
+        final int n = (int) getN();
+        if ((_mut3486 ? (ROR_not_equals(windowSize, INFINITE_WINDOW, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3476, _mut3477, _mut3478, _mut3479, _mut3480) || ROR_less(windowSize, n, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3481, _mut3482, _mut3483, _mut3484, _mut3485)) : (ROR_not_equals(windowSize, INFINITE_WINDOW, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3476, _mut3477, _mut3478, _mut3479, _mut3480) && ROR_less(windowSize, n, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3481, _mut3482, _mut3483, _mut3484, _mut3485)))) {
+            final int discarded = AOR_minus(n, windowSize, "org.apache.commons.math3.stat.descriptive.DescriptiveStatistics.setWindowSize_369", _mut3487, _mut3488, _mut3489, _mut3490);
+            if (window != null) {
+                window.discardFrontElements(discarded);
+            } else {
+                eDA.discardFrontElements(discarded);
+            }
         }
+        // the sorted view is rebuilt on demand
+        sortedWindow = null;
     }
 
     /**
@@ -418,7 +491,7 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      *         were added to this set
      */
     public double[] getValues() {
-        return eDA.getElements();
+        return (window != null) ? window.getElements() : eDA.getElements();
     }
 
     /**
@@ -430,6 +503,9 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      * numbers sorted in ascending order
      */
     public double[] getSortedValues() {
+        if (sortedWindow != null) {
+            return sortedWindow.toSortedArray();
+        }
         double[] sort = getValues();
         Arrays.sort(sort);
         return sort;
@@ -441,7 +517,7 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      * @return return the element at the specified index
      */
     public double getElement(int index) {
-        return eDA.getElement(index);
+        return (window != null) ? window.getElement(index) : eDA.getElement(index);
     }
 
     /**
@@ -478,6 +554,14 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
                 throw new IllegalStateException(e3.getCause());
             }
         }
+        // NaNStrategy.FIXED leaves NaN values in place, which a sorted view cannot reproduce
+        if (windowSize != INFINITE_WINDOW && percentileImpl.getClass() == Percentile.class &&
+            ((Percentile) percentileImpl).getNaNStrategy() != NaNStrategy.FIXED) {
+            if (sortedWindow == null) {
+                sortedWindow = new OrderStatisticTree(getValues());
+            }
+            return ((Percentile) percentileImpl).evaluate(sortedWindow, p);
+        }
         return apply(percentileImpl);
     }
 
@@ -516,7 +600,7 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
      */
     public double apply(UnivariateStatistic stat) {
         // No try-catch or advertised exception here because arguments are guaranteed valid
-        return eDA.compute(stat);
+        return (window != null) ? window.compute(stat) : eDA.compute(stat);
     }
 
     /**
@@ -766,8 +850,10 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
         MathUtils.checkNotNull(source);
         MathUtils.checkNotNull(dest);
         // Copy data and window size
-        dest.eDA = source.eDA.copy();
+        dest.eDA = (source.eDA == null) ? null : source.eDA.copy();
+        dest.window = (source.window == null) ? null : source.window.copy();
         dest.windowSize = source.windowSize;
+        dest.sortedWindow = (source.sortedWindow == null) ? null : source.sortedWindow.copy();
         // Copy implementations
         dest.maxImpl = source.maxImpl.copy();
         dest.meanImpl = source.meanImpl.copy();
@@ -780,4 +866,39 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
         dest.skewnessImpl = source.skewnessImpl;
         dest.percentileImpl = source.percentileImpl;
     }
+
+    /**
+     * Serializes the instance, with the values of finite windows stored
+     * in a {@link ResizableDoubleArray} as in the original serialized form.
+     *
+     * @param out stream where the instance is written
+     * @throws IOException if the instance cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ResizableDoubleArray stored = eDA;
+        if (window != null) {
+            eDA = new ResizableDoubleArray(window.getElements());
+        }
+        try {
+            out.defaultWriteObject();
+        } finally {
+            eDA = stored;
+        }
+    }
+
+    /**
+     * Deserializes the instance, moving the values of finite windows to a
+     * circular buffer.
+     *
+     * @param in stream from which the instance is read
+     * @throws IOException if the instance cannot be read
+     * @throws ClassNotFoundException if a class of the stream cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (windowSize != INFINITE_WINDOW) {
+            window = new CircularDoubleArray(eDA.getElements());
+            eDA = null;
+        }
+    }
 }
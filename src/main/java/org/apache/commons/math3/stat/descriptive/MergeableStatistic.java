@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+
+/**
+ * Statistic whose partial results can be merged.
+ * <p>
+ * Merging a statistic computed over a data set A with the same statistic
+ * computed over a data set B yields the statistic of the union of A and B.
+ * This allows to split a data set into parts (for example one per task or
+ * per node), to accumulate each part in its own instance, and to combine
+ * the instances afterwards:
+ * <pre>
+ * Variance total = new Variance();
+ * for (Variance partial : partials) {
+ *     total.merge(partial);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Unless stated otherwise by the implementation, the merged result is equal,
+ * up to rounding errors, to the one obtained by incrementing a single
+ * instance with all the values.
+ * </p>
+ *
+ * @param <T> type of the statistics that can be merged into this one
+ * @since 3.7
+ */
+public interface MergeableStatistic<T> {
+
+    /**
+     * Merges the state of another statistic into this one.
+     * <p>
+     * The other statistic is not modified.
+     * </p>
+     *
+     * @param other statistic to merge
+     * @throws NullArgumentException if other is null
+     */
+    void merge(T other) throws NullArgumentException;
+
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.math3.stat.descriptive;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.util.MathUtils;
 
@@ -74,6 +75,22 @@ public class SynchronizedDescriptiveStatistics extends DescriptiveStatistics {
         super.addValue(v);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void removeMostRecentValue() throws MathIllegalStateException {
+        super.removeMostRecentValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double replaceMostRecentValue(double v) throws MathIllegalStateException {
+        return super.replaceMostRecentValue(v);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -130,6 +147,23 @@ public class SynchronizedDescriptiveStatistics extends DescriptiveStatistics {
         return super.getValues();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double[] getSortedValues() {
+        return super.getSortedValues();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double getPercentile(double p)
+        throws MathIllegalStateException, MathIllegalArgumentException {
+        return super.getPercentile(p);
+    }
+
     /**
      * {@inheritDoc}
      */
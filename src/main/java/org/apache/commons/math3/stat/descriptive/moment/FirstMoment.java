@@ -145,6 +145,29 @@ class FirstMoment extends AbstractStorelessUnivariateStatistic implements Serial
         return n;
     }
 
+    /**
+     * Merges the moments of another instance into this one.
+     * <p>Subclasses must merge their higher moments before calling this
+     * method, as the combination formulas use the counts and means of both
+     * instances.</p>
+     *
+     * @param other moments to merge, of the same order as this instance
+     * @since 3.7
+     */
+    void mergeMoments(final FirstMoment other) {
+        if (other.n == 0) {
+            return;
+        }
+        if (n == 0) {
+            m1 = other.m1;
+        } else {
+            m1 += (other.m1 - m1) * ((double) other.n / (n + other.n));
+        }
+        n += other.n;
+        dev = Double.NaN;
+        nDev = Double.NaN;
+    }
+
     /**
      * {@inheritDoc}
      */
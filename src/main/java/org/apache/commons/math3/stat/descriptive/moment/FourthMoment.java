@@ -125,6 +125,29 @@ class FourthMoment extends ThirdMoment implements Serializable {
         m4 = Double.NaN;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void mergeMoments(final FirstMoment other) {
+        final FourthMoment o = (FourthMoment) other;
+        if (o.n > 0) {
+            if (n == 0) {
+                m4 = o.m4;
+            } else {
+                final double na = n;
+                final double nb = o.n;
+                final double nt = na + nb;
+                final double delta = o.m1 - m1;
+                final double delta2 = delta * delta;
+                m4 += o.m4 + delta2 * delta2 * na * nb * (na * na - na * nb + nb * nb) / (nt * nt * nt) +
+                      6 * delta2 * (na * na * o.m2 + nb * nb * m2) / (nt * nt) +
+                      4 * delta * (na * o.m3 - nb * m3) / nt;
+            }
+        }
+        super.mergeMoments(other);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,9 +19,11 @@ package org.apache.commons.math3.stat.descriptive.moment;
 import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfLogs;
 import org.apache.commons.math3.util.FastMath;
@@ -50,7 +52,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class GeometricMean extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class GeometricMean extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<GeometricMean> {
 
     @Conditional
     public static boolean _mut3413 = false, _mut3414 = false, _mut3415 = false, _mut3416 = false, _mut3417 = false, _mut3418 = false, _mut3419 = false, _mut3420 = false, _mut3421 = false, _mut3422 = false, _mut3423 = false, _mut3424 = false, _mut3425 = false, _mut3426 = false, _mut3427 = false, _mut3428 = false, _mut3429 = false, _mut3430 = false;
@@ -132,6 +134,22 @@ public class GeometricMean extends AbstractStorelessUnivariateStatistic implemen
         sumOfLogs.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException if either instance uses a
+     * sum of logs implementation other than {@link SumOfLogs}
+     * @since 3.7
+     */
+    public void merge(final GeometricMean other)
+        throws NullArgumentException, MathUnsupportedOperationException {
+        MathUtils.checkNotNull(other);
+        if (!(sumOfLogs instanceof SumOfLogs) || !(other.sumOfLogs instanceof SumOfLogs)) {
+            throw new MathUnsupportedOperationException();
+        }
+        ((SumOfLogs) sumOfLogs).merge((SumOfLogs) other.sumOfLogs);
+    }
+
     /**
      * Returns the geometric mean of the entries in the specified portion
      * of the input array.
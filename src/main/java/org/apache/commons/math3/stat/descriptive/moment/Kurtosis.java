@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
@@ -45,7 +46,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class Kurtosis extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class Kurtosis extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Kurtosis> {
 
     @Conditional
     public static boolean _mut2586 = false, _mut2587 = false, _mut2588 = false, _mut2589 = false, _mut2590 = false, _mut2591 = false, _mut2592 = false, _mut2593 = false, _mut2594 = false, _mut2595 = false, _mut2596 = false, _mut2597 = false, _mut2598 = false, _mut2599 = false, _mut2600 = false, _mut2601 = false, _mut2602 = false, _mut2603 = false, _mut2604 = false, _mut2605 = false, _mut2606 = false, _mut2607 = false, _mut2608 = false, _mut2609 = false, _mut2610 = false, _mut2611 = false, _mut2612 = false, _mut2613 = false, _mut2614 = false, _mut2615 = false, _mut2616 = false, _mut2617 = false, _mut2618 = false, _mut2619 = false, _mut2620 = false, _mut2621 = false, _mut2622 = false, _mut2623 = false, _mut2624 = false, _mut2625 = false, _mut2626 = false, _mut2627 = false, _mut2628 = false, _mut2629 = false, _mut2630 = false, _mut2631 = false, _mut2632 = false, _mut2633 = false, _mut2634 = false, _mut2635 = false, _mut2636 = false, _mut2637 = false, _mut2638 = false, _mut2639 = false, _mut2640 = false, _mut2641 = false, _mut2642 = false, _mut2643 = false, _mut2644 = false, _mut2645 = false, _mut2646 = false, _mut2647 = false, _mut2648 = false, _mut2649 = false, _mut2650 = false, _mut2651 = false, _mut2652 = false, _mut2653 = false, _mut2654 = false, _mut2655 = false, _mut2656 = false, _mut2657 = false, _mut2658 = false, _mut2659 = false, _mut2660 = false, _mut2661 = false, _mut2662 = false, _mut2663 = false, _mut2664 = false, _mut2665 = false, _mut2666 = false, _mut2667 = false, _mut2668 = false, _mut2669 = false, _mut2670 = false, _mut2671 = false, _mut2672 = false, _mut2673 = false, _mut2674 = false, _mut2675 = false, _mut2676 = false, _mut2677 = false, _mut2678 = false, _mut2679 = false, _mut2680 = false, _mut2681 = false, _mut2682 = false, _mut2683 = false, _mut2684 = false, _mut2685 = false, _mut2686 = false, _mut2687 = false, _mut2688 = false, _mut2689 = false, _mut2690 = false, _mut2691 = false, _mut2692 = false, _mut2693 = false, _mut2694 = false, _mut2695 = false, _mut2696 = false, _mut2697 = false, _mut2698 = false, _mut2699 = false, _mut2700 = false, _mut2701 = false, _mut2702 = false, _mut2703 = false, _mut2704 = false, _mut2705 = false, _mut2706 = false, _mut2707 = false, _mut2708 = false, _mut2709 = false, _mut2710 = false, _mut2711 = false, _mut2712 = false, _mut2713 = false, _mut2714 = false, _mut2715 = false, _mut2716 = false, _mut2717 = false, _mut2718 = false, _mut2719 = false, _mut2720 = false, _mut2721 = false, _mut2722 = false, _mut2723 = false, _mut2724 = false, _mut2725 = false, _mut2726 = false, _mut2727 = false, _mut2728 = false, _mut2729 = false, _mut2730 = false, _mut2731 = false, _mut2732 = false, _mut2733 = false, _mut2734 = false, _mut2735 = false, _mut2736 = false, _mut2737 = false, _mut2738 = false, _mut2739 = false, _mut2740 = false, _mut2741 = false, _mut2742 = false, _mut2743 = false, _mut2744 = false, _mut2745 = false, _mut2746 = false, _mut2747 = false, _mut2748 = false, _mut2749 = false, _mut2750 = false, _mut2751 = false, _mut2752 = false, _mut2753 = false, _mut2754 = false, _mut2755 = false, _mut2756 = false;
@@ -139,6 +140,21 @@ public class Kurtosis extends AbstractStorelessUnivariateStatistic implements Se
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Note that when {@link #Kurtosis(FourthMoment)} is used to
+     * create a Kurtosis, this method does nothing. In that case, the
+     * FourthMoment should be merged directly.</p>
+     *
+     * @since 3.7
+     */
+    public void merge(final Kurtosis other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (incMoment) {
+            moment.mergeMoments(other.moment);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
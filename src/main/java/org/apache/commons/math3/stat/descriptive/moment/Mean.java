@@ -16,12 +16,16 @@
  */
 package org.apache.commons.math3.stat.descriptive.moment;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.stat.descriptive.WeightedEvaluation;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -60,7 +64,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.
  */
-public class Mean extends AbstractStorelessUnivariateStatistic implements Serializable, WeightedEvaluation {
+public class Mean extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Mean>, WeightedEvaluation {
 
     @Conditional
     public static boolean _mut2774 = false, _mut2775 = false, _mut2776 = false, _mut2777 = false, _mut2778 = false, _mut2779 = false, _mut2780 = false, _mut2781 = false, _mut2782 = false, _mut2783 = false, _mut2784 = false, _mut2785 = false, _mut2786 = false, _mut2787 = false, _mut2788 = false, _mut2789 = false, _mut2790 = false, _mut2791 = false, _mut2792 = false, _mut2793 = false, _mut2794 = false, _mut2795 = false, _mut2796 = false, _mut2797 = false, _mut2798 = false, _mut2799 = false, _mut2800 = false, _mut2801 = false, _mut2802 = false, _mut2803 = false, _mut2804 = false, _mut2805 = false, _mut2806 = false, _mut2807 = false, _mut2808 = false, _mut2809 = false, _mut2810 = false, _mut2811 = false, _mut2812 = false, _mut2813 = false, _mut2814 = false, _mut2815 = false, _mut2816 = false, _mut2817 = false, _mut2818 = false, _mut2819 = false, _mut2820 = false, _mut2821 = false, _mut2822 = false, _mut2823 = false, _mut2824 = false, _mut2825 = false, _mut2826 = false, _mut2827 = false;
@@ -83,6 +87,11 @@ public class Mean extends AbstractStorelessUnivariateStatistic implements Serial
      */
     protected boolean incMoment;
 
+    /**
+     * Summation method used by {@link #evaluate(double[], int, int)}.
+     */
+    private SummationMethod method = SummationMethod.NAIVE;
+
     /**
      * Constructs a Mean.
      */
@@ -101,6 +110,25 @@ public class Mean extends AbstractStorelessUnivariateStatistic implements Serial
         incMoment = false;
     }
 
+    /**
+     * Constructs a Mean using the specified summation method.
+     * <p>
+     * The method is used by {@link #evaluate(double[], int, int)}, for both
+     * the sum of the values and the correction term. The storeless
+     * {@link #increment(double)} updates a running mean and is not affected,
+     * nor are weighted means.
+     * </p>
+     *
+     * @param method summation method
+     * @throws NullArgumentException if method is null
+     * @since 3.7
+     */
+    public Mean(final SummationMethod method) throws NullArgumentException {
+        this();
+        MathUtils.checkNotNull(method);
+        this.method = method;
+    }
+
     /**
      * Copy constructor, creates a new {@code Mean} identical
      * to the {@code original}
@@ -135,6 +163,21 @@ public class Mean extends AbstractStorelessUnivariateStatistic implements Serial
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Note that when {@link #Mean(FirstMoment)} is used to
+     * create a Mean, this method does nothing. In that case, the
+     * FirstMoment should be merged directly.</p>
+     *
+     * @since 3.7
+     */
+    public void merge(final Mean other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (incMoment) {
+            moment.mergeMoments(other.moment);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -150,6 +193,16 @@ public class Mean extends AbstractStorelessUnivariateStatistic implements Serial
         return moment.getN();
     }
 
+    /**
+     * Get the summation method used by {@link #evaluate(double[], int, int)}.
+     *
+     * @return the summation method
+     * @since 3.7
+     */
+    public SummationMethod getSummationMethod() {
+        return method;
+    }
+
     /**
      * Returns the arithmetic mean of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -170,6 +223,10 @@ public class Mean extends AbstractStorelessUnivariateStatistic implements Serial
     public double evaluate(final double[] values, final int begin, final int length) throws MathIllegalArgumentException {
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.moment.Mean.evaluate_161");
         if (test(values, begin, length)) {
+            if (method != SummationMethod.NAIVE) {
+                final double xbar = method.sum(values, begin, length) / length;
+                return xbar + method.sumOfDeviations(values, xbar, begin, length) / length;
+            }
             Sum sum = new Sum();
             double sampleSize = length;
             // Compute initial estimate using definitional formula
@@ -285,5 +342,23 @@ public class Mean extends AbstractStorelessUnivariateStatistic implements Serial
         dest.setData(source.getDataRef());
         dest.incMoment = source.incMoment;
         dest.moment = source.moment.copy();
+        dest.method = source.method;
+    }
+
+    /**
+     * Deserialize the instance.
+     * <p>
+     * Instances serialized before the summation method was configurable
+     * do not hold a method; they are restored with naive summation.
+     * </p>
+     * @param ois stream from which the object should be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     * @throws IOException if object cannot be read from the stream
+     */
+    private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
+        ois.defaultReadObject();
+        if (method == null) {
+            method = SummationMethod.NAIVE;
+        }
     }
 }
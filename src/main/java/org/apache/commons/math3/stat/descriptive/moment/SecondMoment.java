@@ -18,6 +18,7 @@ package org.apache.commons.math3.stat.descriptive.moment;
 
 import java.io.Serializable;
 import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -46,7 +47,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class SecondMoment extends FirstMoment implements Serializable {
+public class SecondMoment extends FirstMoment implements Serializable, MergeableStatistic<SecondMoment> {
 
     @Conditional
     public static boolean _mut2757 = false, _mut2758 = false, _mut2759 = false, _mut2760 = false, _mut2761 = false, _mut2762 = false, _mut2763 = false, _mut2764 = false, _mut2765 = false, _mut2766 = false, _mut2767 = false, _mut2768 = false, _mut2769 = false, _mut2770 = false, _mut2771 = false, _mut2772 = false, _mut2773 = false;
@@ -111,6 +112,35 @@ public class SecondMoment extends FirstMoment implements Serializable {
         return m2;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The moments are combined with the pairwise update formulas of
+     * Chan, Golub and LeVeque.</p>
+     *
+     * @since 3.7
+     */
+    public void merge(final SecondMoment other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        mergeMoments(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void mergeMoments(final FirstMoment other) {
+        final SecondMoment o = (SecondMoment) other;
+        if (o.n > 0) {
+            if (n == 0) {
+                m2 = o.m2;
+            } else {
+                final double delta = o.m1 - m1;
+                m2 += o.m2 + delta * delta * ((double) n * o.n / (n + o.n));
+            }
+        }
+        super.mergeMoments(other);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
@@ -45,7 +46,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally. </p>
  */
-public class Skewness extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class Skewness extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Skewness> {
 
     @Conditional
     public static boolean _mut3026 = false, _mut3027 = false, _mut3028 = false, _mut3029 = false, _mut3030 = false, _mut3031 = false, _mut3032 = false, _mut3033 = false, _mut3034 = false, _mut3035 = false, _mut3036 = false, _mut3037 = false, _mut3038 = false, _mut3039 = false, _mut3040 = false, _mut3041 = false, _mut3042 = false, _mut3043 = false, _mut3044 = false, _mut3045 = false, _mut3046 = false, _mut3047 = false, _mut3048 = false, _mut3049 = false, _mut3050 = false, _mut3051 = false, _mut3052 = false, _mut3053 = false, _mut3054 = false, _mut3055 = false, _mut3056 = false, _mut3057 = false, _mut3058 = false, _mut3059 = false, _mut3060 = false, _mut3061 = false, _mut3062 = false, _mut3063 = false, _mut3064 = false, _mut3065 = false, _mut3066 = false, _mut3067 = false, _mut3068 = false, _mut3069 = false, _mut3070 = false, _mut3071 = false, _mut3072 = false, _mut3073 = false, _mut3074 = false, _mut3075 = false, _mut3076 = false, _mut3077 = false, _mut3078 = false, _mut3079 = false, _mut3080 = false, _mut3081 = false, _mut3082 = false, _mut3083 = false, _mut3084 = false, _mut3085 = false, _mut3086 = false, _mut3087 = false, _mut3088 = false, _mut3089 = false, _mut3090 = false, _mut3091 = false, _mut3092 = false, _mut3093 = false, _mut3094 = false, _mut3095 = false, _mut3096 = false, _mut3097 = false, _mut3098 = false, _mut3099 = false, _mut3100 = false, _mut3101 = false, _mut3102 = false, _mut3103 = false, _mut3104 = false, _mut3105 = false, _mut3106 = false, _mut3107 = false, _mut3108 = false, _mut3109 = false, _mut3110 = false, _mut3111 = false, _mut3112 = false, _mut3113 = false, _mut3114 = false, _mut3115 = false, _mut3116 = false, _mut3117 = false, _mut3118 = false, _mut3119 = false, _mut3120 = false, _mut3121 = false, _mut3122 = false, _mut3123 = false, _mut3124 = false, _mut3125 = false, _mut3126 = false, _mut3127 = false, _mut3128 = false, _mut3129 = false, _mut3130 = false, _mut3131 = false, _mut3132 = false, _mut3133 = false, _mut3134 = false, _mut3135 = false, _mut3136 = false, _mut3137 = false, _mut3138 = false, _mut3139 = false, _mut3140 = false, _mut3141 = false, _mut3142 = false, _mut3143 = false, _mut3144 = false, _mut3145 = false, _mut3146 = false, _mut3147 = false, _mut3148 = false, _mut3149 = false, _mut3150 = false, _mut3151 = false, _mut3152 = false, _mut3153 = false, _mut3154 = false, _mut3155 = false, _mut3156 = false, _mut3157 = false, _mut3158 = false, _mut3159 = false;
@@ -148,6 +149,21 @@ public class Skewness extends AbstractStorelessUnivariateStatistic implements Se
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Note that when {@link #Skewness(ThirdMoment)} is used to
+     * create a Skewness, this method does nothing. In that case, the
+     * ThirdMoment should be merged directly.</p>
+     *
+     * @since 3.7
+     */
+    public void merge(final Skewness other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (incMoment) {
+            moment.mergeMoments(other.moment);
+        }
+    }
+
     /**
      * Returns the Skewness of the entries in the specifed portion of the
      * input array.
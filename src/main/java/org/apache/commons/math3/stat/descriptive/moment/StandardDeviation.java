@@ -21,6 +21,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
 
@@ -41,7 +42,7 @@ import org.apache.commons.math3.util.MathUtils;
  *
  */
 public class StandardDeviation extends AbstractStorelessUnivariateStatistic
-    implements Serializable {
+    implements Serializable, MergeableStatistic<StandardDeviation> {
 
     /** Serializable version identifier */
     private static final long serialVersionUID = 5728716329662425188L;
@@ -137,6 +138,16 @@ public class StandardDeviation extends AbstractStorelessUnivariateStatistic
         variance.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    public void merge(final StandardDeviation other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        variance.merge(other.variance);
+    }
+
     /**
      * Returns the Standard Deviation of the entries in the input array, or
      * <code>Double.NaN</code> if the array is empty.
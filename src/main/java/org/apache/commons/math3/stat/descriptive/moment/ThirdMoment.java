@@ -123,6 +123,28 @@ class ThirdMoment extends SecondMoment implements Serializable {
         nDevSq = Double.NaN;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void mergeMoments(final FirstMoment other) {
+        final ThirdMoment o = (ThirdMoment) other;
+        if (o.n > 0) {
+            if (n == 0) {
+                m3 = o.m3;
+            } else {
+                final double na = n;
+                final double nb = o.n;
+                final double nt = na + nb;
+                final double delta = o.m1 - m1;
+                m3 += o.m3 + delta * delta * delta * na * nb * (na - nb) / (nt * nt) +
+                      3 * delta * (na * o.m2 - nb * m2) / nt;
+            }
+        }
+        nDevSq = Double.NaN;
+        super.mergeMoments(other);
+    }
+
     /**
      * {@inheritDoc}
      */
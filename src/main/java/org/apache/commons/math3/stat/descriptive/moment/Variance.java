@@ -16,12 +16,16 @@
  */
 package org.apache.commons.math3.stat.descriptive.moment;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.stat.descriptive.WeightedEvaluation;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -66,7 +70,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class Variance extends AbstractStorelessUnivariateStatistic implements Serializable, WeightedEvaluation {
+public class Variance extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Variance>, WeightedEvaluation {
 
     @Conditional
     public static boolean _mut2828 = false, _mut2829 = false, _mut2830 = false, _mut2831 = false, _mut2832 = false, _mut2833 = false, _mut2834 = false, _mut2835 = false, _mut2836 = false, _mut2837 = false, _mut2838 = false, _mut2839 = false, _mut2840 = false, _mut2841 = false, _mut2842 = false, _mut2843 = false, _mut2844 = false, _mut2845 = false, _mut2846 = false, _mut2847 = false, _mut2848 = false, _mut2849 = false, _mut2850 = false, _mut2851 = false, _mut2852 = false, _mut2853 = false, _mut2854 = false, _mut2855 = false, _mut2856 = false, _mut2857 = false, _mut2858 = false, _mut2859 = false, _mut2860 = false, _mut2861 = false, _mut2862 = false, _mut2863 = false, _mut2864 = false, _mut2865 = false, _mut2866 = false, _mut2867 = false, _mut2868 = false, _mut2869 = false, _mut2870 = false, _mut2871 = false, _mut2872 = false, _mut2873 = false, _mut2874 = false, _mut2875 = false, _mut2876 = false, _mut2877 = false, _mut2878 = false, _mut2879 = false, _mut2880 = false, _mut2881 = false, _mut2882 = false, _mut2883 = false, _mut2884 = false, _mut2885 = false, _mut2886 = false, _mut2887 = false, _mut2888 = false, _mut2889 = false, _mut2890 = false, _mut2891 = false, _mut2892 = false, _mut2893 = false, _mut2894 = false, _mut2895 = false, _mut2896 = false, _mut2897 = false, _mut2898 = false, _mut2899 = false, _mut2900 = false, _mut2901 = false, _mut2902 = false, _mut2903 = false, _mut2904 = false, _mut2905 = false, _mut2906 = false, _mut2907 = false, _mut2908 = false, _mut2909 = false, _mut2910 = false, _mut2911 = false, _mut2912 = false, _mut2913 = false, _mut2914 = false, _mut2915 = false, _mut2916 = false, _mut2917 = false, _mut2918 = false, _mut2919 = false, _mut2920 = false, _mut2921 = false, _mut2922 = false, _mut2923 = false, _mut2924 = false, _mut2925 = false, _mut2926 = false, _mut2927 = false, _mut2928 = false, _mut2929 = false, _mut2930 = false, _mut2931 = false, _mut2932 = false, _mut2933 = false, _mut2934 = false, _mut2935 = false, _mut2936 = false, _mut2937 = false, _mut2938 = false, _mut2939 = false, _mut2940 = false, _mut2941 = false, _mut2942 = false, _mut2943 = false, _mut2944 = false, _mut2945 = false, _mut2946 = false, _mut2947 = false, _mut2948 = false, _mut2949 = false, _mut2950 = false, _mut2951 = false, _mut2952 = false, _mut2953 = false, _mut2954 = false, _mut2955 = false, _mut2956 = false, _mut2957 = false, _mut2958 = false, _mut2959 = false, _mut2960 = false, _mut2961 = false, _mut2962 = false, _mut2963 = false, _mut2964 = false, _mut2965 = false, _mut2966 = false, _mut2967 = false, _mut2968 = false, _mut2969 = false, _mut2970 = false, _mut2971 = false, _mut2972 = false, _mut2973 = false, _mut2974 = false, _mut2975 = false, _mut2976 = false, _mut2977 = false, _mut2978 = false, _mut2979 = false, _mut2980 = false, _mut2981 = false, _mut2982 = false, _mut2983 = false, _mut2984 = false, _mut2985 = false, _mut2986 = false, _mut2987 = false, _mut2988 = false, _mut2989 = false, _mut2990 = false, _mut2991 = false, _mut2992 = false, _mut2993 = false, _mut2994 = false, _mut2995 = false, _mut2996 = false, _mut2997 = false, _mut2998 = false, _mut2999 = false, _mut3000 = false, _mut3001 = false, _mut3002 = false, _mut3003 = false, _mut3004 = false, _mut3005 = false, _mut3006 = false, _mut3007 = false, _mut3008 = false, _mut3009 = false, _mut3010 = false, _mut3011 = false, _mut3012 = false;
@@ -97,6 +101,12 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
      */
     private boolean isBiasCorrected = true;
 
+    /**
+     * Summation method used by {@link #evaluate(double[], int, int)} and
+     * {@link #evaluate(double[], double, int, int)}.
+     */
+    private SummationMethod method = SummationMethod.NAIVE;
+
     /**
      * Constructs a Variance with default (true) <code>isBiasCorrected</code>
      * property.
@@ -148,6 +158,29 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
         this.isBiasCorrected = isBiasCorrected;
     }
 
+    /**
+     * Constructs a Variance with the specified <code>isBiasCorrected</code>
+     * property and summation method.
+     * <p>
+     * The method is used to compute the mean and the sums of deviations in
+     * the unweighted <code>evaluate</code> methods. The storeless
+     * {@link #increment(double)} and the weighted evaluations are not
+     * affected.
+     * </p>
+     *
+     * @param isBiasCorrected  setting for bias correction - true means
+     * bias will be corrected and is equivalent to using the argumentless
+     * constructor
+     * @param method summation method
+     * @throws NullArgumentException if method is null
+     * @since 3.7
+     */
+    public Variance(boolean isBiasCorrected, SummationMethod method) throws NullArgumentException {
+        this(isBiasCorrected);
+        MathUtils.checkNotNull(method);
+        this.method = method;
+    }
+
     /**
      * Copy constructor, creates a new {@code Variance} identical
      * to the {@code original}
@@ -215,6 +248,21 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Note that when {@link #Variance(SecondMoment)} is used to
+     * create a Variance, this method does nothing. In that case, the
+     * SecondMoment should be merged directly.</p>
+     *
+     * @since 3.7
+     */
+    public void merge(final Variance other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (incMoment) {
+            moment.mergeMoments(other.moment);
+        }
+    }
+
     /**
      * Returns the variance of the entries in the input array, or
      * <code>Double.NaN</code> if the array is empty.
@@ -269,7 +317,7 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
             if (ROR_equals(length, 1, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_255", _mut2850, _mut2851, _mut2852, _mut2853, _mut2854)) {
                 var = 0.0;
             } else if (ROR_greater(length, 1, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_255", _mut2855, _mut2856, _mut2857, _mut2858, _mut2859)) {
-                Mean mean = new Mean();
+                Mean mean = new Mean(method);
                 double m = mean.evaluate(values, begin, length);
                 var = evaluate(values, m, begin, length);
             }
@@ -413,11 +461,16 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
                 double accum = 0.0;
                 double dev = 0.0;
                 double accum2 = 0.0;
-                for (int i = begin; ROR_less(i, AOR_plus(begin, length, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2888, _mut2889, _mut2890, _mut2891), "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2892, _mut2893, _mut2894, _mut2895, _mut2896); i++) {
-                    br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403");
-                    dev = AOR_minus(values[i], mean, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2880, _mut2881, _mut2882, _mut2883);
-                    accum += AOR_multiply(dev, dev, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2884, _mut2885, _mut2886, _mut2887);
-                    accum2 += dev;
+                if (method != SummationMethod.NAIVE) {
+                    accum  = method.sumOfSquaredDeviations(values, mean, begin, length);
+                    accum2 = method.sumOfDeviations(values, mean, begin, length);
+                } else {
+                    for (int i = begin; ROR_less(i, AOR_plus(begin, length, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2888, _mut2889, _mut2890, _mut2891), "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2892, _mut2893, _mut2894, _mut2895, _mut2896); i++) {
+                        br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403");
+                        dev = AOR_minus(values[i], mean, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2880, _mut2881, _mut2882, _mut2883);
+                        accum += AOR_multiply(dev, dev, "org.apache.commons.math3.stat.descriptive.moment.Variance.evaluate_403", _mut2884, _mut2885, _mut2886, _mut2887);
+                        accum2 += dev;
+                    }
                 }
                 double len = length;
                 if (isBiasCorrected) {
@@ -594,6 +647,16 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
         this.isBiasCorrected = biasCorrected;
     }
 
+    /**
+     * Get the summation method used by the unweighted <code>evaluate</code> methods.
+     *
+     * @return the summation method
+     * @since 3.7
+     */
+    public SummationMethod getSummationMethod() {
+        return method;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -620,5 +683,23 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
         dest.moment = source.moment.copy();
         dest.isBiasCorrected = source.isBiasCorrected;
         dest.incMoment = source.incMoment;
+        dest.method = source.method;
+    }
+
+    /**
+     * Deserialize the instance.
+     * <p>
+     * Instances serialized before the summation method was configurable
+     * do not hold a method; they are restored with naive summation.
+     * </p>
+     * @param ois stream from which the object should be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     * @throws IOException if object cannot be read from the stream
+     */
+    private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
+        ois.defaultReadObject();
+        if (method == null) {
+            method = SummationMethod.NAIVE;
+        }
     }
 }
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -39,7 +40,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  *  one of the threads invokes the <code>increment()</code> or
  *  <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class Max extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class Max extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Max> {
 
     @Conditional
     public static boolean _mut4291 = false, _mut4292 = false, _mut4293 = false, _mut4294 = false, _mut4295 = false, _mut4296 = false, _mut4297 = false, _mut4298 = false, _mut4299 = false, _mut4300 = false, _mut4301 = false, _mut4302 = false, _mut4303 = false, _mut4304 = false, _mut4305 = false, _mut4306 = false, _mut4307 = false, _mut4308 = false, _mut4309 = false, _mut4310 = false;
@@ -99,6 +100,21 @@ public class Max extends AbstractStorelessUnivariateStatistic implements Seriali
         n = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    public void merge(final Max other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (other.n > 0) {
+            if (other.value > value || Double.isNaN(value)) {
+                value = other.value;
+            }
+            n += other.n;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -39,7 +40,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class Min extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class Min extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Min> {
 
     @Conditional
     public static boolean _mut3798 = false, _mut3799 = false, _mut3800 = false, _mut3801 = false, _mut3802 = false, _mut3803 = false, _mut3804 = false, _mut3805 = false, _mut3806 = false, _mut3807 = false, _mut3808 = false, _mut3809 = false, _mut3810 = false, _mut3811 = false, _mut3812 = false, _mut3813 = false, _mut3814 = false, _mut3815 = false, _mut3816 = false, _mut3817 = false;
@@ -99,6 +100,21 @@ public class Min extends AbstractStorelessUnivariateStatistic implements Seriali
         n = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    public void merge(final Min other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (other.n > 0) {
+            if (other.value < value || Double.isNaN(value)) {
+                value = other.value;
+            }
+            n += other.n;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,511 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathArrays;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * A sorted multiset of double values supporting order statistics queries.
+ * <p>
+ * The values are stored in a balanced (AVL) binary search tree whose nodes
+ * also hold the size of their subtree, so that inserting a value, removing
+ * a value and retrieving the k<sup>th</sup> smallest value all take
+ * O(log n) time. This allows to maintain the order statistics of a rolling
+ * window of values incrementally, instead of copying and partitioning the
+ * whole window for each query; {@link Percentile#evaluate(OrderStatisticTree,
+ * double)} estimates percentiles directly from such a tree.
+ * </p>
+ * <p>
+ * The nodes are stored in parallel primitive arrays, so that no object is
+ * allocated per value. Values are ordered as by {@link Double#compare(double,
+ * double)}: {@code -0.0} is smaller than {@code 0.0} and {@code NaN} is
+ * larger than any other value, including positive infinity.
+ * </p>
+ * <p>
+ * Note that this implementation is not synchronized.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class OrderStatisticTree implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20161019L;
+
+    /** Index of the missing nodes. */
+    private static final int NIL = -1;
+
+    /** Default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Values of the nodes. */
+    private transient double[] keys;
+
+    /** Left children of the nodes. */
+    private transient int[] left;
+
+    /** Right children of the nodes. */
+    private transient int[] right;
+
+    /** Sizes of the subtrees rooted at the nodes. */
+    private transient int[] sizes;
+
+    /** Heights of the subtrees rooted at the nodes. */
+    private transient int[] heights;
+
+    /** Root node. */
+    private transient int root;
+
+    /** Number of node slots used so far, free or not. */
+    private transient int used;
+
+    /** Head of the list of free node slots, linked through {@link #left}. */
+    private transient int free;
+
+    /**
+     * Creates an empty tree.
+     */
+    public OrderStatisticTree() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a tree holding the given values.
+     * <p>
+     * The tree is built in O(n log n) time, by sorting a copy of the values.
+     * </p>
+     *
+     * @param values values to store
+     * @throws NullArgumentException if values is null
+     */
+    public OrderStatisticTree(final double[] values) throws NullArgumentException {
+        MathUtils.checkNotNull(values);
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        build(sorted);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param original tree to copy
+     * @throws NullArgumentException if original is null
+     */
+    public OrderStatisticTree(final OrderStatisticTree original) throws NullArgumentException {
+        MathUtils.checkNotNull(original);
+        keys = original.keys.clone();
+        left = original.left.clone();
+        right = original.right.clone();
+        sizes = original.sizes.clone();
+        heights = original.heights.clone();
+        root = original.root;
+        used = original.used;
+        free = original.free;
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value value to add
+     */
+    public void insert(final double value) {
+        root = insert(root, value);
+    }
+
+    /**
+     * Removes one occurrence of a value.
+     *
+     * @param value value to remove
+     * @return true if the value was found and removed
+     */
+    public boolean remove(final double value) {
+        final int before = size(root);
+        root = remove(root, value);
+        return size(root) < before;
+    }
+
+    /**
+     * Returns the k<sup>th</sup> smallest value.
+     *
+     * @param k 0-based rank of the value
+     * @return the value of rank k
+     * @throws OutOfRangeException if k is not in [0, size - 1]
+     */
+    public double select(final int k) throws OutOfRangeException {
+        if (k < 0 || k >= size(root)) {
+            throw new OutOfRangeException(LocalizedFormats.INDEX, k, 0, size(root) - 1);
+        }
+        int node = root;
+        int remaining = k;
+        while (true) {
+            final int leftSize = size(left[node]);
+            if (remaining < leftSize) {
+                node = left[node];
+            } else if (remaining == leftSize) {
+                return keys[node];
+            } else {
+                remaining -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values strictly smaller than a given value.
+     *
+     * @param value value to compare to
+     * @return the number of smaller values
+     */
+    public int countLessThan(final double value) {
+        int count = 0;
+        int node = root;
+        while (node != NIL) {
+            if (Double.compare(value, keys[node]) <= 0) {
+                node = left[node];
+            } else {
+                count += size(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the values in increasing order.
+     *
+     * @return a new array holding the sorted values
+     */
+    public double[] toSortedArray() {
+        final double[] sorted = new double[size(root)];
+        // iterative in-order traversal
+        final int[] stack = new int[height(root)];
+        int top = 0;
+        int count = 0;
+        int node = root;
+        while (node != NIL || top > 0) {
+            while (node != NIL) {
+                stack[top++] = node;
+                node = left[node];
+            }
+            node = stack[--top];
+            sorted[count++] = keys[node];
+            node = right[node];
+        }
+        return sorted;
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        root = NIL;
+        used = 0;
+        free = NIL;
+    }
+
+    /**
+     * Returns a copy of this tree.
+     *
+     * @return a copy of this tree
+     */
+    public OrderStatisticTree copy() {
+        return new OrderStatisticTree(this);
+    }
+
+    /**
+     * Inserts a value in a subtree.
+     *
+     * @param node root of the subtree
+     * @param value value to insert
+     * @return the new root of the subtree
+     */
+    private int insert(final int node, final double value) {
+        if (node == NIL) {
+            return newNode(value);
+        }
+        // the child is stored once inserted, as the arrays may have been grown
+        if (Double.compare(value, keys[node]) < 0) {
+            final int child = insert(left[node], value);
+            left[node] = child;
+        } else {
+            final int child = insert(right[node], value);
+            right[node] = child;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes one occurrence of a value from a subtree.
+     *
+     * @param node root of the subtree
+     * @param value value to remove
+     * @return the new root of the subtree
+     */
+    private int remove(final int node, final double value) {
+        if (node == NIL) {
+            return NIL;
+        }
+        final int cmp = Double.compare(value, keys[node]);
+        if (cmp < 0) {
+            left[node] = remove(left[node], value);
+        } else if (cmp > 0) {
+            right[node] = remove(right[node], value);
+        } else if (left[node] == NIL || right[node] == NIL) {
+            final int child = (left[node] == NIL) ? right[node] : left[node];
+            release(node);
+            return child;
+        } else {
+            // replace the value by its successor, removed from the right subtree
+            int successor = right[node];
+            while (left[successor] != NIL) {
+                successor = left[successor];
+            }
+            keys[node] = keys[successor];
+            right[node] = removeMin(right[node]);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the smallest value from a subtree.
+     *
+     * @param node root of the subtree
+     * @return the new root of the subtree
+     */
+    private int removeMin(final int node) {
+        if (left[node] == NIL) {
+            final int child = right[node];
+            release(node);
+            return child;
+        }
+        left[node] = removeMin(left[node]);
+        return rebalance(node);
+    }
+
+    /**
+     * Restores the balance of a node whose subtrees are balanced and differ
+     * in height by at most 2.
+     *
+     * @param node node to balance
+     * @return the new root of the subtree
+     */
+    private int rebalance(final int node) {
+        update(node);
+        final int balance = height(left[node]) - height(right[node]);
+        if (balance > 1) {
+            if (height(left[left[node]]) < height(right[left[node]])) {
+                left[node] = rotateLeft(left[node]);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(right[right[node]]) < height(left[right[node]])) {
+                right[node] = rotateRight(right[node]);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the left.
+     *
+     * @param node root of the subtree
+     * @return the new root of the subtree
+     */
+    private int rotateLeft(final int node) {
+        final int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates a subtree to the right.
+     *
+     * @param node root of the subtree
+     * @return the new root of the subtree
+     */
+    private int rotateRight(final int node) {
+        final int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Updates the size and height of a node from its children.
+     *
+     * @param node node to update
+     */
+    private void update(final int node) {
+        sizes[node] = size(left[node]) + size(right[node]) + 1;
+        heights[node] = FastMath.max(height(left[node]), height(right[node])) + 1;
+    }
+
+    /**
+     * Returns the size of a subtree.
+     *
+     * @param node root of the subtree
+     * @return the number of values in the subtree
+     */
+    private int size(final int node) {
+        return (node == NIL) ? 0 : sizes[node];
+    }
+
+    /**
+     * Returns the height of a subtree.
+     *
+     * @param node root of the subtree
+     * @return the height of the subtree
+     */
+    private int height(final int node) {
+        return (node == NIL) ? 0 : heights[node];
+    }
+
+    /**
+     * Creates a leaf node.
+     *
+     * @param value value of the node
+     * @return the index of the node
+     */
+    private int newNode(final double value) {
+        final int node;
+        if (free != NIL) {
+            node = free;
+            free = left[node];
+        } else {
+            if (used == keys.length) {
+                final int capacity = 2 * used;
+                keys = MathArrays.copyOf(keys, capacity);
+                left = MathArrays.copyOf(left, capacity);
+                right = MathArrays.copyOf(right, capacity);
+                sizes = MathArrays.copyOf(sizes, capacity);
+                heights = MathArrays.copyOf(heights, capacity);
+            }
+            node = used++;
+        }
+        keys[node] = value;
+        left[node] = NIL;
+        right[node] = NIL;
+        sizes[node] = 1;
+        heights[node] = 1;
+        return node;
+    }
+
+    /**
+     * Puts a node slot back in the free list.
+     *
+     * @param node index of the node
+     */
+    private void release(final int node) {
+        left[node] = free;
+        free = node;
+    }
+
+    /**
+     * Allocates empty node arrays.
+     *
+     * @param capacity number of node slots
+     */
+    private void allocate(final int capacity) {
+        keys = new double[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        sizes = new int[capacity];
+        heights = new int[capacity];
+        clear();
+    }
+
+    /**
+     * Replaces the content of the tree with a perfectly balanced tree.
+     *
+     * @param sorted values in increasing order
+     */
+    private void build(final double[] sorted) {
+        allocate(FastMath.max(DEFAULT_CAPACITY, sorted.length));
+        used = sorted.length;
+        root = build(sorted, 0, sorted.length - 1);
+    }
+
+    /**
+     * Builds a balanced subtree, node i holding value i.
+     *
+     * @param sorted values in increasing order
+     * @param lo index of the first value of the subtree
+     * @param hi index of the last value of the subtree
+     * @return the root of the subtree
+     */
+    private int build(final double[] sorted, final int lo, final int hi) {
+        if (lo > hi) {
+            return NIL;
+        }
+        final int mid = (lo + hi) >>> 1;
+        keys[mid] = sorted[mid];
+        left[mid] = build(sorted, lo, mid - 1);
+        right[mid] = build(sorted, mid + 1, hi);
+        update(mid);
+        return mid;
+    }
+
+    /**
+     * Serializes only the sorted values.
+     *
+     * @param out stream where the tree should be written
+     * @throws IOException if the tree cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(toSortedArray());
+    }
+
+    /**
+     * Rebuilds a balanced tree from the sorted values.
+     *
+     * @param in stream from which the tree should be read
+     * @throws IOException if the tree cannot be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        build((double[]) in.readObject());
+    }
+
+}
@@ -30,10 +30,15 @@ import org.apache.commons.math3.analysis.interpolation.LinearInterpolator;
 import org.apache.commons.math3.analysis.interpolation.NevilleInterpolator;
 import org.apache.commons.math3.analysis.interpolation.UnivariateInterpolator;
 import org.apache.commons.math3.exception.InsufficientDataException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
+import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathArrays;
 import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.Precision;
@@ -53,7 +58,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * result. For small samples, where data can be stored and processed in memory,
  * {@link Percentile} should be used.</p>
  */
-public class PSquarePercentile extends AbstractStorelessUnivariateStatistic implements StorelessUnivariateStatistic, Serializable {
+public class PSquarePercentile extends AbstractStorelessUnivariateStatistic implements StorelessUnivariateStatistic, Serializable, MergeableStatistic<PSquarePercentile> {
 
     @Conditional
     public static boolean _mut3491 = false, _mut3492 = false, _mut3493 = false, _mut3494 = false, _mut3495 = false, _mut3496 = false, _mut3497 = false, _mut3498 = false, _mut3499 = false, _mut3500 = false, _mut3501 = false, _mut3502 = false, _mut3503 = false, _mut3504 = false, _mut3505 = false, _mut3506 = false, _mut3507 = false, _mut3508 = false, _mut3509 = false, _mut3510 = false, _mut3511 = false, _mut3512 = false, _mut3513 = false, _mut3514 = false, _mut3515 = false, _mut3516 = false, _mut3517 = false, _mut3518 = false, _mut3519 = false, _mut3520 = false, _mut3521 = false, _mut3522 = false, _mut3523 = false, _mut3524 = false, _mut3525 = false, _mut3526 = false, _mut3527 = false, _mut3528 = false, _mut3529 = false, _mut3530 = false, _mut3531 = false, _mut3532 = false, _mut3533 = false, _mut3534 = false, _mut3535 = false, _mut3536 = false, _mut3537 = false, _mut3538 = false, _mut3539 = false, _mut3540 = false, _mut3541 = false, _mut3542 = false, _mut3543 = false, _mut3544 = false, _mut3545 = false, _mut3546 = false, _mut3547 = false, _mut3548 = false, _mut3549 = false, _mut3550 = false, _mut3551 = false, _mut3552 = false, _mut3553 = false, _mut3554 = false, _mut3555 = false, _mut3556 = false, _mut3557 = false, _mut3558 = false, _mut3559 = false, _mut3560 = false, _mut3561 = false, _mut3562 = false, _mut3563 = false, _mut3564 = false, _mut3565 = false, _mut3566 = false, _mut3567 = false, _mut3568 = false, _mut3569 = false, _mut3570 = false, _mut3571 = false, _mut3572 = false, _mut3573 = false, _mut3574 = false, _mut3575 = false, _mut3576 = false, _mut3577 = false, _mut3578 = false, _mut3579 = false, _mut3580 = false, _mut3581 = false, _mut3582 = false, _mut3583 = false, _mut3584 = false, _mut3585 = false, _mut3586 = false, _mut3587 = false, _mut3588 = false, _mut3589 = false, _mut3590 = false, _mut3591 = false, _mut3592 = false, _mut3593 = false, _mut3594 = false, _mut3595 = false, _mut3596 = false, _mut3597 = false, _mut3598 = false, _mut3599 = false, _mut3600 = false, _mut3601 = false, _mut3602 = false, _mut3603 = false, _mut3604 = false, _mut3605 = false, _mut3606 = false, _mut3607 = false, _mut3608 = false, _mut3609 = false, _mut3610 = false, _mut3611 = false, _mut3612 = false, _mut3613 = false, _mut3614 = false, _mut3615 = false, _mut3616 = false, _mut3617 = false, _mut3618 = false, _mut3619 = false, _mut3620 = false, _mut3621 = false, _mut3622 = false, _mut3623 = false, _mut3624 = false, _mut3625 = false, _mut3626 = false, _mut3627 = false, _mut3628 = false, _mut3629 = false, _mut3630 = false, _mut3631 = false, _mut3632 = false, _mut3633 = false, _mut3634 = false, _mut3635 = false, _mut3636 = false, _mut3637 = false, _mut3638 = false, _mut3639 = false, _mut3640 = false, _mut3641 = false, _mut3642 = false, _mut3643 = false, _mut3644 = false, _mut3645 = false, _mut3646 = false, _mut3647 = false, _mut3648 = false, _mut3649 = false, _mut3650 = false, _mut3651 = false, _mut3652 = false, _mut3653 = false, _mut3654 = false, _mut3655 = false, _mut3656 = false, _mut3657 = false, _mut3658 = false, _mut3659 = false, _mut3660 = false, _mut3661 = false, _mut3662 = false, _mut3663 = false, _mut3664 = false, _mut3665 = false, _mut3666 = false, _mut3667 = false, _mut3668 = false, _mut3669 = false, _mut3670 = false, _mut3671 = false, _mut3672 = false, _mut3673 = false, _mut3674 = false, _mut3675 = false, _mut3676 = false, _mut3677 = false, _mut3678 = false, _mut3679 = false, _mut3680 = false, _mut3681 = false, _mut3682 = false, _mut3683 = false, _mut3684 = false, _mut3685 = false, _mut3686 = false, _mut3687 = false, _mut3688 = false, _mut3689 = false, _mut3690 = false, _mut3691 = false, _mut3692 = false, _mut3693 = false, _mut3694 = false, _mut3695 = false, _mut3696 = false, _mut3697 = false, _mut3698 = false, _mut3699 = false, _mut3700 = false, _mut3701 = false, _mut3702 = false, _mut3703 = false, _mut3704 = false, _mut3705 = false, _mut3706 = false, _mut3707 = false, _mut3708 = false, _mut3709 = false, _mut3710 = false, _mut3711 = false, _mut3712 = false, _mut3713 = false, _mut3714 = false, _mut3715 = false, _mut3716 = false, _mut3717 = false, _mut3718 = false, _mut3719 = false, _mut3720 = false, _mut3721 = false, _mut3722 = false, _mut3723 = false, _mut3724 = false, _mut3725 = false, _mut3726 = false, _mut3727 = false, _mut3728 = false, _mut3729 = false, _mut3730 = false, _mut3731 = false, _mut3732 = false, _mut3733 = false, _mut3734 = false, _mut3735 = false, _mut3736 = false, _mut3737 = false, _mut3738 = false, _mut3739 = false, _mut3740 = false, _mut3741 = false, _mut3742 = false, _mut3743 = false, _mut3744 = false, _mut3745 = false, _mut3746 = false, _mut3747 = false, _mut3748 = false, _mut3749 = false, _mut3750 = false, _mut3751 = false, _mut3752 = false, _mut3753 = false, _mut3754 = false, _mut3755 = false, _mut3756 = false, _mut3757 = false, _mut3758 = false, _mut3759 = false, _mut3760 = false, _mut3761 = false, _mut3762 = false, _mut3763 = false, _mut3764 = false, _mut3765 = false, _mut3766 = false, _mut3767 = false, _mut3768 = false, _mut3769 = false, _mut3770 = false, _mut3771 = false, _mut3772 = false, _mut3773 = false, _mut3774 = false, _mut3775 = false, _mut3776 = false, _mut3777 = false, _mut3778 = false, _mut3779 = false, _mut3780 = false, _mut3781 = false, _mut3782 = false, _mut3783 = false, _mut3784 = false, _mut3785 = false, _mut3786 = false, _mut3787 = false, _mut3788 = false, _mut3789 = false, _mut3790 = false, _mut3791 = false, _mut3792 = false, _mut3793 = false, _mut3794 = false, _mut3795 = false, _mut3796 = false, _mut3797 = false;
@@ -264,6 +269,56 @@ public class PSquarePercentile extends AbstractStorelessUnivariateStatistic impl
         pValue = Double.NaN;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The P<SUP>2</SUP> markers cannot be merged exactly. As long as one of
+     * the statistics has seen no more than 5 observations, they are added to
+     * the other one as new observations. Otherwise the markers of both
+     * statistics are used as piecewise linear approximations of the ranks
+     * of the observations, and the merged markers are placed at their
+     * desired positions in the sum of these approximations. The merged
+     * estimate is therefore an approximation, whose quality is similar to
+     * the one of the partial estimates.
+     * </p>
+     *
+     * @throws MathIllegalArgumentException if the statistics do not estimate
+     * the same quantile
+     * @since 3.7
+     */
+    public void merge(final PSquarePercentile other)
+        throws NullArgumentException, MathIllegalArgumentException {
+        MathUtils.checkNotNull(other);
+        if (Double.compare(quantile, other.quantile) != 0) {
+            throw new MathIllegalArgumentException(LocalizedFormats.DIMENSIONS_MISMATCH_SIMPLE,
+                                                   100 * other.quantile, 100 * quantile);
+        }
+        if (other.markers == null) {
+            // the list is copied as other may be this instance
+            for (final double observation : new ArrayList<Double>(other.initialFive)) {
+                increment(observation);
+            }
+        } else if (markers == null) {
+            final List<Double> observations = new ArrayList<Double>(initialFive);
+            markers = (PSquareMarkers) other.markers.clone();
+            countOfObservations = other.countOfObservations;
+            lastObservation = other.lastObservation;
+            pValue = other.pValue;
+            initialFive.clear();
+            initialFive.addAll(other.initialFive);
+            for (final double observation : observations) {
+                increment(observation);
+            }
+        } else {
+            if (!(markers instanceof Markers) || !(other.markers instanceof Markers)) {
+                throw new MathUnsupportedOperationException();
+            }
+            ((Markers) markers).merge((Markers) other.markers);
+            countOfObservations += other.countOfObservations;
+            pValue = markers.getPercentileValue();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -432,6 +487,92 @@ public class PSquarePercentile extends AbstractStorelessUnivariateStatistic impl
             return getPercentileValue();
         }
 
+        /**
+         * Merges the markers of another instance into these markers.
+         * <p>
+         * Each set of markers defines a piecewise linear approximation of
+         * the rank of a value among its observations. The ranks in the
+         * merged data are approximated by the sum of these functions, which
+         * is inverted at the desired marker positions.
+         * </p>
+         *
+         * @param other markers to merge (may be this instance)
+         */
+        private void merge(final Markers other) {
+            final double n = markerArray[5].intMarkerPosition + other.markerArray[5].intMarkerPosition;
+            final double[] values = new double[2 * PSQUARE_CONSTANT];
+            for (int i = 1; i <= PSQUARE_CONSTANT; i++) {
+                values[i - 1] = markerArray[i].markerHeight;
+                values[PSQUARE_CONSTANT + i - 1] = other.markerArray[i].markerHeight;
+            }
+            Arrays.sort(values);
+            final double[] ranks = new double[values.length];
+            for (int j = 0; j < values.length; j++) {
+                ranks[j] = rank(values[j]) + other.rank(values[j]);
+            }
+
+            final double[] heights = new double[PSQUARE_CONSTANT + 1];
+            final double[] positions = new double[PSQUARE_CONSTANT + 1];
+            for (int i = 1; i <= PSQUARE_CONSTANT; i++) {
+                // integer positions, strictly increasing from 1 to n
+                double position = FastMath.rint(1 + (n - 1) * markerArray[i].desiredMarkerIncrement);
+                if (i > 1) {
+                    position = FastMath.max(position, positions[i - 1] + 1);
+                }
+                positions[i] = FastMath.min(position, n - (PSQUARE_CONSTANT - i));
+                heights[i] = inverseRank(values, ranks, positions[i]);
+            }
+            for (int i = 1; i <= PSQUARE_CONSTANT; i++) {
+                final Marker marker = markerArray[i];
+                marker.markerHeight = heights[i];
+                marker.intMarkerPosition = positions[i];
+                marker.desiredMarkerPosition = 1 + (n - 1) * marker.desiredMarkerIncrement;
+            }
+        }
+
+        /**
+         * Estimates the number of observations lower than or equal to a
+         * value, by linear interpolation between the markers.
+         *
+         * @param x value
+         * @return estimated rank of x
+         */
+        private double rank(final double x) {
+            if (x < markerArray[1].markerHeight) {
+                return 0;
+            }
+            for (int i = 1; i < PSQUARE_CONSTANT; i++) {
+                final Marker low = markerArray[i];
+                final Marker high = markerArray[i + 1];
+                if (x < high.markerHeight) {
+                    return low.intMarkerPosition +
+                           (high.intMarkerPosition - low.intMarkerPosition) *
+                           (x - low.markerHeight) / (high.markerHeight - low.markerHeight);
+                }
+            }
+            return markerArray[PSQUARE_CONSTANT].intMarkerPosition;
+        }
+
+        /**
+         * Finds the value with a given rank, by linear interpolation in a
+         * table of sorted values and their non-decreasing ranks.
+         *
+         * @param values sorted values
+         * @param ranks ranks of the values, the last one being at least r
+         * @param r rank
+         * @return the interpolated value
+         */
+        private static double inverseRank(final double[] values, final double[] ranks, final double r) {
+            int j = 0;
+            while (ranks[j] < r) {
+                ++j;
+            }
+            if (j == 0 || ranks[j] == ranks[j - 1]) {
+                return values[j];
+            }
+            return values[j - 1] + (values[j] - values[j - 1]) * (r - ranks[j - 1]) / (ranks[j] - ranks[j - 1]);
+        }
+
         /**
          * Returns the percentile computed thus far.
          *
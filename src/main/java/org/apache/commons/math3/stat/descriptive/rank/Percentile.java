@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.BitSet;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NotANumberException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
@@ -361,6 +362,164 @@ public class Percentile extends AbstractUnivariateStatistic implements Serializa
         return ROR_equals(work.length, 0, "org.apache.commons.math3.stat.descriptive.rank.Percentile.evaluate_335", _mut3843, _mut3844, _mut3845, _mut3846, _mut3847) ? Double.NaN : estimationType.evaluate(work, pivotsHeap, p, kthSelector);
     }
 
+    /**
+     * Returns estimates of several percentiles of the values in the
+     * <code>values</code> array.
+     * <p>
+     * This is equivalent to calling {@link #evaluate(double[], double)} for
+     * each element of <code>p</code>, but all the order statistics involved
+     * are selected in a single pass using
+     * {@link KthSelector#selectMultiple(double[], int[])}, which is much
+     * faster when many percentiles are requested. With the
+     * {@link NaNStrategy#FIXED} strategy, the percentiles are evaluated one
+     * at a time, as the order statistics selected around NaN values depend
+     * on the sequence of selections.</p>
+     *
+     * @param values input array of values
+     * @param p the percentile values to compute
+     * @return the percentile values, in the same order as <code>p</code>,
+     * all set to Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if <code>values</code> or
+     * <code>p</code> is null or one of the percentiles is invalid
+     * @since 3.7
+     */
+    public double[] evaluate(final double[] values, final double[] p) throws MathIllegalArgumentException {
+        test(values, 0, 0);
+        return evaluate(values, 0, values.length, p);
+    }
+
+    /**
+     * Returns estimates of several percentiles of the values in the
+     * <code>values</code> array, starting with the element in (0-based)
+     * position <code>begin</code> in the array and including <code>length</code>
+     * values.
+     * <p>
+     * This is equivalent to calling
+     * {@link #evaluate(double[], int, int, double)} for each element of
+     * <code>p</code>, but all the order statistics involved are selected in a
+     * single pass using {@link KthSelector#selectMultiple(double[], int[])},
+     * which is much faster when many percentiles are requested. With the
+     * {@link NaNStrategy#FIXED} strategy, the percentiles are evaluated one
+     * at a time, as the order statistics selected around NaN values depend
+     * on the sequence of selections.</p>
+     *
+     * @param values array of input values
+     * @param begin  the first (0-based) element to include in the computation
+     * @param length  the number of array elements to include
+     * @param p the percentile values to compute
+     * @return the percentile values, in the same order as <code>p</code>,
+     * all set to Double.NaN if <code>length = 0</code>
+     * @throws MathIllegalArgumentException if the parameters are not valid or
+     * one of the input arrays is null
+     * @since 3.7
+     */
+    public double[] evaluate(final double[] values, final int begin, final int length, final double[] p)
+        throws MathIllegalArgumentException {
+        test(values, begin, length);
+        MathUtils.checkNotNull(p);
+        for (final double pi : p) {
+            if (pi > 100 || pi <= 0) {
+                throw new OutOfRangeException(LocalizedFormats.OUT_OF_BOUNDS_QUANTILE_VALUE, pi, 0, 100);
+            }
+        }
+        final double[] result = new double[p.length];
+        if (nanStrategy == NaNStrategy.FIXED) {
+            // NaN values left in place are not ordered with respect to the
+            // other values, only separate selections give consistent results
+            for (int i = 0; i < p.length; ++i) {
+                result[i] = evaluate(values, begin, length, p[i]);
+            }
+            return result;
+        }
+        if (length == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        if (length == 1) {
+            // always return single value for n = 1
+            Arrays.fill(result, values[begin]);
+            return result;
+        }
+        final double[] work = getWorkArray(values, begin, length);
+        if (work.length == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        // first pass: find out which order statistics the estimations need
+        final PartitionedArraySelector selector = new PartitionedArraySelector(2 * p.length);
+        for (int i = 0; i < p.length; ++i) {
+            estimationType.evaluate(work, p[i], selector);
+        }
+
+        // select all of them at once
+        kthSelector.selectMultiple(work, selector.getIndices());
+        if (work == getDataRef()) {
+            // the stored data has been reordered, the cached pivots are stale
+            Arrays.fill(cachedPivots, -1);
+        }
+
+        // second pass: estimate the percentiles from the selected values
+        for (int i = 0; i < p.length; ++i) {
+            result[i] = estimationType.evaluate(work, p[i], selector);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an estimate of the <code>p</code>th percentile of the values
+     * held in an {@link OrderStatisticTree}.
+     * <p>
+     * The result is the same as the one of {@link #evaluate(double[], double)}
+     * applied to the values of the tree, but only the order statistics the
+     * {@link EstimationType estimation type} needs are retrieved from the
+     * tree, each in O(log n) time, without copying the values. This is
+     * intended for percentiles of rolling windows, maintained incrementally
+     * in a tree.</p>
+     * <p>
+     * The {@link NaNStrategy} is applied as for arrays, except for
+     * {@link NaNStrategy#FIXED} which sorts {@code NaN} as the largest value.</p>
+     *
+     * @param sorted tree holding the values
+     * @param p the percentile value to compute
+     * @return the percentile value, or Double.NaN if the tree is empty
+     * @throws MathIllegalArgumentException if <code>sorted</code> is null or
+     * <code>p</code> is not a valid quantile value
+     * @throws NotANumberException if the tree holds NaN values and the NaN
+     * strategy is {@link NaNStrategy#FAILED}
+     * @since 3.7
+     */
+    public double evaluate(final OrderStatisticTree sorted, final double p)
+        throws MathIllegalArgumentException {
+        MathUtils.checkNotNull(sorted);
+        if (p > 100 || p <= 0) {
+            throw new OutOfRangeException(LocalizedFormats.OUT_OF_BOUNDS_QUANTILE_VALUE, p, 0, 100);
+        }
+        final int size = sorted.size();
+        if (size == 0) {
+            return Double.NaN;
+        }
+        if (size == 1) {
+            // always return single value for n = 1
+            return sorted.select(0);
+        }
+        // NaN values are the largest ones in the tree
+        final int nanCount = size - sorted.countLessThan(Double.NaN);
+        final int length;
+        if (nanStrategy == NaNStrategy.REMOVED) {
+            length = size - nanCount;
+        } else if (nanStrategy == NaNStrategy.FAILED && nanCount > 0) {
+            throw new NotANumberException();
+        } else {
+            length = size;
+        }
+        if (length == 0) {
+            return Double.NaN;
+        }
+        final KthSelector selector = new OrderStatisticTreeSelector(sorted, nanStrategy, nanCount);
+        return estimationType.estimate(null, null, estimationType.index(p / 100, length), length, selector);
+    }
+
     /**
      * Select a pivot index as the median of three
      * <p>
@@ -689,6 +848,107 @@ public class Percentile extends AbstractUnivariateStatistic implements Serializa
         return new Percentile(quantile, estimationType, nanStrategy, newKthSelector);
     }
 
+    /**
+     * Selector retrieving order statistics from an {@link OrderStatisticTree}.
+     * <p>
+     * The work array and pivots are ignored. NaN values are mapped as the
+     * {@link NaNStrategy} requires.
+     * </p>
+     */
+    private static class OrderStatisticTreeSelector extends KthSelector {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20161019L;
+
+        /** Tree holding the values. */
+        private final OrderStatisticTree tree;
+
+        /** NaN strategy. */
+        private final NaNStrategy nanStrategy;
+
+        /** Number of NaN values in the tree. */
+        private final int nanCount;
+
+        /**
+         * Simple constructor.
+         * @param tree tree holding the values
+         * @param nanStrategy NaN strategy
+         * @param nanCount number of NaN values in the tree
+         */
+        OrderStatisticTreeSelector(final OrderStatisticTree tree, final NaNStrategy nanStrategy,
+                                   final int nanCount) {
+            this.tree = tree;
+            this.nanStrategy = nanStrategy;
+            this.nanCount = nanCount;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double select(final double[] work, final int[] pivotsHeap, final int k) {
+            if (nanStrategy == NaNStrategy.MINIMAL) {
+                // NaN values replaced by -INF come first
+                return (k < nanCount) ? Double.NEGATIVE_INFINITY : tree.select(k - nanCount);
+            }
+            final double value = tree.select(k);
+            if (nanStrategy == NaNStrategy.MAXIMAL && Double.isNaN(value)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return value;
+        }
+
+    }
+
+    /**
+     * Selector used to evaluate several percentiles at once.
+     * <p>
+     * It does not reorder the array, but simply returns the element at the
+     * requested index and records this index. This allows to find out the
+     * order statistics an {@link EstimationType} needs, and once they have all
+     * been selected in place, to compute the estimates from them.
+     * </p>
+     */
+    private static class PartitionedArraySelector extends KthSelector {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20161019L;
+
+        /** Recorded indices. */
+        private int[] indices;
+
+        /** Number of recorded indices. */
+        private int size;
+
+        /**
+         * Simple constructor.
+         * @param initialCapacity initial capacity of the indices buffer
+         */
+        PartitionedArraySelector(final int initialCapacity) {
+            indices = new int[FastMath.max(initialCapacity, 2)];
+            size    = 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double select(final double[] work, final int[] pivotsHeap, final int k) {
+            if (size == indices.length) {
+                final int[] tmp = new int[2 * size];
+                System.arraycopy(indices, 0, tmp, 0, size);
+                indices = tmp;
+            }
+            indices[size++] = k;
+            return work[k];
+        }
+
+        /**
+         * Get the recorded indices.
+         * @return recorded indices
+         */
+        public int[] getIndices() {
+            return MathArrays.copyOf(indices, size);
+        }
+
+    }
+
     /**
      * An enum for various estimation strategies of a percentile referred in
      * <a href="http://en.wikipedia.org/wiki/Quantile">wikipedia on quantile</a>
@@ -0,0 +1,557 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathArrays;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * A bounded-memory sketch estimating any quantile of a stream of values,
+ * using the merging <a href="https://github.com/tdunning/t-digest">t-digest</a>
+ * of Ted Dunning and Otmar Ertl.
+ * <p>
+ * The values are summarized by a sorted list of centroids (a mean and a
+ * weight). The centroids are small near the extreme quantiles and larger in
+ * the middle of the distribution, so that the relative accuracy of high and
+ * low percentiles (such as p99 or p99.9) is much better than the one of a
+ * fixed-size histogram. The number of centroids is bounded by the
+ * compression parameter {@code delta} (at most about {@code delta / 2}
+ * centroids are kept, plus a buffer of {@code 5 delta} incoming values),
+ * independently of the number of values. The minimum and maximum are
+ * tracked exactly.
+ * </p>
+ * <p>
+ * Unlike {@link PSquarePercentile}, a single digest can answer any
+ * percentile with {@link #getPercentile(double)}, and digests built over
+ * parts of the data can be {@link #merge(TDigest) merged}. The
+ * {@link #getResult() result} of the statistic is the percentile given at
+ * construction. {@code NaN} values are ignored.
+ * </p>
+ * <p>
+ * Small samples are kept exactly: as long as no values have been merged
+ * into centroids, the estimate of the percentile {@code p} of {@code n}
+ * values is the sorted value of rank {@code min(n, floor(n p / 100) + 1)}.
+ * </p>
+ * <p>
+ * Note that this implementation is not synchronized.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class TDigest extends AbstractStorelessUnivariateStatistic
+    implements Serializable, MergeableStatistic<TDigest> {
+
+    /** Default compression. */
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20161019L;
+
+    /** Default percentile. */
+    private static final double DEFAULT_PERCENTILE = 50;
+
+    /** Number of buffered values per unit of compression. */
+    private static final int BUFFER_FACTOR = 5;
+
+    /** Compression parameter. */
+    private final double compression;
+
+    /** Quantile returned by {@link #getResult()}, in [0, 1]. */
+    private final double quantile;
+
+    /** Number of values. */
+    private long n;
+
+    /** Minimum value. */
+    private double min;
+
+    /** Maximum value. */
+    private double max;
+
+    /** Number of centroids. */
+    private transient int centroids;
+
+    /** Means of the centroids, sorted in increasing order. */
+    private transient double[] means;
+
+    /** Weights of the centroids. */
+    private transient double[] weights;
+
+    /** Number of buffered values or centroids. */
+    private transient int buffered;
+
+    /** Buffered values or means of centroids, not yet merged. */
+    private transient double[] bufferMeans;
+
+    /** Weights of the buffered values. */
+    private transient double[] bufferWeights;
+
+    /** Indicator for buffered values all having a unit weight. */
+    private transient boolean unitWeights;
+
+    /** Spare array receiving the means of the centroids on flush. */
+    private transient double[] spareMeans;
+
+    /** Spare array receiving the weights of the centroids on flush. */
+    private transient double[] spareWeights;
+
+    /**
+     * Creates a digest with the default compression, whose result is the
+     * median.
+     */
+    public TDigest() {
+        this(DEFAULT_PERCENTILE);
+    }
+
+    /**
+     * Creates a digest with the default compression.
+     *
+     * @param p percentile returned by {@link #getResult()}
+     * @throws OutOfRangeException if {@code p} is not in [0, 100]
+     */
+    public TDigest(final double p) throws OutOfRangeException {
+        this(p, DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a digest.
+     * <p>
+     * The accuracy improves and the memory footprint grows linearly with
+     * the compression. Values between 50 and 1000 are typical.
+     * </p>
+     *
+     * @param p percentile returned by {@link #getResult()}
+     * @param compression compression parameter
+     * @throws OutOfRangeException if {@code p} is not in [0, 100]
+     * @throws NumberIsTooSmallException if {@code compression < 10}
+     */
+    public TDigest(final double p, final double compression)
+        throws OutOfRangeException, NumberIsTooSmallException {
+        if (p < 0 || p > 100) {
+            throw new OutOfRangeException(LocalizedFormats.OUT_OF_RANGE, p, 0, 100);
+        }
+        if (compression < 10) {
+            throw new NumberIsTooSmallException(compression, 10, true);
+        }
+        this.quantile = p / 100;
+        this.compression = compression;
+        allocate();
+        clear();
+    }
+
+    /**
+     * Copy constructor, creates a new {@code TDigest} identical
+     * to the {@code original}.
+     *
+     * @param original the {@code TDigest} instance to copy
+     * @throws NullArgumentException if original is null
+     */
+    public TDigest(final TDigest original) throws NullArgumentException {
+        MathUtils.checkNotNull(original);
+        this.quantile = original.quantile;
+        this.compression = original.compression;
+        this.n = original.n;
+        this.min = original.min;
+        this.max = original.max;
+        this.centroids = original.centroids;
+        this.means = original.means.clone();
+        this.weights = original.weights.clone();
+        this.buffered = original.buffered;
+        this.bufferMeans = original.bufferMeans.clone();
+        this.bufferWeights = original.bufferWeights.clone();
+        this.unitWeights = original.unitWeights;
+        this.spareMeans = new double[means.length];
+        this.spareWeights = new double[weights.length];
+    }
+
+    /**
+     * Returns the compression parameter.
+     *
+     * @return the compression parameter.
+     */
+    public double getCompression() {
+        return compression;
+    }
+
+    /**
+     * Returns the number of centroids summarizing the values.
+     *
+     * @return the number of centroids.
+     */
+    public int getCentroidCount() {
+        flush();
+        return centroids;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>{@code NaN} values are ignored.</p>
+     */
+    @Override
+    public void increment(final double d) {
+        if (Double.isNaN(d)) {
+            return;
+        }
+        if (buffered == bufferMeans.length) {
+            flush();
+        }
+        bufferMeans[buffered] = d;
+        bufferWeights[buffered] = 1;
+        ++buffered;
+        if (n == 0 || d < min) {
+            min = d;
+        }
+        if (n == 0 || d > max) {
+            max = d;
+        }
+        ++n;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The centroids of the other digest are merged as weighted values,
+     * using the compression of this digest. The error of the merged digest
+     * is of the same order as the one of a digest built from all the values.
+     * </p>
+     */
+    public void merge(final TDigest other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (other.n == 0) {
+            return;
+        }
+        other.flush();
+        // the other centroids are copied first, as other may be this instance
+        final int count = other.centroids;
+        final double[] otherMeans = MathArrays.copyOf(other.means, count);
+        final double[] otherWeights = MathArrays.copyOf(other.weights, count);
+        for (int i = 0; i < count; i++) {
+            if (buffered == bufferMeans.length) {
+                flush();
+            }
+            bufferMeans[buffered] = otherMeans[i];
+            bufferWeights[buffered] = otherWeights[i];
+            ++buffered;
+            unitWeights = false;
+        }
+        if (n == 0 || other.min < min) {
+            min = other.min;
+        }
+        if (n == 0 || other.max > max) {
+            max = other.max;
+        }
+        n += other.n;
+        flush();
+    }
+
+    /** {@inheritDoc} */
+    public long getN() {
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Returns the percentile given at construction.</p>
+     */
+    @Override
+    public double getResult() {
+        return estimate(quantile);
+    }
+
+    /**
+     * Returns an estimate of a percentile of the values.
+     *
+     * @param p percentile, in [0, 100]
+     * @return the estimate, or {@code Double.NaN} if no values have been added
+     * @throws OutOfRangeException if {@code p} is not in [0, 100]
+     */
+    public double getPercentile(final double p) throws OutOfRangeException {
+        if (p < 0 || p > 100) {
+            throw new OutOfRangeException(LocalizedFormats.OUT_OF_BOUNDS_QUANTILE_VALUE, p, 0, 100);
+        }
+        return estimate(p / 100);
+    }
+
+    /**
+     * Returns an estimate of the fraction of the values lower than or equal
+     * to a given value.
+     *
+     * @param x value
+     * @return the estimated fraction, or {@code Double.NaN} if no values
+     * have been added
+     */
+    public double getCumulativeProbability(final double x) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (x < min) {
+            return 0;
+        }
+        if (x >= max) {
+            return 1;
+        }
+        flush();
+        // each centroid is spread uniformly between the midpoints with its neighbours
+        double weightSoFar = 0;
+        double left = min;
+        for (int i = 0; i < centroids; i++) {
+            final double right = (i == centroids - 1) ? max : 0.5 * (means[i] + means[i + 1]);
+            if (x < right) {
+                final double fraction = (right > left) ? (x - left) / (right - left) : 1;
+                return (weightSoFar + fraction * weights[i]) / n;
+            }
+            weightSoFar += weights[i];
+            left = right;
+        }
+        return 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        n = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+        centroids = 0;
+        buffered = 0;
+        unitWeights = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TDigest copy() {
+        return new TDigest(this);
+    }
+
+    /**
+     * Estimates a quantile.
+     *
+     * @param q quantile, in [0, 1]
+     * @return the estimate, or {@code Double.NaN} if no values have been added
+     */
+    private double estimate(final double q) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        flush();
+        final double index = q * n;
+        if (index < 1) {
+            return min;
+        }
+        if (index > n - 1) {
+            return max;
+        }
+        final int last = centroids - 1;
+
+        // between the extreme values and the first or last centroid
+        if (weights[0] > 1 && index < weights[0] / 2) {
+            return min + (index - 1) / (weights[0] / 2 - 1) * (means[0] - min);
+        }
+        if (weights[last] > 1 && n - index <= weights[last] / 2) {
+            return max - (n - index - 1) / (weights[last] / 2 - 1) * (max - means[last]);
+        }
+
+        // between the centers of two consecutive centroids
+        double weightSoFar = weights[0] / 2;
+        for (int i = 0; i < last; i++) {
+            final double dw = (weights[i] + weights[i + 1]) / 2;
+            if (weightSoFar + dw > index) {
+                // single values are not spread over their neighbourhood
+                double leftUnit = 0;
+                if (weights[i] == 1) {
+                    if (index - weightSoFar < 0.5) {
+                        return means[i];
+                    }
+                    leftUnit = 0.5;
+                }
+                double rightUnit = 0;
+                if (weights[i + 1] == 1) {
+                    if (weightSoFar + dw - index <= 0.5) {
+                        return means[i + 1];
+                    }
+                    rightUnit = 0.5;
+                }
+                final double z1 = index - weightSoFar - leftUnit;
+                final double z2 = weightSoFar + dw - index - rightUnit;
+                return (means[i] * z2 + means[i + 1] * z1) / (z1 + z2);
+            }
+            weightSoFar += dw;
+        }
+        return means[last];
+    }
+
+    /**
+     * Merges the buffered values into the centroids.
+     */
+    private void flush() {
+        if (buffered == 0) {
+            return;
+        }
+
+        // sort the buffer, the centroids being already sorted
+        if (unitWeights) {
+            Arrays.sort(bufferMeans, 0, buffered);
+        } else {
+            final double[] sortedMeans = MathArrays.copyOf(bufferMeans, buffered);
+            final double[] sortedWeights = MathArrays.copyOf(bufferWeights, buffered);
+            MathArrays.sortInPlace(sortedMeans, sortedWeights);
+            System.arraycopy(sortedMeans, 0, bufferMeans, 0, buffered);
+            System.arraycopy(sortedWeights, 0, bufferWeights, 0, buffered);
+        }
+
+        double total = 0;
+        for (int i = 0; i < centroids; i++) {
+            total += weights[i];
+        }
+        for (int j = 0; j < buffered; j++) {
+            total += bufferWeights[j];
+        }
+
+        // the new centroids are written in the spare arrays
+        final double[] oldMeans = means;
+        final double[] oldWeights = weights;
+        final int oldCount = centroids;
+        means = spareMeans;
+        weights = spareWeights;
+
+        // merge the sorted sequences, combining neighbours as long as the
+        // scale function k(q) = delta / (2 pi) asin(2q - 1) grows by less than
+        // 1 over the centroid, i.e. as long as its weight is below
+        // 2 pi / delta sqrt(q (1 - q)) times the total weight at both its ends
+        final double normalizer = 2 * FastMath.PI / compression;
+        double weightSoFar = 0;
+        double mean = 0;
+        double weight = 0;
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < oldCount || j < buffered) {
+            final double m;
+            final double w;
+            if (j == buffered || (i < oldCount && oldMeans[i] <= bufferMeans[j])) {
+                m = oldMeans[i];
+                w = oldWeights[i++];
+            } else {
+                m = bufferMeans[j];
+                w = bufferWeights[j++];
+            }
+            if (weight == 0) {
+                mean = m;
+                weight = w;
+                continue;
+            }
+            final double q0 = weightSoFar / total;
+            final double q2 = (weightSoFar + weight + w) / total;
+            final double maxWeight = total * normalizer *
+                                     FastMath.sqrt(FastMath.min(q0 * (1 - q0), q2 * (1 - q2)));
+            if (weight + w <= maxWeight) {
+                weight += w;
+                // update the mean incrementally, keeping it between the merged means
+                mean += (m - mean) * w / weight;
+            } else {
+                count = append(count, mean, weight);
+                weightSoFar += weight;
+                mean = m;
+                weight = w;
+            }
+        }
+        centroids = append(count, mean, weight);
+        spareMeans = oldMeans;
+        spareWeights = oldWeights;
+        buffered = 0;
+        unitWeights = true;
+    }
+
+    /**
+     * Appends a centroid, growing the arrays if needed.
+     *
+     * @param count number of centroids already stored
+     * @param mean mean of the centroid
+     * @param weight weight of the centroid
+     * @return the new number of centroids
+     */
+    private int append(final int count, final double mean, final double weight) {
+        if (count == means.length) {
+            means = MathArrays.copyOf(means, 2 * count);
+            weights = MathArrays.copyOf(weights, 2 * count);
+        }
+        means[count] = mean;
+        weights[count] = weight;
+        return count + 1;
+    }
+
+    /** Allocates the centroid and buffer arrays. */
+    private void allocate() {
+        final int capacity = (int) FastMath.ceil(compression);
+        means = new double[capacity];
+        weights = new double[capacity];
+        bufferMeans = new double[BUFFER_FACTOR * capacity];
+        bufferWeights = new double[BUFFER_FACTOR * capacity];
+        spareMeans = new double[capacity];
+        spareWeights = new double[capacity];
+    }
+
+    /**
+     * Serializes only the centroids, after merging the buffer.
+     *
+     * @param out stream where the object is written
+     * @throws IOException if the object cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        flush();
+        out.defaultWriteObject();
+        out.writeInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            out.writeDouble(means[i]);
+            out.writeDouble(weights[i]);
+        }
+    }
+
+    /**
+     * Reads the centroids and restores the buffers.
+     *
+     * @param in stream from which the object is read
+     * @throws IOException if the object cannot be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        allocate();
+        final int count = in.readInt();
+        centroids = 0;
+        for (int i = 0; i < count; i++) {
+            final double mean = in.readDouble();
+            centroids = append(centroids, mean, in.readDouble());
+        }
+        buffered = 0;
+        unitWeights = true;
+    }
+
+}
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.stat.descriptive.WeightedEvaluation;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
@@ -38,7 +39,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class Product extends AbstractStorelessUnivariateStatistic implements Serializable, WeightedEvaluation {
+public class Product extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Product>, WeightedEvaluation {
 
     @Conditional
     public static boolean _mut4547 = false, _mut4548 = false, _mut4549 = false, _mut4550 = false, _mut4551 = false, _mut4552 = false, _mut4553 = false, _mut4554 = false, _mut4555 = false, _mut4556 = false, _mut4557 = false, _mut4558 = false, _mut4559 = false, _mut4560 = false, _mut4561 = false, _mut4562 = false, _mut4563 = false, _mut4564 = false;
@@ -110,6 +111,17 @@ public class Product extends AbstractStorelessUnivariateStatistic implements Ser
         n = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    public void merge(final Product other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        value *= other.value;
+        n += other.n;
+    }
+
     /**
      * Returns the product of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -16,10 +16,14 @@
  */
 package org.apache.commons.math3.stat.descriptive.summary;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
+import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -36,7 +40,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class Sum extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class Sum extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<Sum> {
 
     @Conditional
     public static boolean _mut4565 = false, _mut4566 = false, _mut4567 = false, _mut4568 = false, _mut4569 = false, _mut4570 = false, _mut4571 = false, _mut4572 = false, _mut4573 = false, _mut4574 = false, _mut4575 = false, _mut4576 = false, _mut4577 = false, _mut4578 = false, _mut4579 = false, _mut4580 = false, _mut4581 = false, _mut4582 = false, _mut4583 = false, _mut4584 = false, _mut4585 = false, _mut4586 = false;
@@ -55,12 +59,43 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
      */
     private double value;
 
+    /**
+     * Running compensation of the rounding errors (0 for naive summation).
+     */
+    private double compensation;
+
+    /**
+     * Summation method.
+     */
+    private SummationMethod method;
+
     /**
      * Create a Sum instance
      */
     public Sum() {
+        this(SummationMethod.NAIVE);
+    }
+
+    /**
+     * Create a Sum instance using the specified summation method.
+     * <p>
+     * {@link #evaluate(double[], int, int)} uses the method as is. The
+     * storeless {@link #increment(double)} uses it too, except for
+     * {@link SummationMethod#PAIRWISE} which requires all the values and is
+     * replaced by {@link SummationMethod#NEUMAIER}. Weighted sums are always
+     * computed naively.
+     * </p>
+     *
+     * @param method summation method
+     * @throws NullArgumentException if method is null
+     * @since 3.7
+     */
+    public Sum(final SummationMethod method) throws NullArgumentException {
+        MathUtils.checkNotNull(method);
+        this.method = method;
         n = 0;
         value = 0;
+        compensation = 0;
     }
 
     /**
@@ -79,16 +114,61 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
      */
     @Override
     public void increment(final double d) {
-        value += d;
+        add(d);
         n++;
     }
 
+    /**
+     * Adds a term to the running sum, with the summation method of this
+     * instance.
+     *
+     * @param d term to add
+     */
+    private void add(final double d) {
+        switch (method) {
+        case NAIVE :
+            value += d;
+            break;
+        case KAHAN : {
+            final double y = d + compensation;
+            final double t = value + y;
+            // once the sum is infinite, the compensation would be NaN
+            compensation = Double.isInfinite(t) ? 0 : (value - t) + y;
+            value = t;
+            break;
+        }
+        default : {
+            // NEUMAIER, also used for PAIRWISE
+            final double t = value + d;
+            if (FastMath.abs(value) >= FastMath.abs(d)) {
+                compensation += (value - t) + d;
+            } else {
+                compensation += (d - t) + value;
+            }
+            value = t;
+        }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public double getResult() {
-        return value;
+        if (method == SummationMethod.NAIVE || Double.isInfinite(value)) {
+            return value;
+        }
+        return value + compensation;
+    }
+
+    /**
+     * Get the summation method.
+     *
+     * @return the summation method
+     * @since 3.7
+     */
+    public SummationMethod getSummationMethod() {
+        return method;
     }
 
     /**
@@ -104,9 +184,28 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
     @Override
     public void clear() {
         value = 0;
+        compensation = 0;
         n = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The sums are combined with the summation method of this
+     * instance.</p>
+     *
+     * @since 3.7
+     */
+    public void merge(final Sum other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (method == SummationMethod.NAIVE) {
+            value += other.getResult();
+        } else {
+            add(other.value);
+            compensation += other.compensation;
+        }
+        n += other.n;
+    }
+
     /**
      * The sum of the entries in the specified portion of
      * the input array, or 0 if the designated subarray
@@ -126,10 +225,14 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119");
         double sum = Double.NaN;
         if (test(values, begin, length, true)) {
-            sum = 0.0;
-            for (int i = begin; ROR_less(i, AOR_plus(begin, length, "org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119", _mut4565, _mut4566, _mut4567, _mut4568), "org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119", _mut4569, _mut4570, _mut4571, _mut4572, _mut4573); i++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119");
-                sum += values[i];
+            if (method == SummationMethod.NAIVE) {
+                sum = 0.0;
+                for (int i = begin; ROR_less(i, AOR_plus(begin, length, "org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119", _mut4565, _mut4566, _mut4567, _mut4568), "org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119", _mut4569, _mut4570, _mut4571, _mut4572, _mut4573); i++) {
+                    br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.stat.descriptive.summary.Sum.evaluate_119");
+                    sum += values[i];
+                }
+            } else {
+                sum = method.sum(values, begin, length);
             }
         }
         return sum;
@@ -206,7 +309,7 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
      */
     @Override
     public Sum copy() {
-        Sum result = new Sum();
+        Sum result = new Sum(method);
         // No try-catch or advertised exception because args are valid
         copy(this, result);
         return result;
@@ -226,5 +329,24 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
         dest.setData(source.getDataRef());
         dest.n = source.n;
         dest.value = source.value;
+        dest.compensation = source.compensation;
+        dest.method = source.method;
+    }
+
+    /**
+     * Deserialize the instance.
+     * <p>
+     * Instances serialized before the summation method was configurable
+     * do not hold a method; they are restored with naive summation.
+     * </p>
+     * @param ois stream from which the object should be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     * @throws IOException if object cannot be read from the stream
+     */
+    private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
+        ois.defaultReadObject();
+        if (method == null) {
+            method = SummationMethod.NAIVE;
+        }
     }
 }
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
@@ -45,7 +46,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class SumOfLogs extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class SumOfLogs extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<SumOfLogs> {
 
     @Conditional
     public static boolean _mut4538 = false, _mut4539 = false, _mut4540 = false, _mut4541 = false, _mut4542 = false, _mut4543 = false, _mut4544 = false, _mut4545 = false, _mut4546 = false;
@@ -117,6 +118,17 @@ public class SumOfLogs extends AbstractStorelessUnivariateStatistic implements S
         n = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    public void merge(final SumOfLogs other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        value += other.value;
+        n += other.n;
+    }
+
     /**
      * Returns the sum of the natural logs of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
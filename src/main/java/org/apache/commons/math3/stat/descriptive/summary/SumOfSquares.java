@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.MergeableStatistic;
 import org.apache.commons.math3.util.MathUtils;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -36,7 +37,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
  * one of the threads invokes the <code>increment()</code> or
  * <code>clear()</code> method, it must be synchronized externally.</p>
  */
-public class SumOfSquares extends AbstractStorelessUnivariateStatistic implements Serializable {
+public class SumOfSquares extends AbstractStorelessUnivariateStatistic implements Serializable, MergeableStatistic<SumOfSquares> {
 
     @Conditional
     public static boolean _mut4521 = false, _mut4522 = false, _mut4523 = false, _mut4524 = false, _mut4525 = false, _mut4526 = false, _mut4527 = false, _mut4528 = false, _mut4529 = false, _mut4530 = false, _mut4531 = false, _mut4532 = false, _mut4533 = false, _mut4534 = false, _mut4535 = false, _mut4536 = false, _mut4537 = false;
@@ -108,6 +109,17 @@ public class SumOfSquares extends AbstractStorelessUnivariateStatistic implement
         n = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    public void merge(final SumOfSquares other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        value += other.value;
+        n += other.n;
+    }
+
     /**
      * Returns the sum of the squares of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
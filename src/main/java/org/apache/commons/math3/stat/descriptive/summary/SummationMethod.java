@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.summary;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Floating-point summation algorithms used by {@link Sum},
+ * {@link org.apache.commons.math3.stat.descriptive.moment.Mean Mean} and
+ * {@link org.apache.commons.math3.stat.descriptive.moment.Variance Variance}.
+ * <p>
+ * The recursive (naive) summation of {@code n} values has an error bound
+ * proportional to {@code n} times the machine epsilon. The other methods
+ * trade some speed for accuracy:
+ * <ul>
+ *   <li>{@link #KAHAN} and {@link #NEUMAIER} carry a running compensation of
+ *   the rounding errors; their error bound does not depend on {@code n} (to
+ *   first order), at the cost of about four times as many floating-point
+ *   operations,</li>
+ *   <li>{@link #PAIRWISE} sums blocks of consecutive values and adds the block
+ *   sums recursively by pairs; its error bound grows as {@code log(n)}, and
+ *   the blocks are summed with several independent accumulators, so it is
+ *   usually faster than the naive summation.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * With all methods, non-finite values and overflow propagate: the sum is
+ * infinite or NaN as soon as one of the values or a partial sum is.
+ * </p>
+ *
+ * @see <a href="http://en.wikipedia.org/wiki/Kahan_summation_algorithm">Kahan summation algorithm</a>
+ * @see <a href="http://en.wikipedia.org/wiki/Pairwise_summation">Pairwise summation</a>
+ * @since 3.7
+ */
+public enum SummationMethod {
+
+    /** Recursive summation, in the order of the values. */
+    NAIVE {
+        /** {@inheritDoc} */
+        @Override
+        double sum(final double[] values, final double center, final int degree,
+                   final int begin, final int length) {
+            double sum = 0;
+            for (int i = begin; i < begin + length; i++) {
+                sum += term(values[i], center, degree);
+            }
+            return sum;
+        }
+    },
+
+    /** Kahan compensated summation. */
+    KAHAN {
+        /** {@inheritDoc} */
+        @Override
+        double sum(final double[] values, final double center, final int degree,
+                   final int begin, final int length) {
+            double sum = 0;
+            double compensation = 0;
+            for (int i = begin; i < begin + length; i++) {
+                final double y = term(values[i], center, degree) + compensation;
+                final double t = sum + y;
+                // once the sum is infinite, the compensation would be NaN
+                compensation = Double.isInfinite(t) ? 0 : (sum - t) + y;
+                sum = t;
+            }
+            return sum + compensation;
+        }
+    },
+
+    /**
+     * Kahan-Babuska (Neumaier) compensated summation, which remains accurate
+     * when a term is larger than the running sum.
+     */
+    NEUMAIER {
+        /** {@inheritDoc} */
+        @Override
+        double sum(final double[] values, final double center, final int degree,
+                   final int begin, final int length) {
+            double sum = 0;
+            double compensation = 0;
+            for (int i = begin; i < begin + length; i++) {
+                final double y = term(values[i], center, degree);
+                final double t = sum + y;
+                if (FastMath.abs(sum) >= FastMath.abs(y)) {
+                    compensation += (sum - t) + y;
+                } else {
+                    compensation += (y - t) + sum;
+                }
+                sum = t;
+            }
+            return Double.isInfinite(sum) ? sum : sum + compensation;
+        }
+    },
+
+    /** Pairwise summation of blocks of consecutive values. */
+    PAIRWISE {
+        /** {@inheritDoc} */
+        @Override
+        double sum(final double[] values, final double center, final int degree,
+                   final int begin, final int length) {
+            if (length <= PAIRWISE_BLOCK_SIZE) {
+                return blockSum(values, center, degree, begin, length);
+            }
+            // split at a multiple of the block size
+            final int half = ((length / PAIRWISE_BLOCK_SIZE + 1) / 2) * PAIRWISE_BLOCK_SIZE;
+            return sum(values, center, degree, begin, half) +
+                   sum(values, center, degree, begin + half, length - half);
+        }
+    };
+
+    /** Number of values summed directly by {@link #PAIRWISE}. */
+    private static final int PAIRWISE_BLOCK_SIZE = 128;
+
+    /**
+     * Computes the sum of the entries of a part of an array.
+     * <p>
+     * The array and the range are not checked.
+     * </p>
+     *
+     * @param values Array.
+     * @param begin Index of the first element to include.
+     * @param length Number of elements to include.
+     * @return the sum of {@code values[begin], ..., values[begin + length - 1]},
+     * or 0 if {@code length} is 0.
+     */
+    public double sum(final double[] values, final int begin, final int length) {
+        return sum(values, 0, 0, begin, length);
+    }
+
+    /**
+     * Computes the sum of the deviations {@code values[i] - center} of the
+     * entries of a part of an array.
+     * <p>
+     * The array and the range are not checked.
+     * </p>
+     *
+     * @param values Array.
+     * @param center Value subtracted from each entry.
+     * @param begin Index of the first element to include.
+     * @param length Number of elements to include.
+     * @return the sum of the deviations, or 0 if {@code length} is 0.
+     */
+    public double sumOfDeviations(final double[] values, final double center,
+                                  final int begin, final int length) {
+        return sum(values, center, 1, begin, length);
+    }
+
+    /**
+     * Computes the sum of the squared deviations {@code (values[i] - center)^2}
+     * of the entries of a part of an array.
+     * <p>
+     * The array and the range are not checked.
+     * </p>
+     *
+     * @param values Array.
+     * @param center Value subtracted from each entry.
+     * @param begin Index of the first element to include.
+     * @param length Number of elements to include.
+     * @return the sum of the squared deviations, or 0 if {@code length} is 0.
+     */
+    public double sumOfSquaredDeviations(final double[] values, final double center,
+                                         final int begin, final int length) {
+        return sum(values, center, 2, begin, length);
+    }
+
+    /**
+     * Computes the sum of the terms {@code (values[i] - center)^degree}, where
+     * {@code degree} 0 means {@code values[i]} itself.
+     *
+     * @param values Array.
+     * @param center Value subtracted from each entry (ignored for degree 0).
+     * @param degree Degree of the terms, 0, 1 or 2.
+     * @param begin Index of the first element to include.
+     * @param length Number of elements to include.
+     * @return the sum of the terms.
+     */
+    abstract double sum(double[] values, double center, int degree, int begin, int length);
+
+    /**
+     * Computes one term of a sum.
+     *
+     * @param x Array entry.
+     * @param center Value subtracted from the entry (ignored for degree 0).
+     * @param degree Degree of the term, 0, 1 or 2.
+     * @return {@code x} for degree 0, {@code x - center} for degree 1,
+     * {@code (x - center)^2} for degree 2.
+     */
+    private static double term(final double x, final double center, final int degree) {
+        if (degree == 0) {
+            return x;
+        }
+        final double dev = x - center;
+        return (degree == 1) ? dev : dev * dev;
+    }
+
+    /**
+     * Sums a block of terms with four independent accumulators, so that
+     * consecutive additions do not depend on each other.
+     *
+     * @param values Array.
+     * @param center Value subtracted from each entry (ignored for degree 0).
+     * @param degree Degree of the terms, 0, 1 or 2.
+     * @param begin Index of the first element to include.
+     * @param length Number of elements to include.
+     * @return the sum of the terms.
+     */
+    private static double blockSum(final double[] values, final double center, final int degree,
+                                   final int begin, final int length) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        final int end = begin + length;
+        final int unrolledEnd = begin + (length & ~0x3);
+        int i = begin;
+        if (degree == 0) {
+            for (; i < unrolledEnd; i += 4) {
+                s0 += values[i];
+                s1 += values[i + 1];
+                s2 += values[i + 2];
+                s3 += values[i + 3];
+            }
+        } else if (degree == 1) {
+            for (; i < unrolledEnd; i += 4) {
+                s0 += values[i]     - center;
+                s1 += values[i + 1] - center;
+                s2 += values[i + 2] - center;
+                s3 += values[i + 3] - center;
+            }
+        } else {
+            for (; i < unrolledEnd; i += 4) {
+                final double d0 = values[i]     - center;
+                final double d1 = values[i + 1] - center;
+                final double d2 = values[i + 2] - center;
+                final double d3 = values[i + 3] - center;
+                s0 += d0 * d0;
+                s1 += d1 * d1;
+                s2 += d2 * d2;
+                s3 += d3 * d3;
+            }
+        }
+        for (; i < end; i++) {
+            s0 += term(values[i], center, degree);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+}
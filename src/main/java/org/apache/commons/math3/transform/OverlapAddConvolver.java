@@ -0,0 +1,370 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.transform;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.NoDataException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.util.ArithmeticUtils;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * FFT-based <a href="http://en.wikipedia.org/wiki/Overlap%E2%80%93add_method">
+ * overlap-add</a> convolution of a signal with a fixed finite impulse
+ * response.
+ * <p>
+ * The signal is split into segments, each segment is convolved with the
+ * impulse response through a {@link FastFourierTransformer#transformInPlace
+ * fast Fourier transform} and the results are added at the proper offsets.
+ * Two real segments are packed as the real and imaginary parts of a single
+ * complex transform. The cost per output sample is proportional to the
+ * logarithm of the transform size instead of the length of the impulse
+ * response as for the direct convolution sum.
+ * </p>
+ * <p>
+ * Besides the one-shot {@link #convolve(double[])} method, the signal can be
+ * fed block by block to {@link #process(double[], double[])}, which makes it
+ * possible to filter unbounded signals in constant memory and without any
+ * allocation. The pending tail of the output is returned by {@link #flush()}.
+ * </p>
+ * <p>
+ * Each block is convolved as soon as it is received, so that the outputs
+ * have no latency. Blocks whose direct convolution sum is cheaper than a
+ * transform of size {@link #getFftSize()} are convolved directly; longer
+ * blocks cost at least one transform, and are processed most efficiently
+ * when their length is a multiple of {@code 2 * (getFftSize() - getFilterLength() + 1)}.
+ * </p>
+ * <p>
+ * Instances hold work buffers and the streaming state, they are therefore
+ * <em>not</em> thread-safe.
+ * </p>
+ *
+ * @see org.apache.commons.math3.util.MathArrays#convolveFFT(double[], double[])
+ * @since 3.7
+ */
+public class OverlapAddConvolver {
+
+    /** Length of the impulse response. */
+    private final int filterLength;
+
+    /** Size of the Fourier transforms. */
+    private final int fftSize;
+
+    /** Length of the signal segments convolved in one transform. */
+    private final int segmentLength;
+
+    /** Largest number of multiplications of a direct convolution sum. */
+    private final long directThreshold;
+
+    /** Impulse response. */
+    private final double[] filter;
+
+    /** Real part of the transformed impulse response. */
+    private final double[] filterRe;
+
+    /** Imaginary part of the transformed impulse response. */
+    private final double[] filterIm;
+
+    /** Work buffer for the transforms. */
+    private final double[][] work;
+
+    /** Contributions of the already processed blocks to the next outputs. */
+    private final double[] pending;
+
+    /**
+     * Build a convolver with a default transform size.
+     * <p>
+     * The transform size is the smallest power of two larger than or equal
+     * to four times the length of the impulse response, which is usually
+     * close to the optimal trade-off between the number of transforms and
+     * their size.
+     * </p>
+     *
+     * @param h impulse response of the system
+     * @throws NullArgumentException if {@code h} is {@code null}
+     * @throws NoDataException if {@code h} is empty
+     */
+    public OverlapAddConvolver(final double[] h)
+        throws NullArgumentException, NoDataException {
+        this(h, defaultFftSize(h));
+    }
+
+    /**
+     * Build a convolver with a specified transform size.
+     *
+     * @param h impulse response of the system
+     * @param fftSize size of the Fourier transforms, must be a power of two
+     * larger than or equal to {@code h.length}
+     * @throws NullArgumentException if {@code h} is {@code null}
+     * @throws NoDataException if {@code h} is empty
+     * @throws NumberIsTooSmallException if {@code fftSize < h.length}
+     * @throws MathIllegalArgumentException if {@code fftSize} is not a power
+     * of two
+     */
+    public OverlapAddConvolver(final double[] h, final int fftSize)
+        throws NullArgumentException, NoDataException, MathIllegalArgumentException {
+        MathUtils.checkNotNull(h);
+        if (h.length == 0) {
+            throw new NoDataException();
+        }
+        if (fftSize < h.length) {
+            throw new NumberIsTooSmallException(fftSize, h.length, true);
+        }
+        if (!ArithmeticUtils.isPowerOfTwo(fftSize)) {
+            throw new MathIllegalArgumentException(LocalizedFormats.NOT_POWER_OF_TWO_CONSIDER_PADDING,
+                                                   Integer.valueOf(fftSize));
+        }
+
+        this.filterLength  = h.length;
+        this.fftSize       = fftSize;
+        this.segmentLength = fftSize - h.length + 1;
+        this.filter        = h.clone();
+        // about the number of operations of one complex transform
+        this.directThreshold = (long) fftSize * Integer.numberOfTrailingZeros(fftSize);
+        this.work          = new double[2][fftSize];
+        this.pending       = new double[h.length - 1];
+
+        final double[][] spectrum = new double[2][fftSize];
+        System.arraycopy(h, 0, spectrum[0], 0, h.length);
+        FastFourierTransformer.transformInPlace(spectrum, DftNormalization.STANDARD, TransformType.FORWARD);
+        this.filterRe = spectrum[0];
+        this.filterIm = spectrum[1];
+    }
+
+    /**
+     * Get the length of the impulse response.
+     * @return length of the impulse response
+     */
+    public int getFilterLength() {
+        return filterLength;
+    }
+
+    /**
+     * Get the size of the Fourier transforms.
+     * @return size of the Fourier transforms
+     */
+    public int getFftSize() {
+        return fftSize;
+    }
+
+    /**
+     * Compute the full convolution of a signal with the impulse response.
+     * <p>
+     * This method does not use nor change the streaming state.
+     * </p>
+     *
+     * @param x signal
+     * @return the convolution of {@code x} and the impulse response,
+     * of length {@code x.length + getFilterLength() - 1}
+     * @throws NullArgumentException if {@code x} is {@code null}
+     * @throws NoDataException if {@code x} is empty
+     */
+    public double[] convolve(final double[] x)
+        throws NullArgumentException, NoDataException {
+        MathUtils.checkNotNull(x);
+        if (x.length == 0) {
+            throw new NoDataException();
+        }
+        final double[] y = new double[x.length + filterLength - 1];
+        accumulate(x, y, y);
+        return y;
+    }
+
+    /**
+     * Process the next block of a streamed signal.
+     * <p>
+     * The returned array has the same length as the block. Its elements
+     * are final: they do not depend on the signal samples that will be
+     * provided in later calls.
+     * </p>
+     *
+     * @param block next samples of the signal
+     * @return next samples of the convolution
+     * @throws NullArgumentException if {@code block} is {@code null}
+     * @see #process(double[], double[])
+     */
+    public double[] process(final double[] block)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(block);
+        final double[] out = new double[block.length];
+        process(block, out);
+        return out;
+    }
+
+    /**
+     * Process the next block of a streamed signal, without allocation.
+     * <p>
+     * The next {@code block.length} samples of the convolution are stored
+     * in {@code out}. They are final: they do not depend on the signal
+     * samples that will be provided in later calls.
+     * </p>
+     *
+     * @param block next samples of the signal
+     * @param out array where the next samples of the convolution are stored,
+     * of the same length as {@code block} (if it is {@code block} itself,
+     * the block is copied before being convolved)
+     * @throws NullArgumentException if {@code block} or {@code out} is {@code null}
+     * @throws DimensionMismatchException if the arrays have different lengths
+     */
+    public void process(final double[] block, final double[] out)
+        throws NullArgumentException, DimensionMismatchException {
+        MathUtils.checkNotNull(block);
+        MathUtils.checkNotNull(out);
+        final int n = block.length;
+        if (out.length != n) {
+            throw new DimensionMismatchException(out.length, n);
+        }
+
+        if (out == block) {
+            // the output would overwrite the signal before it is convolved
+            final double[] copy = block.clone();
+            process(copy, out);
+            return;
+        }
+
+        // start from the contributions of the previous blocks,
+        // and shift the ones that go beyond this block
+        final int p = pending.length;
+        final int fromPending = FastMath.min(n, p);
+        System.arraycopy(pending, 0, out, 0, fromPending);
+        Arrays.fill(out, fromPending, n, 0.0);
+        for (int i = 0; i < p; ++i) {
+            pending[i] = (i + n < p) ? pending[i + n] : 0.0;
+        }
+
+        accumulate(block, out, pending);
+    }
+
+    /**
+     * Flush the streamed convolution.
+     * <p>
+     * This returns the last {@code getFilterLength() - 1} samples of the
+     * convolution, i.e. the response of the system after the end of the
+     * signal, and resets the streaming state so that a new signal can be
+     * processed.
+     * </p>
+     *
+     * @return the tail of the convolution
+     */
+    public double[] flush() {
+        final double[] tail = pending.clone();
+        Arrays.fill(pending, 0.0);
+        return tail;
+    }
+
+    /**
+     * Add the convolution of a signal with the impulse response to two arrays.
+     * <p>
+     * The convolution at index {@code j} is added to {@code head[j]} if
+     * {@code j < head.length}, and to {@code tail[j - head.length]} otherwise.
+     * </p>
+     *
+     * @param x signal
+     * @param head array where the first samples of the convolution are added
+     * @param tail array where the remaining samples are added, of length at
+     * least {@code x.length + filterLength - 1 - head.length}
+     */
+    private void accumulate(final double[] x, final double[] head, final double[] tail) {
+        if ((long) x.length * filterLength <= directThreshold) {
+            // direct convolution sum
+            for (int i = 0; i < x.length; ++i) {
+                final double xi = x[i];
+                for (int k = 0; k < filterLength; ++k) {
+                    add(head, tail, i + k, xi * filter[k]);
+                }
+            }
+            return;
+        }
+
+        final double[] re = work[0];
+        final double[] im = work[1];
+        final int extra = filterLength - 1;
+
+        for (int start = 0; start < x.length; start += 2 * segmentLength) {
+
+            // pack two consecutive segments as real and imaginary parts
+            final int l1 = FastMath.min(segmentLength, x.length - start);
+            final int start2 = start + l1;
+            final int l2 = FastMath.min(segmentLength, x.length - start2);
+            Arrays.fill(re, 0.0);
+            Arrays.fill(im, 0.0);
+            System.arraycopy(x, start, re, 0, l1);
+            if (l2 > 0) {
+                System.arraycopy(x, start2, im, 0, l2);
+            }
+
+            // as the impulse response is real, the real and imaginary parts
+            // of the inverse transform are the convolutions of both segments
+            FastFourierTransformer.transformInPlace(work, DftNormalization.STANDARD, TransformType.FORWARD);
+            for (int k = 0; k < fftSize; ++k) {
+                final double a = re[k];
+                final double b = im[k];
+                re[k] = a * filterRe[k] - b * filterIm[k];
+                im[k] = a * filterIm[k] + b * filterRe[k];
+            }
+            FastFourierTransformer.transformInPlace(work, DftNormalization.STANDARD, TransformType.INVERSE);
+
+            for (int k = 0; k < l1 + extra; ++k) {
+                add(head, tail, start + k, re[k]);
+            }
+            if (l2 > 0) {
+                for (int k = 0; k < l2 + extra; ++k) {
+                    add(head, tail, start2 + k, im[k]);
+                }
+            }
+
+        }
+    }
+
+    /**
+     * Add a value to the concatenation of two arrays.
+     *
+     * @param head first array
+     * @param tail second array
+     * @param j index in the concatenation
+     * @param value value to add
+     */
+    private static void add(final double[] head, final double[] tail, final int j, final double value) {
+        if (j < head.length) {
+            head[j] += value;
+        } else {
+            tail[j - head.length] += value;
+        }
+    }
+
+    /**
+     * Compute the default transform size for an impulse response.
+     * @param h impulse response
+     * @return default transform size
+     * @throws NullArgumentException if {@code h} is {@code null}
+     */
+    private static int defaultFftSize(final double[] h) throws NullArgumentException {
+        MathUtils.checkNotNull(h);
+        int size = 16;
+        while (size < 4 * h.length) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+}
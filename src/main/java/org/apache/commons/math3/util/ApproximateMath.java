@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+/**
+ * Reduced accuracy alternative to {@link FastMath} for a few transcendental
+ * functions.
+ * <p>
+ * {@link FastMath} aims at results within about 1 ulp and relies on large
+ * extended precision tables. Applications like Monte-Carlo simulations or
+ * neural networks often only need a handful of correct digits. This class
+ * trades accuracy for speed: the functions use a simple argument reduction
+ * followed by a short polynomial evaluation, without any table lookup.
+ * </p>
+ * <p>
+ * Error bounds, as observed against {@link StrictMath}:
+ * <ul>
+ * <li>{@link #exp(double)}: relative error below 1.0e-8 (as long as the
+ * result is a normal number),</li>
+ * <li>{@link #log(double)}: relative error below 1.0e-9,</li>
+ * <li>{@link #sin(double)} and {@link #cos(double)}: absolute error below
+ * 1.0e-9,</li>
+ * <li>{@link #atan(double)} and {@link #atan2(double, double)}: relative
+ * error below 1.0e-9,</li>
+ * <li>{@link #pow(double, double)}: relative error below 1.0e-7 (as long as
+ * the result is a normal number).</li>
+ * </ul>
+ * Special values (NaN, infinities, signed zeros) are handled as in
+ * {@link FastMath}. Arguments outside of the range where the polynomial
+ * approximations are used (for example very large arguments of the
+ * trigonometric functions) are delegated to {@link FastMath}.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class ApproximateMath {
+
+    /** Natural logarithm of 2, high order part (low 32 bits are zero). */
+    private static final double LN_2_HI = 6.93147180369123816490e-01;
+
+    /** Natural logarithm of 2, low order part. */
+    private static final double LN_2_LO = 1.90821492927058770002e-10;
+
+    /** Inverse of the natural logarithm of 2. */
+    private static final double INV_LN_2 = 1.44269504088896338700e+00;
+
+    /** Arguments above this value overflow {@link #exp(double)}. */
+    private static final double EXP_OVERFLOW = 709.782712893384;
+
+    /** Arguments below this value underflow {@link #exp(double)}. */
+    private static final double EXP_UNDERFLOW = -745.1332191019412;
+
+    /** 2<sup>54</sup>. */
+    private static final double TWO_POWER_54 = 18014398509481984.0;
+
+    /** 2<sup>-54</sup>. */
+    private static final double TWO_POWER_M54 = 1.0 / TWO_POWER_54;
+
+    /** Square root of 2. */
+    private static final double SQRT_2 = 1.4142135623730951;
+
+    /** First 33 bits of &pi;/2. */
+    private static final double PI_2_A = 1.57079632673412561417e+00;
+
+    /** Next 33 bits of &pi;/2. */
+    private static final double PI_2_B = 6.07710050630396597660e-11;
+
+    /** Remaining bits of &pi;/2. */
+    private static final double PI_2_C = 2.02226624879595063154e-21;
+
+    /** Inverse of &pi;/2. */
+    private static final double INV_PI_2 = 6.36619772367581382433e-01;
+
+    /** Largest argument for which trigonometric reduction is done locally. */
+    private static final double TRIG_REDUCTION_LIMIT = 1.0e6;
+
+    /** &pi;/2. */
+    private static final double PI_2 = 0.5 * FastMath.PI;
+
+    /** &pi;/4. */
+    private static final double PI_4 = 0.25 * FastMath.PI;
+
+    /** Tangent of &pi;/8. */
+    private static final double TAN_PI_8 = 0.41421356237309503;
+
+    /**
+     * Private Constructor
+     */
+    private ApproximateMath() {
+    }
+
+    /**
+     * Exponential function.
+     * <p>
+     * The argument is reduced as x = k ln(2) + r with |r| &lt;= ln(2) / 2,
+     * e<sup>r</sup> is evaluated by a degree 8 polynomial and the result is
+     * scaled by 2<sup>k</sup>.
+     * </p>
+     * @param x a double
+     * @return an approximation of e<sup>x</sup>
+     */
+    public static double exp(final double x) {
+        if (x != x) {
+            return x;
+        } else if (x > EXP_OVERFLOW) {
+            return Double.POSITIVE_INFINITY;
+        } else if (x < EXP_UNDERFLOW) {
+            return 0.0;
+        }
+
+        final int k = (int) (x * INV_LN_2 + (x < 0 ? -0.5 : 0.5));
+        final double r = (x - k * LN_2_HI) - k * LN_2_LO;
+
+        final double p = 1 + r * (1 + r * (1.0 / 2 + r * (1.0 / 6 + r * (1.0 / 24 + r * (1.0 / 120 +
+                         r * (1.0 / 720 + r * (1.0 / 5040 + r * (1.0 / 40320))))))));
+
+        return scale(p, k);
+    }
+
+    /**
+     * Natural logarithm.
+     * <p>
+     * The argument is split as x = m 2<sup>e</sup> with
+     * 1/&radic;2 &lt;= m &lt; &radic;2 and ln(m) is evaluated as
+     * 2 atanh((m - 1) / (m + 1)) using a truncated series.
+     * </p>
+     * @param x a double
+     * @return an approximation of log(x)
+     */
+    public static double log(final double x) {
+        if (!(x > 0) || x == Double.POSITIVE_INFINITY) {
+            // NaN, negative numbers, zeros and infinity
+            return FastMath.log(x);
+        }
+
+        long bits = Double.doubleToRawLongBits(x);
+        int e = (int) (bits >> 52) - 1023;
+        if (e == -1023) {
+            // subnormal number
+            bits = Double.doubleToRawLongBits(x * TWO_POWER_54);
+            e = (int) (bits >> 52) - 1023 - 54;
+        }
+
+        double m = Double.longBitsToDouble((bits & 0x000fffffffffffffL) | 0x3ff0000000000000L);
+        if (m > SQRT_2) {
+            m *= 0.5;
+            ++e;
+        }
+
+        final double s  = (m - 1) / (m + 1);
+        final double s2 = s * s;
+        final double lnM = 2 * s * (1 + s2 * (1.0 / 3 + s2 * (1.0 / 5 + s2 * (1.0 / 7 +
+                                    s2 * (1.0 / 9 + s2 * (1.0 / 11 + s2 * (1.0 / 13)))))));
+
+        return (e * LN_2_HI + lnM) + e * LN_2_LO;
+    }
+
+    /**
+     * Power function.
+     * <p>
+     * The result is computed as e<sup>y ln(x)</sup>, so the relative error
+     * grows with |y ln(x)|. Negative or non-finite bases and exponents are
+     * delegated to {@link FastMath#pow(double, double)}.
+     * </p>
+     * @param x a double
+     * @param y a double
+     * @return an approximation of x<sup>y</sup>
+     */
+    public static double pow(final double x, final double y) {
+        if (!(x > 0) || x == Double.POSITIVE_INFINITY ||
+            y == 0 || Double.isNaN(y) || Double.isInfinite(y)) {
+            return FastMath.pow(x, y);
+        }
+        return exp(y * log(x));
+    }
+
+    /**
+     * Sine function.
+     * @param x an angle, in radians
+     * @return an approximation of sin(x)
+     */
+    public static double sin(final double x) {
+        if (!(FastMath.abs(x) <= TRIG_REDUCTION_LIMIT)) {
+            // NaN, infinities and huge arguments
+            return FastMath.sin(x);
+        } else if (x == 0) {
+            // preserve the sign of zero
+            return x;
+        }
+        final int k = (int) (x * INV_PI_2 + (x < 0 ? -0.5 : 0.5));
+        final double r = reducePi2(x, k);
+        switch (k & 0x3) {
+        case 0 :
+            return polySin(r);
+        case 1 :
+            return polyCos(r);
+        case 2 :
+            return -polySin(r);
+        default :
+            return -polyCos(r);
+        }
+    }
+
+    /**
+     * Cosine function.
+     * @param x an angle, in radians
+     * @return an approximation of cos(x)
+     */
+    public static double cos(final double x) {
+        if (!(FastMath.abs(x) <= TRIG_REDUCTION_LIMIT)) {
+            // NaN, infinities and huge arguments
+            return FastMath.cos(x);
+        }
+        final int k = (int) (x * INV_PI_2 + (x < 0 ? -0.5 : 0.5));
+        final double r = reducePi2(x, k);
+        switch (k & 0x3) {
+        case 0 :
+            return polyCos(r);
+        case 1 :
+            return -polySin(r);
+        case 2 :
+            return -polyCos(r);
+        default :
+            return polySin(r);
+        }
+    }
+
+    /**
+     * Arctangent function.
+     * @param x a number
+     * @return an approximation of atan(x)
+     */
+    public static double atan(final double x) {
+        if (x != x || x == 0) {
+            // NaN and signed zeros
+            return x;
+        }
+        final double a = FastMath.abs(x);
+        final double result;
+        if (a > 1) {
+            result = PI_2 - atanReduced(1 / a);
+        } else {
+            result = atanReduced(a);
+        }
+        return x < 0 ? -result : result;
+    }
+
+    /**
+     * Two arguments arctangent function.
+     * @param y ordinate
+     * @param x abscissa
+     * @return an approximation of the phase angle of point (x,y), between
+     * {@code -PI} and {@code PI}
+     */
+    public static double atan2(final double y, final double x) {
+        if (x == 0 || y == 0 || Double.isInfinite(x) || Double.isInfinite(y) ||
+            Double.isNaN(x) || Double.isNaN(y)) {
+            // special cases
+            return FastMath.atan2(y, x);
+        }
+
+        final double ax = FastMath.abs(x);
+        final double ay = FastMath.abs(y);
+        double result;
+        if (ay > ax) {
+            result = PI_2 - atanReduced(ax / ay);
+        } else {
+            result = atanReduced(ay / ax);
+        }
+        if (x < 0) {
+            result = FastMath.PI - result;
+        }
+        return y < 0 ? -result : result;
+    }
+
+    /**
+     * Compute x - k &pi;/2 using a three parts split of &pi;/2.
+     * @param x angle to reduce
+     * @param k multiple of &pi;/2 to remove (|k| &lt; 2<sup>20</sup>)
+     * @return reduced angle
+     */
+    private static double reducePi2(final double x, final int k) {
+        return ((x - k * PI_2_A) - k * PI_2_B) - k * PI_2_C;
+    }
+
+    /**
+     * Evaluate sine for a reduced argument.
+     * @param r angle in [-&pi;/4, &pi;/4]
+     * @return sin(r)
+     */
+    private static double polySin(final double r) {
+        final double r2 = r * r;
+        return r + r * r2 * (-1.0 / 6 + r2 * (1.0 / 120 + r2 * (-1.0 / 5040 +
+                             r2 * (1.0 / 362880 + r2 * (-1.0 / 39916800)))));
+    }
+
+    /**
+     * Evaluate cosine for a reduced argument.
+     * @param r angle in [-&pi;/4, &pi;/4]
+     * @return cos(r)
+     */
+    private static double polyCos(final double r) {
+        final double r2 = r * r;
+        return 1 + r2 * (-1.0 / 2 + r2 * (1.0 / 24 + r2 * (-1.0 / 720 +
+                         r2 * (1.0 / 40320 + r2 * (-1.0 / 3628800 + r2 * (1.0 / 479001600))))));
+    }
+
+    /**
+     * Evaluate arctangent for a reduced argument.
+     * @param a number in [0, 1]
+     * @return atan(a)
+     */
+    private static double atanReduced(final double a) {
+        if (a > TAN_PI_8) {
+            // atan(a) = pi/4 + atan((a - 1) / (a + 1))
+            return PI_4 + polyAtan((a - 1) / (a + 1));
+        }
+        return polyAtan(a);
+    }
+
+    /**
+     * Evaluate arctangent using its truncated Taylor series.
+     * @param t number in [-tan(&pi;/8), tan(&pi;/8)]
+     * @return atan(t)
+     */
+    private static double polyAtan(final double t) {
+        final double t2 = t * t;
+        return t + t * t2 * (-1.0 / 3 + t2 * (1.0 / 5 + t2 * (-1.0 / 7 + t2 * (1.0 / 9 +
+                             t2 * (-1.0 / 11 + t2 * (1.0 / 13 + t2 * (-1.0 / 15 + t2 * (1.0 / 17 +
+                             t2 * (-1.0 / 19 + t2 * (1.0 / 21))))))))));
+    }
+
+    /**
+     * Multiply a number by a power of two.
+     * @param p number to scale
+     * @param k power of two, between -1076 and 1024
+     * @return p 2<sup>k</sup>
+     */
+    private static double scale(final double p, final int k) {
+        if (k > 1023) {
+            return p * 2.0 * twoPower(k - 1);
+        } else if (k < -1022) {
+            return p * twoPower(k + 54) * TWO_POWER_M54;
+        }
+        return p * twoPower(k);
+    }
+
+    /**
+     * Build a power of two.
+     * @param k exponent, between -1022 and 1023
+     * @return 2<sup>k</sup>
+     */
+    private static double twoPower(final int k) {
+        return Double.longBitsToDouble(((long) (k + 1023)) << 52);
+    }
+
+}
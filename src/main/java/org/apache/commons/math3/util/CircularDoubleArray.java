@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+
+/**
+ * A {@link DoubleArray} implementation backed by a circular buffer, suited
+ * to rolling windows.
+ * <p>
+ * Contrary to {@link ResizableDoubleArray}, {@link #addElementRolling(double)}
+ * and {@link #discardFrontElements(int)} never move the stored elements: they
+ * only advance the position of the first element in the buffer, so rolling
+ * insertions are O(1) and no periodic contraction is needed. The buffer only
+ * grows, by doubling its capacity, when {@link #addElement(double)} is called
+ * on a full array.
+ * </p>
+ * <p>
+ * Each element is stored twice, at positions {@code k} and
+ * {@code k + getCapacity()} of the internal storage. This way the elements
+ * always form a contiguous range of the internal storage, even after the
+ * buffer wrapped around, and {@link #compute(MathArrays.Function)} can
+ * evaluate functions on the stored elements without copying them. The price
+ * is twice the memory footprint of a plain array and two writes per
+ * insertion.
+ * </p>
+ * <p>
+ * This class is <em>not</em> thread-safe.
+ * </p>
+ *
+ * @since 3.7
+ */
+public class CircularDoubleArray implements DoubleArray, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20161019L;
+
+    /** Default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Number of distinct slots of the buffer. */
+    private int capacity;
+
+    /** Internal storage, of length {@code 2 * capacity}. */
+    private double[] internalArray;
+
+    /** Position of the first element in the internal storage, in [0, capacity). */
+    private int startIndex;
+
+    /** Number of elements in the array. */
+    private int numElements;
+
+    /**
+     * Creates an instance with the default initial capacity (16).
+     */
+    public CircularDoubleArray() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an instance with the specified initial capacity.
+     * <p>
+     * When the array is used as a rolling window, setting the initial
+     * capacity to the window size avoids any reallocation.
+     * </p>
+     *
+     * @param initialCapacity Initial capacity.
+     * @throws NotStrictlyPositiveException if {@code initialCapacity <= 0}.
+     */
+    public CircularDoubleArray(int initialCapacity) throws NotStrictlyPositiveException {
+        if (initialCapacity <= 0) {
+            throw new NotStrictlyPositiveException(LocalizedFormats.INITIAL_CAPACITY_NOT_POSITIVE,
+                                                   initialCapacity);
+        }
+        capacity      = initialCapacity;
+        internalArray = new double[2 * initialCapacity];
+        startIndex    = 0;
+        numElements   = 0;
+    }
+
+    /**
+     * Creates an instance containing the elements of {@code initialArray}.
+     * If {@code initialArray} is {@code null}, the array is empty with the
+     * default initial capacity.
+     *
+     * @param initialArray Array of initial elements (copied).
+     */
+    public CircularDoubleArray(double[] initialArray) {
+        this((initialArray == null || initialArray.length == 0) ?
+             DEFAULT_INITIAL_CAPACITY : initialArray.length);
+        if (initialArray != null) {
+            addElements(initialArray);
+        }
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param original Array to copy.
+     * @throws NullArgumentException if {@code original} is {@code null}.
+     */
+    public CircularDoubleArray(CircularDoubleArray original) throws NullArgumentException {
+        MathUtils.checkNotNull(original);
+        capacity      = original.capacity;
+        internalArray = original.internalArray.clone();
+        startIndex    = original.startIndex;
+        numElements   = original.numElements;
+    }
+
+    /** {@inheritDoc} */
+    public int getNumElements() {
+        return numElements;
+    }
+
+    /**
+     * Gets the number of elements the array can hold before its storage is
+     * reallocated.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** {@inheritDoc} */
+    public double getElement(int index) {
+        if (index < 0 || index >= numElements) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return internalArray[startIndex + index];
+    }
+
+    /** {@inheritDoc} */
+    public void setElement(int index, double value) {
+        if (index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        if (index >= numElements) {
+            ensureCapacity(index + 1);
+            // the slots between the previous end and the new element may hold stale values
+            for (int i = numElements; i < index; ++i) {
+                store(i, 0.0);
+            }
+            numElements = index + 1;
+        }
+        store(index, value);
+    }
+
+    /** {@inheritDoc} */
+    public void addElement(double value) {
+        if (numElements == capacity) {
+            ensureCapacity(numElements + 1);
+        }
+        store(numElements++, value);
+    }
+
+    /** {@inheritDoc} */
+    public void addElements(double[] values) {
+        ensureCapacity(numElements + values.length);
+        for (final double value : values) {
+            store(numElements++, value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This operation does not move the other elements. If the array is
+     * empty, {@code value} is discarded immediately and returned.
+     * </p>
+     */
+    public double addElementRolling(double value) {
+        if (numElements == 0) {
+            return value;
+        }
+        final double discarded = internalArray[startIndex];
+        store(numElements, value);
+        advanceStart(1);
+        return discarded;
+    }
+
+    /**
+     * Substitutes {@code value} for the most recently added value.
+     *
+     * @param value New value to substitute for the most recently added value.
+     * @return the value that has been replaced in the array.
+     * @throws MathIllegalStateException if the array is empty.
+     */
+    public double substituteMostRecentElement(double value) throws MathIllegalStateException {
+        if (numElements < 1) {
+            throw new MathIllegalStateException(LocalizedFormats.CANNOT_SUBSTITUTE_ELEMENT_FROM_EMPTY_ARRAY);
+        }
+        final double discarded = internalArray[startIndex + numElements - 1];
+        store(numElements - 1, value);
+        return discarded;
+    }
+
+    /**
+     * Discards the {@code i} initial elements of the array.
+     *
+     * @param i Number of elements to discard from the front of the array.
+     * @throws MathIllegalArgumentException if {@code i} is negative or
+     * greater than {@link #getNumElements()}.
+     */
+    public void discardFrontElements(int i) throws MathIllegalArgumentException {
+        checkDiscard(i);
+        advanceStart(i);
+        numElements -= i;
+    }
+
+    /**
+     * Discards the {@code i} last elements of the array.
+     *
+     * @param i Number of elements to discard from the end of the array.
+     * @throws MathIllegalArgumentException if {@code i} is negative or
+     * greater than {@link #getNumElements()}.
+     */
+    public void discardMostRecentElements(int i) throws MathIllegalArgumentException {
+        checkDiscard(i);
+        numElements -= i;
+    }
+
+    /** {@inheritDoc} */
+    public double[] getElements() {
+        final double[] elements = new double[numElements];
+        System.arraycopy(internalArray, startIndex, elements, 0, numElements);
+        return elements;
+    }
+
+    /**
+     * Performs an operation on the elements of the array.
+     * <p>
+     * The function is evaluated directly on the internal storage, without
+     * copying the elements. It must not modify the array it is given.
+     * </p>
+     *
+     * @param f Function to be applied on this array.
+     * @return the result.
+     */
+    public double compute(MathArrays.Function f) {
+        return f.evaluate(internalArray, startIndex, numElements);
+    }
+
+    /** {@inheritDoc} */
+    public void clear() {
+        numElements = 0;
+        startIndex  = 0;
+    }
+
+    /**
+     * Returns a copy of this array.
+     *
+     * @return a new, independent, array with the same elements and capacity.
+     */
+    public CircularDoubleArray copy() {
+        return new CircularDoubleArray(this);
+    }
+
+    /**
+     * Returns true iff {@code object} is a {@code CircularDoubleArray}
+     * holding the same elements in the same order.
+     *
+     * @param object Object to be compared for equality with this.
+     * @return {@code true} if {@code object} holds the same elements as this.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof CircularDoubleArray)) {
+            return false;
+        }
+        final CircularDoubleArray other = (CircularDoubleArray) object;
+        if (other.numElements != numElements) {
+            return false;
+        }
+        for (int i = 0; i < numElements; ++i) {
+            if (Double.doubleToLongBits(internalArray[startIndex + i]) !=
+                Double.doubleToLongBits(other.internalArray[other.startIndex + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code consistent with equals.
+     *
+     * @return the hash code representing this {@code CircularDoubleArray}.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(getElements());
+    }
+
+    /**
+     * Stores a value at a logical index, in both copies of its slot.
+     *
+     * @param index Logical index, in [0, capacity].
+     * @param value Value to store.
+     */
+    private void store(final int index, final double value) {
+        int slot = startIndex + index;
+        if (slot >= capacity) {
+            slot -= capacity;
+        }
+        internalArray[slot]            = value;
+        internalArray[slot + capacity] = value;
+    }
+
+    /**
+     * Advances the position of the first element.
+     *
+     * @param i Number of positions, in [0, capacity].
+     */
+    private void advanceStart(final int i) {
+        startIndex += i;
+        if (startIndex >= capacity) {
+            startIndex -= capacity;
+        }
+    }
+
+    /**
+     * Checks the number of elements to discard.
+     *
+     * @param i Number of elements to discard.
+     * @throws MathIllegalArgumentException if {@code i} is negative or
+     * greater than {@link #getNumElements()}.
+     */
+    private void checkDiscard(final int i) throws MathIllegalArgumentException {
+        if (i > numElements) {
+            throw new MathIllegalArgumentException(LocalizedFormats.TOO_MANY_ELEMENTS_TO_DISCARD_FROM_ARRAY,
+                                                   i, numElements);
+        } else if (i < 0) {
+            throw new MathIllegalArgumentException(LocalizedFormats.CANNOT_DISCARD_NEGATIVE_NUMBER_OF_ELEMENTS,
+                                                   i);
+        }
+    }
+
+    /**
+     * Grows the buffer if needed so that it can hold at least {@code size}
+     * elements. The elements are moved to the start of the new storage.
+     *
+     * @param size Required capacity.
+     */
+    private void ensureCapacity(final int size) {
+        if (size <= capacity) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity < size) {
+            // guard against overflow for huge arrays
+            newCapacity = (newCapacity > Integer.MAX_VALUE / 4) ? size : 2 * newCapacity;
+        }
+        final double[] newArray = new double[2 * newCapacity];
+        System.arraycopy(internalArray, startIndex, newArray, 0, numElements);
+        System.arraycopy(internalArray, startIndex, newArray, newCapacity, numElements);
+        capacity      = newCapacity;
+        internalArray = newArray;
+        startIndex    = 0;
+    }
+
+}
@@ -16,13 +16,18 @@
  */
 package org.apache.commons.math3.util;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Comparator;
 import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.io.Serializable;
+import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.MathInternalError;
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
@@ -176,6 +181,166 @@ public class Combinations implements Iterable<int[]> {
         return new LexicographicComparator(n, k);
     }
 
+    /**
+     * Gets the number of combinations, i.e. the binomial coefficient
+     * "{@code n choose k}".
+     *
+     * @return the number of combinations.
+     * @throws MathArithmeticException if the number of combinations does
+     * not fit in a {@code long}.
+     * @since 3.7
+     */
+    public long getCount() throws MathArithmeticException {
+        return CombinatoricsUtils.binomialCoefficient(n, k);
+    }
+
+    /**
+     * Creates an iterator over all combinations, in the order of
+     * {@link #iterator()}.
+     * <p>
+     * If {@code reuseArray} is {@code true}, the iterator allocates a single
+     * array and returns it, overwritten with the next combination, at each
+     * call to {@code next()}: callers must copy the combinations they want
+     * to keep. This avoids one allocation per combination in exhaustive
+     * searches.
+     * </p>
+     *
+     * @param reuseArray if {@code true}, all calls to {@code next()} return
+     * the same array.
+     * @return an iterator over the combinations.
+     * @since 3.7
+     */
+    public Iterator<int[]> iterator(final boolean reuseArray) {
+        if (!reuseArray) {
+            return iterator();
+        }
+        if (k == 0 || k == n) {
+            return new SingletonIterator(MathArrays.natural(k));
+        }
+        return new LexicographicIterator(n, k, MathArrays.natural(k), Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Creates an iterator over the combinations whose ranks, in the order of
+     * {@link #iterator()}, are in the range [{@code fromRank}, {@code toRank}).
+     * <p>
+     * Iterators over disjoint ranges are independent from each other, so the
+     * enumeration of all combinations can be spread over several threads, each
+     * one with its own range (see {@link #split(int, boolean)}).
+     * </p>
+     *
+     * @param fromRank Rank of the first combination (inclusive).
+     * @param toRank Rank of the last combination (exclusive).
+     * @param reuseArray if {@code true}, all calls to {@code next()} return
+     * the same array (see {@link #iterator(boolean)}).
+     * @return an iterator over the combinations of the specified ranks.
+     * @throws OutOfRangeException if {@code toRank} is not in
+     * [0, {@link #getCount()}].
+     * @throws NumberIsTooLargeException if {@code fromRank > toRank}.
+     * @throws MathArithmeticException if the number of combinations does
+     * not fit in a {@code long}.
+     * @since 3.7
+     */
+    public Iterator<int[]> iterator(final long fromRank, final long toRank, final boolean reuseArray)
+        throws OutOfRangeException, NumberIsTooLargeException, MathArithmeticException {
+        final long count = getCount();
+        if (toRank < 0 || toRank > count) {
+            throw new OutOfRangeException(toRank, 0, count);
+        }
+        if (fromRank > toRank) {
+            throw new NumberIsTooLargeException(fromRank, toRank, true);
+        }
+        if (fromRank < 0) {
+            throw new OutOfRangeException(fromRank, 0, count);
+        }
+        if (fromRank == toRank) {
+            // empty range
+            return new LexicographicIterator(n, k, null, 0, reuseArray);
+        }
+        if (k == 0 || k == n) {
+            return new SingletonIterator(MathArrays.natural(k));
+        }
+        return new LexicographicIterator(n, k, combination(fromRank), toRank - fromRank, reuseArray);
+    }
+
+    /**
+     * Splits the combinations into contiguous ranges of ranks, of sizes
+     * differing by at most one.
+     * <p>
+     * The {@code i}-th iterator of the list enumerates the {@code i}-th range,
+     * so the concatenation of the iterations is the iteration of
+     * {@link #iterator()}. If {@code parts} is larger than the number of
+     * combinations, some iterators are empty.
+     * </p>
+     *
+     * @param parts Number of ranges.
+     * @param reuseArray if {@code true}, each iterator returns the same
+     * array at all calls to its {@code next()} method (see
+     * {@link #iterator(boolean)}).
+     * @return {@code parts} iterators over disjoint ranges of combinations.
+     * @throws NotStrictlyPositiveException if {@code parts <= 0}.
+     * @throws MathArithmeticException if the number of combinations does
+     * not fit in a {@code long}.
+     * @since 3.7
+     */
+    public List<Iterator<int[]>> split(final int parts, final boolean reuseArray)
+        throws NotStrictlyPositiveException, MathArithmeticException {
+        if (parts <= 0) {
+            throw new NotStrictlyPositiveException(parts);
+        }
+        final long count = getCount();
+        final long size = count / parts;
+        final long remainder = count % parts;
+        final List<Iterator<int[]>> iterators = new ArrayList<Iterator<int[]>>(parts);
+        long from = 0;
+        for (int i = 0; i < parts; i++) {
+            // the first ranges get one more combination
+            final long to = from + size + ((i < remainder) ? 1 : 0);
+            iterators.add(iterator(from, to, reuseArray));
+            from = to;
+        }
+        return iterators;
+    }
+
+    /**
+     * Computes the combination of a given rank, in the order of {@link #iterator()}.
+     * <p>
+     * In this order, the rank of the combination {@code c[0] < ... < c[k - 1]}
+     * is the sum of the binomial coefficients "{@code c[i] choose (i + 1)}"
+     * (combinatorial number system), so the elements can be recovered one at
+     * a time from the largest one.
+     * </p>
+     *
+     * @param rank Rank, in [0, {@link #getCount()}).
+     * @return the combination, sorted in increasing order.
+     */
+    private int[] combination(final long rank) {
+        final int[] c = new int[k];
+        long r = rank;
+        int upper = n - 1;
+        for (int i = k; i > 0; --i) {
+            // largest value v in [i - 1, upper] such that (v choose i) <= r,
+            // knowing that (i - 1 choose i) = 0; none of the binomial
+            // coefficients computed here exceeds (n choose k)
+            int lo = i - 1;
+            int hi = upper;
+            while (lo < hi) {
+                final int mid = hi - (hi - lo) / 2;
+                if (CombinatoricsUtils.binomialCoefficient(mid, i) <= r) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            c[i - 1] = lo;
+            if (lo >= i) {
+                r -= CombinatoricsUtils.binomialCoefficient(lo, i);
+            }
+            upper = lo - 1;
+        }
+        return c;
+    }
+
     /**
      * Lexicographic combinations iterator.
      * <p>
@@ -215,6 +380,17 @@ public class Combinations implements Iterable<int[]> {
          */
         private int j;
 
+        /**
+         * Array returned by {@link #next()}, or null if a new array is
+         * allocated at each call.
+         */
+        private final int[] buffer;
+
+        /**
+         * Number of combinations not yet returned.
+         */
+        private long remaining;
+
         /**
          * Construct a CombinationIterator to enumerate k-sets from n.
          * <p>
@@ -228,6 +404,8 @@ public class Combinations implements Iterable<int[]> {
         LexicographicIterator(int n, int k) {
             br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.Combinations.LexicographicIterator_206");
             this.k = k;
+            buffer = null;
+            remaining = Long.MAX_VALUE;
             c = new int[AOR_plus(k, 3, "org.apache.commons.math3.util.Combinations.LexicographicIterator_206", _mut50179, _mut50180, _mut50181, _mut50182)];
             if ((_mut50193 ? (ROR_equals(k, 0, "org.apache.commons.math3.util.Combinations.LexicographicIterator_206", _mut50183, _mut50184, _mut50185, _mut50186, _mut50187) && ROR_greater_equals(k, n, "org.apache.commons.math3.util.Combinations.LexicographicIterator_206", _mut50188, _mut50189, _mut50190, _mut50191, _mut50192)) : (ROR_equals(k, 0, "org.apache.commons.math3.util.Combinations.LexicographicIterator_206", _mut50183, _mut50184, _mut50185, _mut50186, _mut50187) || ROR_greater_equals(k, n, "org.apache.commons.math3.util.Combinations.LexicographicIterator_206", _mut50188, _mut50189, _mut50190, _mut50191, _mut50192)))) {
                 more = false;
@@ -245,6 +423,39 @@ public class Combinations implements Iterable<int[]> {
             j = k;
         }
 
+        /**
+         * Construct a CombinationIterator to enumerate a range of k-sets from n.
+         * <p>
+         * NOTE: The degenerate cases {@code k == 0} and {@code k >= n} are not
+         * handled, the Iterator will be empty.
+         * </p>
+         *
+         * @param n size of the set from which subsets are enumerated
+         * @param k size of the subsets to enumerate
+         * @param first first k-set returned, sorted in increasing order
+         * @param count number of k-sets to enumerate
+         * @param reuseArray if true, {@link #next()} always returns the same array
+         */
+        LexicographicIterator(int n, int k, int[] first, long count, boolean reuseArray) {
+            this.k = k;
+            buffer = reuseArray ? new int[k] : null;
+            remaining = count;
+            c = new int[k + 3];
+            if (k == 0 || k >= n || count <= 0) {
+                more = false;
+                return;
+            }
+            System.arraycopy(first, 0, c, 1, k);
+            // Initialize sentinels
+            c[k + 1] = n;
+            c[k + 2] = 0;
+            // Set up invariant: j is smallest index such that c[j + 1] > j
+            j = 0;
+            while (c[j + 1] == j) {
+                ++j;
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -261,8 +472,13 @@ public class Combinations implements Iterable<int[]> {
                 throw new NoSuchElementException();
             }
             // Copy return value (prepared by last activation)
-            final int[] ret = new int[k];
+            final int[] ret = (buffer == null) ? new int[k] : buffer;
             System.arraycopy(c, 1, ret, 0, k);
+            if (--remaining == 0) {
+                // end of the requested range
+                more = false;
+                return ret;
+            }
             // T2 and T6 loop
             int x = 0;
             if (ROR_greater(j, 0, "org.apache.commons.math3.util.Combinations.next_233", _mut50211, _mut50212, _mut50213, _mut50214, _mut50215)) {
@@ -33,7 +33,7 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 public final class CombinatoricsUtils {
 
     @Conditional
-    public static boolean _mut49753 = false, _mut49754 = false, _mut49755 = false, _mut49756 = false, _mut49757 = false, _mut49758 = false, _mut49759 = false, _mut49760 = false, _mut49761 = false, _mut49762 = false, _mut49763 = false, _mut49764 = false, _mut49765 = false, _mut49766 = false, _mut49767 = false, _mut49768 = false, _mut49769 = false, _mut49770 = false, _mut49771 = false, _mut49772 = false, _mut49773 = false, _mut49774 = false, _mut49775 = false, _mut49776 = false, _mut49777 = false, _mut49778 = false, _mut49779 = false, _mut49780 = false, _mut49781 = false, _mut49782 = false, _mut49783 = false, _mut49784 = false, _mut49785 = false, _mut49786 = false, _mut49787 = false, _mut49788 = false, _mut49789 = false, _mut49790 = false, _mut49791 = false, _mut49792 = false, _mut49793 = false, _mut49794 = false, _mut49795 = false, _mut49796 = false, _mut49797 = false, _mut49798 = false, _mut49799 = false, _mut49800 = false, _mut49801 = false, _mut49802 = false, _mut49803 = false, _mut49804 = false, _mut49805 = false, _mut49806 = false, _mut49807 = false, _mut49808 = false, _mut49809 = false, _mut49810 = false, _mut49811 = false, _mut49812 = false, _mut49813 = false, _mut49814 = false, _mut49815 = false, _mut49816 = false, _mut49817 = false, _mut49818 = false, _mut49819 = false, _mut49820 = false, _mut49821 = false, _mut49822 = false, _mut49823 = false, _mut49824 = false, _mut49825 = false, _mut49826 = false, _mut49827 = false, _mut49828 = false, _mut49829 = false, _mut49830 = false, _mut49831 = false, _mut49832 = false, _mut49833 = false, _mut49834 = false, _mut49835 = false, _mut49836 = false, _mut49837 = false, _mut49838 = false, _mut49839 = false, _mut49840 = false, _mut49841 = false, _mut49842 = false, _mut49843 = false, _mut49844 = false, _mut49845 = false, _mut49846 = false, _mut49847 = false, _mut49848 = false, _mut49849 = false, _mut49850 = false, _mut49851 = false, _mut49852 = false, _mut49853 = false, _mut49854 = false, _mut49855 = false, _mut49856 = false, _mut49857 = false, _mut49858 = false, _mut49859 = false, _mut49860 = false, _mut49861 = false, _mut49862 = false, _mut49863 = false, _mut49864 = false, _mut49865 = false, _mut49866 = false, _mut49867 = false, _mut49868 = false, _mut49869 = false, _mut49870 = false, _mut49871 = false, _mut49872 = false, _mut49873 = false, _mut49874 = false, _mut49875 = false, _mut49876 = false, _mut49877 = false, _mut49878 = false, _mut49879 = false, _mut49880 = false, _mut49881 = false, _mut49882 = false, _mut49883 = false, _mut49884 = false, _mut49885 = false, _mut49886 = false, _mut49887 = false, _mut49888 = false, _mut49889 = false, _mut49890 = false, _mut49891 = false, _mut49892 = false, _mut49893 = false, _mut49894 = false, _mut49895 = false, _mut49896 = false, _mut49897 = false, _mut49898 = false, _mut49899 = false, _mut49900 = false, _mut49901 = false, _mut49902 = false, _mut49903 = false, _mut49904 = false, _mut49905 = false, _mut49906 = false, _mut49907 = false, _mut49908 = false, _mut49909 = false, _mut49910 = false, _mut49911 = false, _mut49912 = false, _mut49913 = false, _mut49914 = false, _mut49915 = false, _mut49916 = false, _mut49917 = false, _mut49918 = false, _mut49919 = false, _mut49920 = false, _mut49921 = false, _mut49922 = false, _mut49923 = false, _mut49924 = false, _mut49925 = false, _mut49926 = false, _mut49927 = false, _mut49928 = false, _mut49929 = false, _mut49930 = false, _mut49931 = false, _mut49932 = false, _mut49933 = false, _mut49934 = false, _mut49935 = false, _mut49936 = false, _mut49937 = false, _mut49938 = false, _mut49939 = false, _mut49940 = false, _mut49941 = false, _mut49942 = false, _mut49943 = false, _mut49944 = false, _mut49945 = false, _mut49946 = false, _mut49947 = false, _mut49948 = false, _mut49949 = false, _mut49950 = false, _mut49951 = false, _mut49952 = false, _mut49953 = false, _mut49954 = false, _mut49955 = false, _mut49956 = false, _mut49957 = false, _mut49958 = false, _mut49959 = false, _mut49960 = false, _mut49961 = false, _mut49962 = false, _mut49963 = false, _mut49964 = false, _mut49965 = false, _mut49966 = false, _mut49967 = false, _mut49968 = false, _mut49969 = false, _mut49970 = false, _mut49971 = false, _mut49972 = false, _mut49973 = false, _mut49974 = false, _mut49975 = false, _mut49976 = false, _mut49977 = false, _mut49978 = false, _mut49979 = false, _mut49980 = false, _mut49981 = false, _mut49982 = false, _mut49983 = false, _mut49984 = false, _mut49985 = false, _mut49986 = false, _mut49987 = false, _mut49988 = false, _mut49989 = false, _mut49990 = false, _mut49991 = false, _mut49992 = false, _mut49993 = false, _mut49994 = false, _mut49995 = false, _mut49996 = false, _mut49997 = false, _mut49998 = false, _mut49999 = false, _mut50000 = false, _mut50001 = false, _mut50002 = false, _mut50003 = false, _mut50004 = false, _mut50005 = false, _mut50006 = false, _mut50007 = false, _mut50008 = false, _mut50009 = false, _mut50010 = false, _mut50011 = false, _mut50012 = false, _mut50013 = false, _mut50014 = false, _mut50015 = false, _mut50016 = false, _mut50017 = false, _mut50018 = false, _mut50019 = false, _mut50020 = false, _mut50021 = false, _mut50022 = false, _mut50023 = false, _mut50024 = false, _mut50025 = false, _mut50026 = false, _mut50027 = false, _mut50028 = false, _mut50029 = false, _mut50030 = false, _mut50031 = false, _mut50032 = false, _mut50033 = false, _mut50034 = false, _mut50035 = false, _mut50036 = false, _mut50037 = false, _mut50038 = false, _mut50039 = false, _mut50040 = false, _mut50041 = false, _mut50042 = false, _mut50043 = false, _mut50044 = false, _mut50045 = false, _mut50046 = false, _mut50047 = false, _mut50048 = false, _mut50049 = false, _mut50050 = false, _mut50051 = false, _mut50052 = false, _mut50053 = false, _mut50054 = false, _mut50055 = false, _mut50056 = false, _mut50057 = false, _mut50058 = false, _mut50059 = false, _mut50060 = false, _mut50061 = false, _mut50062 = false, _mut50063 = false, _mut50064 = false, _mut50065 = false, _mut50066 = false, _mut50067 = false, _mut50068 = false, _mut50069 = false, _mut50070 = false, _mut50071 = false, _mut50072 = false, _mut50073 = false, _mut50074 = false, _mut50075 = false, _mut50076 = false, _mut50077 = false, _mut50078 = false, _mut50079 = false, _mut50080 = false, _mut50081 = false, _mut50082 = false, _mut50083 = false, _mut50084 = false, _mut50085 = false, _mut50086 = false, _mut50087 = false, _mut50088 = false, _mut50089 = false, _mut50090 = false, _mut50091 = false, _mut50092 = false, _mut50093 = false, _mut50094 = false, _mut50095 = false, _mut50096 = false, _mut50097 = false, _mut50098 = false, _mut50099 = false, _mut50100 = false, _mut50101 = false, _mut50102 = false, _mut50103 = false, _mut50104 = false, _mut50105 = false, _mut50106 = false, _mut50107 = false, _mut50108 = false, _mut50109 = false, _mut50110 = false, _mut50111 = false, _mut50112 = false, _mut50113 = false, _mut50114 = false, _mut50115 = false, _mut50116 = false, _mut50117 = false, _mut50118 = false, _mut50119 = false, _mut50120 = false, _mut50121 = false, _mut50122 = false, _mut50123 = false, _mut50124 = false, _mut50125 = false, _mut50126 = false, _mut50127 = false, _mut50128 = false, _mut50129 = false, _mut50130 = false, _mut50131 = false, _mut50132 = false, _mut50133 = false, _mut50134 = false, _mut50135 = false, _mut50136 = false, _mut50137 = false, _mut50138 = false, _mut50139 = false, _mut50140 = false, _mut50141 = false, _mut50142 = false, _mut50143 = false, _mut50144 = false, _mut50145 = false, _mut50146 = false, _mut50147 = false, _mut50148 = false, _mut50149 = false, _mut50150 = false, _mut50151 = false, _mut50152 = false, _mut50153 = false, _mut50154 = false, _mut50155 = false, _mut50156 = false, _mut50157 = false, _mut50158 = false, _mut50159 = false, _mut50160 = false, _mut50161 = false, _mut50162 = false, _mut50163 = false, _mut50164 = false, _mut50165 = false, _mut50166 = false, _mut50167 = false;
+    public static boolean _mut49753 = false, _mut49754 = false, _mut49755 = false, _mut49756 = false, _mut49757 = false, _mut49758 = false, _mut49759 = false, _mut49760 = false, _mut49761 = false, _mut49762 = false, _mut49763 = false, _mut49764 = false, _mut49765 = false, _mut49766 = false, _mut49767 = false, _mut49768 = false, _mut49769 = false, _mut49770 = false, _mut49771 = false, _mut49772 = false, _mut49773 = false, _mut49774 = false, _mut49775 = false, _mut49776 = false, _mut49777 = false, _mut49778 = false, _mut49779 = false, _mut49780 = false, _mut49781 = false, _mut49782 = false, _mut49783 = false, _mut49784 = false, _mut49785 = false, _mut49786 = false, _mut49787 = false, _mut49788 = false, _mut49789 = false, _mut49790 = false, _mut49791 = false, _mut49802 = false, _mut49803 = false, _mut49804 = false, _mut49805 = false, _mut49806 = false, _mut49807 = false, _mut49808 = false, _mut49809 = false, _mut49810 = false, _mut49811 = false, _mut49812 = false, _mut49813 = false, _mut49814 = false, _mut49815 = false, _mut49816 = false, _mut49817 = false, _mut49818 = false, _mut49819 = false, _mut49820 = false, _mut49821 = false, _mut49822 = false, _mut49823 = false, _mut49824 = false, _mut49825 = false, _mut49826 = false, _mut49877 = false, _mut49878 = false, _mut49879 = false, _mut49880 = false, _mut49881 = false, _mut49882 = false, _mut49883 = false, _mut49884 = false, _mut49885 = false, _mut49886 = false, _mut49887 = false, _mut49888 = false, _mut49889 = false, _mut49890 = false, _mut49891 = false, _mut49892 = false, _mut49893 = false, _mut49894 = false, _mut49895 = false, _mut49896 = false, _mut49897 = false, _mut49898 = false, _mut49899 = false, _mut49900 = false, _mut49901 = false, _mut49902 = false, _mut49903 = false, _mut49904 = false, _mut49905 = false, _mut49906 = false, _mut49907 = false, _mut49908 = false, _mut49909 = false, _mut49910 = false, _mut49911 = false, _mut49912 = false, _mut49913 = false, _mut49914 = false, _mut49915 = false, _mut49916 = false, _mut49917 = false, _mut49918 = false, _mut49919 = false, _mut49920 = false, _mut49921 = false, _mut49922 = false, _mut49923 = false, _mut49924 = false, _mut49925 = false, _mut49926 = false, _mut49927 = false, _mut49928 = false, _mut49929 = false, _mut49930 = false, _mut49931 = false, _mut49932 = false, _mut49933 = false, _mut49934 = false, _mut49935 = false, _mut49936 = false, _mut49937 = false, _mut49938 = false, _mut49939 = false, _mut49940 = false, _mut49941 = false, _mut49942 = false, _mut49943 = false, _mut49944 = false, _mut49945 = false, _mut49946 = false, _mut49947 = false, _mut49948 = false, _mut49949 = false, _mut49950 = false, _mut49951 = false, _mut49952 = false, _mut49953 = false, _mut49954 = false, _mut49955 = false, _mut49956 = false, _mut49957 = false, _mut49958 = false, _mut49959 = false, _mut49960 = false, _mut49961 = false, _mut49962 = false, _mut49963 = false, _mut49964 = false, _mut49965 = false, _mut49966 = false, _mut49967 = false, _mut49968 = false, _mut49969 = false, _mut49970 = false, _mut49971 = false, _mut49972 = false, _mut49973 = false, _mut49974 = false, _mut49975 = false, _mut49976 = false, _mut49977 = false, _mut49978 = false, _mut49979 = false, _mut49980 = false, _mut49981 = false, _mut49982 = false, _mut49983 = false, _mut49984 = false, _mut49985 = false, _mut49986 = false, _mut49987 = false, _mut49988 = false, _mut49989 = false, _mut49990 = false, _mut49991 = false, _mut49992 = false, _mut49993 = false, _mut49994 = false, _mut49995 = false, _mut49996 = false, _mut49997 = false, _mut49998 = false, _mut49999 = false, _mut50000 = false, _mut50001 = false, _mut50002 = false, _mut50003 = false, _mut50004 = false, _mut50005 = false, _mut50006 = false, _mut50007 = false, _mut50008 = false, _mut50009 = false, _mut50010 = false, _mut50011 = false, _mut50012 = false, _mut50013 = false, _mut50014 = false, _mut50015 = false, _mut50016 = false, _mut50017 = false, _mut50018 = false, _mut50019 = false, _mut50020 = false, _mut50021 = false, _mut50022 = false, _mut50023 = false, _mut50024 = false, _mut50025 = false, _mut50026 = false, _mut50027 = false, _mut50028 = false, _mut50029 = false, _mut50040 = false, _mut50041 = false, _mut50042 = false, _mut50043 = false, _mut50044 = false, _mut50045 = false, _mut50046 = false, _mut50047 = false, _mut50048 = false, _mut50049 = false, _mut50050 = false, _mut50051 = false, _mut50052 = false, _mut50053 = false, _mut50054 = false, _mut50055 = false, _mut50056 = false, _mut50057 = false, _mut50058 = false, _mut50059 = false, _mut50060 = false, _mut50061 = false, _mut50062 = false, _mut50063 = false, _mut50064 = false, _mut50065 = false, _mut50066 = false, _mut50067 = false, _mut50068 = false, _mut50069 = false, _mut50070 = false, _mut50071 = false, _mut50072 = false, _mut50073 = false, _mut50074 = false, _mut50075 = false, _mut50076 = false, _mut50077 = false, _mut50078 = false, _mut50079 = false, _mut50080 = false, _mut50081 = false, _mut50082 = false, _mut50083 = false, _mut50084 = false, _mut50085 = false, _mut50086 = false, _mut50087 = false, _mut50088 = false, _mut50089 = false, _mut50090 = false, _mut50091 = false, _mut50092 = false, _mut50093 = false, _mut50094 = false, _mut50095 = false, _mut50096 = false, _mut50097 = false, _mut50098 = false, _mut50099 = false, _mut50100 = false, _mut50101 = false, _mut50102 = false, _mut50103 = false, _mut50104 = false, _mut50105 = false, _mut50106 = false, _mut50107 = false, _mut50108 = false, _mut50109 = false, _mut50110 = false, _mut50111 = false, _mut50112 = false, _mut50113 = false, _mut50114 = false, _mut50115 = false, _mut50116 = false, _mut50117 = false, _mut50118 = false, _mut50119 = false, _mut50120 = false, _mut50121 = false, _mut50122 = false, _mut50123 = false, _mut50124 = false, _mut50125 = false, _mut50126 = false, _mut50127 = false, _mut50128 = false, _mut50129 = false, _mut50130 = false, _mut50131 = false, _mut50132 = false, _mut50133 = false, _mut50134 = false, _mut50135 = false, _mut50136 = false, _mut50137 = false, _mut50138 = false, _mut50139 = false, _mut50140 = false, _mut50141 = false, _mut50142 = false, _mut50143 = false, _mut50144 = false, _mut50145 = false, _mut50146 = false, _mut50147 = false, _mut50148 = false, _mut50149 = false, _mut50150 = false, _mut50151 = false, _mut50152 = false, _mut50153 = false, _mut50154 = false, _mut50155 = false, _mut50156 = false, _mut50157 = false, _mut50158 = false, _mut50159 = false, _mut50160 = false, _mut50161 = false, _mut50162 = false, _mut50163 = false, _mut50164 = false, _mut50165 = false, _mut50166 = false, _mut50167 = false;
 
     /**
      * All long-representable factorials
@@ -45,6 +45,41 @@ public final class CombinatoricsUtils {
      */
     static final AtomicReference<long[][]> STIRLING_S2 = new AtomicReference<long[][]>(null);
 
+    /**
+     * Number of rows of the cached Pascal triangle: all binomial coefficients
+     * with {@code n < 67} fit in a {@code long}.
+     */
+    static final int BINOMIALS_SIZE = 67;
+
+    /**
+     * Pascal triangle for {@code n < BINOMIALS_SIZE}.
+     */
+    static final AtomicReference<long[][]> BINOMIALS = new AtomicReference<long[][]>(null);
+
+    /**
+     * Default maximal size of the shared log-factorial cache.
+     */
+    static final int DEFAULT_FACTORIAL_LOG_CACHE_SIZE = 1 << 14;
+
+    /**
+     * Smallest {@code min(k, n - k)} for which {@link #binomialCoefficientLog(int, int)}
+     * uses the cached log-factorials rather than summing logarithms.
+     */
+    private static final int BINOMIAL_LOG_CACHE_MIN_K = 32;
+
+    /**
+     * Largest ratio {@code n / min(k, n - k)} for which
+     * {@link #binomialCoefficientLog(int, int)} uses the cached log-factorials:
+     * beyond it, {@code log(n!)} is so much larger than the result that the
+     * cancellation in the difference of log-factorials loses accuracy.
+     */
+    private static final int BINOMIAL_LOG_CACHE_MAX_RATIO = 8;
+
+    /**
+     * Shared log-factorial cache.
+     */
+    private static final FactorialLog FACTORIAL_LOG = FactorialLog.create().withCache(DEFAULT_FACTORIAL_LOG_CACHE_SIZE);
+
     /**
      * Private constructor (class contains only static methods).
      */
@@ -80,6 +115,10 @@ public final class CombinatoricsUtils {
     public static long binomialCoefficient(final int n, final int k) throws NotPositiveException, NumberIsTooLargeException, MathArithmeticException {
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77");
         CombinatoricsUtils.checkBinomial(n, k);
+        if (n < BINOMIALS_SIZE) {
+            // exact value from the cached Pascal triangle
+            return binomials()[n][k];
+        }
         if ((_mut49763 ? ((ROR_equals(n, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49753, _mut49754, _mut49755, _mut49756, _mut49757)) && (ROR_equals(k, 0, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49758, _mut49759, _mut49760, _mut49761, _mut49762))) : ((ROR_equals(n, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49753, _mut49754, _mut49755, _mut49756, _mut49757)) || (ROR_equals(k, 0, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49758, _mut49759, _mut49760, _mut49761, _mut49762))))) {
             return 1;
         }
@@ -92,33 +131,14 @@ public final class CombinatoricsUtils {
         }
         // (n choose k) == (n-1 choose k-1) * n / k
         long result = 1;
-        if (ROR_less_equals(n, 61, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49792, _mut49793, _mut49794, _mut49795, _mut49796)) {
-            // For n <= 61, the naive implementation cannot overflow.
-            int i = AOR_plus(AOR_minus(n, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49856, _mut49857, _mut49858, _mut49859), 1, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49860, _mut49861, _mut49862, _mut49863);
-            for (int j = 1; ROR_less_equals(j, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49872, _mut49873, _mut49874, _mut49875, _mut49876); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77");
-                result = AOR_divide(AOR_multiply(result, i, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49864, _mut49865, _mut49866, _mut49867), j, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49868, _mut49869, _mut49870, _mut49871);
-                i++;
-            }
-        } else if (ROR_less_equals(n, 66, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49797, _mut49798, _mut49799, _mut49800, _mut49801)) {
-            // but we must take care not to overflow intermediate values.
-            int i = AOR_plus(AOR_minus(n, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49827, _mut49828, _mut49829, _mut49830), 1, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49831, _mut49832, _mut49833, _mut49834);
-            for (int j = 1; ROR_less_equals(j, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49851, _mut49852, _mut49853, _mut49854, _mut49855); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77");
-                // result * (i/d).
-                final long d = ArithmeticUtils.gcd(i, j);
-                result = AOR_multiply((AOR_divide(result, (AOR_divide(j, d, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49835, _mut49836, _mut49837, _mut49838)), "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49839, _mut49840, _mut49841, _mut49842)), (AOR_divide(i, d, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49843, _mut49844, _mut49845, _mut49846)), "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49847, _mut49848, _mut49849, _mut49850);
-                i++;
-            }
-        } else {
-            // unnecessary.
-            int i = AOR_plus(AOR_minus(n, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49802, _mut49803, _mut49804, _mut49805), 1, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49806, _mut49807, _mut49808, _mut49809);
-            for (int j = 1; ROR_less_equals(j, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49822, _mut49823, _mut49824, _mut49825, _mut49826); j++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77");
-                final long d = ArithmeticUtils.gcd(i, j);
-                result = ArithmeticUtils.mulAndCheck(AOR_divide(result, (AOR_divide(j, d, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49810, _mut49811, _mut49812, _mut49813)), "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49814, _mut49815, _mut49816, _mut49817), AOR_divide(i, d, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49818, _mut49819, _mut49820, _mut49821));
-                i++;
-            }
+        // Values larger than those of the Pascal triangle: reduce intermediate
+        // values with the gcd and check for overflow.
+        int i = AOR_plus(AOR_minus(n, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49802, _mut49803, _mut49804, _mut49805), 1, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49806, _mut49807, _mut49808, _mut49809);
+        for (int j = 1; ROR_less_equals(j, k, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49822, _mut49823, _mut49824, _mut49825, _mut49826); j++) {
+            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77");
+            final long d = ArithmeticUtils.gcd(i, j);
+            result = ArithmeticUtils.mulAndCheck(AOR_divide(result, (AOR_divide(j, d, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49810, _mut49811, _mut49812, _mut49813)), "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49814, _mut49815, _mut49816, _mut49817), AOR_divide(i, d, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient_77", _mut49818, _mut49819, _mut49820, _mut49821));
+            i++;
         }
         return result;
     }
@@ -208,6 +228,15 @@ public final class CombinatoricsUtils {
         if (ROR_less(n, 67, "org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficientLog_203", _mut49968, _mut49969, _mut49970, _mut49971, _mut49972)) {
             return FastMath.log(binomialCoefficient(n, k));
         }
+        /*
+         * Use the cached log-factorials when summing logs or multiplying
+         * ratios would take too many iterations, provided the result is
+         * not much smaller than log(n!)
+         */
+        final int m = FastMath.min(k, n - k);
+        if (m >= BINOMIAL_LOG_CACHE_MIN_K && n <= BINOMIAL_LOG_CACHE_MAX_RATIO * m && FACTORIAL_LOG.isCached(n)) {
+            return FACTORIAL_LOG.value(n) - FACTORIAL_LOG.value(k) - FACTORIAL_LOG.value(n - k);
+        }
         /*
          * Return the log of binomialCoefficientDouble for values that will not
          * overflow binomialCoefficientDouble
@@ -296,6 +325,11 @@ public final class CombinatoricsUtils {
 
     /**
      * Compute the natural logarithm of the factorial of {@code n}.
+     * <p>
+     * Values for {@code n < 16384} are cached the first time they are
+     * needed; use {@link FactorialLog} for a private cache of a different
+     * size.
+     * </p>
      *
      * @param n Argument.
      * @return {@code n!}
@@ -306,15 +340,7 @@ public final class CombinatoricsUtils {
         if (ROR_less(n, 0, "org.apache.commons.math3.util.CombinatoricsUtils.factorialLog_317", _mut50025, _mut50026, _mut50027, _mut50028, _mut50029)) {
             throw new NotPositiveException(LocalizedFormats.FACTORIAL_NEGATIVE_PARAMETER, n);
         }
-        if (ROR_less(n, 21, "org.apache.commons.math3.util.CombinatoricsUtils.factorialLog_317", _mut50030, _mut50031, _mut50032, _mut50033, _mut50034)) {
-            return FastMath.log(FACTORIALS[n]);
-        }
-        double logSum = 0;
-        for (int i = 2; ROR_less_equals(i, n, "org.apache.commons.math3.util.CombinatoricsUtils.factorialLog_317", _mut50035, _mut50036, _mut50037, _mut50038, _mut50039); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.CombinatoricsUtils.factorialLog_317");
-            logSum += FastMath.log(i);
-        }
-        return logSum;
+        return FACTORIAL_LOG.value(n);
     }
 
     /**
@@ -419,6 +445,55 @@ public final class CombinatoricsUtils {
         return new Combinations(n, k).iterator();
     }
 
+    /**
+     * Returns an iterator whose range is the k-element subsets of {0, ..., n - 1}
+     * represented as {@code int[]} arrays, optionally reusing a single array.
+     * <p>
+     * The combinations are visited in the order of
+     * {@link #combinationsIterator(int, int)}. If {@code reuseArray} is
+     * {@code true}, the iterator returns the same array, overwritten with the
+     * next combination, at each call to {@code next()}: callers must copy the
+     * combinations they want to keep.
+     * </p>
+     *
+     * @param n Size of the set from which subsets are selected.
+     * @param k Size of the subsets to be enumerated.
+     * @param reuseArray if {@code true}, all calls to {@code next()} return
+     * the same array.
+     * @return an {@link Iterator iterator} over the k-sets in n.
+     * @throws NotPositiveException if {@code n < 0}.
+     * @throws NumberIsTooLargeException if {@code k > n}.
+     * @see Combinations#iterator(boolean)
+     * @since 3.7
+     */
+    public static Iterator<int[]> combinationsIterator(int n, int k, boolean reuseArray) {
+        return new Combinations(n, k).iterator(reuseArray);
+    }
+
+    /**
+     * Get the cached Pascal triangle, building it the first time.
+     *
+     * @return rows 0 to {@code BINOMIALS_SIZE - 1} of the Pascal triangle.
+     */
+    private static long[][] binomials() {
+        long[][] binomials = BINOMIALS.get();
+        if (binomials == null) {
+            binomials = new long[BINOMIALS_SIZE][];
+            binomials[0] = new long[] { 1l };
+            for (int i = 1; i < binomials.length; ++i) {
+                binomials[i] = new long[i + 1];
+                binomials[i][0] = 1;
+                binomials[i][i] = 1;
+                for (int j = 1; j < i; ++j) {
+                    binomials[i][j] = binomials[i - 1][j - 1] + binomials[i - 1][j];
+                }
+            }
+            // atomically save the cache
+            BINOMIALS.compareAndSet(null, binomials);
+        }
+        return binomials;
+    }
+
     /**
      * Check binomial preconditions.
      *
@@ -436,4 +511,161 @@ public final class CombinatoricsUtils {
             throw new NotPositiveException(LocalizedFormats.BINOMIAL_NEGATIVE_PARAMETER, n);
         }
     }
+
+    /**
+     * Class for computing the natural logarithm of the factorial of {@code n},
+     * with a cache of the values of small {@code n}.
+     * <p>
+     * The cache is filled lazily: it grows, up to the size given to
+     * {@link #withCache(int)}, the first time a value beyond its current end
+     * is requested. Cached values are identical to the uncached ones: both
+     * are compensated sums of the logarithms from 2 to {@code n}, so that
+     * differences of log-factorials keep their accuracy.
+     * </p>
+     * <p>
+     * Instances are immutable from the caller's point of view and can be
+     * shared between threads: the cache is published atomically, and
+     * concurrent growths compute the same values.
+     * </p>
+     *
+     * @since 3.7
+     */
+    public static final class FactorialLog {
+
+        /** Maximal number of cached values. */
+        private final int cacheSize;
+
+        /** Cached values of {@code log(n!)}, for {@code n < cache.get().length}. */
+        private final AtomicReference<double[]> cache;
+
+        /**
+         * Creates an instance.
+         *
+         * @param cacheSize Maximal number of cached values.
+         */
+        private FactorialLog(int cacheSize) {
+            this.cacheSize = cacheSize;
+            this.cache     = new AtomicReference<double[]>(new double[0]);
+        }
+
+        /**
+         * Creates an instance with no cache.
+         *
+         * @return a new instance.
+         */
+        public static FactorialLog create() {
+            return new FactorialLog(0);
+        }
+
+        /**
+         * Creates an instance with the specified cache size.
+         *
+         * @param cacheSize Number of values to cache: {@code log(n!)} is
+         * cached for {@code n < cacheSize}.
+         * @return a new instance.
+         * @throws NotPositiveException if {@code cacheSize < 0}.
+         */
+        public FactorialLog withCache(final int cacheSize) throws NotPositiveException {
+            if (cacheSize < 0) {
+                throw new NotPositiveException(cacheSize);
+            }
+            return new FactorialLog(cacheSize);
+        }
+
+        /**
+         * Get the maximal number of cached values.
+         *
+         * @return the cache size.
+         */
+        public int getCacheSize() {
+            return cacheSize;
+        }
+
+        /**
+         * Check whether the value for {@code n} is (or will be) cached.
+         *
+         * @param n Argument.
+         * @return {@code true} if {@code 0 <= n < getCacheSize()}.
+         */
+        boolean isCached(final int n) {
+            return n >= 0 && n < cacheSize;
+        }
+
+        /**
+         * Computes {@code log(n!)}.
+         *
+         * @param n Argument.
+         * @return {@code log(n!)}.
+         * @throws NotPositiveException if {@code n < 0}.
+         */
+        public double value(final int n) throws NotPositiveException {
+            if (n < 0) {
+                throw new NotPositiveException(LocalizedFormats.FACTORIAL_NEGATIVE_PARAMETER, n);
+            }
+            double[] table = cache.get();
+            if (n < table.length) {
+                return table[n];
+            }
+            if (n < cacheSize) {
+                return grow(table, n)[n];
+            }
+            if (n < 21) {
+                return FastMath.log(FACTORIALS[n]);
+            }
+
+            return sumLogs(null, 0, n);
+        }
+
+        /**
+         * Grows the cache so that it contains the value for {@code n}.
+         *
+         * @param table Current cache.
+         * @param n Argument, smaller than {@link #cacheSize}.
+         * @return a cache containing the value for {@code n}.
+         */
+        private double[] grow(final double[] table, final int n) {
+            // at least double the cache, to amortize the copies
+            final int length = (table.length >= cacheSize / 2) ?
+                               cacheSize : FastMath.max(n + 1, 2 * table.length);
+            final double[] newTable = MathArrays.copyOf(table, length);
+
+            // exact values for n <= 20
+            for (int i = table.length; i < FastMath.min(21, length); i++) {
+                newTable[i] = FastMath.log(FACTORIALS[i]);
+            }
+
+            // same summation as for uncached values, always started from 2 so
+            // that the values do not depend on the successive cache sizes
+            sumLogs(newTable, FastMath.max(21, table.length), length - 1);
+
+            // atomically save the cache, unless another thread already grew it
+            cache.compareAndSet(table, newTable);
+            return newTable;
+        }
+
+        /**
+         * Computes the Kahan-compensated sum of the logarithms of the
+         * integers from 2 to {@code n}.
+         *
+         * @param partialSums If not null, array where the partial sums up to
+         * {@code i} are stored, for {@code from <= i <= n}.
+         * @param from First index of the stored partial sums.
+         * @param n Last integer of the sum.
+         * @return {@code log(n!)}.
+         */
+        private static double sumLogs(final double[] partialSums, final int from, final int n) {
+            double logSum = 0;
+            double compensation = 0;
+            for (int i = 2; i <= n; i++) {
+                final double y = FastMath.log(i) - compensation;
+                final double t = logSum + y;
+                compensation = (t - logSum) - y;
+                logSum = t;
+                if (partialSums != null && i >= from) {
+                    partialSums[i] = logSum;
+                }
+            }
+            return logSum;
+        }
+    }
 }
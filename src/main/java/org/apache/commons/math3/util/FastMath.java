@@ -17,6 +17,10 @@
 package org.apache.commons.math3.util;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import gov.nasa.jpf.annotation.Conditional;
@@ -326,6 +330,27 @@ public class FastMath {
      */
     private static final double F_1_4 = AOR_divide(1d, 4d, "org.apache.commons.math3.util.FastMath.readObject_589", _mut43115, _mut43116, _mut43117, _mut43118);
 
+    /** Number of elements evaluated by each task of the array functions using an executor service. */
+    private static final int BULK_BLOCK_SIZE = 8192;
+
+    /** Array function: exponential. */
+    private static final int BULK_EXP = 0;
+
+    /** Array function: natural logarithm. */
+    private static final int BULK_LOG = 1;
+
+    /** Array function: sine. */
+    private static final int BULK_SIN = 2;
+
+    /** Array function: cosine. */
+    private static final int BULK_COS = 3;
+
+    /** Array function: power. */
+    private static final int BULK_POW = 4;
+
+    /** Array function: square root. */
+    private static final int BULK_SQRT = 5;
+
     /**
      * Private Constructor
      */
@@ -3558,6 +3583,430 @@ public class FastMath {
         return AOR_minus(((Float.floatToRawIntBits(f) >>> 23) & 0xff), 127, "org.apache.commons.math3.util.FastMath.getExponent_4110", _mut49552, _mut49553, _mut49554, _mut49555);
     }
 
+    /**
+     * Compute the exponential of a slice of an array.
+     * <p>
+     * This is equivalent to calling {@link #exp(double)} on each element
+     * {@code in[i]} with {@code begin <= i < begin + length} and storing the
+     * result in {@code out[i]}, but the loop body is kept small and free of
+     * bounds checks so that the JIT compiler can unroll it. Independent slices
+     * of the same arrays may be evaluated concurrently by different threads.
+     * </p>
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if the slice is not valid for both arrays
+     * @since 3.7
+     */
+    public static void exp(final double[] in, final double[] out, final int begin, final int length) {
+        checkSlice(in, out, begin, length);
+        final int end = begin + length;
+        for (int i = begin; i < end; i++) {
+            out[i] = exp(in[i], 0.0, null);
+        }
+    }
+
+    /**
+     * Compute the exponential of all elements of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @see #exp(double[], double[], int, int)
+     * @since 3.7
+     */
+    public static void exp(final double[] in, final double[] out) {
+        exp(in, out, 0, in == null ? 0 : in.length);
+    }
+
+    /**
+     * Compute the exponential of all elements of an array, with tasks
+     * submitted to an executor service.
+     * <p>
+     * This method gives the same results as {@link #exp(double[], double[])}:
+     * the array is split into blocks, each one evaluated by a separate task.
+     * Arrays that fit in a single block are evaluated in the calling thread.
+     * </p>
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @since 3.7
+     */
+    public static void exp(final double[] in, final double[] out, final ExecutorService executor) {
+        evaluate(BULK_EXP, in, 0, out, executor);
+    }
+
+    /**
+     * Compute the natural logarithm of a slice of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if the slice is not valid for both arrays
+     * @see #exp(double[], double[], int, int)
+     * @since 3.7
+     */
+    public static void log(final double[] in, final double[] out, final int begin, final int length) {
+        checkSlice(in, out, begin, length);
+        final int end = begin + length;
+        for (int i = begin; i < end; i++) {
+            out[i] = log(in[i], null);
+        }
+    }
+
+    /**
+     * Compute the natural logarithm of all elements of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @since 3.7
+     */
+    public static void log(final double[] in, final double[] out) {
+        log(in, out, 0, in == null ? 0 : in.length);
+    }
+
+    /**
+     * Compute the natural logarithm of all elements of an array, with tasks
+     * submitted to an executor service.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @see #exp(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public static void log(final double[] in, final double[] out, final ExecutorService executor) {
+        evaluate(BULK_LOG, in, 0, out, executor);
+    }
+
+    /**
+     * Compute the sine of a slice of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if the slice is not valid for both arrays
+     * @see #exp(double[], double[], int, int)
+     * @since 3.7
+     */
+    public static void sin(final double[] in, final double[] out, final int begin, final int length) {
+        checkSlice(in, out, begin, length);
+        final int end = begin + length;
+        for (int i = begin; i < end; i++) {
+            out[i] = sin(in[i]);
+        }
+    }
+
+    /**
+     * Compute the sine of all elements of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @since 3.7
+     */
+    public static void sin(final double[] in, final double[] out) {
+        sin(in, out, 0, in == null ? 0 : in.length);
+    }
+
+    /**
+     * Compute the sine of all elements of an array, with tasks
+     * submitted to an executor service.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @see #exp(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public static void sin(final double[] in, final double[] out, final ExecutorService executor) {
+        evaluate(BULK_SIN, in, 0, out, executor);
+    }
+
+    /**
+     * Compute the cosine of a slice of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if the slice is not valid for both arrays
+     * @see #exp(double[], double[], int, int)
+     * @since 3.7
+     */
+    public static void cos(final double[] in, final double[] out, final int begin, final int length) {
+        checkSlice(in, out, begin, length);
+        final int end = begin + length;
+        for (int i = begin; i < end; i++) {
+            out[i] = cos(in[i]);
+        }
+    }
+
+    /**
+     * Compute the cosine of all elements of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @since 3.7
+     */
+    public static void cos(final double[] in, final double[] out) {
+        cos(in, out, 0, in == null ? 0 : in.length);
+    }
+
+    /**
+     * Compute the cosine of all elements of an array, with tasks
+     * submitted to an executor service.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @see #exp(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public static void cos(final double[] in, final double[] out, final ExecutorService executor) {
+        evaluate(BULK_COS, in, 0, out, executor);
+    }
+
+    /**
+     * Raise each element of a slice of an array to a fixed power.
+     * <p>
+     * Integral exponents are detected once for the whole slice and
+     * dispatched to {@link #pow(double, long)}, as {@link #pow(double, double)}
+     * would do for each element.
+     * </p>
+     * @param in values on which evaluation is done
+     * @param y power to raise the values to
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if the slice is not valid for both arrays
+     * @see #exp(double[], double[], int, int)
+     * @since 3.7
+     */
+    public static void pow(final double[] in, final double y, final double[] out, final int begin, final int length) {
+        checkSlice(in, out, begin, length);
+        final int end = begin + length;
+        final long yl = (long) y;
+        if (yl == y && yl != 0 && yl != Long.MIN_VALUE && yl != Long.MAX_VALUE) {
+            for (int i = begin; i < end; i++) {
+                out[i] = pow(in[i], yl);
+            }
+        } else {
+            for (int i = begin; i < end; i++) {
+                out[i] = pow(in[i], y);
+            }
+        }
+    }
+
+    /**
+     * Raise each element of an array to a fixed power.
+     * @param in values on which evaluation is done
+     * @param y power to raise the values to
+     * @param out array where results are stored (may be the same as {@code in})
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @since 3.7
+     */
+    public static void pow(final double[] in, final double y, final double[] out) {
+        pow(in, y, out, 0, in == null ? 0 : in.length);
+    }
+
+    /**
+     * Raise each element of an array to a fixed power, with tasks
+     * submitted to an executor service.
+     * @param in values on which evaluation is done
+     * @param y power to raise the values to
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @see #exp(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public static void pow(final double[] in, final double y, final double[] out, final ExecutorService executor) {
+        evaluate(BULK_POW, in, y, out, executor);
+    }
+
+    /**
+     * Compute the square root of a slice of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if the slice is not valid for both arrays
+     * @see #exp(double[], double[], int, int)
+     * @since 3.7
+     */
+    public static void sqrt(final double[] in, final double[] out, final int begin, final int length) {
+        checkSlice(in, out, begin, length);
+        final int end = begin + length;
+        for (int i = begin; i < end; i++) {
+            out[i] = Math.sqrt(in[i]);
+        }
+    }
+
+    /**
+     * Compute the square root of all elements of an array.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @since 3.7
+     */
+    public static void sqrt(final double[] in, final double[] out) {
+        sqrt(in, out, 0, in == null ? 0 : in.length);
+    }
+
+    /**
+     * Compute the square root of all elements of an array, with tasks
+     * submitted to an executor service.
+     * @param in values on which evaluation is done
+     * @param out array where results are stored (may be the same as {@code in})
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     * @throws org.apache.commons.math3.exception.NullArgumentException if
+     * either array is null
+     * @throws org.apache.commons.math3.exception.MathIllegalArgumentException
+     * if {@code out} is shorter than {@code in}
+     * @see #exp(double[], double[], ExecutorService)
+     * @since 3.7
+     */
+    public static void sqrt(final double[] in, final double[] out, final ExecutorService executor) {
+        evaluate(BULK_SQRT, in, 0, out, executor);
+    }
+
+    /**
+     * Check the slice used by the array functions.
+     * @param in input array
+     * @param out output array
+     * @param begin index of the first element of the slice
+     * @param length number of elements in the slice
+     */
+    private static void checkSlice(final double[] in, final double[] out, final int begin, final int length) {
+        MathArrays.verifyValues(in, begin, length, true);
+        MathArrays.verifyValues(out, begin, length, true);
+    }
+
+    /**
+     * Evaluate an array function on all elements of an array.
+     * @param function function to evaluate, one of {@link #BULK_EXP},
+     * {@link #BULK_LOG}, {@link #BULK_SIN}, {@link #BULK_COS},
+     * {@link #BULK_POW} or {@link #BULK_SQRT}
+     * @param in values on which evaluation is done
+     * @param y power to raise the values to (only used by {@link #BULK_POW})
+     * @param out array where results are stored
+     * @param executor executor service to which the tasks are submitted,
+     * or null to evaluate all the elements in the calling thread
+     */
+    private static void evaluate(final int function, final double[] in, final double y, final double[] out,
+                                 final ExecutorService executor) {
+        checkSlice(in, out, 0, in == null ? 0 : in.length);
+
+        if (executor == null || in.length <= BULK_BLOCK_SIZE) {
+            evaluate(function, in, y, out, 0, in.length);
+            return;
+        }
+
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        for (int start = 0; start < in.length; start += BULK_BLOCK_SIZE) {
+            final int begin = start;
+            final int length = min(BULK_BLOCK_SIZE, in.length - start);
+            tasks.add(new Runnable() {
+                /** {@inheritDoc} */
+                public void run() {
+                    evaluate(function, in, y, out, begin, length);
+                }
+            });
+        }
+        TaskRunner.run(tasks, executor);
+    }
+
+    /**
+     * Evaluate an array function on a slice of an array.
+     * @param function function to evaluate, one of {@link #BULK_EXP},
+     * {@link #BULK_LOG}, {@link #BULK_SIN}, {@link #BULK_COS},
+     * {@link #BULK_POW} or {@link #BULK_SQRT}
+     * @param in values on which evaluation is done
+     * @param y power to raise the values to (only used by {@link #BULK_POW})
+     * @param out array where results are stored
+     * @param begin index of the first element to evaluate
+     * @param length number of elements to evaluate
+     */
+    private static void evaluate(final int function, final double[] in, final double y, final double[] out,
+                                 final int begin, final int length) {
+        switch (function) {
+        case BULK_EXP :
+            exp(in, out, begin, length);
+            break;
+        case BULK_LOG :
+            log(in, out, begin, length);
+            break;
+        case BULK_SIN :
+            sin(in, out, begin, length);
+            break;
+        case BULK_COS :
+            cos(in, out, begin, length);
+            break;
+        case BULK_POW :
+            pow(in, y, out, begin, length);
+            break;
+        default :
+            sqrt(in, out, begin, length);
+        }
+    }
+
     /**
      * Print out contents of arrays, and check the length.
      * <p>used to generate the preset arrays originally.</p>
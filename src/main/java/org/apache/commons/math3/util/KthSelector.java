@@ -19,6 +19,7 @@ package org.apache.commons.math3.util;
 import java.io.Serializable;
 import java.util.Arrays;
 import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -43,6 +44,11 @@ public class KthSelector implements Serializable {
      */
     private static final int MIN_SELECT_SIZE = 15;
 
+    /**
+     * Minimum slice size for Floyd-Rivest pivot sampling in multiple selection.
+     */
+    private static final int FLOYD_RIVEST_MIN_SIZE = 600;
+
     /**
      * A {@link PivotingStrategyInterface} used for pivoting
      */
@@ -121,6 +127,161 @@ public class KthSelector implements Serializable {
         return work[k];
     }
 
+    /**
+     * Select several K<sup>th</sup> values in the array at once.
+     * <p>
+     * All the requested order statistics are obtained from a single recursive
+     * partitioning of the work array, where each partition is split around a
+     * pivot and only the parts that still contain requested indices are
+     * processed further. This is much cheaper than independent selections
+     * when many order statistics are needed, for example to compute a full set
+     * of percentiles.
+     * </p>
+     * <p>
+     * On large slices, pivots are chosen using the Floyd-Rivest sampling
+     * scheme, which puts them very close to one of the requested indices. On
+     * small slices, the {@link #getPivotingStrategy() pivoting strategy} of this
+     * selector is used. As in introselect, slices are sorted once the recursion
+     * becomes too deep, which guarantees an O(n log n) worst case cost.
+     * </p>
+     * <p>
+     * On return, {@code work[k[i]]} holds the {@code k[i]}<sup>th</sup>
+     * smallest value for all {@code i}, and the array is partitioned around
+     * each of these positions.
+     * </p>
+     *
+     * @param work work array to use to find out the K<sup>th</sup> values
+     * @param k indices whose values in the sorted array are of interest,
+     * in any order and possibly with duplicates
+     * @return the K<sup>th</sup> values, in the same order as {@code k}
+     * @throws NullArgumentException if {@code work} or {@code k} is null
+     * @throws OutOfRangeException if one of the indices is not within
+     * {@code [0, work.length - 1]}
+     * @since 3.7
+     */
+    public double[] selectMultiple(final double[] work, final int[] k)
+        throws NullArgumentException, OutOfRangeException {
+        MathUtils.checkNotNull(work);
+        MathUtils.checkNotNull(k);
+        final double[] values = new double[k.length];
+        if (k.length == 0) {
+            return values;
+        }
+
+        // sort the requested indices and remove duplicates
+        final int[] sorted = k.clone();
+        Arrays.sort(sorted);
+        if (sorted[0] < 0) {
+            throw new OutOfRangeException(sorted[0], 0, work.length - 1);
+        }
+        if (sorted[sorted.length - 1] >= work.length) {
+            throw new OutOfRangeException(sorted[sorted.length - 1], 0, work.length - 1);
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; ++i) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+
+        // allow about 2 log2(work.length) partitioning levels before sorting
+        final int depth = 2 * (32 - Integer.numberOfLeadingZeros(work.length));
+        selectMultiple(work, 0, work.length, sorted, 0, n, depth);
+
+        for (int i = 0; i < k.length; ++i) {
+            values[i] = work[k[i]];
+        }
+        return values;
+    }
+
+    /**
+     * Partition an array slice so that a sorted range of indices hold their
+     * order statistics.
+     *
+     * @param work work array
+     * @param begin index of the first element of the slice of work array
+     * @param end index after the last element of the slice of work array
+     * @param k sorted array of distinct requested indices
+     * @param kFrom index of the first requested index in {@code k} lying in the slice
+     * @param kTo index after the last requested index in {@code k} lying in the slice
+     * @param depth remaining number of partitioning levels before sorting
+     */
+    private void selectMultiple(final double[] work, int begin, int end,
+                                final int[] k, int kFrom, int kTo, int depth) {
+        while (kFrom < kTo) {
+
+            if (end - begin <= MIN_SELECT_SIZE || depth == 0) {
+                // small slice or too many levels, sort it
+                Arrays.sort(work, begin, end);
+                return;
+            }
+            --depth;
+
+            // partition around a pivot close to the middle requested index
+            final int target = (kFrom + kTo) >>> 1;
+            final int pivot  = partition(work, begin, end, pivotIndex(work, begin, end, k, target, depth));
+
+            // split the requested indices around the pivot
+            int lower = kFrom;
+            int upper = kTo;
+            while (lower < upper) {
+                final int middle = (lower + upper) >>> 1;
+                if (k[middle] < pivot) {
+                    lower = middle + 1;
+                } else {
+                    upper = middle;
+                }
+            }
+            upper = (lower < kTo && k[lower] == pivot) ? lower + 1 : lower;
+
+            // recurse on the smaller part, iterate on the larger one
+            if (pivot - begin < end - pivot) {
+                selectMultiple(work, begin, pivot, k, kFrom, lower, depth);
+                begin = pivot + 1;
+                kFrom = upper;
+            } else {
+                selectMultiple(work, pivot + 1, end, k, upper, kTo, depth);
+                end = pivot;
+                kTo = lower;
+            }
+
+        }
+    }
+
+    /**
+     * Choose a pivot for multiple selection.
+     * <p>
+     * On large slices, this uses the Floyd-Rivest algorithm: a sample slice
+     * around the target index is partitioned recursively so that the target
+     * index holds the corresponding order statistic of the sample, which is a
+     * very good estimate of the one of the whole slice.
+     * </p>
+     *
+     * @param work work array
+     * @param begin index of the first element of the slice of work array
+     * @param end index after the last element of the slice of work array
+     * @param k sorted array of distinct requested indices
+     * @param target index in {@code k} of the requested index to aim at
+     * @param depth remaining number of partitioning levels before sorting
+     * @return index of the pivot in the work array
+     */
+    private int pivotIndex(final double[] work, final int begin, final int end,
+                           final int[] k, final int target, final int depth) {
+        final int n = end - begin;
+        if (n <= FLOYD_RIVEST_MIN_SIZE) {
+            return pivotingStrategy.pivotIndex(work, begin, end);
+        }
+        final int    index = k[target];
+        final int    i     = index - begin + 1;
+        final double z     = FastMath.log(n);
+        final double s     = 0.5 * FastMath.exp(2 * z / 3);
+        final double sd    = 0.5 * FastMath.sqrt(z * s * (n - s) / n) * FastMath.signum(i - 0.5 * n);
+        final int sampleBegin = FastMath.max(begin, FastMath.min(index, (int) (index - i * s / n + sd)));
+        final int sampleEnd   = FastMath.min(end, FastMath.max(index, (int) (index + (n - i) * s / n + sd)) + 1);
+        selectMultiple(work, sampleBegin, sampleEnd, k, target, target + 1, depth);
+        return index;
+    }
+
     /**
      * Partition an array slice around a pivot.Partitioning exchanges array
      * elements such that all elements smaller than pivot are before it and
@@ -19,11 +19,10 @@ package org.apache.commons.math3.util;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.math3.Field;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
@@ -40,6 +39,7 @@ import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.NotANumberException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.transform.OverlapAddConvolver;
 import gov.nasa.jpf.annotation.Conditional;
 import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 
@@ -51,7 +51,44 @@ import static br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.*;
 public class MathArrays {
 
     @Conditional
-    public static boolean _mut40908 = false, _mut40909 = false, _mut40910 = false, _mut40911 = false, _mut40912 = false, _mut40913 = false, _mut40914 = false, _mut40915 = false, _mut40916 = false, _mut40917 = false, _mut40918 = false, _mut40919 = false, _mut40920 = false, _mut40921 = false, _mut40922 = false, _mut40923 = false, _mut40924 = false, _mut40925 = false, _mut40926 = false, _mut40927 = false, _mut40928 = false, _mut40929 = false, _mut40930 = false, _mut40931 = false, _mut40932 = false, _mut40933 = false, _mut40934 = false, _mut40935 = false, _mut40936 = false, _mut40937 = false, _mut40938 = false, _mut40939 = false, _mut40940 = false, _mut40941 = false, _mut40942 = false, _mut40943 = false, _mut40944 = false, _mut40945 = false, _mut40946 = false, _mut40947 = false, _mut40948 = false, _mut40949 = false, _mut40950 = false, _mut40951 = false, _mut40952 = false, _mut40953 = false, _mut40954 = false, _mut40955 = false, _mut40956 = false, _mut40957 = false, _mut40958 = false, _mut40959 = false, _mut40960 = false, _mut40961 = false, _mut40962 = false, _mut40963 = false, _mut40964 = false, _mut40965 = false, _mut40966 = false, _mut40967 = false, _mut40968 = false, _mut40969 = false, _mut40970 = false, _mut40971 = false, _mut40972 = false, _mut40973 = false, _mut40974 = false, _mut40975 = false, _mut40976 = false, _mut40977 = false, _mut40978 = false, _mut40979 = false, _mut40980 = false, _mut40981 = false, _mut40982 = false, _mut40983 = false, _mut40984 = false, _mut40985 = false, _mut40986 = false, _mut40987 = false, _mut40988 = false, _mut40989 = false, _mut40990 = false, _mut40991 = false, _mut40992 = false, _mut40993 = false, _mut40994 = false, _mut40995 = false, _mut40996 = false, _mut40997 = false, _mut40998 = false, _mut40999 = false, _mut41000 = false, _mut41001 = false, _mut41002 = false, _mut41003 = false, _mut41004 = false, _mut41005 = false, _mut41006 = false, _mut41007 = false, _mut41008 = false, _mut41009 = false, _mut41010 = false, _mut41011 = false, _mut41012 = false, _mut41013 = false, _mut41014 = false, _mut41015 = false, _mut41016 = false, _mut41017 = false, _mut41018 = false, _mut41019 = false, _mut41020 = false, _mut41021 = false, _mut41022 = false, _mut41023 = false, _mut41024 = false, _mut41025 = false, _mut41026 = false, _mut41027 = false, _mut41028 = false, _mut41029 = false, _mut41030 = false, _mut41031 = false, _mut41032 = false, _mut41033 = false, _mut41034 = false, _mut41035 = false, _mut41036 = false, _mut41037 = false, _mut41038 = false, _mut41039 = false, _mut41040 = false, _mut41041 = false, _mut41042 = false, _mut41043 = false, _mut41044 = false, _mut41045 = false, _mut41046 = false, _mut41047 = false, _mut41048 = false, _mut41049 = false, _mut41050 = false, _mut41051 = false, _mut41052 = false, _mut41053 = false, _mut41054 = false, _mut41055 = false, _mut41056 = false, _mut41057 = false, _mut41058 = false, _mut41059 = false, _mut41060 = false, _mut41061 = false, _mut41062 = false, _mut41063 = false, _mut41064 = false, _mut41065 = false, _mut41066 = false, _mut41067 = false, _mut41068 = false, _mut41069 = false, _mut41070 = false, _mut41071 = false, _mut41072 = false, _mut41073 = false, _mut41074 = false, _mut41075 = false, _mut41076 = false, _mut41077 = false, _mut41078 = false, _mut41079 = false, _mut41080 = false, _mut41081 = false, _mut41082 = false, _mut41083 = false, _mut41084 = false, _mut41085 = false, _mut41086 = false, _mut41087 = false, _mut41088 = false, _mut41089 = false, _mut41090 = false, _mut41091 = false, _mut41092 = false, _mut41093 = false, _mut41094 = false, _mut41095 = false, _mut41096 = false, _mut41097 = false, _mut41098 = false, _mut41099 = false, _mut41100 = false, _mut41101 = false, _mut41102 = false, _mut41103 = false, _mut41104 = false, _mut41105 = false, _mut41106 = false, _mut41107 = false, _mut41108 = false, _mut41109 = false, _mut41110 = false, _mut41111 = false, _mut41112 = false, _mut41113 = false, _mut41114 = false, _mut41115 = false, _mut41116 = false, _mut41117 = false, _mut41118 = false, _mut41119 = false, _mut41120 = false, _mut41121 = false, _mut41122 = false, _mut41123 = false, _mut41124 = false, _mut41125 = false, _mut41126 = false, _mut41127 = false, _mut41128 = false, _mut41129 = false, _mut41130 = false, _mut41131 = false, _mut41132 = false, _mut41133 = false, _mut41134 = false, _mut41135 = false, _mut41136 = false, _mut41137 = false, _mut41138 = false, _mut41139 = false, _mut41140 = false, _mut41141 = false, _mut41142 = false, _mut41143 = false, _mut41144 = false, _mut41145 = false, _mut41146 = false, _mut41147 = false, _mut41148 = false, _mut41149 = false, _mut41150 = false, _mut41151 = false, _mut41152 = false, _mut41153 = false, _mut41154 = false, _mut41155 = false, _mut41156 = false, _mut41157 = false, _mut41158 = false, _mut41159 = false, _mut41160 = false, _mut41161 = false, _mut41162 = false, _mut41163 = false, _mut41164 = false, _mut41165 = false, _mut41166 = false, _mut41167 = false, _mut41168 = false, _mut41169 = false, _mut41170 = false, _mut41171 = false, _mut41172 = false, _mut41173 = false, _mut41174 = false, _mut41175 = false, _mut41176 = false, _mut41177 = false, _mut41178 = false, _mut41179 = false, _mut41180 = false, _mut41181 = false, _mut41182 = false, _mut41183 = false, _mut41184 = false, _mut41185 = false, _mut41186 = false, _mut41187 = false, _mut41188 = false, _mut41189 = false, _mut41190 = false, _mut41191 = false, _mut41192 = false, _mut41193 = false, _mut41194 = false, _mut41195 = false, _mut41196 = false, _mut41197 = false, _mut41198 = false, _mut41199 = false, _mut41200 = false, _mut41201 = false, _mut41202 = false, _mut41203 = false, _mut41204 = false, _mut41205 = false, _mut41206 = false, _mut41207 = false, _mut41208 = false, _mut41209 = false, _mut41210 = false, _mut41211 = false, _mut41212 = false, _mut41213 = false, _mut41214 = false, _mut41215 = false, _mut41216 = false, _mut41217 = false, _mut41218 = false, _mut41219 = false, _mut41220 = false, _mut41221 = false, _mut41222 = false, _mut41223 = false, _mut41224 = false, _mut41225 = false, _mut41226 = false, _mut41227 = false, _mut41228 = false, _mut41229 = false, _mut41230 = false, _mut41231 = false, _mut41232 = false, _mut41233 = false, _mut41234 = false, _mut41235 = false, _mut41236 = false, _mut41237 = false, _mut41238 = false, _mut41239 = false, _mut41240 = false, _mut41241 = false, _mut41242 = false, _mut41243 = false, _mut41244 = false, _mut41245 = false, _mut41246 = false, _mut41247 = false, _mut41248 = false, _mut41249 = false, _mut41250 = false, _mut41251 = false, _mut41252 = false, _mut41253 = false, _mut41254 = false, _mut41255 = false, _mut41256 = false, _mut41257 = false, _mut41258 = false, _mut41259 = false, _mut41260 = false, _mut41261 = false, _mut41262 = false, _mut41263 = false, _mut41264 = false, _mut41265 = false, _mut41266 = false, _mut41267 = false, _mut41268 = false, _mut41269 = false, _mut41270 = false, _mut41271 = false, _mut41272 = false, _mut41273 = false, _mut41274 = false, _mut41275 = false, _mut41276 = false, _mut41277 = false, _mut41278 = false, _mut41279 = false, _mut41280 = false, _mut41281 = false, _mut41282 = false, _mut41283 = false, _mut41284 = false, _mut41285 = false, _mut41286 = false, _mut41287 = false, _mut41288 = false, _mut41289 = false, _mut41290 = false, _mut41291 = false, _mut41292 = false, _mut41293 = false, _mut41294 = false, _mut41295 = false, _mut41296 = false, _mut41297 = false, _mut41298 = false, _mut41299 = false, _mut41300 = false, _mut41301 = false, _mut41302 = false, _mut41303 = false, _mut41304 = false, _mut41305 = false, _mut41306 = false, _mut41307 = false, _mut41308 = false, _mut41309 = false, _mut41310 = false, _mut41311 = false, _mut41312 = false, _mut41313 = false, _mut41314 = false, _mut41315 = false, _mut41316 = false, _mut41317 = false, _mut41318 = false, _mut41319 = false, _mut41320 = false, _mut41321 = false, _mut41322 = false, _mut41323 = false, _mut41324 = false, _mut41325 = false, _mut41326 = false, _mut41327 = false, _mut41328 = false, _mut41329 = false, _mut41330 = false, _mut41331 = false, _mut41332 = false, _mut41333 = false, _mut41334 = false, _mut41335 = false, _mut41336 = false, _mut41337 = false, _mut41338 = false, _mut41339 = false, _mut41340 = false, _mut41341 = false, _mut41342 = false, _mut41343 = false, _mut41344 = false, _mut41345 = false, _mut41346 = false, _mut41347 = false, _mut41348 = false, _mut41349 = false, _mut41350 = false, _mut41351 = false, _mut41352 = false, _mut41353 = false, _mut41354 = false, _mut41355 = false, _mut41356 = false, _mut41357 = false, _mut41358 = false, _mut41359 = false, _mut41360 = false, _mut41361 = false, _mut41362 = false, _mut41363 = false, _mut41364 = false, _mut41365 = false, _mut41366 = false, _mut41367 = false, _mut41368 = false, _mut41369 = false, _mut41370 = false, _mut41371 = false, _mut41372 = false, _mut41373 = false, _mut41374 = false, _mut41375 = false, _mut41376 = false, _mut41377 = false, _mut41378 = false, _mut41379 = false, _mut41380 = false, _mut41381 = false, _mut41382 = false, _mut41383 = false, _mut41384 = false, _mut41385 = false, _mut41386 = false, _mut41387 = false, _mut41388 = false, _mut41389 = false, _mut41390 = false, _mut41391 = false, _mut41392 = false, _mut41393 = false, _mut41394 = false, _mut41395 = false, _mut41396 = false, _mut41397 = false, _mut41398 = false, _mut41399 = false, _mut41400 = false, _mut41401 = false, _mut41402 = false, _mut41403 = false, _mut41404 = false, _mut41405 = false, _mut41406 = false, _mut41407 = false, _mut41408 = false, _mut41409 = false, _mut41410 = false, _mut41411 = false, _mut41412 = false, _mut41413 = false, _mut41414 = false, _mut41415 = false, _mut41416 = false, _mut41417 = false, _mut41418 = false, _mut41419 = false, _mut41420 = false, _mut41421 = false, _mut41422 = false, _mut41423 = false, _mut41424 = false, _mut41425 = false, _mut41426 = false, _mut41427 = false, _mut41428 = false, _mut41429 = false, _mut41430 = false, _mut41431 = false, _mut41432 = false, _mut41433 = false, _mut41434 = false, _mut41435 = false, _mut41436 = false, _mut41437 = false, _mut41438 = false, _mut41439 = false, _mut41440 = false, _mut41441 = false, _mut41442 = false, _mut41443 = false, _mut41444 = false, _mut41445 = false, _mut41446 = false, _mut41447 = false, _mut41448 = false, _mut41449 = false, _mut41450 = false, _mut41451 = false, _mut41452 = false, _mut41453 = false, _mut41454 = false, _mut41455 = false, _mut41456 = false, _mut41457 = false, _mut41458 = false, _mut41459 = false, _mut41460 = false, _mut41461 = false, _mut41462 = false, _mut41463 = false, _mut41464 = false, _mut41465 = false, _mut41466 = false, _mut41467 = false, _mut41468 = false, _mut41469 = false, _mut41470 = false, _mut41471 = false, _mut41472 = false, _mut41473 = false, _mut41474 = false, _mut41475 = false, _mut41476 = false, _mut41477 = false, _mut41478 = false, _mut41479 = false, _mut41480 = false, _mut41481 = false, _mut41482 = false, _mut41483 = false, _mut41484 = false, _mut41485 = false, _mut41486 = false, _mut41487 = false, _mut41488 = false, _mut41489 = false, _mut41490 = false, _mut41491 = false, _mut41492 = false, _mut41493 = false, _mut41494 = false, _mut41495 = false, _mut41496 = false, _mut41497 = false, _mut41498 = false, _mut41499 = false, _mut41500 = false, _mut41501 = false, _mut41502 = false, _mut41503 = false, _mut41504 = false, _mut41505 = false, _mut41506 = false, _mut41507 = false, _mut41508 = false, _mut41509 = false, _mut41510 = false, _mut41511 = false, _mut41512 = false, _mut41513 = false, _mut41514 = false, _mut41515 = false, _mut41516 = false, _mut41517 = false, _mut41518 = false, _mut41519 = false, _mut41520 = false, _mut41521 = false, _mut41522 = false, _mut41523 = false, _mut41524 = false, _mut41525 = false, _mut41526 = false, _mut41527 = false, _mut41528 = false, _mut41529 = false, _mut41530 = false, _mut41531 = false, _mut41532 = false, _mut41533 = false, _mut41534 = false, _mut41535 = false, _mut41536 = false, _mut41537 = false, _mut41538 = false, _mut41539 = false, _mut41540 = false, _mut41541 = false, _mut41542 = false, _mut41543 = false, _mut41544 = false, _mut41545 = false, _mut41546 = false, _mut41547 = false, _mut41548 = false, _mut41549 = false, _mut41550 = false, _mut41551 = false, _mut41552 = false, _mut41553 = false, _mut41554 = false, _mut41555 = false, _mut41556 = false, _mut41557 = false, _mut41558 = false, _mut41559 = false, _mut41560 = false, _mut41561 = false, _mut41562 = false, _mut41563 = false, _mut41564 = false, _mut41565 = false, _mut41566 = false, _mut41567 = false, _mut41568 = false, _mut41569 = false, _mut41570 = false, _mut41571 = false, _mut41572 = false, _mut41573 = false, _mut41574 = false, _mut41575 = false, _mut41576 = false, _mut41577 = false, _mut41578 = false, _mut41579 = false, _mut41580 = false, _mut41581 = false, _mut41582 = false, _mut41583 = false, _mut41584 = false, _mut41585 = false, _mut41586 = false, _mut41587 = false, _mut41588 = false, _mut41589 = false, _mut41590 = false, _mut41591 = false, _mut41592 = false, _mut41593 = false, _mut41594 = false, _mut41595 = false, _mut41596 = false, _mut41597 = false, _mut41598 = false, _mut41599 = false, _mut41600 = false, _mut41601 = false, _mut41602 = false, _mut41603 = false, _mut41604 = false, _mut41605 = false, _mut41606 = false, _mut41607 = false, _mut41608 = false, _mut41609 = false, _mut41610 = false, _mut41611 = false, _mut41612 = false, _mut41613 = false, _mut41614 = false, _mut41615 = false, _mut41616 = false, _mut41617 = false, _mut41618 = false, _mut41619 = false, _mut41620 = false, _mut41621 = false, _mut41622 = false, _mut41623 = false, _mut41624 = false, _mut41625 = false, _mut41626 = false, _mut41627 = false, _mut41628 = false, _mut41629 = false, _mut41630 = false, _mut41631 = false, _mut41632 = false, _mut41633 = false, _mut41634 = false, _mut41635 = false, _mut41636 = false, _mut41637 = false, _mut41638 = false, _mut41639 = false, _mut41640 = false, _mut41641 = false, _mut41642 = false, _mut41643 = false, _mut41644 = false, _mut41645 = false, _mut41646 = false, _mut41647 = false, _mut41648 = false, _mut41649 = false, _mut41650 = false, _mut41651 = false, _mut41652 = false, _mut41653 = false, _mut41654 = false, _mut41655 = false, _mut41656 = false, _mut41657 = false, _mut41658 = false, _mut41659 = false, _mut41660 = false, _mut41661 = false, _mut41662 = false, _mut41663 = false, _mut41664 = false, _mut41665 = false, _mut41666 = false, _mut41667 = false, _mut41668 = false, _mut41669 = false, _mut41670 = false, _mut41671 = false, _mut41672 = false, _mut41673 = false, _mut41674 = false, _mut41675 = false, _mut41676 = false, _mut41677 = false, _mut41678 = false, _mut41679 = false, _mut41680 = false, _mut41681 = false, _mut41682 = false, _mut41683 = false, _mut41684 = false, _mut41685 = false, _mut41686 = false, _mut41687 = false, _mut41688 = false, _mut41689 = false, _mut41690 = false, _mut41691 = false, _mut41692 = false, _mut41693 = false, _mut41694 = false, _mut41695 = false, _mut41696 = false, _mut41697 = false, _mut41698 = false, _mut41699 = false, _mut41700 = false, _mut41701 = false, _mut41702 = false, _mut41703 = false, _mut41704 = false, _mut41705 = false, _mut41706 = false, _mut41707 = false, _mut41708 = false, _mut41709 = false, _mut41710 = false, _mut41711 = false, _mut41712 = false, _mut41713 = false, _mut41714 = false, _mut41715 = false, _mut41716 = false, _mut41717 = false, _mut41718 = false, _mut41719 = false, _mut41720 = false, _mut41721 = false, _mut41722 = false, _mut41723 = false, _mut41724 = false, _mut41725 = false, _mut41726 = false, _mut41727 = false, _mut41728 = false, _mut41729 = false, _mut41730 = false, _mut41731 = false, _mut41732 = false, _mut41733 = false, _mut41734 = false, _mut41735 = false, _mut41736 = false, _mut41737 = false, _mut41738 = false, _mut41739 = false, _mut41740 = false, _mut41741 = false, _mut41742 = false, _mut41743 = false, _mut41744 = false, _mut41745 = false, _mut41746 = false, _mut41747 = false, _mut41748 = false, _mut41749 = false, _mut41750 = false, _mut41751 = false, _mut41752 = false, _mut41753 = false, _mut41754 = false, _mut41755 = false, _mut41756 = false, _mut41757 = false, _mut41758 = false, _mut41759 = false, _mut41760 = false, _mut41761 = false, _mut41762 = false, _mut41763 = false, _mut41764 = false, _mut41765 = false, _mut41766 = false, _mut41767 = false, _mut41768 = false, _mut41769 = false, _mut41770 = false, _mut41771 = false, _mut41772 = false, _mut41773 = false, _mut41774 = false, _mut41775 = false, _mut41776 = false, _mut41777 = false, _mut41778 = false, _mut41779 = false, _mut41780 = false, _mut41781 = false, _mut41782 = false, _mut41783 = false, _mut41784 = false, _mut41785 = false, _mut41786 = false, _mut41787 = false, _mut41788 = false, _mut41789 = false, _mut41790 = false, _mut41791 = false, _mut41792 = false, _mut41793 = false, _mut41794 = false, _mut41795 = false, _mut41796 = false, _mut41797 = false, _mut41798 = false, _mut41799 = false, _mut41800 = false, _mut41801 = false, _mut41802 = false, _mut41803 = false, _mut41804 = false, _mut41805 = false, _mut41806 = false, _mut41807 = false, _mut41808 = false, _mut41809 = false, _mut41810 = false, _mut41811 = false, _mut41812 = false, _mut41813 = false, _mut41814 = false, _mut41815 = false, _mut41816 = false, _mut41817 = false, _mut41818 = false, _mut41819 = false, _mut41820 = false, _mut41821 = false, _mut41822 = false, _mut41823 = false, _mut41824 = false, _mut41825 = false, _mut41826 = false, _mut41827 = false, _mut41828 = false, _mut41829 = false, _mut41830 = false, _mut41831 = false, _mut41832 = false, _mut41833 = false, _mut41834 = false, _mut41835 = false, _mut41836 = false, _mut41837 = false, _mut41838 = false, _mut41839 = false, _mut41840 = false, _mut41841 = false, _mut41842 = false, _mut41843 = false, _mut41844 = false, _mut41845 = false, _mut41846 = false, _mut41847 = false, _mut41848 = false, _mut41849 = false, _mut41850 = false, _mut41851 = false, _mut41852 = false, _mut41853 = false, _mut41854 = false, _mut41855 = false, _mut41856 = false, _mut41857 = false, _mut41858 = false, _mut41859 = false, _mut41860 = false, _mut41861 = false, _mut41862 = false, _mut41863 = false, _mut41864 = false, _mut41865 = false, _mut41866 = false, _mut41867 = false, _mut41868 = false, _mut41869 = false, _mut41870 = false, _mut41871 = false, _mut41872 = false, _mut41873 = false, _mut41874 = false, _mut41875 = false, _mut41876 = false, _mut41877 = false, _mut41878 = false, _mut41879 = false, _mut41880 = false, _mut41881 = false, _mut41882 = false, _mut41883 = false, _mut41884 = false, _mut41885 = false, _mut41886 = false, _mut41887 = false, _mut41888 = false, _mut41889 = false, _mut41890 = false, _mut41891 = false, _mut41892 = false, _mut41893 = false, _mut41894 = false, _mut41895 = false, _mut41896 = false, _mut41897 = false, _mut41898 = false, _mut41899 = false, _mut41900 = false, _mut41901 = false, _mut41902 = false, _mut41903 = false, _mut41904 = false, _mut41905 = false, _mut41906 = false, _mut41907 = false, _mut41908 = false, _mut41909 = false, _mut41910 = false, _mut41911 = false, _mut41912 = false, _mut41913 = false, _mut41914 = false, _mut41915 = false, _mut41916 = false, _mut41917 = false, _mut41918 = false, _mut41919 = false, _mut41920 = false, _mut41921 = false, _mut41922 = false, _mut41923 = false, _mut41924 = false, _mut41925 = false, _mut41926 = false, _mut41927 = false, _mut41928 = false, _mut41929 = false, _mut41930 = false, _mut41931 = false, _mut41932 = false, _mut41933 = false, _mut41934 = false, _mut41935 = false, _mut41936 = false, _mut41937 = false, _mut41938 = false, _mut41939 = false, _mut41940 = false, _mut41941 = false, _mut41942 = false, _mut41943 = false, _mut41944 = false, _mut41945 = false, _mut41946 = false, _mut41947 = false, _mut41948 = false, _mut41949 = false, _mut41950 = false, _mut41951 = false, _mut41952 = false, _mut41953 = false, _mut41954 = false, _mut41955 = false, _mut41956 = false, _mut41957 = false, _mut41958 = false, _mut41959 = false, _mut41960 = false, _mut41961 = false, _mut41962 = false, _mut41963 = false, _mut41964 = false, _mut41965 = false, _mut41966 = false, _mut41967 = false, _mut41968 = false, _mut41969 = false, _mut41970 = false, _mut41971 = false, _mut41972 = false, _mut41973 = false, _mut41974 = false, _mut41975 = false, _mut41976 = false, _mut41977 = false, _mut41978 = false, _mut41979 = false, _mut41980 = false, _mut41981 = false, _mut41982 = false, _mut41983 = false, _mut41984 = false, _mut41985 = false, _mut41986 = false, _mut41987 = false, _mut41988 = false, _mut41989 = false, _mut41990 = false, _mut41991 = false, _mut41992 = false, _mut41993 = false, _mut41994 = false, _mut41995 = false, _mut41996 = false, _mut41997 = false, _mut41998 = false, _mut41999 = false, _mut42000 = false, _mut42001 = false, _mut42002 = false, _mut42003 = false, _mut42004 = false, _mut42005 = false, _mut42006 = false, _mut42007 = false, _mut42008 = false, _mut42009 = false, _mut42010 = false, _mut42011 = false, _mut42012 = false, _mut42013 = false, _mut42014 = false, _mut42015 = false, _mut42016 = false, _mut42017 = false, _mut42018 = false, _mut42019 = false, _mut42020 = false, _mut42021 = false, _mut42022 = false, _mut42023 = false, _mut42024 = false, _mut42025 = false, _mut42026 = false, _mut42027 = false, _mut42028 = false, _mut42029 = false, _mut42030 = false, _mut42031 = false, _mut42032 = false, _mut42033 = false, _mut42034 = false, _mut42035 = false, _mut42036 = false, _mut42037 = false, _mut42038 = false, _mut42039 = false, _mut42040 = false, _mut42041 = false, _mut42042 = false, _mut42043 = false, _mut42044 = false, _mut42045 = false, _mut42046 = false, _mut42047 = false, _mut42048 = false, _mut42049 = false, _mut42050 = false, _mut42051 = false, _mut42052 = false, _mut42053 = false, _mut42054 = false, _mut42055 = false, _mut42056 = false, _mut42057 = false, _mut42058 = false, _mut42059 = false, _mut42060 = false, _mut42061 = false, _mut42062 = false, _mut42063 = false, _mut42064 = false, _mut42065 = false, _mut42066 = false, _mut42067 = false, _mut42068 = false, _mut42069 = false, _mut42070 = false, _mut42071 = false, _mut42072 = false, _mut42073 = false, _mut42074 = false, _mut42075 = false, _mut42076 = false, _mut42077 = false, _mut42078 = false, _mut42079 = false, _mut42080 = false, _mut42081 = false, _mut42082 = false, _mut42083 = false, _mut42084 = false, _mut42085 = false, _mut42086 = false, _mut42087 = false, _mut42088 = false, _mut42089 = false, _mut42090 = false, _mut42091 = false, _mut42092 = false, _mut42093 = false, _mut42094 = false, _mut42095 = false, _mut42096 = false, _mut42097 = false, _mut42098 = false, _mut42099 = false, _mut42100 = false, _mut42101 = false, _mut42102 = false, _mut42103 = false, _mut42104 = false, _mut42105 = false, _mut42106 = false, _mut42107 = false, _mut42108 = false, _mut42109 = false, _mut42110 = false, _mut42111 = false, _mut42112 = false, _mut42113 = false, _mut42114 = false, _mut42115 = false, _mut42116 = false, _mut42117 = false, _mut42118 = false, _mut42119 = false, _mut42120 = false, _mut42121 = false, _mut42122 = false, _mut42123 = false, _mut42124 = false, _mut42125 = false, _mut42126 = false, _mut42127 = false, _mut42128 = false, _mut42129 = false, _mut42130 = false, _mut42131 = false, _mut42132 = false, _mut42133 = false, _mut42134 = false, _mut42135 = false, _mut42136 = false, _mut42137 = false, _mut42138 = false, _mut42139 = false, _mut42140 = false, _mut42141 = false, _mut42142 = false, _mut42143 = false, _mut42144 = false, _mut42145 = false, _mut42146 = false, _mut42147 = false, _mut42148 = false, _mut42149 = false, _mut42150 = false, _mut42151 = false, _mut42152 = false, _mut42153 = false, _mut42154 = false, _mut42155 = false, _mut42156 = false, _mut42157 = false, _mut42158 = false, _mut42159 = false, _mut42160 = false, _mut42161 = false, _mut42162 = false, _mut42163 = false, _mut42164 = false, _mut42165 = false, _mut42166 = false, _mut42167 = false, _mut42168 = false, _mut42169 = false, _mut42170 = false, _mut42171 = false, _mut42172 = false, _mut42173 = false, _mut42174 = false, _mut42175 = false, _mut42176 = false, _mut42177 = false, _mut42178 = false, _mut42179 = false, _mut42180 = false, _mut42181 = false, _mut42182 = false, _mut42183 = false, _mut42184 = false, _mut42185 = false, _mut42186 = false, _mut42187 = false, _mut42188 = false, _mut42189 = false, _mut42190 = false, _mut42191 = false, _mut42192 = false, _mut42193 = false, _mut42194 = false, _mut42195 = false, _mut42196 = false, _mut42197 = false, _mut42198 = false, _mut42199 = false, _mut42200 = false, _mut42201 = false, _mut42202 = false, _mut42203 = false, _mut42204 = false, _mut42205 = false, _mut42206 = false, _mut42207 = false, _mut42208 = false, _mut42209 = false, _mut42210 = false, _mut42211 = false, _mut42212 = false, _mut42213 = false, _mut42214 = false, _mut42215 = false, _mut42216 = false, _mut42217 = false, _mut42218 = false, _mut42219 = false, _mut42220 = false, _mut42221 = false, _mut42222 = false, _mut42223 = false, _mut42224 = false, _mut42225 = false, _mut42226 = false, _mut42227 = false, _mut42228 = false, _mut42229 = false, _mut42230 = false, _mut42231 = false, _mut42232 = false, _mut42233 = false, _mut42234 = false, _mut42235 = false, _mut42236 = false, _mut42237 = false, _mut42238 = false, _mut42239 = false, _mut42240 = false, _mut42241 = false, _mut42242 = false, _mut42243 = false, _mut42244 = false, _mut42245 = false, _mut42246 = false, _mut42247 = false, _mut42248 = false, _mut42249 = false, _mut42250 = false, _mut42251 = false, _mut42252 = false, _mut42253 = false, _mut42254 = false, _mut42255 = false, _mut42256 = false, _mut42257 = false, _mut42258 = false, _mut42259 = false, _mut42260 = false, _mut42261 = false, _mut42262 = false, _mut42263 = false, _mut42264 = false, _mut42265 = false, _mut42266 = false, _mut42267 = false, _mut42268 = false, _mut42269 = false, _mut42270 = false, _mut42271 = false, _mut42272 = false, _mut42273 = false, _mut42274 = false, _mut42275 = false, _mut42276 = false, _mut42277 = false, _mut42278 = false, _mut42279 = false, _mut42280 = false, _mut42281 = false, _mut42282 = false, _mut42283 = false, _mut42284 = false, _mut42285 = false, _mut42286 = false, _mut42287 = false, _mut42288 = false, _mut42289 = false, _mut42290 = false, _mut42291 = false, _mut42292 = false, _mut42293 = false, _mut42294 = false, _mut42295 = false, _mut42296 = false, _mut42297 = false, _mut42298 = false, _mut42299 = false, _mut42300 = false, _mut42301 = false, _mut42302 = false, _mut42303 = false, _mut42304 = false, _mut42305 = false, _mut42306 = false, _mut42307 = false, _mut42308 = false, _mut42309 = false, _mut42310 = false, _mut42311 = false, _mut42312 = false, _mut42313 = false, _mut42314 = false, _mut42315 = false, _mut42316 = false, _mut42317 = false, _mut42318 = false, _mut42319 = false, _mut42320 = false, _mut42321 = false, _mut42322 = false, _mut42323 = false, _mut42324 = false, _mut42325 = false, _mut42326 = false, _mut42327 = false, _mut42328 = false, _mut42329 = false, _mut42330 = false, _mut42331 = false, _mut42332 = false, _mut42333 = false, _mut42334 = false, _mut42335 = false, _mut42336 = false, _mut42337 = false, _mut42338 = false, _mut42339 = false, _mut42340 = false, _mut42341 = false, _mut42342 = false, _mut42343 = false, _mut42344 = false, _mut42345 = false, _mut42346 = false, _mut42347 = false, _mut42348 = false;
+    public static boolean _mut40908 = false, _mut40909 = false, _mut40910 = false, _mut40911 = false, _mut40912 = false, _mut40913 = false, _mut40914 = false, _mut40915 = false, _mut40916 = false, _mut40917 = false, _mut40918 = false, _mut40919 = false, _mut40920 = false, _mut40921 = false, _mut40922 = false, _mut40923 = false, _mut40924 = false, _mut40925 = false, _mut40926 = false, _mut40927 = false, _mut40928 = false, _mut40929 = false, _mut40930 = false, _mut40931 = false, _mut40932 = false, _mut40933 = false, _mut40934 = false, _mut40935 = false, _mut40936 = false, _mut40937 = false, _mut40938 = false, _mut40939 = false, _mut40940 = false, _mut40941 = false, _mut40942 = false, _mut40943 = false, _mut40944 = false, _mut40945 = false, _mut40946 = false, _mut40947 = false, _mut40948 = false, _mut40949 = false, _mut40950 = false, _mut40951 = false, _mut40952 = false, _mut40953 = false, _mut40954 = false, _mut40955 = false, _mut40956 = false, _mut40957 = false, _mut40958 = false, _mut40959 = false, _mut40960 = false, _mut40961 = false, _mut40962 = false, _mut40963 = false, _mut40964 = false, _mut40965 = false, _mut40966 = false, _mut40967 = false, _mut40968 = false, _mut40969 = false, _mut40970 = false, _mut40971 = false, _mut40972 = false, _mut40973 = false, _mut40974 = false, _mut40975 = false, _mut40976 = false, _mut40977 = false, _mut40978 = false, _mut40979 = false, _mut40980 = false, _mut40981 = false, _mut40982 = false, _mut40983 = false, _mut40984 = false, _mut40985 = false, _mut40986 = false, _mut40987 = false, _mut40988 = false, _mut40989 = false, _mut40990 = false, _mut40991 = false, _mut40992 = false, _mut40993 = false, _mut40994 = false, _mut40995 = false, _mut40996 = false, _mut40997 = false, _mut40998 = false, _mut40999 = false, _mut41000 = false, _mut41001 = false, _mut41002 = false, _mut41003 = false, _mut41004 = false, _mut41005 = false, _mut41006 = false, _mut41007 = false, _mut41008 = false, _mut41009 = false, _mut41010 = false, _mut41011 = false, _mut41012 = false, _mut41013 = false, _mut41014 = false, _mut41015 = false, _mut41016 = false, _mut41017 = false, _mut41018 = false, _mut41019 = false, _mut41020 = false, _mut41021 = false, _mut41022 = false, _mut41023 = false, _mut41024 = false, _mut41025 = false, _mut41026 = false, _mut41027 = false, _mut41028 = false, _mut41029 = false, _mut41030 = false, _mut41031 = false, _mut41032 = false, _mut41033 = false, _mut41034 = false, _mut41035 = false, _mut41036 = false, _mut41037 = false, _mut41038 = false, _mut41039 = false, _mut41040 = false, _mut41041 = false, _mut41042 = false, _mut41043 = false, _mut41044 = false, _mut41045 = false, _mut41046 = false, _mut41047 = false, _mut41048 = false, _mut41049 = false, _mut41050 = false, _mut41051 = false, _mut41052 = false, _mut41053 = false, _mut41054 = false, _mut41055 = false, _mut41056 = false, _mut41057 = false, _mut41058 = false, _mut41059 = false, _mut41060 = false, _mut41061 = false, _mut41062 = false, _mut41063 = false, _mut41064 = false, _mut41065 = false, _mut41066 = false, _mut41067 = false, _mut41068 = false, _mut41069 = false, _mut41070 = false, _mut41071 = false, _mut41072 = false, _mut41073 = false, _mut41074 = false, _mut41075 = false, _mut41076 = false, _mut41077 = false, _mut41078 = false, _mut41079 = false, _mut41080 = false, _mut41081 = false, _mut41082 = false, _mut41083 = false, _mut41084 = false, _mut41085 = false, _mut41086 = false, _mut41087 = false, _mut41088 = false, _mut41089 = false, _mut41090 = false, _mut41091 = false, _mut41092 = false, _mut41093 = false, _mut41094 = false, _mut41095 = false, _mut41096 = false, _mut41097 = false, _mut41098 = false, _mut41099 = false, _mut41100 = false, _mut41101 = false, _mut41102 = false, _mut41103 = false, _mut41104 = false, _mut41105 = false, _mut41106 = false, _mut41107 = false, _mut41108 = false, _mut41109 = false, _mut41110 = false, _mut41111 = false, _mut41112 = false, _mut41113 = false, _mut41114 = false, _mut41115 = false, _mut41116 = false, _mut41117 = false, _mut41118 = false, _mut41119 = false, _mut41120 = false, _mut41121 = false, _mut41122 = false, _mut41123 = false, _mut41124 = false, _mut41125 = false, _mut41126 = false, _mut41127 = false, _mut41128 = false, _mut41129 = false, _mut41130 = false, _mut41131 = false, _mut41132 = false, _mut41133 = false, _mut41134 = false, _mut41135 = false, _mut41136 = false, _mut41137 = false, _mut41138 = false, _mut41139 = false, _mut41140 = false, _mut41141 = false, _mut41142 = false, _mut41143 = false, _mut41144 = false, _mut41145 = false, _mut41146 = false, _mut41147 = false, _mut41148 = false, _mut41149 = false, _mut41150 = false, _mut41151 = false, _mut41152 = false, _mut41153 = false, _mut41154 = false, _mut41155 = false, _mut41156 = false, _mut41157 = false, _mut41158 = false, _mut41159 = false, _mut41160 = false, _mut41161 = false, _mut41162 = false, _mut41163 = false, _mut41164 = false, _mut41165 = false, _mut41166 = false, _mut41167 = false, _mut41168 = false, _mut41169 = false, _mut41170 = false, _mut41171 = false, _mut41172 = false, _mut41173 = false, _mut41174 = false, _mut41175 = false, _mut41176 = false, _mut41177 = false, _mut41178 = false, _mut41179 = false, _mut41180 = false, _mut41181 = false, _mut41182 = false, _mut41183 = false, _mut41184 = false, _mut41185 = false, _mut41186 = false, _mut41187 = false, _mut41188 = false, _mut41189 = false, _mut41190 = false, _mut41191 = false, _mut41192 = false, _mut41193 = false, _mut41194 = false, _mut41195 = false, _mut41196 = false, _mut41197 = false, _mut41198 = false, _mut41199 = false, _mut41200 = false, _mut41201 = false, _mut41202 = false, _mut41203 = false, _mut41204 = false, _mut41205 = false, _mut41206 = false, _mut41207 = false, _mut41208 = false, _mut41209 = false, _mut41210 = false, _mut41211 = false, _mut41212 = false, _mut41213 = false, _mut41214 = false, _mut41215 = false, _mut41216 = false, _mut41217 = false, _mut41218 = false, _mut41219 = false, _mut41220 = false, _mut41221 = false, _mut41222 = false, _mut41223 = false, _mut41224 = false, _mut41225 = false, _mut41226 = false, _mut41227 = false, _mut41228 = false, _mut41229 = false, _mut41230 = false, _mut41231 = false, _mut41232 = false, _mut41233 = false, _mut41234 = false, _mut41235 = false, _mut41236 = false, _mut41237 = false, _mut41238 = false, _mut41239 = false, _mut41240 = false, _mut41241 = false, _mut41242 = false, _mut41243 = false, _mut41244 = false, _mut41245 = false, _mut41246 = false, _mut41247 = false, _mut41248 = false, _mut41249 = false, _mut41250 = false, _mut41251 = false, _mut41252 = false, _mut41253 = false, _mut41254 = false, _mut41255 = false, _mut41256 = false, _mut41257 = false, _mut41258 = false, _mut41259 = false, _mut41260 = false, _mut41261 = false, _mut41262 = false, _mut41263 = false, _mut41264 = false, _mut41265 = false, _mut41266 = false, _mut41267 = false, _mut41268 = false, _mut41269 = false, _mut41270 = false, _mut41271 = false, _mut41272 = false, _mut41273 = false, _mut41274 = false, _mut41275 = false, _mut41276 = false, _mut41277 = false, _mut41278 = false, _mut41279 = false, _mut41280 = false, _mut41281 = false, _mut41282 = false, _mut41283 = false, _mut41284 = false, _mut41285 = false, _mut41286 = false, _mut41287 = false, _mut41288 = false, _mut41289 = false, _mut41290 = false, _mut41291 = false, _mut41292 = false, _mut41293 = false, _mut41294 = false, _mut41295 = false, _mut41296 = false, _mut41297 = false, _mut41298 = false, _mut41299 = false, _mut41320 = false, _mut41321 = false, _mut41322 = false, _mut41323 = false, _mut41324 = false, _mut41325 = false, _mut41326 = false, _mut41327 = false, _mut41328 = false, _mut41329 = false, _mut41330 = false, _mut41331 = false, _mut41332 = false, _mut41333 = false, _mut41334 = false, _mut41335 = false, _mut41336 = false, _mut41337 = false, _mut41338 = false, _mut41339 = false, _mut41340 = false, _mut41341 = false, _mut41342 = false, _mut41343 = false, _mut41344 = false, _mut41345 = false, _mut41346 = false, _mut41347 = false, _mut41348 = false, _mut41349 = false, _mut41350 = false, _mut41351 = false, _mut41352 = false, _mut41353 = false, _mut41354 = false, _mut41355 = false, _mut41356 = false, _mut41357 = false, _mut41358 = false, _mut41359 = false, _mut41360 = false, _mut41361 = false, _mut41362 = false, _mut41363 = false, _mut41364 = false, _mut41365 = false, _mut41366 = false, _mut41367 = false, _mut41368 = false, _mut41369 = false, _mut41370 = false, _mut41371 = false, _mut41372 = false, _mut41373 = false, _mut41374 = false, _mut41375 = false, _mut41376 = false, _mut41377 = false, _mut41378 = false, _mut41379 = false, _mut41380 = false, _mut41381 = false, _mut41382 = false, _mut41383 = false, _mut41384 = false, _mut41385 = false, _mut41386 = false, _mut41387 = false, _mut41388 = false, _mut41389 = false, _mut41390 = false, _mut41391 = false, _mut41392 = false, _mut41393 = false, _mut41394 = false, _mut41395 = false, _mut41396 = false, _mut41397 = false, _mut41398 = false, _mut41399 = false, _mut41400 = false, _mut41401 = false, _mut41402 = false, _mut41403 = false, _mut41404 = false, _mut41405 = false, _mut41406 = false, _mut41407 = false, _mut41408 = false, _mut41409 = false, _mut41410 = false, _mut41411 = false, _mut41412 = false, _mut41413 = false, _mut41414 = false, _mut41415 = false, _mut41416 = false, _mut41417 = false, _mut41418 = false, _mut41419 = false, _mut41420 = false, _mut41421 = false, _mut41422 = false, _mut41423 = false, _mut41424 = false, _mut41425 = false, _mut41426 = false, _mut41427 = false, _mut41428 = false, _mut41429 = false, _mut41430 = false, _mut41431 = false, _mut41432 = false, _mut41433 = false, _mut41434 = false, _mut41435 = false, _mut41436 = false, _mut41437 = false, _mut41438 = false, _mut41439 = false, _mut41440 = false, _mut41441 = false, _mut41442 = false, _mut41443 = false, _mut41444 = false, _mut41445 = false, _mut41446 = false, _mut41447 = false, _mut41448 = false, _mut41449 = false, _mut41450 = false, _mut41451 = false, _mut41452 = false, _mut41453 = false, _mut41454 = false, _mut41455 = false, _mut41456 = false, _mut41457 = false, _mut41458 = false, _mut41459 = false, _mut41460 = false, _mut41461 = false, _mut41462 = false, _mut41463 = false, _mut41464 = false, _mut41465 = false, _mut41466 = false, _mut41467 = false, _mut41468 = false, _mut41469 = false, _mut41470 = false, _mut41471 = false, _mut41472 = false, _mut41473 = false, _mut41474 = false, _mut41475 = false, _mut41476 = false, _mut41477 = false, _mut41478 = false, _mut41479 = false, _mut41480 = false, _mut41481 = false, _mut41482 = false, _mut41483 = false, _mut41484 = false, _mut41485 = false, _mut41486 = false, _mut41487 = false, _mut41488 = false, _mut41489 = false, _mut41490 = false, _mut41491 = false, _mut41492 = false, _mut41493 = false, _mut41494 = false, _mut41495 = false, _mut41496 = false, _mut41497 = false, _mut41498 = false, _mut41499 = false, _mut41500 = false, _mut41501 = false, _mut41502 = false, _mut41503 = false, _mut41504 = false, _mut41505 = false, _mut41506 = false, _mut41507 = false, _mut41508 = false, _mut41509 = false, _mut41510 = false, _mut41511 = false, _mut41512 = false, _mut41513 = false, _mut41514 = false, _mut41515 = false, _mut41516 = false, _mut41517 = false, _mut41518 = false, _mut41519 = false, _mut41520 = false, _mut41521 = false, _mut41522 = false, _mut41523 = false, _mut41524 = false, _mut41525 = false, _mut41526 = false, _mut41527 = false, _mut41528 = false, _mut41529 = false, _mut41530 = false, _mut41531 = false, _mut41532 = false, _mut41533 = false, _mut41534 = false, _mut41535 = false, _mut41536 = false, _mut41537 = false, _mut41538 = false, _mut41539 = false, _mut41540 = false, _mut41541 = false, _mut41542 = false, _mut41543 = false, _mut41544 = false, _mut41545 = false, _mut41546 = false, _mut41547 = false, _mut41548 = false, _mut41549 = false, _mut41550 = false, _mut41551 = false, _mut41552 = false, _mut41553 = false, _mut41554 = false, _mut41555 = false, _mut41556 = false, _mut41557 = false, _mut41558 = false, _mut41559 = false, _mut41560 = false, _mut41561 = false, _mut41562 = false, _mut41563 = false, _mut41564 = false, _mut41565 = false, _mut41566 = false, _mut41567 = false, _mut41568 = false, _mut41569 = false, _mut41570 = false, _mut41571 = false, _mut41572 = false, _mut41573 = false, _mut41574 = false, _mut41575 = false, _mut41576 = false, _mut41577 = false, _mut41578 = false, _mut41579 = false, _mut41580 = false, _mut41581 = false, _mut41582 = false, _mut41583 = false, _mut41584 = false, _mut41585 = false, _mut41586 = false, _mut41587 = false, _mut41588 = false, _mut41589 = false, _mut41590 = false, _mut41591 = false, _mut41592 = false, _mut41593 = false, _mut41594 = false, _mut41595 = false, _mut41596 = false, _mut41597 = false, _mut41598 = false, _mut41599 = false, _mut41600 = false, _mut41601 = false, _mut41602 = false, _mut41603 = false, _mut41604 = false, _mut41605 = false, _mut41606 = false, _mut41607 = false, _mut41608 = false, _mut41609 = false, _mut41610 = false, _mut41611 = false, _mut41612 = false, _mut41613 = false, _mut41614 = false, _mut41615 = false, _mut41616 = false, _mut41617 = false, _mut41618 = false, _mut41619 = false, _mut41620 = false, _mut41621 = false, _mut41622 = false, _mut41623 = false, _mut41624 = false, _mut41625 = false, _mut41626 = false, _mut41627 = false, _mut41628 = false, _mut41629 = false, _mut41630 = false, _mut41631 = false, _mut41632 = false, _mut41633 = false, _mut41634 = false, _mut41635 = false, _mut41636 = false, _mut41637 = false, _mut41638 = false, _mut41639 = false, _mut41640 = false, _mut41641 = false, _mut41642 = false, _mut41643 = false, _mut41644 = false, _mut41645 = false, _mut41646 = false, _mut41647 = false, _mut41648 = false, _mut41649 = false, _mut41650 = false, _mut41651 = false, _mut41652 = false, _mut41653 = false, _mut41654 = false, _mut41655 = false, _mut41656 = false, _mut41657 = false, _mut41658 = false, _mut41659 = false, _mut41660 = false, _mut41661 = false, _mut41662 = false, _mut41663 = false, _mut41664 = false, _mut41665 = false, _mut41666 = false, _mut41667 = false, _mut41668 = false, _mut41669 = false, _mut41670 = false, _mut41671 = false, _mut41672 = false, _mut41673 = false, _mut41674 = false, _mut41675 = false, _mut41676 = false, _mut41677 = false, _mut41678 = false, _mut41679 = false, _mut41680 = false, _mut41681 = false, _mut41682 = false, _mut41683 = false, _mut41684 = false, _mut41685 = false, _mut41686 = false, _mut41687 = false, _mut41688 = false, _mut41689 = false, _mut41690 = false, _mut41691 = false, _mut41692 = false, _mut41693 = false, _mut41694 = false, _mut41695 = false, _mut41696 = false, _mut41697 = false, _mut41698 = false, _mut41699 = false, _mut41700 = false, _mut41701 = false, _mut41702 = false, _mut41703 = false, _mut41704 = false, _mut41705 = false, _mut41706 = false, _mut41707 = false, _mut41708 = false, _mut41709 = false, _mut41710 = false, _mut41711 = false, _mut41712 = false, _mut41713 = false, _mut41714 = false, _mut41715 = false, _mut41716 = false, _mut41717 = false, _mut41718 = false, _mut41719 = false, _mut41720 = false, _mut41721 = false, _mut41722 = false, _mut41723 = false, _mut41724 = false, _mut41725 = false, _mut41726 = false, _mut41727 = false, _mut41728 = false, _mut41729 = false, _mut41730 = false, _mut41731 = false, _mut41732 = false, _mut41733 = false, _mut41734 = false, _mut41735 = false, _mut41736 = false, _mut41737 = false, _mut41738 = false, _mut41739 = false, _mut41740 = false, _mut41741 = false, _mut41742 = false, _mut41743 = false, _mut41744 = false, _mut41745 = false, _mut41746 = false, _mut41747 = false, _mut41748 = false, _mut41749 = false, _mut41750 = false, _mut41751 = false, _mut41752 = false, _mut41753 = false, _mut41754 = false, _mut41755 = false, _mut41756 = false, _mut41757 = false, _mut41758 = false, _mut41759 = false, _mut41760 = false, _mut41761 = false, _mut41762 = false, _mut41763 = false, _mut41764 = false, _mut41765 = false, _mut41766 = false, _mut41767 = false, _mut41768 = false, _mut41769 = false, _mut41770 = false, _mut41771 = false, _mut41772 = false, _mut41773 = false, _mut41774 = false, _mut41775 = false, _mut41776 = false, _mut41777 = false, _mut41778 = false, _mut41779 = false, _mut41780 = false, _mut41781 = false, _mut41782 = false, _mut41783 = false, _mut41784 = false, _mut41785 = false, _mut41786 = false, _mut41787 = false, _mut41788 = false, _mut41789 = false, _mut41790 = false, _mut41791 = false, _mut41792 = false, _mut41793 = false, _mut41794 = false, _mut41795 = false, _mut41796 = false, _mut41797 = false, _mut41798 = false, _mut41799 = false, _mut41800 = false, _mut41801 = false, _mut41802 = false, _mut41803 = false, _mut41804 = false, _mut41805 = false, _mut41806 = false, _mut41807 = false, _mut41808 = false, _mut41809 = false, _mut41810 = false, _mut41811 = false, _mut41812 = false, _mut41813 = false, _mut41814 = false, _mut41815 = false, _mut41816 = false, _mut41817 = false, _mut41818 = false, _mut41819 = false, _mut41820 = false, _mut41821 = false, _mut41822 = false, _mut41823 = false, _mut41824 = false, _mut41825 = false, _mut41826 = false, _mut41827 = false, _mut41828 = false, _mut41829 = false, _mut41830 = false, _mut41831 = false, _mut41832 = false, _mut41833 = false, _mut41834 = false, _mut41835 = false, _mut41836 = false, _mut41837 = false, _mut41838 = false, _mut41839 = false, _mut41840 = false, _mut41841 = false, _mut41842 = false, _mut41843 = false, _mut41844 = false, _mut41845 = false, _mut41846 = false, _mut41847 = false, _mut41848 = false, _mut41849 = false, _mut41850 = false, _mut41851 = false, _mut41852 = false, _mut41853 = false, _mut41854 = false, _mut41855 = false, _mut41856 = false, _mut41857 = false, _mut41858 = false, _mut41859 = false, _mut41860 = false, _mut41861 = false, _mut41862 = false, _mut41863 = false, _mut41864 = false, _mut41865 = false, _mut41866 = false, _mut41867 = false, _mut41868 = false, _mut41869 = false, _mut41870 = false, _mut41871 = false, _mut41872 = false, _mut41873 = false, _mut41874 = false, _mut41875 = false, _mut41876 = false, _mut41877 = false, _mut41878 = false, _mut41879 = false, _mut41880 = false, _mut41881 = false, _mut41882 = false, _mut41883 = false, _mut41884 = false, _mut41885 = false, _mut41886 = false, _mut41887 = false, _mut41888 = false, _mut41889 = false, _mut41890 = false, _mut41891 = false, _mut41892 = false, _mut41893 = false, _mut41894 = false, _mut41895 = false, _mut41896 = false, _mut41897 = false, _mut41898 = false, _mut41899 = false, _mut41900 = false, _mut41901 = false, _mut41902 = false, _mut41903 = false, _mut41904 = false, _mut41905 = false, _mut41906 = false, _mut41907 = false, _mut41908 = false, _mut41909 = false, _mut41910 = false, _mut41911 = false, _mut41912 = false, _mut41913 = false, _mut41914 = false, _mut41915 = false, _mut41916 = false, _mut41917 = false, _mut41918 = false, _mut41919 = false, _mut41920 = false, _mut41921 = false, _mut41922 = false, _mut41923 = false, _mut41924 = false, _mut41925 = false, _mut41926 = false, _mut41927 = false, _mut41928 = false, _mut41929 = false, _mut41930 = false, _mut41931 = false, _mut41932 = false, _mut41933 = false, _mut41934 = false, _mut41935 = false, _mut41936 = false, _mut41937 = false, _mut41938 = false, _mut41939 = false, _mut41940 = false, _mut41941 = false, _mut41942 = false, _mut41943 = false, _mut41944 = false, _mut41945 = false, _mut41946 = false, _mut41947 = false, _mut41948 = false, _mut41949 = false, _mut41950 = false, _mut41951 = false, _mut41952 = false, _mut41953 = false, _mut41954 = false, _mut41955 = false, _mut41956 = false, _mut41957 = false, _mut41958 = false, _mut41959 = false, _mut41960 = false, _mut41961 = false, _mut41962 = false, _mut41963 = false, _mut41964 = false, _mut41965 = false, _mut41966 = false, _mut41967 = false, _mut41968 = false, _mut41969 = false, _mut41970 = false, _mut41971 = false, _mut41972 = false, _mut41973 = false, _mut41974 = false, _mut41975 = false, _mut41976 = false, _mut41977 = false, _mut41978 = false, _mut41979 = false, _mut41980 = false, _mut41981 = false, _mut41982 = false, _mut41983 = false, _mut41984 = false, _mut41985 = false, _mut41986 = false, _mut41987 = false, _mut41988 = false, _mut41989 = false, _mut41990 = false, _mut41991 = false, _mut41992 = false, _mut41993 = false, _mut41994 = false, _mut41995 = false, _mut41996 = false, _mut41997 = false, _mut41998 = false, _mut41999 = false, _mut42000 = false, _mut42001 = false, _mut42002 = false, _mut42003 = false, _mut42004 = false, _mut42005 = false, _mut42006 = false, _mut42007 = false, _mut42008 = false, _mut42009 = false, _mut42010 = false, _mut42011 = false, _mut42012 = false, _mut42013 = false, _mut42014 = false, _mut42015 = false, _mut42016 = false, _mut42017 = false, _mut42018 = false, _mut42019 = false, _mut42020 = false, _mut42021 = false, _mut42022 = false, _mut42023 = false, _mut42024 = false, _mut42025 = false, _mut42026 = false, _mut42027 = false, _mut42028 = false, _mut42029 = false, _mut42030 = false, _mut42031 = false, _mut42032 = false, _mut42033 = false, _mut42034 = false, _mut42035 = false, _mut42036 = false, _mut42037 = false, _mut42038 = false, _mut42039 = false, _mut42040 = false, _mut42041 = false, _mut42042 = false, _mut42043 = false, _mut42044 = false, _mut42045 = false, _mut42046 = false, _mut42047 = false, _mut42048 = false, _mut42049 = false, _mut42050 = false, _mut42051 = false, _mut42052 = false, _mut42053 = false, _mut42054 = false, _mut42055 = false, _mut42056 = false, _mut42057 = false, _mut42058 = false, _mut42059 = false, _mut42060 = false, _mut42061 = false, _mut42062 = false, _mut42063 = false, _mut42064 = false, _mut42065 = false, _mut42066 = false, _mut42067 = false, _mut42068 = false, _mut42069 = false, _mut42070 = false, _mut42071 = false, _mut42072 = false, _mut42073 = false, _mut42074 = false, _mut42075 = false, _mut42076 = false, _mut42077 = false, _mut42078 = false, _mut42079 = false, _mut42080 = false, _mut42081 = false, _mut42082 = false, _mut42083 = false, _mut42084 = false, _mut42085 = false, _mut42086 = false, _mut42087 = false, _mut42088 = false, _mut42089 = false, _mut42090 = false, _mut42091 = false, _mut42092 = false, _mut42093 = false, _mut42094 = false, _mut42095 = false, _mut42096 = false, _mut42097 = false, _mut42098 = false, _mut42099 = false, _mut42100 = false, _mut42101 = false, _mut42102 = false, _mut42103 = false, _mut42104 = false, _mut42105 = false, _mut42106 = false, _mut42107 = false, _mut42108 = false, _mut42109 = false, _mut42110 = false, _mut42111 = false, _mut42112 = false, _mut42113 = false, _mut42114 = false, _mut42115 = false, _mut42116 = false, _mut42117 = false, _mut42118 = false, _mut42119 = false, _mut42120 = false, _mut42121 = false, _mut42122 = false, _mut42123 = false, _mut42124 = false, _mut42125 = false, _mut42126 = false, _mut42127 = false, _mut42128 = false, _mut42129 = false, _mut42130 = false, _mut42131 = false, _mut42132 = false, _mut42133 = false, _mut42134 = false, _mut42135 = false, _mut42136 = false, _mut42137 = false, _mut42138 = false, _mut42139 = false, _mut42140 = false, _mut42141 = false, _mut42142 = false, _mut42143 = false, _mut42144 = false, _mut42145 = false, _mut42146 = false, _mut42147 = false, _mut42148 = false, _mut42149 = false, _mut42150 = false, _mut42151 = false, _mut42152 = false, _mut42153 = false, _mut42154 = false, _mut42155 = false, _mut42156 = false, _mut42157 = false, _mut42158 = false, _mut42159 = false, _mut42160 = false, _mut42161 = false, _mut42162 = false, _mut42163 = false, _mut42164 = false, _mut42165 = false, _mut42166 = false, _mut42167 = false, _mut42168 = false, _mut42169 = false, _mut42170 = false, _mut42171 = false, _mut42172 = false, _mut42173 = false, _mut42174 = false, _mut42175 = false, _mut42176 = false, _mut42177 = false, _mut42178 = false, _mut42179 = false, _mut42180 = false, _mut42181 = false, _mut42182 = false, _mut42183 = false, _mut42184 = false, _mut42185 = false, _mut42186 = false, _mut42187 = false, _mut42188 = false, _mut42189 = false, _mut42190 = false, _mut42191 = false, _mut42192 = false, _mut42193 = false, _mut42194 = false, _mut42195 = false, _mut42196 = false, _mut42197 = false, _mut42198 = false, _mut42199 = false, _mut42200 = false, _mut42201 = false, _mut42202 = false, _mut42203 = false, _mut42204 = false, _mut42205 = false, _mut42206 = false, _mut42207 = false, _mut42208 = false, _mut42209 = false, _mut42210 = false, _mut42211 = false, _mut42212 = false, _mut42213 = false, _mut42214 = false, _mut42215 = false, _mut42216 = false, _mut42217 = false, _mut42218 = false, _mut42219 = false, _mut42220 = false, _mut42221 = false, _mut42222 = false, _mut42223 = false, _mut42224 = false, _mut42225 = false, _mut42226 = false, _mut42227 = false, _mut42228 = false, _mut42229 = false, _mut42230 = false, _mut42231 = false, _mut42232 = false, _mut42233 = false, _mut42234 = false, _mut42235 = false, _mut42236 = false, _mut42237 = false, _mut42238 = false, _mut42239 = false, _mut42240 = false, _mut42241 = false, _mut42242 = false, _mut42243 = false, _mut42244 = false, _mut42245 = false, _mut42246 = false, _mut42247 = false, _mut42248 = false, _mut42249 = false, _mut42250 = false, _mut42251 = false, _mut42252 = false, _mut42253 = false, _mut42254 = false, _mut42255 = false, _mut42256 = false, _mut42257 = false, _mut42258 = false, _mut42259 = false, _mut42260 = false, _mut42261 = false, _mut42262 = false, _mut42263 = false, _mut42264 = false, _mut42265 = false, _mut42266 = false, _mut42267 = false, _mut42268 = false, _mut42269 = false, _mut42270 = false, _mut42271 = false, _mut42272 = false, _mut42273 = false, _mut42274 = false, _mut42275 = false, _mut42276 = false, _mut42277 = false, _mut42278 = false, _mut42279 = false, _mut42280 = false, _mut42281 = false, _mut42282 = false, _mut42283 = false, _mut42284 = false, _mut42285 = false, _mut42286 = false, _mut42287 = false, _mut42288 = false, _mut42289 = false, _mut42290 = false, _mut42291 = false, _mut42292 = false, _mut42293 = false, _mut42294 = false, _mut42295 = false, _mut42296 = false, _mut42297 = false, _mut42298 = false, _mut42299 = false, _mut42300 = false, _mut42301 = false, _mut42302 = false, _mut42303 = false, _mut42304 = false, _mut42305 = false, _mut42306 = false, _mut42307 = false, _mut42308 = false, _mut42309 = false, _mut42310 = false, _mut42311 = false, _mut42312 = false, _mut42313 = false, _mut42314 = false, _mut42315 = false, _mut42316 = false, _mut42317 = false, _mut42318 = false, _mut42319 = false, _mut42320 = false, _mut42321 = false, _mut42322 = false, _mut42323 = false, _mut42324 = false, _mut42325 = false, _mut42326 = false, _mut42327 = false, _mut42328 = false, _mut42329 = false, _mut42330 = false, _mut42331 = false, _mut42332 = false, _mut42333 = false, _mut42334 = false, _mut42335 = false, _mut42336 = false, _mut42337 = false, _mut42338 = false, _mut42339 = false, _mut42340 = false, _mut42341 = false, _mut42342 = false, _mut42343 = false, _mut42344 = false, _mut42345 = false, _mut42346 = false, _mut42347 = false, _mut42348 = false;
+
+    /**
+     * Length of the shortest sequence from which {@link #convolveFFT(double[], double[])}
+     * switches from the direct convolution sum to FFT.
+     * @since 3.7
+     */
+    public static final int CONVOLUTION_FFT_THRESHOLD = 64;
+
+    /** Length up to which {@link #sortInPlace(double[], double[][])} sorts by insertion. */
+    private static final int SORT_INSERTION_THRESHOLD = 32;
+
+    /** Number of bits per digit of the radix sort of {@link #sortInPlace(double[], double[][])}. */
+    private static final int SORT_RADIX_BITS = 8;
+
+    /** Mask for one digit of the radix sort of {@link #sortInPlace(double[], double[][])}. */
+    private static final int SORT_RADIX_MASK = (1 << SORT_RADIX_BITS) - 1;
+
+    /**
+     * Length of the blocks sorted by separate tasks in
+     * {@link #sortInPlace(double[], OrderDirection, ExecutorService, double[][])}.
+     */
+    private static final int PARALLEL_SORT_BLOCK_SIZE = 1 << 16;
+
+    /** Number of elements processed by each task of the methods using an executor service. */
+    private static final int BULK_BLOCK_SIZE = 1 << 14;
+
+    /** Element-by-element addition. */
+    private static final int EBE_ADD = 0;
+
+    /** Element-by-element subtraction. */
+    private static final int EBE_SUBTRACT = 1;
+
+    /** Element-by-element multiplication. */
+    private static final int EBE_MULTIPLY = 2;
+
+    /** Element-by-element division. */
+    private static final int EBE_DIVIDE = 3;
 
     /**
      * Private constructor.
@@ -138,6 +175,24 @@ public class MathArrays {
         return result;
     }
 
+    /**
+     * Stores the element-by-element addition of the arguments in
+     * a caller-provided array.
+     * <p>
+     * No array is allocated. The result array may be one of the arguments,
+     * in which case the operation is performed in place.
+     * </p>
+     *
+     * @param a First term of the addition.
+     * @param b Second term of the addition.
+     * @param result array where {@code result[i] = a[i] + b[i]} is stored.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeAdd(double[] a, double[] b, double[] result) throws DimensionMismatchException {
+        ebe(EBE_ADD, a, b, result, null);
+    }
+
     /**
      * Creates an array whose contents will be the element-by-element
      * subtraction of the second argument from the first.
@@ -159,6 +214,24 @@ public class MathArrays {
         return result;
     }
 
+    /**
+     * Stores the element-by-element subtraction of the second argument
+     * from the first in a caller-provided array.
+     * <p>
+     * No array is allocated. The result array may be one of the arguments,
+     * in which case the operation is performed in place.
+     * </p>
+     *
+     * @param a First term.
+     * @param b Element to be subtracted.
+     * @param result array where {@code result[i] = a[i] - b[i]} is stored.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeSubtract(double[] a, double[] b, double[] result) throws DimensionMismatchException {
+        ebe(EBE_SUBTRACT, a, b, result, null);
+    }
+
     /**
      * Creates an array whose contents will be the element-by-element
      * multiplication of the arguments.
@@ -180,6 +253,24 @@ public class MathArrays {
         return result;
     }
 
+    /**
+     * Stores the element-by-element multiplication of the arguments in
+     * a caller-provided array.
+     * <p>
+     * No array is allocated. The result array may be one of the arguments,
+     * in which case the operation is performed in place.
+     * </p>
+     *
+     * @param a First factor of the multiplication.
+     * @param b Second factor of the multiplication.
+     * @param result array where {@code result[i] = a[i] * b[i]} is stored.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeMultiply(double[] a, double[] b, double[] result) throws DimensionMismatchException {
+        ebe(EBE_MULTIPLY, a, b, result, null);
+    }
+
     /**
      * Creates an array whose contents will be the element-by-element
      * division of the first argument by the second.
@@ -201,6 +292,175 @@ public class MathArrays {
         return result;
     }
 
+    /**
+     * Stores the element-by-element division of the first argument by
+     * the second in a caller-provided array.
+     * <p>
+     * No array is allocated. The result array may be one of the arguments,
+     * in which case the operation is performed in place.
+     * </p>
+     *
+     * @param a Numerator of the division.
+     * @param b Denominator of the division.
+     * @param result array where {@code result[i] = a[i] / b[i]} is stored.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeDivide(double[] a, double[] b, double[] result) throws DimensionMismatchException {
+        ebe(EBE_DIVIDE, a, b, result, null);
+    }
+
+    /**
+     * Stores the element-by-element addition of the arguments in a caller-provided array, with tasks
+     * submitted to an executor service.
+     * <p>
+     * This method gives the same result as
+     * {@link #ebeAdd(double[], double[], double[])}: the arrays are split
+     * into blocks, each one processed by a separate task.
+     * </p>
+     *
+     * @param a First term of the addition.
+     * @param b Second term of the addition.
+     * @param result array where {@code result[i] = a[i] + b[i]} is stored.
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeAdd(double[] a, double[] b, double[] result, ExecutorService executor)
+        throws DimensionMismatchException {
+        ebe(EBE_ADD, a, b, result, executor);
+    }
+
+    /**
+     * Stores the element-by-element subtraction of the second argument
+     * from the first in a caller-provided array, with tasks
+     * submitted to an executor service.
+     * <p>
+     * This method gives the same result as
+     * {@link #ebeSubtract(double[], double[], double[])}: the arrays are split
+     * into blocks, each one processed by a separate task.
+     * </p>
+     *
+     * @param a First term.
+     * @param b Element to be subtracted.
+     * @param result array where {@code result[i] = a[i] - b[i]} is stored.
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeSubtract(double[] a, double[] b, double[] result, ExecutorService executor)
+        throws DimensionMismatchException {
+        ebe(EBE_SUBTRACT, a, b, result, executor);
+    }
+
+    /**
+     * Stores the element-by-element multiplication of the arguments in a caller-provided array, with tasks
+     * submitted to an executor service.
+     * <p>
+     * This method gives the same result as
+     * {@link #ebeMultiply(double[], double[], double[])}: the arrays are split
+     * into blocks, each one processed by a separate task.
+     * </p>
+     *
+     * @param a First factor of the multiplication.
+     * @param b Second factor of the multiplication.
+     * @param result array where {@code result[i] = a[i] * b[i]} is stored.
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeMultiply(double[] a, double[] b, double[] result, ExecutorService executor)
+        throws DimensionMismatchException {
+        ebe(EBE_MULTIPLY, a, b, result, executor);
+    }
+
+    /**
+     * Stores the element-by-element division of the first argument by
+     * the second in a caller-provided array, with tasks
+     * submitted to an executor service.
+     * <p>
+     * This method gives the same result as
+     * {@link #ebeDivide(double[], double[], double[])}: the arrays are split
+     * into blocks, each one processed by a separate task.
+     * </p>
+     *
+     * @param a Numerator of the division.
+     * @param b Denominator of the division.
+     * @param result array where {@code result[i] = a[i] / b[i]} is stored.
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread.
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static void ebeDivide(double[] a, double[] b, double[] result, ExecutorService executor)
+        throws DimensionMismatchException {
+        ebe(EBE_DIVIDE, a, b, result, executor);
+    }
+
+    /**
+     * Applies an element-by-element operation.
+     *
+     * @param operation operation to apply, one of {@link #EBE_ADD},
+     * {@link #EBE_SUBTRACT}, {@link #EBE_MULTIPLY} or {@link #EBE_DIVIDE}
+     * @param a first operand
+     * @param b second operand
+     * @param result array where the results are stored
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread
+     * @throws DimensionMismatchException if the array lengths differ.
+     */
+    private static void ebe(final int operation, final double[] a, final double[] b, final double[] result,
+                            final ExecutorService executor)
+        throws DimensionMismatchException {
+        checkEqualLength(a, b);
+        checkEqualLength(a, result);
+        runBlocks(a.length, BULK_BLOCK_SIZE, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                ebe(operation, a, b, result, from, to);
+            }
+        });
+    }
+
+    /**
+     * Applies an element-by-element operation over a range of elements.
+     *
+     * @param operation operation to apply, one of {@link #EBE_ADD},
+     * {@link #EBE_SUBTRACT}, {@link #EBE_MULTIPLY} or {@link #EBE_DIVIDE}
+     * @param a first operand
+     * @param b second operand
+     * @param result array where the results are stored
+     * @param from index of the first element
+     * @param to index after the last element
+     */
+    private static void ebe(final int operation, final double[] a, final double[] b, final double[] result,
+                            final int from, final int to) {
+        switch (operation) {
+        case EBE_ADD :
+            for (int i = from; i < to; i++) {
+                result[i] = a[i] + b[i];
+            }
+            break;
+        case EBE_SUBTRACT :
+            for (int i = from; i < to; i++) {
+                result[i] = a[i] - b[i];
+            }
+            break;
+        case EBE_MULTIPLY :
+            for (int i = from; i < to; i++) {
+                result[i] = a[i] * b[i];
+            }
+            break;
+        default :
+            for (int i = from; i < to; i++) {
+                result[i] = a[i] / b[i];
+            }
+        }
+    }
+
     /**
      * Calculates the L<sub>1</sub> (sum of abs) distance between two points.
      *
@@ -259,6 +519,47 @@ public class MathArrays {
         return FastMath.sqrt(sum);
     }
 
+    /**
+     * Calculates the L<sub>2</sub> (Euclidean) distance between two points,
+     * with tasks submitted to an executor service.
+     * <p>
+     * The squared differences are summed block by block, each block by a
+     * separate task, and the block sums are then added. The result does not
+     * depend on the executor, but it may differ in the last bits from the
+     * one of {@link #distance(double[], double[])}, which sums all the
+     * squares in order.
+     * </p>
+     *
+     * @param p1 the first point
+     * @param p2 the second point
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread
+     * @return the L<sub>2</sub> distance between the two points
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @since 3.7
+     */
+    public static double distance(final double[] p1, final double[] p2, final ExecutorService executor)
+        throws DimensionMismatchException {
+        checkEqualLength(p1, p2);
+        final double[] partial = new double[blockCount(p1.length, BULK_BLOCK_SIZE)];
+        runBlocks(p1.length, BULK_BLOCK_SIZE, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                double sum = 0;
+                for (int i = from; i < to; i++) {
+                    final double dp = p1[i] - p2[i];
+                    sum += dp * dp;
+                }
+                partial[block] = sum;
+            }
+        });
+        double sum = 0;
+        for (final double blockSum : partial) {
+            sum += blockSum;
+        }
+        return FastMath.sqrt(sum);
+    }
+
     /**
      * Calculates the cosine of the angle between two vectors.
      *
@@ -768,45 +1069,6 @@ public class MathArrays {
         return norm;
     }
 
-    /**
-     * A helper data structure holding a double and an integer value.
-     */
-    private static class PairDoubleInteger {
-
-        /**
-         * Key
-         */
-        private final double key;
-
-        /**
-         * Value
-         */
-        private final int value;
-
-        /**
-         * @param key Key.
-         * @param value Value.
-         */
-        PairDoubleInteger(double key, int value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        /**
-         * @return the key.
-         */
-        public double getKey() {
-            return key;
-        }
-
-        /**
-         * @return the value.
-         */
-        public int getValue() {
-            return value;
-        }
-    }
-
     /**
      * Sort an array in ascending order in place and perform the same reordering
      * of entries on other arrays. For example, if
@@ -845,6 +1107,36 @@ public class MathArrays {
      * @since 3.0
      */
     public static void sortInPlace(double[] x, final OrderDirection dir, double[]... yList) throws NullArgumentException, DimensionMismatchException {
+        sortInPlace(x, dir, null, yList);
+    }
+
+    /**
+     * Sort an array in place and perform the same reordering of entries on
+     * other arrays, sorting with tasks submitted to an executor service.
+     * This method gives the same result as the other
+     * {@link #sortInPlace(double[], OrderDirection, double[][]) sortInPlace}
+     * methods.
+     * <p>
+     * Blocks of the array are sorted by separate tasks, then the sorted blocks
+     * are merged pairwise, with one task per merge; the last merge, over the
+     * whole array, runs in a single task.
+     * </p>
+     *
+     * @param x Array to be sorted and used as a pattern for permutation
+     * of the other arrays.
+     * @param dir Order direction.
+     * @param executor Executor service to which the sorting tasks are
+     * submitted, or null to sort in the calling thread.
+     * @param yList Set of arrays whose permutations of entries will follow
+     * those performed on {@code x}.
+     * @throws DimensionMismatchException if any {@code y} is not the same
+     * size as {@code x}.
+     * @throws NullArgumentException if {@code x} or any {@code y} is null
+     * @since 3.7
+     */
+    public static void sortInPlace(double[] x, final OrderDirection dir, final ExecutorService executor,
+                                   double[]... yList)
+        throws NullArgumentException, DimensionMismatchException {
         br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.MathArrays.compare_857");
         // Consistency checks.
         if (x == null) {
@@ -862,53 +1154,298 @@ public class MathArrays {
                 throw new DimensionMismatchException(y.length, len);
             }
         }
-        // Associate each abscissa "x[i]" with its index "i".
-        final List<PairDoubleInteger> list = new ArrayList<PairDoubleInteger>(len);
-        for (int i = 0; ROR_less(i, len, "org.apache.commons.math3.util.MathArrays.sortInPlace_821", _mut41300, _mut41301, _mut41302, _mut41303, _mut41304); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.MathArrays.sortInPlace_821");
-            list.add(new PairDoubleInteger(x[i], i));
-        }
-        // Create comparators for increasing and decreasing orders.
-        final Comparator<PairDoubleInteger> comp = dir == MathArrays.OrderDirection.INCREASING ? new Comparator<PairDoubleInteger>() {
+        // Sort indices rather than (key, index) objects.
+        final int[] indices = sortIndices(x, dir, executor);
 
-            /**
-             * {@inheritDoc}
-             */
-            public int compare(PairDoubleInteger o1, PairDoubleInteger o2) {
-                return Double.compare(o1.getKey(), o2.getKey());
-            }
-        } : new Comparator<PairDoubleInteger>() {
-
-            /**
-             * {@inheritDoc}
-             */
-            public int compare(PairDoubleInteger o1, PairDoubleInteger o2) {
-                return Double.compare(o2.getKey(), o1.getKey());
-            }
-        };
-        // Sort.
-        Collections.sort(list, comp);
-        // Retrieve indices of original locations.
-        final int[] indices = new int[len];
-        for (int i = 0; ROR_less(i, len, "org.apache.commons.math3.util.MathArrays.compare_857", _mut41305, _mut41306, _mut41307, _mut41308, _mut41309); i++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.MathArrays.compare_857");
-            final PairDoubleInteger e = list.get(i);
-            x[i] = e.getKey();
-            indices[i] = e.getValue();
-        }
-        // elements to their new location.
-        for (int j = 0; ROR_less(j, yListLen, "org.apache.commons.math3.util.MathArrays.compare_857", _mut41315, _mut41316, _mut41317, _mut41318, _mut41319); j++) {
-            br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.MathArrays.compare_857");
+        // Move the elements to their new location.
+        final double[] xOrig = x.clone();
+        for (int i = 0; i < len; i++) {
+            x[i] = xOrig[indices[i]];
+        }
+        for (int j = 0; j < yListLen; j++) {
             // Input array will be modified in place.
             final double[] yInPlace = yList[j];
             final double[] yOrig = yInPlace.clone();
-            for (int i = 0; ROR_less(i, len, "org.apache.commons.math3.util.MathArrays.compare_857", _mut41310, _mut41311, _mut41312, _mut41313, _mut41314); i++) {
-                br.ufmg.labsoft.mutvariants.schematalib.SchemataLibMethods.listener.listen("org.apache.commons.math3.util.MathArrays.compare_857");
+            for (int i = 0; i < len; i++) {
                 yInPlace[i] = yOrig[indices[i]];
             }
         }
     }
 
+    /** Processing of one block of the methods using an executor service. */
+    private interface BlockTask {
+        /**
+         * Processes one block.
+         *
+         * @param block index of the block
+         * @param from index of the first element of the block
+         * @param to index after the last element of the block
+         */
+        void run(int block, int from, int to);
+    }
+
+    /**
+     * Computes the number of blocks covering a range of elements.
+     *
+     * @param length number of elements
+     * @param blockSize number of elements per block
+     * @return number of blocks
+     */
+    private static int blockCount(final int length, final int blockSize) {
+        return length / blockSize + ((length % blockSize == 0) ? 0 : 1);
+    }
+
+    /**
+     * Splits a range of elements into blocks and processes them.
+     * <p>
+     * The blocks only depend on the length, so per-block results are the same
+     * with or without an executor. A single block is processed in the calling
+     * thread.
+     * </p>
+     *
+     * @param length number of elements
+     * @param blockSize number of elements per block
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the blocks in the calling thread
+     * @param task processing of each block
+     */
+    private static void runBlocks(final int length, final int blockSize, final ExecutorService executor,
+                                  final BlockTask task) {
+        final int blocks = blockCount(length, blockSize);
+        final List<Runnable> tasks = new ArrayList<Runnable>(blocks);
+        for (int k = 0; k < blocks; k++) {
+            final int block = k;
+            final int from = k * blockSize;
+            final int to = from + FastMath.min(blockSize, length - from);
+            tasks.add(new Runnable() {
+                /** {@inheritDoc} */
+                public void run() {
+                    task.run(block, from, to);
+                }
+            });
+        }
+        TaskRunner.run(tasks, (blocks > 1) ? executor : null);
+    }
+
+    /**
+     * Computes the permutation that sorts an array.
+     * <p>
+     * The order is the one of {@link Double#compare(double, double)}
+     * (or its reverse), and the sort is stable: equal elements keep their
+     * relative order, in both directions. As the result of a stable sort is
+     * unique, it does not depend on the executor.
+     * </p>
+     * <p>
+     * The values are mapped to {@code long} keys whose unsigned order is the
+     * required order, and the indices are sorted by a least significant digit
+     * radix sort on these keys, skipping the digits shared by all keys. Only
+     * primitive arrays are allocated. Short arrays are sorted by insertion.
+     * With an executor, blocks of keys are radix sorted by separate tasks and
+     * then merged pairwise.
+     * </p>
+     *
+     * @param x Array to sort (not modified).
+     * @param dir Order direction.
+     * @param executor Executor service to which the sorting tasks are
+     * submitted, or null to sort in the calling thread.
+     * @return the indices {@code p} such that {@code x[p[0]], x[p[1]], ...}
+     * is sorted.
+     * @since 3.7
+     */
+    public static int[] sortIndices(final double[] x, final OrderDirection dir, final ExecutorService executor) {
+        final int len = x.length;
+        final boolean increasing = dir == OrderDirection.INCREASING;
+
+        final long[] keys = new long[len];
+        final int[] indices = new int[len];
+        for (int i = 0; i < len; i++) {
+            final long bits = Double.doubleToLongBits(x[i]);
+            // flip all bits of negative values and the sign bit of positive ones
+            final long key = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            keys[i] = increasing ? key : ~key;
+            indices[i] = i;
+        }
+
+        if (len <= SORT_INSERTION_THRESHOLD) {
+            sortIndices(keys, indices, null, null, 0, len);
+            return indices;
+        }
+        final long[] keysTmp = new long[len];
+        final int[] indicesTmp = new int[len];
+        if (executor == null || len <= PARALLEL_SORT_BLOCK_SIZE) {
+            return sortIndices(keys, indices, keysTmp, indicesTmp, 0, len) ? indicesTmp : indices;
+        }
+
+        // sort the blocks
+        runBlocks(len, PARALLEL_SORT_BLOCK_SIZE, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                if (sortIndices(keys, indices, keysTmp, indicesTmp, from, to)) {
+                    System.arraycopy(keysTmp, from, keys, from, to - from);
+                    System.arraycopy(indicesTmp, from, indices, from, to - from);
+                }
+            }
+        });
+
+        // merge the sorted blocks pairwise, alternating between the arrays and the work buffers
+        long[] srcKeys = keys;
+        int[] srcIndices = indices;
+        long[] dstKeys = keysTmp;
+        int[] dstIndices = indicesTmp;
+        for (int width = PARALLEL_SORT_BLOCK_SIZE; width < len; width <<= 1) {
+            final long[] fromKeys = srcKeys;
+            final int[] fromIndices = srcIndices;
+            final long[] toKeys = dstKeys;
+            final int[] toIndices = dstIndices;
+            final int half = width;
+            runBlocks(len, 2 * width, executor, new BlockTask() {
+                /** {@inheritDoc} */
+                public void run(final int block, final int from, final int to) {
+                    mergeIndices(fromKeys, fromIndices, toKeys, toIndices,
+                                 from, FastMath.min(from + half, to), to);
+                }
+            });
+            srcKeys = toKeys;
+            srcIndices = toIndices;
+            dstKeys = fromKeys;
+            dstIndices = fromIndices;
+        }
+        return srcIndices;
+    }
+
+    /**
+     * Sorts a range of keys in unsigned order with a stable sort, applying
+     * the same permutation to the associated indices.
+     *
+     * @param keys Keys to sort.
+     * @param indices Indices associated with the keys.
+     * @param keysTmp Work buffer for the keys, used over the same range
+     * (may be null if the range is not longer than {@link #SORT_INSERTION_THRESHOLD}).
+     * @param indicesTmp Work buffer for the indices, used over the same range
+     * (may be null if the range is not longer than {@link #SORT_INSERTION_THRESHOLD}).
+     * @param from Index of the first key to sort.
+     * @param to Index after the last key to sort.
+     * @return true if the sorted range ended in the work buffers, false if
+     * it is in {@code keys} and {@code indices}.
+     */
+    private static boolean sortIndices(final long[] keys, final int[] indices,
+                                       final long[] keysTmp, final int[] indicesTmp,
+                                       final int from, final int to) {
+        final int len = to - from;
+
+        if (len <= SORT_INSERTION_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                final long key = keys[i];
+                final int index = indices[i];
+                int j = i - 1;
+                while (j >= from && compareUnsigned(keys[j], key) > 0) {
+                    keys[j + 1] = keys[j];
+                    indices[j + 1] = indices[j];
+                    --j;
+                }
+                keys[j + 1] = key;
+                indices[j + 1] = index;
+            }
+            return false;
+        }
+
+        // histograms of all digits, computed in a single pass
+        final int passes = 64 / SORT_RADIX_BITS;
+        final int[][] counts = new int[passes][1 << SORT_RADIX_BITS];
+        for (int i = from; i < to; i++) {
+            final long key = keys[i];
+            for (int pass = 0; pass < passes; pass++) {
+                ++counts[pass][(int) (key >>> (pass * SORT_RADIX_BITS)) & SORT_RADIX_MASK];
+            }
+        }
+
+        long[] srcKeys = keys;
+        int[] srcIndices = indices;
+        long[] dstKeys = keysTmp;
+        int[] dstIndices = indicesTmp;
+        for (int pass = 0; pass < passes; pass++) {
+            final int[] count = counts[pass];
+            final int shift = pass * SORT_RADIX_BITS;
+            if (count[(int) (srcKeys[from] >>> shift) & SORT_RADIX_MASK] == len) {
+                // all keys share this digit, the pass would not move anything
+                continue;
+            }
+
+            // starting position of each digit value
+            int position = from;
+            for (int d = 0; d < count.length; d++) {
+                final int c = count[d];
+                count[d] = position;
+                position += c;
+            }
+
+            for (int i = from; i < to; i++) {
+                final long key = srcKeys[i];
+                final int target = count[(int) (key >>> shift) & SORT_RADIX_MASK]++;
+                dstKeys[target] = key;
+                dstIndices[target] = srcIndices[i];
+            }
+
+            final long[] swapKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = swapKeys;
+            final int[] swapIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = swapIndices;
+        }
+
+        return srcKeys != keys;
+    }
+
+    /**
+     * Merges two adjacent ranges of keys sorted in unsigned order, together
+     * with their indices, into the same positions of the destination arrays.
+     * For equal keys, the elements of the first range come first.
+     *
+     * @param srcKeys Source keys.
+     * @param srcIndices Source indices.
+     * @param dstKeys Destination keys.
+     * @param dstIndices Destination indices.
+     * @param lo Index of the first element of the first range.
+     * @param mid Index of the first element of the second range.
+     * @param hi Index after the last element of the second range.
+     */
+    private static void mergeIndices(final long[] srcKeys, final int[] srcIndices,
+                                     final long[] dstKeys, final int[] dstIndices,
+                                     final int lo, final int mid, final int hi) {
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            if (compareUnsigned(srcKeys[j], srcKeys[i]) < 0) {
+                dstKeys[k] = srcKeys[j];
+                dstIndices[k++] = srcIndices[j++];
+            } else {
+                dstKeys[k] = srcKeys[i];
+                dstIndices[k++] = srcIndices[i++];
+            }
+        }
+        System.arraycopy(srcKeys, i, dstKeys, k, mid - i);
+        System.arraycopy(srcIndices, i, dstIndices, k, mid - i);
+        k += mid - i;
+        System.arraycopy(srcKeys, j, dstKeys, k, hi - j);
+        System.arraycopy(srcIndices, j, dstIndices, k, hi - j);
+    }
+
+    /**
+     * Compares two {@code long} values as unsigned integers.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return a negative integer, zero, or a positive integer as {@code a}
+     * is less than, equal to, or greater than {@code b}.
+     */
+    private static int compareUnsigned(final long a, final long b) {
+        final long ua = a ^ Long.MIN_VALUE;
+        final long ub = b ^ Long.MIN_VALUE;
+        return (ua < ub) ? -1 : ((ua == ub) ? 0 : 1);
+    }
+
     /**
      * Creates a copy of the {@code source} array.
      *
@@ -1040,6 +1577,144 @@ public class MathArrays {
         return result;
     }
 
+    /**
+     * Compute a linear combination of array slices accurately.
+     * <p>
+     * This method computes the sum of the products
+     * <code>a<sub>i</sub> b<sub>i</sub></code> for
+     * {@code begin <= i < begin + length}, with the same accuracy as
+     * {@link #linearCombination(double[], double[])}. The error-free
+     * products and the compensated sums are merged in a single pass over the
+     * data, so no temporary array is allocated and each element is only read
+     * once, which is significantly faster on large arrays.
+     * </p>
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param begin index of the first term of the combination.
+     * @param length number of terms in the combination.
+     * @return <code>&Sigma;<sub>i</sub> a<sub>i</sub> b<sub>i</sub></code>,
+     * or 0 if {@code length} is 0.
+     * @throws NullArgumentException if either array is null.
+     * @throws MathIllegalArgumentException if the slice is not valid for
+     * both arrays.
+     * @since 3.7
+     */
+    public static double linearCombination(final double[] a, final double[] b,
+                                           final int begin, final int length)
+        throws MathIllegalArgumentException {
+        verifyValues(a, begin, length, true);
+        verifyValues(b, begin, length, true);
+        final int end = begin + length;
+
+        final double[] partial = new double[2];
+        dot2(a, b, begin, end, partial, 0);
+
+        double result = partial[0] + partial[1];
+        if (Double.isNaN(result)) {
+            // just rely on the naive implementation and let IEEE754 handle this
+            result = 0;
+            for (int i = begin; i < end; i++) {
+                result += a[i] * b[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compute a linear combination accurately, with tasks submitted to an
+     * executor service.
+     * <p>
+     * This method computes the sum of the products
+     * <code>a<sub>i</sub> b<sub>i</sub></code> with the same algorithm as
+     * {@link #linearCombination(double[], double[], int, int)}, over blocks of
+     * the arrays small enough to stay in cache, each block being processed by
+     * a separate task. The compensated sums of the blocks, with their error
+     * terms, are then added with the same error-free transformation, so the
+     * accuracy is the same as for a single pass. The result does not depend
+     * on the executor.
+     * </p>
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread.
+     * @return <code>&Sigma;<sub>i</sub> a<sub>i</sub> b<sub>i</sub></code>,
+     * or 0 if the arrays are empty.
+     * @throws DimensionMismatchException if arrays dimensions don't match
+     * @since 3.7
+     */
+    public static double linearCombination(final double[] a, final double[] b, final ExecutorService executor)
+        throws DimensionMismatchException {
+        checkEqualLength(a, b);
+        final int len = a.length;
+        final double[] partial = new double[2 * blockCount(len, BULK_BLOCK_SIZE)];
+        runBlocks(len, BULK_BLOCK_SIZE, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                dot2(a, b, from, to, partial, 2 * block);
+            }
+        });
+
+        // error-free sum of the block sums
+        double sHigh = 0;
+        double sLow  = 0;
+        for (int k = 0; k < partial.length; k += 2) {
+            final double high     = partial[k];
+            final double sHighCur = sHigh + high;
+            final double sPrime   = sHighCur - high;
+            sLow += (high - (sHighCur - sPrime)) + (sHigh - sPrime) + partial[k + 1];
+            sHigh = sHighCur;
+        }
+
+        double result = sHigh + sLow;
+        if (Double.isNaN(result)) {
+            // just rely on the naive implementation and let IEEE754 handle this
+            result = 0;
+            for (int i = 0; i < len; i++) {
+                result += a[i] * b[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the compensated dot product of a range of two arrays, as a
+     * high order sum and the accumulated low order error terms.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param from index of the first term.
+     * @param to index after the last term.
+     * @param partial array where the high order sum is stored at index
+     * {@code offset} and the error terms at index {@code offset + 1}.
+     * @param offset index in {@code partial} of the high order sum.
+     */
+    private static void dot2(final double[] a, final double[] b, final int from, final int to,
+                             final double[] partial, final int offset) {
+        double sHigh = 0;
+        double sLow  = 0;
+        for (int i = from; i < to; i++) {
+            // error-free product
+            final double ai    = a[i];
+            final double aHigh = Double.longBitsToDouble(Double.doubleToRawLongBits(ai) & ((-1L) << 27));
+            final double aLow  = ai - aHigh;
+            final double bi    = b[i];
+            final double bHigh = Double.longBitsToDouble(Double.doubleToRawLongBits(bi) & ((-1L) << 27));
+            final double bLow  = bi - bHigh;
+            final double prodHigh = ai * bi;
+            final double prodLow  = aLow * bLow - (((prodHigh - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow);
+
+            // error-free sum
+            final double sHighCur = sHigh + prodHigh;
+            final double sPrime   = sHighCur - prodHigh;
+            sLow += (prodHigh - (sHighCur - sPrime)) + (sHigh - sPrime) + prodLow;
+            sHigh = sHighCur;
+        }
+        partial[offset]     = sHigh;
+        partial[offset + 1] = sLow;
+    }
+
     /**
      * Compute a linear combination accurately.
      * <p>
@@ -1407,6 +2082,128 @@ public class MathArrays {
         return out;
     }
 
+    /**
+     * Normalizes an array to make it sum to a specified value, storing the
+     * result in a caller-provided array.
+     * <p>
+     * This method behaves as {@link #normalizeArray(double[], double)}, but
+     * no array is allocated. The output array may be the input array, in
+     * which case the normalization is performed in place.
+     * </p>
+     *
+     * @param values Input array to be normalized
+     * @param normalizedSum Target sum for the normalized array
+     * @param out array where the normalized values are stored
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @throws MathArithmeticException if the input array contains infinite
+     * elements or sums to zero.
+     * @throws MathIllegalArgumentException if the target sum is infinite or {@code NaN}.
+     * @since 3.7
+     */
+    public static void normalizeArray(double[] values, double normalizedSum, double[] out)
+        throws MathIllegalArgumentException, MathArithmeticException, DimensionMismatchException {
+        if (Double.isInfinite(normalizedSum)) {
+            throw new MathIllegalArgumentException(LocalizedFormats.NORMALIZE_INFINITE);
+        }
+        if (Double.isNaN(normalizedSum)) {
+            throw new MathIllegalArgumentException(LocalizedFormats.NORMALIZE_NAN);
+        }
+        checkEqualLength(values, out);
+        double sum = 0d;
+        final int len = values.length;
+        for (int i = 0; i < len; i++) {
+            if (Double.isInfinite(values[i])) {
+                throw new MathIllegalArgumentException(LocalizedFormats.INFINITE_ARRAY_ELEMENT, values[i], i);
+            }
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+            }
+        }
+        if (sum == 0) {
+            throw new MathArithmeticException(LocalizedFormats.ARRAY_SUMS_TO_ZERO);
+        }
+        for (int i = 0; i < len; i++) {
+            if (Double.isNaN(values[i])) {
+                out[i] = Double.NaN;
+            } else {
+                out[i] = values[i] * normalizedSum / sum;
+            }
+        }
+    }
+
+    /**
+     * Normalizes an array to make it sum to a specified value, storing the
+     * result in a caller-provided array, with tasks submitted to an executor
+     * service.
+     * <p>
+     * This method behaves as {@link #normalizeArray(double[], double, double[])},
+     * but the sum of the input array is computed block by block, each block by
+     * a separate task, and the normalized values are then computed the same
+     * way. The result does not depend on the executor, but as the block sums
+     * are added at the end, it may differ in the last bits from the one of the
+     * other {@code normalizeArray} methods.
+     * </p>
+     *
+     * @param values Input array to be normalized
+     * @param normalizedSum Target sum for the normalized array
+     * @param out array where the normalized values are stored
+     * @param executor executor service to which the tasks are submitted,
+     * or null to process all the elements in the calling thread
+     * @throws DimensionMismatchException if the array lengths differ.
+     * @throws MathArithmeticException if the input array contains infinite
+     * elements or sums to zero.
+     * @throws MathIllegalArgumentException if the target sum is infinite or {@code NaN}.
+     * @since 3.7
+     */
+    public static void normalizeArray(final double[] values, final double normalizedSum, final double[] out,
+                                      final ExecutorService executor)
+        throws MathIllegalArgumentException, MathArithmeticException, DimensionMismatchException {
+        if (Double.isInfinite(normalizedSum)) {
+            throw new MathIllegalArgumentException(LocalizedFormats.NORMALIZE_INFINITE);
+        }
+        if (Double.isNaN(normalizedSum)) {
+            throw new MathIllegalArgumentException(LocalizedFormats.NORMALIZE_NAN);
+        }
+        checkEqualLength(values, out);
+        final int len = values.length;
+        final double[] partial = new double[blockCount(len, BULK_BLOCK_SIZE)];
+        runBlocks(len, BULK_BLOCK_SIZE, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                double sum = 0d;
+                for (int i = from; i < to; i++) {
+                    if (Double.isInfinite(values[i])) {
+                        throw new MathIllegalArgumentException(LocalizedFormats.INFINITE_ARRAY_ELEMENT, values[i], i);
+                    }
+                    if (!Double.isNaN(values[i])) {
+                        sum += values[i];
+                    }
+                }
+                partial[block] = sum;
+            }
+        });
+        double total = 0d;
+        for (final double blockSum : partial) {
+            total += blockSum;
+        }
+        if (total == 0) {
+            throw new MathArithmeticException(LocalizedFormats.ARRAY_SUMS_TO_ZERO);
+        }
+        final double sum = total;
+        runBlocks(len, BULK_BLOCK_SIZE, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                for (int i = from; i < to; i++) {
+                    if (Double.isNaN(values[i])) {
+                        out[i] = Double.NaN;
+                    } else {
+                        out[i] = values[i] * normalizedSum / sum;
+                    }
+                }
+            }
+        });
+    }
+
     /**
      * Build an array of elements.
      * <p>
@@ -1503,6 +2300,112 @@ public class MathArrays {
         return y;
     }
 
+    /**
+     * Calculates the <a href="http://en.wikipedia.org/wiki/Convolution">
+     * convolution</a> between two sequences, with tasks submitted to an
+     * executor service.
+     * <p>
+     * This method gives the same result as {@link #convolve(double[], double[])}:
+     * the output is split into blocks, each one computed with the direct
+     * convolution sum by a separate task.
+     * </p>
+     *
+     * @param x First sequence.
+     * Typically, this sequence will represent an input signal to a system.
+     * @param h Second sequence.
+     * Typically, this sequence will represent the impulse response of the system.
+     * @param executor executor service to which the tasks are submitted,
+     * or null to compute all the outputs in the calling thread.
+     * @return the convolution of {@code x} and {@code h}.
+     * This array's length will be {@code x.length + h.length - 1}.
+     * @throws NullArgumentException if either {@code x} or {@code h} is {@code null}.
+     * @throws NoDataException if either {@code x} or {@code h} is empty.
+     *
+     * @since 3.7
+     */
+    public static double[] convolve(final double[] x, final double[] h, final ExecutorService executor)
+        throws NullArgumentException, NoDataException {
+        MathUtils.checkNotNull(x);
+        MathUtils.checkNotNull(h);
+        final int xLen = x.length;
+        final int hLen = h.length;
+        if (xLen == 0 || hLen == 0) {
+            throw new NoDataException();
+        }
+        final int totalLength = xLen + hLen - 1;
+        final double[] y = new double[totalLength];
+        // each output needs up to min(xLen, hLen) products
+        final int blockSize = FastMath.max(1, BULK_BLOCK_SIZE / FastMath.min(xLen, hLen));
+        runBlocks(totalLength, blockSize, executor, new BlockTask() {
+            /** {@inheritDoc} */
+            public void run(final int block, final int from, final int to) {
+                for (int n = from; n < to; n++) {
+                    double yn = 0;
+                    int k = FastMath.max(0, n + 1 - xLen);
+                    int j = n - k;
+                    while (k < hLen && j >= 0) {
+                        yn += x[j--] * h[k++];
+                    }
+                    y[n] = yn;
+                }
+            }
+        });
+        return y;
+    }
+
+    /**
+     * Calculates the <a href="http://en.wikipedia.org/wiki/Convolution">
+     * convolution</a> between two sequences, using FFT for long sequences.
+     * <p>
+     * When both sequences have at least {@value #CONVOLUTION_FFT_THRESHOLD}
+     * elements, the solution is obtained via FFT using the
+     * {@link OverlapAddConvolver overlap-add method}, which is much faster than
+     * {@link #convolve(double[], double[])} but whose results are only accurate
+     * up to rounding errors relative to the largest output magnitude: outputs
+     * much smaller than the largest one may have no correct digit, and
+     * convolutions of integer sequences are not exact. Shorter sequences, and
+     * sequences containing infinite or NaN elements (which would spread to all
+     * the outputs of a transform), are convolved with the direct sum.
+     * </p>
+     *
+     * @param x First sequence.
+     * Typically, this sequence will represent an input signal to a system.
+     * @param h Second sequence.
+     * Typically, this sequence will represent the impulse response of the system.
+     * @return the convolution of {@code x} and {@code h}.
+     * This array's length will be {@code x.length + h.length - 1}.
+     * @throws NullArgumentException if either {@code x} or {@code h} is {@code null}.
+     * @throws NoDataException if either {@code x} or {@code h} is empty.
+     *
+     * @since 3.7
+     */
+    public static double[] convolveFFT(double[] x, double[] h) throws NullArgumentException, NoDataException {
+        MathUtils.checkNotNull(x);
+        MathUtils.checkNotNull(h);
+        if (FastMath.min(x.length, h.length) < CONVOLUTION_FFT_THRESHOLD ||
+            !isFinite(x) || !isFinite(h)) {
+            return convolve(x, h);
+        }
+        return (x.length >= h.length) ?
+               new OverlapAddConvolver(h).convolve(x) :
+               new OverlapAddConvolver(x).convolve(h);
+    }
+
+    /**
+     * Checks that all the elements of an array are finite.
+     *
+     * @param x Array to check.
+     * @return true if no element of {@code x} is infinite or NaN.
+     */
+    private static boolean isFinite(final double[] x) {
+        for (final double xi : x) {
+            if (Double.isNaN(xi) || Double.isInfinite(xi)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Specification for indicating that some operation applies
      * before or after a given index.
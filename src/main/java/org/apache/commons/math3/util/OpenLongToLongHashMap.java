@@ -0,0 +1,644 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+
+/**
+ * Open addressed map from long to long.
+ * <p>This class provides a dedicated map from longs to longs with a
+ * much smaller memory overhead than standard <code>java.util.Map</code>.
+ * It uses the same layout as {@link OpenIntToDoubleHashMap}: parallel
+ * primitive arrays for keys, values and states, with no per-entry object.</p>
+ * <p>With its default value of 0 for missing entries, it is well suited
+ * to counting occurrences, see {@link #increment(long, long)}.</p>
+ * <p>This class is not synchronized. The specialized iterators returned by
+ * {@link #iterator()} are fail-fast: they throw a
+ * <code>ConcurrentModificationException</code> when they detect the map has been
+ * modified during iteration.</p>
+ * @since 3.7
+ */
+public class OpenLongToLongHashMap implements Serializable {
+
+    /** Status indicator for free table entries. */
+    protected static final byte FREE    = 0;
+
+    /** Status indicator for full table entries. */
+    protected static final byte FULL    = 1;
+
+    /** Status indicator for removed table entries. */
+    protected static final byte REMOVED = 2;
+
+    /** Serializable version identifier */
+    private static final long serialVersionUID = 20161022L;
+
+    /** Load factor for the map. */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /** Default starting size.
+     * <p>This must be a power of two for bit mask to work properly. </p>
+     */
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /** Multiplier for size growth when map fills up.
+     * <p>This must be a power of two for bit mask to work properly. </p>
+     */
+    private static final int RESIZE_MULTIPLIER = 2;
+
+    /** Number of bits to perturb the index when probing for collision resolution. */
+    private static final int PERTURB_SHIFT = 5;
+
+    /** Keys table. */
+    private long[] keys;
+
+    /** Values table. */
+    private long[] values;
+
+    /** States table. */
+    private byte[] states;
+
+    /** Return value for missing entries. */
+    private final long missingEntries;
+
+    /** Current size of the map. */
+    private int size;
+
+    /** Bit mask for hash values. */
+    private int mask;
+
+    /** Modifications count. */
+    private transient int count;
+
+    /**
+     * Build an empty map with default size and using 0 for missing entries.
+     */
+    public OpenLongToLongHashMap() {
+        this(DEFAULT_EXPECTED_SIZE, 0);
+    }
+
+    /**
+     * Build an empty map with specified size and using 0 for missing entries.
+     * @param expectedSize expected number of elements in the map
+     */
+    public OpenLongToLongHashMap(final int expectedSize) {
+        this(expectedSize, 0);
+    }
+
+    /**
+     * Build an empty map with specified size.
+     * @param expectedSize expected number of elements in the map
+     * @param missingEntries value to return when a missing entry is fetched
+     */
+    public OpenLongToLongHashMap(final int expectedSize, final long missingEntries) {
+        final int capacity = computeCapacity(expectedSize);
+        keys   = new long[capacity];
+        values = new long[capacity];
+        states = new byte[capacity];
+        this.missingEntries = missingEntries;
+        mask   = capacity - 1;
+    }
+
+    /**
+     * Copy constructor.
+     * @param source map to copy
+     */
+    public OpenLongToLongHashMap(final OpenLongToLongHashMap source) {
+        keys   = source.keys.clone();
+        values = source.values.clone();
+        states = source.states.clone();
+        missingEntries = source.missingEntries;
+        size  = source.size;
+        mask  = source.mask;
+        count = source.count;
+    }
+
+    /**
+     * Compute the capacity needed for a given size.
+     * @param expectedSize expected size of the map
+     * @return capacity to use for the specified size
+     */
+    private static int computeCapacity(final int expectedSize) {
+        if (expectedSize == 0) {
+            return 1;
+        }
+        final int capacity   = (int) FastMath.ceil(expectedSize / LOAD_FACTOR);
+        final int powerOfTwo = Integer.highestOneBit(capacity);
+        if (powerOfTwo == capacity) {
+            return capacity;
+        }
+        return nextPowerOfTwo(capacity);
+    }
+
+    /**
+     * Find the smallest power of two greater than the input value
+     * @param i input value
+     * @return smallest power of two greater than the input value
+     */
+    private static int nextPowerOfTwo(final int i) {
+        return Integer.highestOneBit(i) << 1;
+    }
+
+    /**
+     * Get the stored value associated with the given key
+     * @param key key associated with the data
+     * @return data associated with the key
+     */
+    public long get(final long key) {
+        final int index = locate(key);
+        return (index < 0) ? missingEntries : values[index];
+    }
+
+    /**
+     * Check if a value is associated with a key.
+     * @param key key to check
+     * @return true if a value is associated with key
+     */
+    public boolean containsKey(final long key) {
+        return locate(key) >= 0;
+    }
+
+    /**
+     * Get an iterator over map elements.
+     * <p>The specialized iterators returned are fail-fast: they throw a
+     * <code>ConcurrentModificationException</code> when they detect the map
+     * has been modified during iteration.</p>
+     * @return iterator over the map elements
+     */
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    /**
+     * Get a copy of the keys of the map.
+     * <p>The keys are in the same order as the values returned by
+     * {@link #values()}, provided the map is not modified in between.</p>
+     * @return array containing all the keys of the map
+     */
+    public long[] keys() {
+        final long[] result = new long[size];
+        int j = 0;
+        for (int i = 0; i < states.length; ++i) {
+            if (states[i] == FULL) {
+                result[j++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a copy of the values of the map.
+     * <p>The values are in the same order as the keys returned by
+     * {@link #keys()}, provided the map is not modified in between.</p>
+     * @return array containing all the values of the map
+     */
+    public long[] values() {
+        final long[] result = new long[size];
+        int j = 0;
+        for (int i = 0; i < states.length; ++i) {
+            if (states[i] == FULL) {
+                result[j++] = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Perturb the hash for starting probing.
+     * @param hash initial hash
+     * @return perturbed hash
+     */
+    private static int perturb(final int hash) {
+        return hash & 0x7fffffff;
+    }
+
+    /**
+     * Find the index of the entry associated with a key.
+     * @param key key to lookup
+     * @return index of the entry, or -1 if the key is not in the map
+     */
+    private int locate(final long key) {
+        final int hash = hashOf(key);
+        int index = hash & mask;
+        if (containsKey(key, index)) {
+            return index;
+        }
+        if (states[index] == FREE) {
+            return -1;
+        }
+        int j = index;
+        for (int perturb = perturb(hash); states[index] != FREE; perturb >>= PERTURB_SHIFT) {
+            j = probe(perturb, j);
+            index = j & mask;
+            if (containsKey(key, index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the index at which a key should be inserted
+     * @param key key to lookup
+     * @return index at which key should be inserted
+     */
+    private int findInsertionIndex(final long key) {
+        return findInsertionIndex(keys, states, key, mask);
+    }
+
+    /**
+     * Find the index at which a key should be inserted
+     * @param keys keys table
+     * @param states states table
+     * @param key key to lookup
+     * @param mask bit mask for hash values
+     * @return index at which key should be inserted
+     */
+    private static int findInsertionIndex(final long[] keys, final byte[] states,
+                                          final long key, final int mask) {
+        final int hash = hashOf(key);
+        int index = hash & mask;
+        if (states[index] == FREE) {
+            return index;
+        } else if (states[index] == FULL && keys[index] == key) {
+            return changeIndexSign(index);
+        }
+
+        int perturb = perturb(hash);
+        int j = index;
+        if (states[index] == FULL) {
+            while (true) {
+                j = probe(perturb, j);
+                index = j & mask;
+                perturb >>= PERTURB_SHIFT;
+
+                if (states[index] != FULL || keys[index] == key) {
+                    break;
+                }
+            }
+        }
+
+        if (states[index] == FREE) {
+            return index;
+        } else if (states[index] == FULL) {
+            // due to the loop exit condition,
+            // if (states[index] == FULL) then keys[index] == key
+            return changeIndexSign(index);
+        }
+
+        final int firstRemoved = index;
+        while (true) {
+            j = probe(perturb, j);
+            index = j & mask;
+
+            if (states[index] == FREE) {
+                return firstRemoved;
+            } else if (states[index] == FULL && keys[index] == key) {
+                return changeIndexSign(index);
+            }
+
+            perturb >>= PERTURB_SHIFT;
+        }
+    }
+
+    /**
+     * Compute next probe for collision resolution
+     * @param perturb perturbed hash
+     * @param j previous probe
+     * @return next probe
+     */
+    private static int probe(final int perturb, final int j) {
+        return (j << 2) + j + perturb + 1;
+    }
+
+    /**
+     * Change the index sign
+     * @param index initial index
+     * @return changed index
+     */
+    private static int changeIndexSign(final int index) {
+        return -index - 1;
+    }
+
+    /**
+     * Get the number of elements stored in the map.
+     * @return number of elements stored in the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove the value associated with a key.
+     * @param key key to which the value is associated
+     * @return removed value
+     */
+    public long remove(final long key) {
+        final int index = locate(key);
+        return (index < 0) ? missingEntries : doRemove(index);
+    }
+
+    /**
+     * Check if the tables contain an element associated with specified key
+     * at specified index.
+     * @param key key to check
+     * @param index index to check
+     * @return true if an element is associated with key at index
+     */
+    private boolean containsKey(final long key, final int index) {
+        return (key != 0 || states[index] == FULL) && keys[index] == key;
+    }
+
+    /**
+     * Remove an element at specified index.
+     * @param index index of the element to remove
+     * @return removed value
+     */
+    private long doRemove(int index) {
+        keys[index]   = 0;
+        states[index] = REMOVED;
+        final long previous = values[index];
+        values[index] = missingEntries;
+        --size;
+        ++count;
+        return previous;
+    }
+
+    /**
+     * Put a value associated with a key in the map.
+     * @param key key to which value is associated
+     * @param value value to put in the map
+     * @return previous value associated with the key
+     */
+    public long put(final long key, final long value) {
+        int index = findInsertionIndex(key);
+        long previous = missingEntries;
+        boolean newMapping = true;
+        if (index < 0) {
+            index = changeIndexSign(index);
+            previous = values[index];
+            newMapping = false;
+        }
+        keys[index]   = key;
+        states[index] = FULL;
+        values[index] = value;
+        if (newMapping) {
+            ++size;
+            if (shouldGrowTable()) {
+                growTable();
+            }
+            ++count;
+        }
+        return previous;
+    }
+
+    /**
+     * Add an increment to the value associated with a key.
+     * <p>If the key is not in the map, the increment is added to the
+     * value returned for missing entries and the result is put in the map.
+     * This avoids looking the key up twice when the map is used to
+     * accumulate values, for example as a sparse vector or as a
+     * frequency table.</p>
+     * @param key key to which value is associated
+     * @param increment value to add
+     * @return new value associated with the key
+     */
+    public long increment(final long key, final long increment) {
+        int index = findInsertionIndex(key);
+        if (index < 0) {
+            index = changeIndexSign(index);
+            values[index] += increment;
+            return values[index];
+        }
+        final long value = missingEntries + increment;
+        keys[index]   = key;
+        states[index] = FULL;
+        values[index] = value;
+        ++size;
+        if (shouldGrowTable()) {
+            growTable();
+        }
+        ++count;
+        return value;
+    }
+
+    /**
+     * Put several values associated with keys in the map.
+     * <p>The tables are grown at most once, before the insertion.</p>
+     * @param newKeys keys to which values are associated
+     * @param newValues values to put in the map
+     * @throws DimensionMismatchException if the arrays do not have the same length
+     */
+    public void putAll(final long[] newKeys, final long[] newValues)
+        throws DimensionMismatchException {
+        if (newKeys.length != newValues.length) {
+            throw new DimensionMismatchException(newValues.length, newKeys.length);
+        }
+        final int capacity = computeCapacity(size + newKeys.length);
+        if (capacity > states.length) {
+            resizeTable(capacity);
+        }
+        for (int i = 0; i < newKeys.length; ++i) {
+            put(newKeys[i], newValues[i]);
+        }
+    }
+
+    /**
+     * Grow the tables.
+     */
+    private void growTable() {
+        resizeTable(RESIZE_MULTIPLIER * states.length);
+    }
+
+    /**
+     * Resize the tables.
+     * @param newLength new length of the tables, must be a power of two
+     */
+    private void resizeTable(final int newLength) {
+
+        final int oldLength      = states.length;
+        final long[] oldKeys      = keys;
+        final long[] oldValues    = values;
+        final byte[] oldStates   = states;
+
+        final long[] newKeys      = new long[newLength];
+        final long[] newValues    = new long[newLength];
+        final byte[] newStates   = new byte[newLength];
+        final int newMask        = newLength - 1;
+        for (int i = 0; i < oldLength; ++i) {
+            if (oldStates[i] == FULL) {
+                final long key = oldKeys[i];
+                final int index = findInsertionIndex(newKeys, newStates, key, newMask);
+                newKeys[index]   = key;
+                newValues[index] = oldValues[i];
+                newStates[index] = FULL;
+            }
+        }
+
+        mask   = newMask;
+        keys   = newKeys;
+        values = newValues;
+        states = newStates;
+
+    }
+
+    /**
+     * Check if tables should grow due to increased size.
+     * @return true if  tables should grow
+     */
+    private boolean shouldGrowTable() {
+        return size > (mask + 1) * LOAD_FACTOR;
+    }
+
+    /**
+     * Compute the hash value of a key
+     * @param key key to hash
+     * @return hash value of the key
+     */
+    private static int hashOf(final long key) {
+        final int k = (int) (key ^ (key >>> 32));
+        final int h = k ^ ((k >>> 20) ^ (k >>> 12));
+        return h ^ (h >>> 7) ^ (h >>> 4);
+    }
+
+    /** Iterator class for the map. */
+    public class Iterator {
+
+        /** Reference modification count. */
+        private final int referenceCount;
+
+        /** Index of current element. */
+        private int current;
+
+        /** Index of next element. */
+        private int next;
+
+        /**
+         * Simple constructor.
+         */
+        private Iterator() {
+
+            // preserve the modification count of the map to detect concurrent modifications later
+            referenceCount = count;
+
+            // initialize current index
+            current = -1;
+            next    = findNext(-1);
+
+        }
+
+        /**
+         * Check if there is a next element in the map.
+         * @return true if there is a next element
+         */
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        /**
+         * Get the key of current entry.
+         * @return key of current entry
+         * @exception ConcurrentModificationException if the map is modified during iteration
+         * @exception NoSuchElementException if there is no element left in the map
+         */
+        public long key()
+            throws ConcurrentModificationException, NoSuchElementException {
+            if (referenceCount != count) {
+                throw new ConcurrentModificationException();
+            }
+            if (current < 0) {
+                throw new NoSuchElementException();
+            }
+            return keys[current];
+        }
+
+        /**
+         * Get the value of current entry.
+         * @return value of current entry
+         * @exception ConcurrentModificationException if the map is modified during iteration
+         * @exception NoSuchElementException if there is no element left in the map
+         */
+        public long value()
+            throws ConcurrentModificationException, NoSuchElementException {
+            if (referenceCount != count) {
+                throw new ConcurrentModificationException();
+            }
+            if (current < 0) {
+                throw new NoSuchElementException();
+            }
+            return values[current];
+        }
+
+        /**
+         * Advance iterator one step further.
+         * @exception ConcurrentModificationException if the map is modified during iteration
+         * @exception NoSuchElementException if there is no element left in the map
+         */
+        public void advance()
+            throws ConcurrentModificationException, NoSuchElementException {
+
+            if (referenceCount != count) {
+                throw new ConcurrentModificationException();
+            }
+            if (next < 0) {
+                current = -1;
+                throw new NoSuchElementException();
+            }
+
+            // advance on step
+            current = next;
+
+            // prepare next step
+            next = findNext(next);
+
+        }
+
+        /**
+         * Find the next full entry.
+         * @param index index to start the search after
+         * @return index of the next full entry, or -1 if there are none
+         */
+        private int findNext(final int index) {
+            for (int i = index + 1; i < states.length; ++i) {
+                if (states[i] == FULL) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+    }
+
+    /**
+     * Read a serialized object.
+     * @param stream input stream
+     * @throws IOException if object cannot be read
+     * @throws ClassNotFoundException if the class corresponding
+     * to the serialized object cannot be found
+     */
+    private void readObject(final ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        count = 0;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+
+/**
+ * Runs independent tasks, either in the calling thread or on a caller
+ * supplied executor service.
+ * <p>
+ * This class never creates threads: the parallelism is entirely controlled
+ * by the executor given by the user.
+ * </p>
+ *
+ * @since 3.7
+ */
+public final class TaskRunner {
+
+    /** Private constructor for utility class. */
+    private TaskRunner() {
+    }
+
+    /**
+     * Runs tasks and waits for their completion.
+     * <p>
+     * If a task fails with an unchecked exception, this exception is rethrown
+     * once all the tasks have been waited for.
+     * </p>
+     *
+     * @param tasks tasks to run
+     * @param executor executor service to which the tasks are submitted,
+     * or null to run them sequentially in the calling thread
+     * @throws MathIllegalStateException if the calling thread is interrupted
+     * while waiting for the tasks
+     */
+    public static void run(final List<Runnable> tasks, final ExecutorService executor)
+        throws MathIllegalStateException {
+
+        if (executor == null) {
+            for (final Runnable task : tasks) {
+                task.run();
+            }
+            return;
+        }
+
+        final List<Future<?>> futures = new ArrayList<Future<?>>(tasks.size());
+        for (final Runnable task : tasks) {
+            futures.add(executor.submit(task));
+        }
+
+        Throwable failure = null;
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException ie) {
+                for (final Future<?> f : futures) {
+                    f.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new MathIllegalStateException(ie, LocalizedFormats.SIMPLE_MESSAGE, ie.getMessage());
+            } catch (ExecutionException ee) {
+                if (failure == null) {
+                    failure = ee.getCause();
+                }
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new MathIllegalStateException(failure, LocalizedFormats.SIMPLE_MESSAGE, failure.getMessage());
+        }
+
+    }
+
+}
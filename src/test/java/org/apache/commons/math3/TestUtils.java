@@ -126,6 +126,37 @@ public class TestUtils {
         }
     }
 
+    /**
+     * Recovers an object from its base64-encoded serialized form.
+     * This is used to check that instances serialized by former versions
+     * of the library can still be deserialized.
+     *
+     * @param base64  base64 encoding of the serialized object
+     * @return  the recovered, deserialized object
+     */
+    public static Object deserialize(String base64) {
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        int buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < base64.length() && base64.charAt(i) != '='; i++) {
+            buffer = (buffer << 6) | alphabet.indexOf(base64.charAt(i));
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                bos.write((buffer >> bits) & 0xff);
+            }
+        }
+        try {
+            ObjectInputStream si = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+            return si.readObject();
+        } catch (IOException ioe) {
+            return null;
+        } catch (ClassNotFoundException cnfe) {
+            return null;
+        }
+    }
+
     /**
      * Verifies that serialization preserves equals and hashCode.
      * Serializes the object, then recovers it and checks equals and hash code.
@@ -17,6 +17,7 @@
 
 package org.apache.commons.math3.distribution;
 
+import org.apache.commons.math3.random.Well19937c;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -88,4 +89,15 @@ public class ConstantRealDistributionTest extends RealDistributionAbstractTest {
         }
 
     }
+
+    @Override
+    @Test
+    public void testBatchSampling() {
+        ConstantRealDistribution dist = new ConstantRealDistribution(0);
+        final double[] sample = new double[10];
+        dist.sample(sample, new Well19937c(1000));
+        for (int i = 0; i < sample.length; i++) {
+            Assert.assertEquals(0, sample[i], 0);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.NotANumberException;
 import org.apache.commons.math3.exception.NotFiniteNumberException;
 import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.Precision;
 import org.junit.Assert;
@@ -170,6 +171,25 @@ public class EnumeratedIntegerDistributionTest {
                 sumOfSquares / n - FastMath.pow(sum / n, 2), 1e-2);
     }
 
+    @Test
+    public void testBatchSample() {
+        final int n = 1000000;
+        final int[] samples = new int[n];
+        testDistribution.sample(samples, new Well19937c(-334759360));
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < samples.length; i++) {
+            // values with zero probability are never sampled
+            Assert.assertTrue(samples[i] == -1 || samples[i] == 3 || samples[i] == 7);
+            sum += samples[i];
+            sumOfSquares += samples[i] * samples[i];
+        }
+        Assert.assertEquals(testDistribution.getNumericalMean(),
+                sum / n, 1e-2);
+        Assert.assertEquals(testDistribution.getNumericalVariance(),
+                sumOfSquares / n - FastMath.pow(sum / n, 2), 1e-2);
+    }
+
     @Test
     public void testCreateFromIntegers() {
         final int[] data = new int[] {0, 1, 1, 2, 2, 2};
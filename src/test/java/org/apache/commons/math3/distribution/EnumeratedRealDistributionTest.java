@@ -26,6 +26,7 @@ import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.NotANumberException;
 import org.apache.commons.math3.exception.NotFiniteNumberException;
 import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.Pair;
 import org.junit.Assert;
@@ -257,6 +258,26 @@ public class EnumeratedRealDistributionTest {
         assertEquals(28.0, distribution.inverseCumulativeProbability(0.7500), 0.0);
     }
 
+    @Test
+    public void testBatchSampleObjects() {
+        final List<Pair<String, Double>> pmf = new ArrayList<Pair<String, Double>>();
+        pmf.add(new Pair<String, Double>("a", 0.1));
+        pmf.add(new Pair<String, Double>("b", 0.0));
+        pmf.add(new Pair<String, Double>("c", 0.6));
+        pmf.add(new Pair<String, Double>("d", 0.3));
+        final EnumeratedDistribution<String> distribution = new EnumeratedDistribution<String>(pmf);
+        final String[] sample = new String[100000];
+        distribution.sample(sample, new Well19937c(0x63a1f04e8b27d5c9l));
+        final long[] counts = new long[4];
+        for (final String s : sample) {
+            counts[s.charAt(0) - 'a']++;
+        }
+        Assert.assertEquals(0, counts[1]);
+        Assert.assertEquals(0.1, counts[0] / 100000.0, 0.005);
+        Assert.assertEquals(0.6, counts[2] / 100000.0, 0.005);
+        Assert.assertEquals(0.3, counts[3] / 100000.0, 0.005);
+    }
+
     @Test
     public void testCreateFromDoubles() {
         final double[] data = new double[] {0, 1, 1, 2, 2, 2};
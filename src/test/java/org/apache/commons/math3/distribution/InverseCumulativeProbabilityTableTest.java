@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.distribution;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link InverseCumulativeProbabilityTable}.
+ */
+public class InverseCumulativeProbabilityTableTest {
+
+    @Test
+    public void testGamma() {
+        checkAccuracy(new GammaDistribution(0.5, 2), 1.0e-10);
+        checkAccuracy(new GammaDistribution(9, 0.5), 1.0e-10);
+    }
+
+    @Test
+    public void testBeta() {
+        checkAccuracy(new BetaDistribution(2, 5), 1.0e-12);
+        checkAccuracy(new BetaDistribution(0.5, 0.5), 1.0e-12);
+    }
+
+    @Test
+    public void testF() {
+        checkAccuracy(new FDistribution(5, 10), 1.0e-10);
+    }
+
+    @Test
+    public void testT() {
+        checkAccuracy(new TDistribution(3), 1.0e-10);
+    }
+
+    @Test
+    public void testChiSquared() {
+        checkAccuracy(new ChiSquaredDistribution(4), 1.0e-10);
+    }
+
+    @Test
+    public void testDefaultAccuracy() {
+        final GammaDistribution gamma = new GammaDistribution(3, 2);
+        final InverseCumulativeProbabilityTable table = new InverseCumulativeProbabilityTable(gamma);
+        Assert.assertSame(gamma, table.getDistribution());
+        Assert.assertEquals(gamma.getSolverAbsoluteAccuracy(), table.getAbsoluteAccuracy(), 0);
+        for (int i = 1; i < 100; i++) {
+            final double p = i / 100.0;
+            Assert.assertEquals(gamma.inverseCumulativeProbability(p),
+                                table.inverseCumulativeProbability(p),
+                                2 * gamma.getSolverAbsoluteAccuracy());
+        }
+    }
+
+    @Test
+    public void testOutsideTable() {
+        final GammaDistribution gamma = new GammaDistribution(2, 1);
+        final InverseCumulativeProbabilityTable table =
+            new InverseCumulativeProbabilityTable(gamma, 16, 1.0e-9);
+        Assert.assertEquals(0, table.inverseCumulativeProbability(0), 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, table.inverseCumulativeProbability(1), 0);
+        // beyond the tabulated tails, the quantiles are still refined
+        final double x = table.inverseCumulativeProbability(1.0e-14);
+        Assert.assertTrue(gamma.cumulativeProbability(x - 1.0e-9) <= 1.0e-14);
+        Assert.assertTrue(gamma.cumulativeProbability(x + 1.0e-9) >= 1.0e-14);
+    }
+
+    @Test(expected = OutOfRangeException.class)
+    public void testOutOfRange() {
+        new InverseCumulativeProbabilityTable(new GammaDistribution(2, 1)).inverseCumulativeProbability(1.5);
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testNullDistribution() {
+        new InverseCumulativeProbabilityTable(null);
+    }
+
+    @Test(expected = NumberIsTooSmallException.class)
+    public void testTooSmall() {
+        new InverseCumulativeProbabilityTable(new GammaDistribution(2, 1), 1, 1.0e-9);
+    }
+
+    @Test(expected = NotStrictlyPositiveException.class)
+    public void testAccuracy() {
+        new InverseCumulativeProbabilityTable(new GammaDistribution(2, 1), 16, 0);
+    }
+
+    /**
+     * Checks that the quantiles returned by a table are bracketed within the
+     * table accuracy, at random probabilities and in the tails.
+     *
+     * @param distribution distribution to invert
+     * @param accuracy absolute accuracy of the table
+     */
+    private void checkAccuracy(final AbstractRealDistribution distribution, final double accuracy) {
+        final InverseCumulativeProbabilityTable table =
+            new InverseCumulativeProbabilityTable(distribution, 64, accuracy);
+        final RandomGenerator random = new Well19937c(0x1b84d2e7f3c6a059l);
+        final double[] p = new double[1000];
+        for (int i = 0; i < 900; i++) {
+            p[i] = random.nextDouble();
+        }
+        for (int i = 900; i < 950; i++) {
+            p[i] = Math.pow(10, -12 * random.nextDouble());
+        }
+        for (int i = 950; i < 1000; i++) {
+            p[i] = 1 - Math.pow(10, -12 * random.nextDouble());
+        }
+        for (final double pi : p) {
+            final double x = table.inverseCumulativeProbability(pi);
+            Assert.assertTrue(distribution.cumulativeProbability(x - accuracy) <= pi);
+            Assert.assertTrue(distribution.cumulativeProbability(x + accuracy) >= pi);
+        }
+    }
+
+}
@@ -19,6 +19,9 @@ package org.apache.commons.math3.distribution;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -27,11 +30,14 @@ import java.io.ObjectOutputStream;
 
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathArrays;
 import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.analysis.integration.BaseAbstractUnivariateIntegrator;
 import org.apache.commons.math3.analysis.integration.IterativeLegendreGaussIntegrator;
+import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.random.Well19937c;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -346,6 +352,86 @@ public abstract class RealDistributionAbstractTest {
         TestUtils.assertChiSquareAccept(expected, counts, 0.001);
     }
 
+    @Test
+    public void testBatchSampling() {
+        final double[] sample = new double[1000];
+        ((AbstractRealDistribution) distribution).sample(sample, new Well19937c(1000));
+        double[] quartiles = TestUtils.getDistributionQuartiles(distribution);
+        double[] expected = {250, 250, 250, 250};
+        long[] counts = new long[4];
+        for (int i = 0; i < sample.length; i++) {
+            TestUtils.updateCounts(sample[i], counts, quartiles);
+        }
+        TestUtils.assertChiSquareAccept(expected, counts, 0.001);
+    }
+
+    @Test
+    public void testBulkEvaluation() throws Exception {
+        final AbstractRealDistribution dist = (AbstractRealDistribution) distribution;
+
+        // enough points for the parallel evaluation to be split in several tasks
+        final double[] sample = new double[20000];
+        dist.sample(sample, new Well19937c(1000));
+        final List<Double> points = new ArrayList<Double>();
+        for (int i = 0; i < sample.length; i++) {
+            points.add(sample[i]);
+            if (i < cumulativeTestPoints.length) {
+                points.add(cumulativeTestPoints[i]);
+            }
+        }
+        final double[] candidates = new double[points.size()];
+        int n = 0;
+        for (final Double point : points) {
+            try {
+                // some distributions cannot evaluate their density at some points
+                dist.density(point);
+                dist.logDensity(point);
+                candidates[n++] = point;
+            } catch (MathIllegalArgumentException e) {
+                // skip the point
+            }
+        }
+        final double[] x = MathArrays.copyOf(candidates, n);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final double[] out = new double[n];
+            final double[] parallel = new double[n];
+            dist.density(x, out);
+            dist.density(x, parallel, executor);
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(dist.density(x[i]), out[i], 0);
+                Assert.assertEquals(out[i], parallel[i], 0);
+            }
+            dist.logDensity(x, out);
+            dist.logDensity(x, parallel, executor);
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(dist.logDensity(x[i]), out[i], 0);
+                Assert.assertEquals(out[i], parallel[i], 0);
+            }
+            dist.cumulativeProbability(x, out);
+            dist.cumulativeProbability(x, parallel, executor);
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(dist.cumulativeProbability(x[i]), out[i], 0);
+                Assert.assertEquals(out[i], parallel[i], 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // the output array may be the input array
+        final double[] inPlace = x.clone();
+        dist.cumulativeProbability(inPlace, inPlace);
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(dist.cumulativeProbability(x[i]), inPlace[i], 0);
+        }
+    }
+
+    @Test(expected = DimensionMismatchException.class)
+    public void testBulkEvaluationDimensionMismatch() {
+        ((AbstractRealDistribution) distribution).density(new double[3], new double[2]);
+    }
+
     /**
      * Verify that density integrals match the distribution.
      * The (filtered, sorted) cumulativeTestPoints array is used to source
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.distribution;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ZigguratSampler} class.
+ */
+public class ZigguratSamplerTest {
+
+    @Test
+    public void testNormal() {
+        final NormalDistribution normal = new NormalDistribution(null, 0, 1);
+        // equiprobable bins, with the edges of the tail layer added
+        final double[] edges = new double[23];
+        for (int i = 1; i < 20; i++) {
+            edges[i - 1] = normal.inverseCumulativeProbability(0.05 * i);
+        }
+        edges[19] = -3.442619855899;
+        edges[20] = 3.442619855899;
+        edges[21] = -4.5;
+        edges[22] = 4.5;
+        Arrays.sort(edges);
+
+        final RandomGenerator rng = new Well19937c(0x2c7e94a0b1f3d685l);
+        final long[] counts = new long[edges.length + 1];
+        for (int i = 0; i < 1000000; i++) {
+            counts[bin(ZigguratSampler.nextNormal(rng), edges)]++;
+        }
+        TestUtils.assertChiSquareAccept(expected(normal, edges, 1000000), counts, 0.001);
+    }
+
+    @Test
+    public void testExponential() {
+        final ExponentialDistribution exponential = new ExponentialDistribution(null, 1);
+        final double[] edges = new double[21];
+        for (int i = 1; i < 20; i++) {
+            edges[i - 1] = exponential.inverseCumulativeProbability(0.05 * i);
+        }
+        edges[19] = 7.697117470131487;
+        edges[20] = 10;
+
+        final RandomGenerator rng = new Well19937c(0x51d08f3ae6c27b94l);
+        final long[] counts = new long[edges.length + 1];
+        for (int i = 0; i < 1000000; i++) {
+            counts[bin(ZigguratSampler.nextExponential(rng), edges)]++;
+        }
+        TestUtils.assertChiSquareAccept(expected(exponential, edges, 1000000), counts, 0.001);
+    }
+
+    private static int bin(double x, double[] edges) {
+        final int index = Arrays.binarySearch(edges, x);
+        return (index < 0) ? -index - 1 : index;
+    }
+
+    private static double[] expected(RealDistribution distribution, double[] edges, int n) {
+        final double[] expected = new double[edges.length + 1];
+        double previous = 0;
+        for (int i = 0; i < edges.length; i++) {
+            final double p = distribution.cumulativeProbability(edges[i]);
+            expected[i] = n * (p - previous);
+            previous = p;
+        }
+        expected[edges.length] = n * (1 - previous);
+        return expected;
+    }
+
+}
@@ -17,12 +17,19 @@
 package org.apache.commons.math3.random;
 
 import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.analysis.UnivariateFunction;
@@ -231,6 +238,102 @@ public final class EmpiricalDistributionTest extends RealDistributionAbstractTes
         new EmpiricalDistribution().load((File) null);
     }
 
+    @Test
+    public void testLoadMappedText() throws Exception {
+        empiricalDistribution2.load(dataArray);
+
+        // mix the line terminators, and omit the last one
+        final File text = File.createTempFile("empirical", ".txt");
+        text.deleteOnExit();
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(text), "US-ASCII");
+        try {
+            for (int i = 0; i < dataArray.length; i++) {
+                writer.write(Double.toString(dataArray[i]));
+                if (i < dataArray.length - 1) {
+                    writer.write((i % 3 == 0) ? "\n" : ((i % 3 == 1) ? "\r\n" : "\r"));
+                }
+            }
+        } finally {
+            writer.close();
+        }
+
+        empiricalDistribution.load(text);
+        checkSameBins(empiricalDistribution2, empiricalDistribution);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (final int chunkSize : new int[] { 1, 64, 1000 }) {
+                final EmpiricalDistribution dist = new EmpiricalDistribution(100);
+                dist.loadMapped(text, false, chunkSize, executor);
+                checkSameBins(empiricalDistribution2, dist);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadBinary() throws Exception {
+        empiricalDistribution2.load(dataArray);
+
+        final File binary = File.createTempFile("empirical", ".bin");
+        binary.deleteOnExit();
+        final DataOutputStream out = new DataOutputStream(new FileOutputStream(binary));
+        try {
+            for (final double x : dataArray) {
+                out.writeDouble(x);
+            }
+        } finally {
+            out.close();
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            empiricalDistribution.loadBinary(binary, executor);
+            checkSameBins(empiricalDistribution2, empiricalDistribution);
+            final EmpiricalDistribution dist = new EmpiricalDistribution(100);
+            dist.loadMapped(binary, true, 800, executor);
+            checkSameBins(empiricalDistribution2, dist);
+            dist.loadMapped(binary, true, 800, null);
+            checkSameBins(empiricalDistribution2, dist);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=EOFException.class)
+    public void testLoadBinaryTruncated() throws Exception {
+        final File binary = File.createTempFile("empirical", ".bin");
+        binary.deleteOnExit();
+        final DataOutputStream out = new DataOutputStream(new FileOutputStream(binary));
+        try {
+            out.writeDouble(1.0);
+            out.writeInt(2);
+        } finally {
+            out.close();
+        }
+        new EmpiricalDistribution().loadBinary(binary, null);
+    }
+
+    @Test(expected=NumberFormatException.class)
+    public void testLoadMappedEmptyLine() throws Exception {
+        final File text = File.createTempFile("empirical", ".txt");
+        text.deleteOnExit();
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(text), "US-ASCII");
+        try {
+            writer.write("1.0\n\n2.0\n");
+        } finally {
+            writer.close();
+        }
+        new EmpiricalDistribution().load(text);
+    }
+
+    private void checkSameBins(EmpiricalDistribution expected, EmpiricalDistribution actual) {
+        Assert.assertEquals(expected.getSampleStats(), actual.getSampleStats());
+        Assert.assertEquals(expected.getBinStats(), actual.getBinStats());
+        Assert.assertArrayEquals(expected.getUpperBounds(), actual.getUpperBounds(), 0);
+    }
+
     /**
      * MATH-298
      */
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link LongFrequency} class.
+ */
+public class LongFrequencyTest {
+
+    @Test
+    public void testAgainstFrequency() {
+        final RandomGenerator random = new Well1024a(0x4a7e2f9c06b3d518l);
+        final LongFrequency fast = new LongFrequency();
+        final Frequency reference = new Frequency();
+        for (int i = 0; i < 10000; i++) {
+            final long v = (long) (20 * random.nextGaussian()) - 5;
+            if (i % 3 == 0) {
+                fast.addValue(v);
+                reference.addValue(v);
+            } else {
+                fast.incrementValue(v, 3);
+                reference.incrementValue(v, 3);
+            }
+            if (i % 2000 == 0) {
+                // interleave queries, so that the sorted view is rebuilt
+                Assert.assertEquals(reference.getCumFreq(v), fast.getCumFreq(v));
+            }
+        }
+        Assert.assertEquals(reference.getSumFreq(), fast.getSumFreq());
+        Assert.assertEquals(reference.getUniqueCount(), fast.getUniqueCount());
+        for (long v = -120; v <= 120; v++) {
+            Assert.assertEquals(reference.getCount(v), fast.getCount(v));
+            Assert.assertEquals(reference.getPct(v), fast.getPct(v), 0);
+            Assert.assertEquals(reference.getCumFreq(v), fast.getCumFreq(v));
+            Assert.assertEquals(reference.getCumPct(v), fast.getCumPct(v), 0);
+        }
+        final List<Comparable<?>> modes = reference.getMode();
+        final long[] fastModes = fast.getMode();
+        Assert.assertEquals(modes.size(), fastModes.length);
+        for (int i = 0; i < fastModes.length; i++) {
+            Assert.assertEquals(modes.get(i), Long.valueOf(fastModes[i]));
+        }
+        Assert.assertEquals(reference, fast.toFrequency());
+        Assert.assertEquals(reference.toString(), fast.toString());
+    }
+
+    @Test
+    public void testEmptyTable() {
+        final LongFrequency f = new LongFrequency();
+        Assert.assertEquals(0, f.getCount(0));
+        Assert.assertEquals(0, f.getCumFreq(0));
+        Assert.assertTrue(Double.isNaN(f.getPct(0)));
+        Assert.assertTrue(Double.isNaN(f.getCumPct(0)));
+        Assert.assertEquals(0, f.getMode().length);
+        Assert.assertEquals(0, f.getValues().length);
+    }
+
+    @Test
+    public void testCumulativeBounds() {
+        final LongFrequency f = new LongFrequency();
+        f.addValue(Long.MIN_VALUE);
+        f.addValue(3);
+        f.addValue(3);
+        f.addValue('a');
+        f.addValue(Long.MAX_VALUE);
+        Assert.assertArrayEquals(new long[] { Long.MIN_VALUE, 3, 97, Long.MAX_VALUE }, f.getValues());
+        Assert.assertEquals(1, f.getCumFreq(Long.MIN_VALUE));
+        Assert.assertEquals(1, f.getCumFreq(2));
+        Assert.assertEquals(3, f.getCumFreq(3));
+        Assert.assertEquals(3, f.getCumFreq(96));
+        Assert.assertEquals(4, f.getCumFreq(97));
+        Assert.assertEquals(5, f.getCumFreq(Long.MAX_VALUE));
+        Assert.assertEquals(0.6, f.getCumPct(50), 1.0e-15);
+        Assert.assertArrayEquals(new long[] { 3 }, f.getMode());
+        f.clear();
+        Assert.assertEquals(0, f.getSumFreq());
+        Assert.assertEquals(0, f.getUniqueCount());
+    }
+
+    @Test
+    public void testMerge() {
+        final LongFrequency f1 = new LongFrequency();
+        final LongFrequency f2 = new LongFrequency();
+        final LongFrequency f3 = new LongFrequency();
+        final LongFrequency all = new LongFrequency();
+        for (int i = 0; i < 100; i++) {
+            final LongFrequency f = (i % 3 == 0) ? f1 : ((i % 3 == 1) ? f2 : f3);
+            f.addValue(i % 7);
+            all.addValue(i % 7);
+        }
+        final List<LongFrequency> others = new ArrayList<LongFrequency>();
+        others.add(f2);
+        others.add(f3);
+        f1.merge(others);
+        Assert.assertEquals(all, f1);
+        Assert.assertEquals(all.hashCode(), f1.hashCode());
+
+        f1.merge(f1);
+        Assert.assertEquals(2 * all.getSumFreq(), f1.getSumFreq());
+        Assert.assertEquals(2 * all.getCount(3), f1.getCount(3));
+        Assert.assertFalse(all.equals(f1));
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testMergeNull() {
+        new LongFrequency().merge((LongFrequency) null);
+    }
+
+    @Test
+    public void testSerial() {
+        final LongFrequency f = new LongFrequency();
+        f.addValue(1);
+        f.addValue(-4);
+        f.addValue(1);
+        Assert.assertEquals(1, f.getCumFreq(0));
+        final LongFrequency recovered = (LongFrequency) TestUtils.serializeAndRecover(f);
+        Assert.assertEquals(f, recovered);
+        Assert.assertEquals(3, recovered.getCumFreq(1));
+    }
+
+}
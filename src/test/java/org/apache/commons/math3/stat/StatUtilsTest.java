@@ -19,6 +19,7 @@ package org.apache.commons.math3.stat;
 
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.Precision;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
@@ -270,6 +271,16 @@ public final class StatUtilsTest {
         TestUtils.assertEquals(0.5, StatUtils.variance(x,2.5, 2, 2), TOLERANCE);
     }
 
+    @Test
+    public void testSummationMethod() {
+        final double[] x = new double[] {ONE, TWO, TWO, THREE};
+        for (SummationMethod method : SummationMethod.values()) {
+            TestUtils.assertEquals(8, StatUtils.sum(x, 0, 4, method), TOLERANCE);
+            TestUtils.assertEquals(2.5, StatUtils.mean(x, 2, 2, method), TOLERANCE);
+            TestUtils.assertEquals(0.5, StatUtils.variance(x, 2, 2, method), TOLERANCE);
+        }
+    }
+
     @Test
     public void testPopulationVariance() {
         double[] x = null;
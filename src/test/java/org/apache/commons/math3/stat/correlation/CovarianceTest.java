@@ -16,11 +16,17 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.descriptive.moment.Variance;
+import org.apache.commons.math3.util.FastMath;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -240,6 +246,42 @@ public class CovarianceTest {
                 new Covariance().covariance(x, y, true), Double.MIN_VALUE);
     }
 
+    /**
+     * Wide and long data set, spanning several blocks of rows and columns.
+     */
+    @Test
+    public void testBlocks() {
+        final RealMatrix matrix = createWideMatrix(0x6a1c09e3f48b2d57l);
+        final Covariance covariance = new Covariance(matrix, false);
+        final RealMatrix covarianceMatrix = covariance.getCovarianceMatrix();
+        for (int i = 0; i < matrix.getColumnDimension(); i++) {
+            for (int j = 0; j <= i; j++) {
+                final double expected = covariance.covariance(matrix.getColumn(i), matrix.getColumn(j), false);
+                Assert.assertEquals(expected, covarianceMatrix.getEntry(i, j), 1.0e-12 * FastMath.abs(expected) + 1.0e-13);
+                Assert.assertEquals(covarianceMatrix.getEntry(i, j), covarianceMatrix.getEntry(j, i), 0);
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final RealMatrix parallel = new Covariance(matrix, false, executor).getCovarianceMatrix();
+            Assert.assertEquals(covarianceMatrix, parallel);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    protected RealMatrix createWideMatrix(long seed) {
+        final RandomGenerator random = new Well1024a(seed);
+        final double[][] data = new double[1100][37];
+        for (int i = 0; i < data.length; i++) {
+            for (int j = 0; j < data[i].length; j++) {
+                data[i][j] = 1000 * j + random.nextGaussian() + ((j % 5 == 0) ? 0.001 * i : data[i][j / 2]);
+            }
+        }
+        return new Array2DRowRealMatrix(data);
+    }
+
     protected RealMatrix createRealMatrix(double[] data, int nRows, int nCols) {
         double[][] matrixData = new double[nRows][nCols];
         int ptr = 0;
@@ -17,6 +17,8 @@
 package org.apache.commons.math3.stat.correlation;
 
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.linear.RealMatrix;
@@ -276,4 +278,85 @@ public class KendallsCorrelationTest extends PearsonsCorrelationTest {
         double coefficient = correlation.correlation(xArray, yArray);
         Assert.assertTrue(1.0 >= coefficient && -1.0 <= coefficient);
     }
+
+    @Test
+    public void testAgainstNaive() {
+        final RandomGenerator rng = new Well1024a(0x5c3e9a17d20b846fl);
+        for (int n = 2; n < 300; n += 37) {
+            final double[] xArray = new double[n];
+            final double[] yArray = new double[n];
+            for (int i = 0; i < n; ++i) {
+                // few distinct values, to get many ties
+                xArray[i] = rng.nextInt(10);
+                yArray[i] = rng.nextInt(7) - 0.5 * xArray[i];
+            }
+            xArray[0] = Double.NaN;
+            yArray[n - 1] = Double.NaN;
+            Assert.assertEquals(naiveCorrelation(xArray, yArray),
+                                correlation.correlation(xArray, yArray), 1.0e-14);
+        }
+    }
+
+    @Test
+    public void testExecutor() {
+        final RandomGenerator rng = new Well1024a(0x1f04b6d38e27ca95l);
+        // 300 rows: the sorted indices end in the merge sort work array
+        final double[][] data = new double[300][9];
+        for (int i = 0; i < data.length; ++i) {
+            for (int j = 0; j < data[i].length; ++j) {
+                data[i][j] = (j % 3 == 0) ? rng.nextInt(20) : rng.nextGaussian() + i * 0.01 * j;
+            }
+        }
+        final RealMatrix matrix = new BlockRealMatrix(data);
+        final RealMatrix expected = correlation.computeCorrelationMatrix(matrix);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final RealMatrix parallel = correlation.computeCorrelationMatrix(matrix, executor);
+            Assert.assertEquals(expected, parallel);
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < data[0].length; ++i) {
+            for (int j = 0; j < i; ++j) {
+                Assert.assertEquals(correlation.correlation(matrix.getColumn(i), matrix.getColumn(j)),
+                                    expected.getEntry(i, j), 1.0e-15);
+            }
+        }
+    }
+
+    // Not relevant here
+    @Override
+    @Test
+    public void testBlockedMatrix() {}
+    @Override
+    @Test
+    public void testExtremeScales() {}
+    @Override
+    @Test
+    public void testBounds() {}
+
+    /**
+     * Computes Kendall's Tau-b by examining all the pairs.
+     */
+    private double naiveCorrelation(final double[] xArray, final double[] yArray) {
+        long concordantMinusDiscordant = 0;
+        long tiedX = 0;
+        long tiedY = 0;
+        long pairs = 0;
+        for (int i = 0; i < xArray.length; ++i) {
+            for (int j = 0; j < i; ++j) {
+                final int cx = Double.compare(xArray[i], xArray[j]);
+                final int cy = Double.compare(yArray[i], yArray[j]);
+                ++pairs;
+                if (cx == 0) {
+                    ++tiedX;
+                }
+                if (cy == 0) {
+                    ++tiedY;
+                }
+                concordantMinusDiscordant += Integer.signum(cx) * Integer.signum(cy);
+            }
+        }
+        return concordantMinusDiscordant / Math.sqrt((double) (pairs - tiedX) * (pairs - tiedY));
+    }
 }
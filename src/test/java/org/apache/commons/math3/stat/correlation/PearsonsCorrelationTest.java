@@ -16,11 +16,17 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.BlockRealMatrix;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathArrays;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -197,6 +203,49 @@ public class PearsonsCorrelationTest {
         Assert.assertTrue(Double.isNaN(new PearsonsCorrelation().correlation(values, noVariance)));
     }
 
+    /**
+     * Tiny and huge values, whose sums of squares cannot be multiplied
+     */
+    @Test
+    public void testExtremeScales() {
+        for (final double scale : new double[] { 1.0e-100, 1.0e100 }) {
+            final double[] x = new double[] {1 * scale, 2 * scale, 3 * scale, 5 * scale};
+            final double[] y = new double[] {2 * scale, 4 * scale, 6 * scale, 10 * scale};
+            final double[] z = new double[] {-1 * scale, -2 * scale, -3 * scale, -5 * scale};
+            final PearsonsCorrelation correlation = new PearsonsCorrelation();
+            Assert.assertEquals(1, correlation.correlation(x, x), 0);
+            Assert.assertEquals(1, correlation.correlation(x, y), 1.0e-15);
+            Assert.assertEquals(-1, correlation.correlation(y, z), 1.0e-15);
+            final RealMatrix matrix = correlation.computeCorrelationMatrix(new double[][] {
+                {x[0], y[0], z[0]}, {x[1], y[1], z[1]}, {x[2], y[2], z[2]}, {x[3], y[3], z[3]}
+            });
+            Assert.assertEquals(1, matrix.getEntry(0, 1), 1.0e-15);
+            Assert.assertEquals(-1, matrix.getEntry(1, 2), 1.0e-15);
+        }
+    }
+
+    /**
+     * Perfect correlations stay within [-1, 1] despite rounding
+     */
+    @Test
+    public void testBounds() {
+        final RandomGenerator random = new Well1024a(0x5f0c2e9b18d74a36l);
+        final PearsonsCorrelation correlation = new PearsonsCorrelation();
+        for (int k = 0; k < 1000; k++) {
+            final double[] x = new double[7];
+            final double[] y = new double[7];
+            final double a = random.nextDouble() * 10 + 0.1;
+            for (int i = 0; i < x.length; i++) {
+                x[i] = random.nextDouble();
+                y[i] = a * x[i] + 0.3;
+            }
+            final double r = correlation.correlation(x, y);
+            Assert.assertTrue(r <= 1);
+            Assert.assertEquals(1, r, 1.0e-14);
+            Assert.assertTrue(correlation.correlation(x, MathArrays.scale(-1, y)) >= -1);
+        }
+    }
+
 
     /**
      * Insufficient data
@@ -270,6 +319,31 @@ public class PearsonsCorrelationTest {
     }
 
 
+    /**
+     * Wide and long data set, spanning several blocks of rows and columns.
+     */
+    @Test
+    public void testBlockedMatrix() {
+        final RealMatrix matrix = new CovarianceTest().createWideMatrix(0x0d93b7e1a6f2c548l);
+        final PearsonsCorrelation pearson = new PearsonsCorrelation();
+        final RealMatrix correlationMatrix = pearson.computeCorrelationMatrix(matrix);
+        for (int i = 0; i < matrix.getColumnDimension(); i++) {
+            for (int j = 0; j < matrix.getColumnDimension(); j++) {
+                Assert.assertEquals(pearson.correlation(matrix.getColumn(i), matrix.getColumn(j)),
+                                    correlationMatrix.getEntry(i, j), 0);
+            }
+        }
+        TestUtils.assertEquals("correlation matrix", correlationMatrix,
+                               new PearsonsCorrelation(new Covariance(matrix)).getCorrelationMatrix(), 1.0e-14);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Assert.assertEquals(correlationMatrix, pearson.computeCorrelationMatrix(matrix, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testConsistency() {
         RealMatrix matrix = createRealMatrix(longleyData, 16, 7);
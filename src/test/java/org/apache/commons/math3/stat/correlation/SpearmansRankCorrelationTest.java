@@ -156,5 +156,14 @@ public class SpearmansRankCorrelationTest extends PearsonsCorrelationTest {
     @Override
     @Test
     public void testCovarianceConsistency() {}
+    @Override
+    @Test
+    public void testBlockedMatrix() {}
+    @Override
+    @Test
+    public void testExtremeScales() {}
+    @Override
+    @Test
+    public void testBounds() {}
 
 }
@@ -16,10 +16,18 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.random.ISAACRandom;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.apache.commons.math3.util.FastMath;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -248,6 +256,75 @@ public class StorelessCovarianceTest {
         TestUtils.assertEquals("covariance subset test", chk.getResult(), cov.getResult(), 10E-7);
     }
 
+    /**
+     * Test batch increments and partitioned accumulators against the row by row updates.
+     */
+    @Test
+    public void testBatchAndPartitions() {
+        final RandomGenerator random = new Well1024a(0x39e0c7d4a1f65b28l);
+        final int dimension = 23;
+        final double[][] rows = new double[1000][dimension];
+        for (int k = 0; k < rows.length; k++) {
+            for (int i = 0; i < dimension; i++) {
+                rows[k][i] = 1.0e3 * i + random.nextGaussian() + ((i > 0) ? rows[k][i - 1] : 0);
+            }
+        }
+
+        final StorelessCovariance rowByRow = new StorelessCovariance(dimension);
+        for (final double[] row : rows) {
+            rowByRow.increment(row);
+        }
+        final double[][] expected = new Covariance(rows).getCovarianceMatrix().getData();
+        checkCovariances(expected, rowByRow.getData(), 1.0e-11);
+
+        final StorelessCovariance batch = new StorelessCovariance(dimension);
+        batch.increment(new double[0][]);
+        batch.increment(rows);
+        checkCovariances(expected, batch.getData(), 1.0e-11);
+
+        // one accumulator per partition, mixing single rows and batches
+        final List<StorelessCovariance> partitions = new ArrayList<StorelessCovariance>();
+        for (int p = 0; p < 4; p++) {
+            final StorelessCovariance partition = new StorelessCovariance(dimension);
+            final double[][] block = new double[rows.length / 4][];
+            System.arraycopy(rows, p * block.length, block, 0, block.length);
+            if (p % 2 == 0) {
+                partition.increment(block);
+            } else {
+                for (final double[] row : block) {
+                    partition.increment(row);
+                }
+            }
+            partitions.add(partition);
+        }
+        final StorelessCovariance merged = new StorelessCovariance(dimension);
+        merged.append(partitions);
+        merged.append(new StorelessCovariance(dimension));
+        checkCovariances(expected, merged.getData(), 1.0e-11);
+    }
+
+    @Test(expected = DimensionMismatchException.class)
+    public void testBatchDimensionMismatch() {
+        new StorelessCovariance(3).increment(new double[][] { { 1, 2, 3 }, { 1, 2 } });
+    }
+
+    @Test(expected = NumberIsTooSmallException.class)
+    public void testInsufficientData() {
+        final StorelessCovariance cov = new StorelessCovariance(2);
+        cov.increment(new double[] { 1, 2 });
+        cov.getCovariance(0, 1);
+    }
+
+    private void checkCovariances(double[][] expected, double[][] actual, double relativeTolerance) {
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected.length; j++) {
+                Assert.assertEquals(expected[i][j], actual[i][j],
+                                    relativeTolerance * FastMath.abs(expected[i][i]));
+                Assert.assertEquals(actual[i][j], actual[j][i], 0);
+            }
+        }
+    }
+
     protected RealMatrix createRealMatrix(double[] data, int nRows, int nCols) {
         double[][] matrixData = new double[nRows][nCols];
         int ptr = 0;
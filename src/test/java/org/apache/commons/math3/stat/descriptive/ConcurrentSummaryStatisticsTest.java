@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ConcurrentSummaryStatistics} class.
+ */
+public class ConcurrentSummaryStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        Assert.assertEquals(0, stats.getN());
+        Assert.assertEquals(0, stats.getSum(), 0);
+        Assert.assertTrue(Double.isNaN(stats.getMean()));
+        Assert.assertTrue(Double.isNaN(stats.getVariance()));
+        Assert.assertTrue(Double.isNaN(stats.getMin()));
+        Assert.assertTrue(Double.isNaN(stats.getMax()));
+    }
+
+    @Test
+    public void testSingleThread() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics(3);
+        Assert.assertEquals(4, stats.getStripeCount());
+        final SummaryStatistics reference = new SummaryStatistics();
+        final RandomGenerator random = new Well1024a(0x2c4e6a8b0d1f3957l);
+        for (int i = 0; i < 1000; i++) {
+            final double x = random.nextGaussian();
+            stats.addValue(x);
+            reference.addValue(x);
+        }
+        assertSummaryEquals(reference, stats.getSummary(), 1.0e-12);
+        Assert.assertTrue(stats.toString().indexOf("n: 1000") > 0);
+
+        stats.clear();
+        Assert.assertEquals(0, stats.getN());
+        stats.addValue(2);
+        Assert.assertEquals(2, stats.getMean(), 0);
+        Assert.assertEquals(0, stats.getVariance(), 0);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        final int threads = 8;
+        final int perThread = 20000;
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics(4);
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * perThread;
+            tasks.add(new Callable<Void>() {
+                public Void call() {
+                    for (int i = 0; i < perThread; i++) {
+                        stats.addValue(offset + i);
+                    }
+                    return null;
+                }
+            });
+        }
+        final ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            for (final Future<Void> result : exec.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            exec.shutdown();
+        }
+
+        final SummaryStatistics reference = new SummaryStatistics();
+        for (int i = 0; i < threads * perThread; i++) {
+            reference.addValue(i);
+        }
+        assertSummaryEquals(reference, stats.getSummary(), 1.0e-10);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testZeroStripes() {
+        new ConcurrentSummaryStatistics(0);
+    }
+
+    @Test
+    public void testSerialization() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        stats.addValue(1);
+        stats.addValue(3);
+        final ConcurrentSummaryStatistics recovered =
+            (ConcurrentSummaryStatistics) TestUtils.serializeAndRecover(stats);
+        Assert.assertEquals(stats.getStripeCount(), recovered.getStripeCount());
+        Assert.assertEquals(2, recovered.getN());
+        Assert.assertEquals(2, recovered.getVariance(), 0);
+    }
+
+    private void assertSummaryEquals(final StatisticalSummary expected, final StatisticalSummary actual,
+                                     final double relTol) {
+        Assert.assertEquals(expected.getN(), actual.getN());
+        Assert.assertEquals(expected.getMin(), actual.getMin(), 0);
+        Assert.assertEquals(expected.getMax(), actual.getMax(), 0);
+        Assert.assertEquals(expected.getSum(), actual.getSum(), relTol * Math.abs(expected.getSum()));
+        Assert.assertEquals(expected.getMean(), actual.getMean(), relTol * Math.abs(expected.getMean()));
+        Assert.assertEquals(expected.getVariance(), actual.getVariance(), relTol * expected.getVariance());
+    }
+
+}
@@ -13,10 +13,12 @@
  */
 package org.apache.commons.math3.stat.descriptive;
 
+import java.util.Arrays;
 import java.util.Locale;
 
-
 import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 import org.apache.commons.math3.stat.descriptive.moment.GeometricMean;
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
@@ -25,6 +27,7 @@ import org.apache.commons.math3.stat.descriptive.rank.Max;
 import org.apache.commons.math3.stat.descriptive.rank.Min;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfSquares;
+import org.apache.commons.math3.stat.ranking.NaNStrategy;
 import org.apache.commons.math3.util.Precision;
 import org.junit.Assert;
 import org.junit.Test;
@@ -347,6 +350,160 @@ public class DescriptiveStatisticsTest {
         }
     }
 
+    @Test
+    public void testRollingPercentiles() {
+        final DescriptiveStatistics stats = createDescriptiveStatistics();
+        stats.setWindowSize(50);
+        final Percentile percentile = new Percentile();
+        final RandomGenerator random = new Well1024a(0x59c1e3a7f0d2864bl);
+        for (int i = 0; i < 500; i++) {
+            stats.addValue(random.nextInt(40));
+            if (i % 7 == 0) {
+                stats.removeMostRecentValue();
+            } else if (i % 11 == 0) {
+                stats.replaceMostRecentValue(random.nextGaussian());
+            }
+            if (i == 300) {
+                stats.setWindowSize(30);
+            }
+            for (final double p : new double[] { 1, 25, 50, 99, 100 }) {
+                Assert.assertEquals(percentile.evaluate(stats.getValues(), p), stats.getPercentile(p), 0);
+            }
+        }
+        final double[] sorted = stats.getValues();
+        Arrays.sort(sorted);
+        Assert.assertArrayEquals(sorted, stats.getSortedValues(), 0);
+        Assert.assertEquals(stats.getPercentile(50), stats.copy().getPercentile(50), 0);
+
+        stats.clear();
+        Assert.assertTrue(Double.isNaN(stats.getPercentile(50)));
+        stats.addValue(3);
+        Assert.assertEquals(3, stats.getPercentile(50), 0);
+        Assert.assertEquals(3, ((DescriptiveStatistics) TestUtils.serializeAndRecover(stats)).getPercentile(50), 0);
+
+        // windows holding NaN values, with all the NaN strategies that accept them
+        for (final NaNStrategy nanStrategy : new NaNStrategy[] {
+            NaNStrategy.REMOVED, NaNStrategy.MAXIMAL, NaNStrategy.MINIMAL, NaNStrategy.FIXED
+        }) {
+            final Percentile nanPercentile = new Percentile().withNaNStrategy(nanStrategy);
+            stats.clear();
+            stats.setPercentileImpl(nanPercentile.copy());
+            for (int i = 0; i < 100; i++) {
+                stats.addValue(i % 5 == 0 ? Double.NaN : random.nextInt(40));
+                for (final double p : new double[] { 1, 25, 50, 99, 100 }) {
+                    Assert.assertEquals(nanPercentile.evaluate(stats.getValues(), p), stats.getPercentile(p), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization() {
+        DescriptiveStatistics stats = createDescriptiveStatistics();
+        for (int i = 1; i <= 7; i++) {
+            stats.addValue(i);
+        }
+        DescriptiveStatistics recovered = (DescriptiveStatistics) TestUtils.serializeAndRecover(stats);
+        Assert.assertArrayEquals(stats.getValues(), recovered.getValues(), 0);
+        recovered.addValue(8);
+        Assert.assertEquals(8, recovered.getN());
+
+        stats.setWindowSize(5);
+        recovered = (DescriptiveStatistics) TestUtils.serializeAndRecover(stats);
+        Assert.assertEquals(5, recovered.getWindowSize());
+        Assert.assertArrayEquals(new double[] { 3, 4, 5, 6, 7 }, recovered.getValues(), 0);
+        recovered.addValue(8);
+        Assert.assertArrayEquals(new double[] { 4, 5, 6, 7, 8 }, recovered.getValues(), 0);
+        Assert.assertEquals(6, recovered.getPercentile(50), 0);
+        // the original is left unchanged by serialization
+        stats.addValue(8);
+        Assert.assertArrayEquals(new double[] { 4, 5, 6, 7, 8 }, stats.getValues(), 0);
+    }
+
+    /**
+     * Checks that a rolling window serialized by the previous release, with
+     * values 1 to 7 added to a window of size 5, can still be used.
+     */
+    @Test
+    public void testDeserializeFormerVersion() {
+        final String serialized =
+            "rO0ABXNyAD9vcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5EZXNj" +
+            "cmlwdGl2ZVN0YXRpc3RpY3M5W5rIInxX6AIADEkACndpbmRvd1NpemVMAANlREF0ADRMb3Jn" +
+            "L2FwYWNoZS9jb21tb25zL21hdGgzL3V0aWwvUmVzaXphYmxlRG91YmxlQXJyYXk7TAARZ2Vv" +
+            "bWV0cmljTWVhbkltcGx0AD9Mb3JnL2FwYWNoZS9jb21tb25zL21hdGgzL3N0YXQvZGVzY3Jp" +
+            "cHRpdmUvVW5pdmFyaWF0ZVN0YXRpc3RpYztMAAxrdXJ0b3Npc0ltcGxxAH4AAkwAB21heElt" +
+            "cGxxAH4AAkwACG1lYW5JbXBscQB+AAJMAAdtaW5JbXBscQB+AAJMAA5wZXJjZW50aWxlSW1w" +
+            "bHEAfgACTAAMc2tld25lc3NJbXBscQB+AAJMAAdzdW1JbXBscQB+AAJMAAlzdW1zcUltcGxx" +
+            "AH4AAkwADHZhcmlhbmNlSW1wbHEAfgACeHAAAAAFc3IAMm9yZy5hcGFjaGUuY29tbW9ucy5t" +
+            "YXRoMy51dGlsLlJlc2l6YWJsZURvdWJsZUFycmF5z6Do+PqveEUCAAZEABRjb250cmFjdGlv" +
+            "bkNyaXRlcmlvbkQAD2V4cGFuc2lvbkZhY3RvckkAC251bUVsZW1lbnRzSQAKc3RhcnRJbmRl" +
+            "eEwADWV4cGFuc2lvbk1vZGV0AEJMb3JnL2FwYWNoZS9jb21tb25zL21hdGgzL3V0aWwvUmVz" +
+            "aXphYmxlRG91YmxlQXJyYXkkRXhwYW5zaW9uTW9kZTtbAA1pbnRlcm5hbEFycmF5dAACW0R4" +
+            "cEAEAAAAAAAAQAAAAAAAAAAAAAAFAAAAAX5yAEBvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMu" +
+            "dXRpbC5SZXNpemFibGVEb3VibGVBcnJheSRFeHBhbnNpb25Nb2RlAAAAAAAAAAASAAB4cgAO" +
+            "amF2YS5sYW5nLkVudW0AAAAAAAAAABIAAHhwdAAOTVVMVElQTElDQVRJVkV1cgACW0Q+powU" +
+            "q2NaHgIAAHhwAAAABkAAAAAAAAAAQAgAAAAAAABAEAAAAAAAAEAUAAAAAAAAQBgAAAAAAABA" +
+            "HAAAAAAAAHNyAD5vcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5t" +
+            "b21lbnQuR2VvbWV0cmljTWVhbo5/S++5TJmDAgABTAAJc3VtT2ZMb2dzdABITG9yZy9hcGFj" +
+            "aGUvY29tbW9ucy9tYXRoMy9zdGF0L2Rlc2NyaXB0aXZlL1N0b3JlbGVzc1VuaXZhcmlhdGVT" +
+            "dGF0aXN0aWM7eHBzcgA7b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVzY3JpcHRp" +
+            "dmUuc3VtbWFyeS5TdW1PZkxvZ3P63Tju5tWJNQIAAkkAAW5EAAV2YWx1ZXhwAAAAAAAAAAAA" +
+            "AAAAc3IAOW9yZy5hcGFjaGUuY29tbW9ucy5tYXRoMy5zdGF0LmRlc2NyaXB0aXZlLm1vbWVu" +
+            "dC5LdXJ0b3NpcyakaNxACWa3AgACWgAJaW5jTW9tZW50TAAGbW9tZW50dAA/TG9yZy9hcGFj" +
+            "aGUvY29tbW9ucy9tYXRoMy9zdGF0L2Rlc2NyaXB0aXZlL21vbWVudC9Gb3VydGhNb21lbnQ7" +
+            "eHABc3IAPW9yZy5hcGFjaGUuY29tbW9ucy5tYXRoMy5zdGF0LmRlc2NyaXB0aXZlLm1vbWVu" +
+            "dC5Gb3VydGhNb21lbnRCHRgSKcXE6wIAAUQAAm00eHIAPG9yZy5hcGFjaGUuY29tbW9ucy5t" +
+            "YXRoMy5zdGF0LmRlc2NyaXB0aXZlLm1vbWVudC5UaGlyZE1vbWVudJN+WuTd/nMpAgACRAAC" +
+            "bTNEAAZuRGV2U3F4cgA9b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVzY3JpcHRp" +
+            "dmUubW9tZW50LlNlY29uZE1vbWVudDa2OsGxxcldAgABRAACbTJ4cgA8b3JnLmFwYWNoZS5j" +
+            "b21tb25zLm1hdGgzLnN0YXQuZGVzY3JpcHRpdmUubW9tZW50LkZpcnN0TW9tZW50VNTekKtB" +
+            "+mkCAAREAANkZXZEAAJtMUoAAW5EAARuRGV2eHB/+AAAAAAAAH/4AAAAAAAAAAAAAAAAAAB/" +
+            "+AAAAAAAAH/4AAAAAAAAf/gAAAAAAAB/+AAAAAAAAH/4AAAAAAAAc3IAMm9yZy5hcGFjaGUu" +
+            "Y29tbW9ucy5tYXRoMy5zdGF0LmRlc2NyaXB0aXZlLnJhbmsuTWF4smBPCiPD8l8CAAJKAAFu" +
+            "RAAFdmFsdWV4cAAAAAAAAAAAf/gAAAAAAABzcgA1b3JnLmFwYWNoZS5jb21tb25zLm1hdGgz" +
+            "LnN0YXQuZGVzY3JpcHRpdmUubW9tZW50Lk1lYW7uA4cURXrrtAIAAloACWluY01vbWVudEwA" +
+            "Bm1vbWVudHQAPkxvcmcvYXBhY2hlL2NvbW1vbnMvbWF0aDMvc3RhdC9kZXNjcmlwdGl2ZS9t" +
+            "b21lbnQvRmlyc3RNb21lbnQ7eHABc3EAfgAZf/gAAAAAAAB/+AAAAAAAAAAAAAAAAAAAf/gA" +
+            "AAAAAABzcgAyb3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVzY3JpcHRpdmUucmFu" +
+            "ay5NaW7XK+5rxc1mhQIAAkoAAW5EAAV2YWx1ZXhwAAAAAAAAAAB/+AAAAAAAAHNyADlvcmcu" +
+            "YXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5yYW5rLlBlcmNlbnRpbGWP" +
+            "tjl51R660AIABUQACHF1YW50aWxlWwAMY2FjaGVkUGl2b3RzdAACW0lMAA5lc3RpbWF0aW9u" +
+            "VHlwZXQASkxvcmcvYXBhY2hlL2NvbW1vbnMvbWF0aDMvc3RhdC9kZXNjcmlwdGl2ZS9yYW5r" +
+            "L1BlcmNlbnRpbGUkRXN0aW1hdGlvblR5cGU7TAALa3RoU2VsZWN0b3J0ACtMb3JnL2FwYWNo" +
+            "ZS9jb21tb25zL21hdGgzL3V0aWwvS3RoU2VsZWN0b3I7TAALbmFuU3RyYXRlZ3l0ADNMb3Jn" +
+            "L2FwYWNoZS9jb21tb25zL21hdGgzL3N0YXQvcmFua2luZy9OYU5TdHJhdGVneTt4cEBJAAAA" +
+            "AAAAcH5yAEhvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5yYW5r" +
+            "LlBlcmNlbnRpbGUkRXN0aW1hdGlvblR5cGUAAAAAAAAAABIAAHhxAH4ACXQABkxFR0FDWXNy" +
+            "AClvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMudXRpbC5LdGhTZWxlY3RvcgAAAAABM1KpAgAB" +
+            "TAAQcGl2b3RpbmdTdHJhdGVneXQAOUxvcmcvYXBhY2hlL2NvbW1vbnMvbWF0aDMvdXRpbC9Q" +
+            "aXZvdGluZ1N0cmF0ZWd5SW50ZXJmYWNlO3hwc3IAN29yZy5hcGFjaGUuY29tbW9ucy5tYXRo" +
+            "My51dGlsLk1lZGlhbk9mM1Bpdm90aW5nU3RyYXRlZ3kAAAAAATNSqQIAAHhwfnIAMW9yZy5h" +
+            "cGFjaGUuY29tbW9ucy5tYXRoMy5zdGF0LnJhbmtpbmcuTmFOU3RyYXRlZ3kAAAAAAAAAABIA" +
+            "AHhxAH4ACXQAB1JFTU9WRURzcgA5b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVz" +
+            "Y3JpcHRpdmUubW9tZW50LlNrZXduZXNzYo7d10GDcZgCAAJaAAlpbmNNb21lbnRMAAZtb21l" +
+            "bnR0AD5Mb3JnL2FwYWNoZS9jb21tb25zL21hdGgzL3N0YXQvZGVzY3JpcHRpdmUvbW9tZW50" +
+            "L1RoaXJkTW9tZW50O3hwAXNxAH4AF3/4AAAAAAAAf/gAAAAAAAAAAAAAAAAAAH/4AAAAAAAA" +
+            "f/gAAAAAAAB/+AAAAAAAAH/4AAAAAAAAc3IANW9yZy5hcGFjaGUuY29tbW9ucy5tYXRoMy5z" +
+            "dGF0LmRlc2NyaXB0aXZlLnN1bW1hcnkuU3VtjcKoc4kxo0QCAAJKAAFuRAAFdmFsdWV4cAAA" +
+            "AAAAAAAAAAAAAAAAAABzcgA+b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVzY3Jp" +
+            "cHRpdmUuc3VtbWFyeS5TdW1PZlNxdWFyZXMURnfaSxK2OAIAAkoAAW5EAAV2YWx1ZXhwAAAA" +
+            "AAAAAAAAAAAAAAAAAHNyADlvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlw" +
+            "dGl2ZS5tb21lbnQuVmFyaWFuY2WBi84vWxRnxgIAA1oACWluY01vbWVudFoAD2lzQmlhc0Nv" +
+            "cnJlY3RlZEwABm1vbWVudHQAP0xvcmcvYXBhY2hlL2NvbW1vbnMvbWF0aDMvc3RhdC9kZXNj" +
+            "cmlwdGl2ZS9tb21lbnQvU2Vjb25kTW9tZW50O3hwAQFzcQB+ABh/+AAAAAAAAH/4AAAAAAAA" +
+            "AAAAAAAAAAB/+AAAAAAAAH/4AAAAAAAA";
+        final DescriptiveStatistics former = (DescriptiveStatistics) TestUtils.deserialize(serialized);
+        final DescriptiveStatistics stats = createDescriptiveStatistics();
+        DescriptiveStatistics.copy(former, stats);
+        Assert.assertEquals(5, stats.getWindowSize());
+        Assert.assertArrayEquals(new double[] { 3, 4, 5, 6, 7 }, stats.getValues(), 0);
+        Assert.assertEquals(5, stats.getMean(), 1.0e-15);
+        stats.addValue(8);
+        Assert.assertArrayEquals(new double[] { 4, 5, 6, 7, 8 }, stats.getValues(), 0);
+        Assert.assertEquals(6, stats.getMean(), 1.0e-15);
+        Assert.assertEquals(6, stats.getPercentile(50), 0);
+    }
+
     /**
      * Test percentile subclass - another "new math" impl
      * Always returns currently set quantile
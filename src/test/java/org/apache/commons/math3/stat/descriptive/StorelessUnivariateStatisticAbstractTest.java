@@ -216,4 +216,36 @@ public abstract class StorelessUnivariateStatisticAbstractTest
             (StorelessUnivariateStatistic) getUnivariateStatistic();
         Assert.assertEquals(s, TestUtils.serializeAndRecover(s));
     }
+
+    /**
+     * Verifies that merging statistics computed over parts of testArray,
+     * including an empty one, gives the statistic of the whole array.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMerge() {
+        StorelessUnivariateStatistic total =
+            (StorelessUnivariateStatistic) getUnivariateStatistic();
+        if (!(total instanceof MergeableStatistic)) {
+            return;
+        }
+
+        final int[] bounds = { 0, testArray.length / 3, testArray.length / 3, testArray.length };
+        total.incrementAll(testArray, 0, bounds[1]);
+        for (int i = 1; i < bounds.length - 1; i++) {
+            final StorelessUnivariateStatistic partial = total.copy();
+            partial.clear();
+            partial.incrementAll(testArray, bounds[i], bounds[i + 1] - bounds[i]);
+            ((MergeableStatistic<Object>) total).merge(partial);
+        }
+        Assert.assertEquals(expectedValue(), total.getResult(), getTolerance());
+        Assert.assertEquals(testArray.length, total.getN());
+
+        // merging into an empty statistic
+        final StorelessUnivariateStatistic empty = total.copy();
+        empty.clear();
+        ((MergeableStatistic<Object>) empty).merge(total);
+        Assert.assertEquals(expectedValue(), empty.getResult(), getTolerance());
+        Assert.assertEquals(testArray.length, empty.getN());
+    }
 }
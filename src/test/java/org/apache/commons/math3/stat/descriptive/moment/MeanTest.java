@@ -18,6 +18,9 @@ package org.apache.commons.math3.stat.descriptive.moment;
 
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
+import org.apache.commons.math3.TestUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -64,4 +67,47 @@ public class MeanTest extends StorelessUnivariateStatisticAbstractTest{
         Assert.assertEquals(expectedValue(), mean.evaluate(testArray, identicalWeightsArray, 0, testArray.length), getTolerance());
     }
 
+    @Test
+    public void testSummationMethod() {
+        for (SummationMethod method : SummationMethod.values()) {
+            Mean mean = new Mean(method);
+            Assert.assertEquals(method, mean.getSummationMethod());
+            Assert.assertEquals(method, mean.copy().getSummationMethod());
+            Assert.assertEquals(expectedValue(), mean.evaluate(testArray), getTolerance());
+        }
+
+        // large offset
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0e9 + 0.1 * (i % 10);
+        }
+        Assert.assertEquals(1.0e9 + 0.45, new Mean(SummationMethod.NEUMAIER).evaluate(values), 2.0e-7);
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testNullSummationMethod() {
+        new Mean((SummationMethod) null);
+    }
+
+    /**
+     * Checks that instances serialized before the summation method was
+     * configurable are restored with naive summation.
+     */
+    @Test
+    public void testDeserializeFormerVersion() {
+        final String serialized =
+            "rO0ABXNyADVvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5tb21l" +
+            "bnQuTWVhbu4DhxRFeuu0AgACWgAJaW5jTW9tZW50TAAGbW9tZW50dAA+TG9yZy9hcGFjaGUv" +
+            "Y29tbW9ucy9tYXRoMy9zdGF0L2Rlc2NyaXB0aXZlL21vbWVudC9GaXJzdE1vbWVudDt4cAFz" +
+            "cgA8b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVzY3JpcHRpdmUubW9tZW50LkZp" +
+            "cnN0TW9tZW50VNTekKtB+mkCAAREAANkZXZEAAJtMUoAAW5EAARuRGV2eHBAEgAAAAAAAEAI" +
+            "AAAAAAAAAAAAAAAAAAM/+AAAAAAAAA==";
+        final Mean mean = (Mean) TestUtils.deserialize(serialized);
+        Assert.assertEquals(3, mean.getN());
+        Assert.assertEquals(3.0, mean.getResult(), 0);
+        mean.increment(3);
+        Assert.assertEquals(3.0, mean.getResult(), 0);
+        Assert.assertEquals(2.0, mean.evaluate(new double[] { 1, 2, 3 }), 0);
+    }
+
 }
@@ -19,6 +19,8 @@ package org.apache.commons.math3.stat.descriptive.moment;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.apache.commons.math3.util.MathArrays;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
+import org.apache.commons.math3.TestUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -114,4 +116,46 @@ public class VarianceTest extends StorelessUnivariateStatisticAbstractTest{
 
     }
 
+    @Test
+    public void testSummationMethod() {
+        for (SummationMethod method : SummationMethod.values()) {
+            Variance variance = new Variance(true, method);
+            Assert.assertEquals(method, variance.getSummationMethod());
+            Assert.assertEquals(method, variance.copy().getSummationMethod());
+            Assert.assertEquals(expectedValue(), variance.evaluate(testArray), getTolerance());
+            Assert.assertEquals(populationVariance(testArray),
+                                new Variance(false, method).evaluate(testArray), getTolerance());
+        }
+
+        // large offset
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0e9 + 0.1 * (i % 10);
+        }
+        Assert.assertEquals(0.0825, new Variance(false, SummationMethod.NEUMAIER).evaluate(values), 1.0e-6);
+    }
+
+    /**
+     * Checks that instances serialized before the summation method was
+     * configurable are restored with naive summation.
+     */
+    @Test
+    public void testDeserializeFormerVersion() {
+        final String serialized =
+            "rO0ABXNyADlvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5tb21l" +
+            "bnQuVmFyaWFuY2WBi84vWxRnxgIAA1oACWluY01vbWVudFoAD2lzQmlhc0NvcnJlY3RlZEwA" +
+            "Bm1vbWVudHQAP0xvcmcvYXBhY2hlL2NvbW1vbnMvbWF0aDMvc3RhdC9kZXNjcmlwdGl2ZS9t" +
+            "b21lbnQvU2Vjb25kTW9tZW50O3hwAQFzcgA9b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0" +
+            "YXQuZGVzY3JpcHRpdmUubW9tZW50LlNlY29uZE1vbWVudDa2OsGxxcldAgABRAACbTJ4cgA8" +
+            "b3JnLmFwYWNoZS5jb21tb25zLm1hdGgzLnN0YXQuZGVzY3JpcHRpdmUubW9tZW50LkZpcnN0" +
+            "TW9tZW50VNTekKtB+mkCAAREAANkZXZEAAJtMUoAAW5EAARuRGV2eHBAEgAAAAAAAEAIAAAA" +
+            "AAAAAAAAAAAAAAM/+AAAAAAAAEAsAAAAAAAA";
+        final Variance variance = (Variance) TestUtils.deserialize(serialized);
+        Assert.assertEquals(3, variance.getN());
+        Assert.assertEquals(7.0, variance.getResult(), 1.0e-15);
+        variance.increment(3);
+        Assert.assertEquals(14.0 / 3.0, variance.getResult(), 1.0e-14);
+        Assert.assertEquals(1.0, variance.evaluate(new double[] { 1, 2, 3 }), 1.0e-15);
+    }
+
 }
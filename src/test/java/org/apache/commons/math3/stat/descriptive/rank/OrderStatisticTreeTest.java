@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link OrderStatisticTree} class.
+ */
+public class OrderStatisticTreeTest {
+
+    @Test
+    public void testRandomOperations() {
+        final RandomGenerator random = new Well1024a(0x6b2d49e08f1c3a57l);
+        final OrderStatisticTree tree = new OrderStatisticTree();
+        final List<Double> reference = new ArrayList<Double>();
+        for (int i = 0; i < 20000; i++) {
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                // few distinct values, so that there are many duplicates
+                final double x = random.nextInt(200) / 4.0;
+                tree.insert(x);
+                reference.add(x);
+            } else {
+                final int index = random.nextInt(reference.size());
+                Assert.assertTrue(tree.remove(reference.get(index)));
+                reference.remove(index);
+            }
+            if (i % 1000 == 0) {
+                checkContent(reference, tree);
+            }
+        }
+        checkContent(reference, tree);
+        Assert.assertFalse(tree.remove(-1));
+        Assert.assertEquals(reference.size(), tree.size());
+    }
+
+    @Test
+    public void testSortedInsertions() {
+        final OrderStatisticTree tree = new OrderStatisticTree();
+        for (int i = 0; i < 1 << 16; i++) {
+            tree.insert(i);
+        }
+        for (int i = 0; i < 1 << 16; i += 7) {
+            Assert.assertEquals(i, tree.select(i), 0);
+            Assert.assertEquals(i, tree.countLessThan(i));
+        }
+        for (int i = 0; i < 1 << 15; i++) {
+            Assert.assertTrue(tree.remove(i));
+        }
+        Assert.assertEquals(1 << 15, tree.size());
+        Assert.assertEquals(1 << 15, tree.select(0), 0);
+    }
+
+    @Test
+    public void testBulkConstructor() {
+        final double[] values = { 3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5 };
+        final OrderStatisticTree tree = new OrderStatisticTree(values);
+        final List<Double> reference = new ArrayList<Double>();
+        for (final double x : values) {
+            reference.add(x);
+        }
+        checkContent(reference, tree);
+        tree.insert(0);
+        reference.add(0.0);
+        tree.remove(5);
+        reference.remove(Double.valueOf(5));
+        checkContent(reference, tree);
+    }
+
+    @Test
+    public void testSpecialValues() {
+        final OrderStatisticTree tree = new OrderStatisticTree();
+        tree.insert(Double.NaN);
+        tree.insert(0.0);
+        tree.insert(Double.POSITIVE_INFINITY);
+        tree.insert(-0.0);
+        tree.insert(Double.NEGATIVE_INFINITY);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, tree.select(0), 0);
+        Assert.assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(tree.select(1)));
+        Assert.assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(tree.select(2)));
+        Assert.assertEquals(Double.POSITIVE_INFINITY, tree.select(3), 0);
+        Assert.assertTrue(Double.isNaN(tree.select(4)));
+        Assert.assertEquals(4, tree.countLessThan(Double.NaN));
+        Assert.assertTrue(tree.remove(Double.NaN));
+        Assert.assertEquals(4, tree.size());
+    }
+
+    @Test
+    public void testCopyAndClear() {
+        final OrderStatisticTree tree = new OrderStatisticTree(new double[] { 2, 1, 3 });
+        final OrderStatisticTree copy = tree.copy();
+        tree.clear();
+        Assert.assertEquals(0, tree.size());
+        Assert.assertEquals(0, tree.toSortedArray().length);
+        Assert.assertEquals(3, copy.size());
+        Assert.assertEquals(2, copy.select(1), 0);
+        tree.insert(5);
+        Assert.assertEquals(5, tree.select(0), 0);
+    }
+
+    @Test
+    public void testSerialization() {
+        final RandomGenerator random = new Well1024a(0x1f4e7a2c95d03b68l);
+        final OrderStatisticTree tree = new OrderStatisticTree();
+        final List<Double> reference = new ArrayList<Double>();
+        for (int i = 0; i < 1000; i++) {
+            final double x = random.nextGaussian();
+            tree.insert(x);
+            reference.add(x);
+        }
+        final OrderStatisticTree recovered = (OrderStatisticTree) TestUtils.serializeAndRecover(tree);
+        checkContent(reference, recovered);
+        recovered.insert(0);
+        reference.add(0.0);
+        checkContent(reference, recovered);
+    }
+
+    @Test(expected = OutOfRangeException.class)
+    public void testSelectOutOfRange() {
+        final OrderStatisticTree tree = new OrderStatisticTree();
+        tree.insert(1);
+        tree.select(1);
+    }
+
+    @Test(expected = OutOfRangeException.class)
+    public void testSelectEmpty() {
+        new OrderStatisticTree().select(0);
+    }
+
+    private void checkContent(final List<Double> reference, final OrderStatisticTree tree) {
+        final List<Double> sorted = new ArrayList<Double>(reference);
+        Collections.sort(sorted);
+        Assert.assertEquals(sorted.size(), tree.size());
+        final double[] array = tree.toSortedArray();
+        for (int k = 0; k < sorted.size(); k++) {
+            Assert.assertEquals(sorted.get(k), array[k], 0);
+            Assert.assertEquals(sorted.get(k), tree.select(k), 0);
+        }
+        for (int k = 0; k < sorted.size(); k += 17) {
+            final double x = sorted.get(k);
+            Assert.assertEquals(sorted.indexOf(x), tree.countLessThan(x));
+        }
+    }
+
+}
@@ -525,6 +525,58 @@ public class PSquarePercentileTest extends
         return test;
     }
 
+    /**
+     * Merging P-square estimates is approximate: instead of the generic
+     * check against the sequential estimate of a small array, the merged
+     * estimates of a large sample are compared with the exact percentiles.
+     */
+    @Override
+    @Test
+    public void testMerge() {
+        final int parts = 8;
+        final int size = 10000;
+        final double[] all = new double[parts * size];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = randomGenerator.nextDouble() * 100;
+        }
+        for (final double p : new double[] { 10, 50, 90, 99 }) {
+            final PSquarePercentile total = new PSquarePercentile(p);
+            for (int k = 0; k < parts; k++) {
+                final PSquarePercentile partial = new PSquarePercentile(p);
+                partial.incrementAll(all, k * size, size);
+                total.merge(partial);
+            }
+            Assert.assertEquals(all.length, total.getN());
+            assertValues(total.getResult(), new Percentile(p).evaluate(all), 0.01);
+        }
+    }
+
+    @Test
+    public void testMergeFewObservations() {
+        final double[] values = { 8, 3, 5, 1, 9, 2, 7, 4, 6, 0 };
+
+        // fewer than 5 observations on either side: same as sequential increments
+        final PSquarePercentile sequential = new PSquarePercentile(50);
+        sequential.incrementAll(values);
+        final PSquarePercentile small = new PSquarePercentile(50);
+        small.incrementAll(values, 0, 3);
+        final PSquarePercentile large = new PSquarePercentile(50);
+        large.incrementAll(values, 3, 7);
+        large.merge(small);
+        Assert.assertEquals(values.length, large.getN());
+        Assert.assertEquals(sequential.getResult(), large.getResult(), 1.0);
+
+        final PSquarePercentile empty = new PSquarePercentile(50);
+        empty.merge(large);
+        Assert.assertEquals(large.getResult(), empty.getResult(), 0);
+        Assert.assertEquals(values.length, empty.getN());
+    }
+
+    @Test(expected = MathIllegalArgumentException.class)
+    public void testMergeDifferentQuantiles() {
+        new PSquarePercentile(50).merge(new PSquarePercentile(90));
+    }
+
     @Test
     public void testAccept() {
         PSquarePercentile psquared = new PSquarePercentile(0.99);
@@ -850,6 +850,121 @@ public class PercentileTest extends UnivariateStatisticAbstractTest{
                 NaNStrategy.REMOVED);
     }
 
+    @Test
+    public void testMultiplePercentiles() {
+        final RandomGenerator rand = new Well1024a(0x3c95e0d1b72a4f68l);
+        final double[] p = new double[101];
+        for (int i = 0; i < p.length - 1; i++) {
+            p[i] = i + 1;
+        }
+        p[p.length - 1] = 0.01;
+        for (final int n : new int[] { 2, 7, 100, 5000 }) {
+            final double[] data = new double[n];
+            for (int i = 0; i < n; i++) {
+                data[i] = (i % 17 == 3) ? Double.NaN : rand.nextInt(n) + 0.5 * rand.nextDouble();
+            }
+            for (final Percentile.EstimationType e : Percentile.EstimationType.values()) {
+                for (final NaNStrategy nanStrategy : new NaNStrategy[] {
+                    NaNStrategy.MAXIMAL, NaNStrategy.MINIMAL, NaNStrategy.REMOVED, NaNStrategy.FIXED
+                }) {
+                    final Percentile percentile = new Percentile().withEstimationType(e).withNaNStrategy(nanStrategy);
+                    final double[] copy = data.clone();
+                    final double[] results = percentile.evaluate(copy, 1, n - 1, p);
+                    Assert.assertArrayEquals(data, copy, 0);
+                    for (int i = 0; i < p.length; i++) {
+                        Assert.assertEquals(percentile.evaluate(data, 1, n - 1, p[i]), results[i], 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplePercentilesStoredData() {
+        final double[] data = new double[] { 5, 1, 4, 2, 3, 9, 7, 8, 6, 0 };
+        final Percentile percentile = new Percentile();
+        percentile.setData(data);
+        final double median = percentile.evaluate(50);
+        final double[] results = percentile.evaluate(data, new double[] { 10, 50, 90 });
+        Assert.assertEquals(median, results[1], 0);
+        Assert.assertEquals(percentile.evaluate(10), results[0], 0);
+        Assert.assertEquals(percentile.evaluate(90), results[2], 0);
+        Assert.assertEquals(median, percentile.evaluate(50), 0);
+    }
+
+    @Test
+    public void testMultiplePercentilesSpecialCases() {
+        final Percentile percentile = new Percentile();
+        Assert.assertTrue(Double.isNaN(percentile.evaluate(new double[0], new double[] { 50 })[0]));
+        Assert.assertArrayEquals(new double[] { 3, 3 },
+                                 percentile.evaluate(new double[] { 3 }, new double[] { 1, 99 }), 0);
+        Assert.assertEquals(0, percentile.evaluate(new double[] { 1, 2 }, new double[0]).length);
+        try {
+            percentile.evaluate(new double[] { 1, 2 }, new double[] { 50, 0 });
+            Assert.fail("an exception should have been thrown");
+        } catch (OutOfRangeException ex) {
+            // expected
+        }
+        try {
+            percentile.evaluate(new double[] { 1, 2 }, (double[]) null);
+            Assert.fail("an exception should have been thrown");
+        } catch (NullArgumentException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOrderStatisticTree() {
+        final RandomGenerator random = new Well1024a(0x3e8c1d7b50a294f6l);
+        for (final int size : new int[] { 0, 1, 2, 3, 10, 101 }) {
+            final double[] data = new double[size];
+            for (int i = 0; i < size; i++) {
+                // some duplicates and a few NaNs
+                data[i] = (random.nextInt(10) == 0) ? Double.NaN : random.nextInt(size + 1);
+            }
+            final OrderStatisticTree tree = new OrderStatisticTree(data);
+            for (final EstimationType e : EstimationType.values()) {
+                for (final NaNStrategy nanStrategy : new NaNStrategy[] {
+                    NaNStrategy.REMOVED, NaNStrategy.MAXIMAL, NaNStrategy.MINIMAL
+                }) {
+                    final Percentile percentile = new Percentile().withEstimationType(e).withNaNStrategy(nanStrategy);
+                    for (final double p : new double[] { 0.5, 1, 10, 25, 50, 75, 90, 99, 100 }) {
+                        Assert.assertEquals(e + " " + nanStrategy + " " + size + " " + p,
+                                            percentile.evaluate(data, p), percentile.evaluate(tree, p), 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOrderStatisticTreeSpecialCases() {
+        final Percentile percentile = new Percentile().withNaNStrategy(NaNStrategy.FAILED);
+        Assert.assertEquals(2, percentile.evaluate(new OrderStatisticTree(new double[] { 1, 2, 3 }), 50), 0);
+        try {
+            percentile.evaluate(new OrderStatisticTree(new double[] { 1, Double.NaN, 3 }), 50);
+            Assert.fail("an exception should have been thrown");
+        } catch (NotANumberException ex) {
+            // expected
+        }
+        try {
+            percentile.evaluate(new OrderStatisticTree(), 0);
+            Assert.fail("an exception should have been thrown");
+        } catch (OutOfRangeException ex) {
+            // expected
+        }
+        try {
+            percentile.evaluate((OrderStatisticTree) null, 50);
+            Assert.fail("an exception should have been thrown");
+        } catch (NullArgumentException ex) {
+            // expected
+        }
+        Assert.assertTrue(Double.isNaN(new Percentile().evaluate(new OrderStatisticTree(), 50)));
+        Assert.assertTrue(Double.isNaN(new Percentile().evaluate(new OrderStatisticTree(new double[] {
+            Double.NaN, Double.NaN
+        }), 50)));
+    }
+
     /**
      * Simple test assertion utility method
      *
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link TDigest} class.
+ */
+public class TDigestTest extends StorelessUnivariateStatisticAbstractTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UnivariateStatistic getUnivariateStatistic() {
+        return new TDigest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double expectedValue() {
+        // small samples are kept exactly
+        return this.median;
+    }
+
+    @Test
+    public void testSmallSample() {
+        final TDigest digest = new TDigest();
+        digest.incrementAll(testArray);
+        Assert.assertEquals(testArray.length, digest.getCentroidCount());
+        Assert.assertEquals(min, digest.getPercentile(0), 0);
+        Assert.assertEquals(max, digest.getPercentile(100), 0);
+        final double[] sorted = testArray.clone();
+        Arrays.sort(sorted);
+        // rank floor(22 * 0.05) + 1 = 2
+        Assert.assertEquals(sorted[1], digest.getPercentile(5), 0);
+        Assert.assertEquals(0.5, digest.getCumulativeProbability(median), 0.05);
+        Assert.assertEquals(0, digest.getCumulativeProbability(min - 1), 0);
+        Assert.assertEquals(1, digest.getCumulativeProbability(max), 0);
+    }
+
+    @Test
+    public void testLargeSample() {
+        final RandomGenerator random = new Well19937c(0x4f1e93a06bd2c587l);
+        final double[] values = new double[200000];
+        final TDigest digest = new TDigest(99);
+        for (int i = 0; i < values.length; i++) {
+            // log-normal, as latencies
+            values[i] = FastMath.exp(random.nextGaussian());
+            digest.increment(values[i]);
+        }
+        Assert.assertTrue(digest.getCentroidCount() <= digest.getCompression());
+        Assert.assertEquals(values.length, digest.getN());
+
+        checkRanks(digest, values);
+        Assert.assertEquals(digest.getPercentile(99), digest.getResult(), 0);
+    }
+
+    @Test
+    public void testMergeLarge() {
+        final RandomGenerator random = new Well19937c(0x1c7d05e2a94b386fl);
+        final double[] values = new double[200000];
+        final TDigest merged = new TDigest();
+        for (int k = 0; k < 20; k++) {
+            final TDigest part = new TDigest();
+            for (int i = 0; i < 10000; i++) {
+                final double x = FastMath.exp(random.nextGaussian());
+                values[10000 * k + i] = x;
+                part.increment(x);
+            }
+            merged.merge(part);
+        }
+        Assert.assertEquals(values.length, merged.getN());
+        Assert.assertTrue(merged.getCentroidCount() <= merged.getCompression());
+        checkRanks(merged, values);
+    }
+
+    @Test
+    public void testSerializationSize() throws IOException {
+        final RandomGenerator random = new Well19937c(0x66a0c3d91e57b24fl);
+        final TDigest digest = new TDigest();
+        for (int i = 0; i < 1000000; i++) {
+            digest.increment(random.nextDouble());
+        }
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final ObjectOutputStream oos = new ObjectOutputStream(bos);
+        oos.writeObject(digest);
+        oos.close();
+        // centroids only, without the buffers
+        Assert.assertTrue(bos.size() < 16 * digest.getCompression() + 1024);
+
+        final TDigest recovered = (TDigest) TestUtils.serializeAndRecover(digest);
+        Assert.assertEquals(digest.getN(), recovered.getN());
+        for (final double p : new double[] { 0, 0.1, 50, 99.9, 100 }) {
+            Assert.assertEquals(digest.getPercentile(p), recovered.getPercentile(p), 0);
+        }
+        recovered.increment(2);
+        Assert.assertEquals(2, recovered.getPercentile(100), 0);
+    }
+
+    @Test
+    public void testSpecialValues() {
+        final TDigest digest = new TDigest();
+        Assert.assertTrue(Double.isNaN(digest.getPercentile(50)));
+        Assert.assertTrue(Double.isNaN(digest.getCumulativeProbability(0)));
+        digest.increment(Double.NaN);
+        Assert.assertEquals(0, digest.getN());
+        digest.increment(3);
+        Assert.assertEquals(3, digest.getPercentile(0), 0);
+        Assert.assertEquals(3, digest.getPercentile(50), 0);
+        Assert.assertEquals(3, digest.getPercentile(100), 0);
+        digest.increment(Double.NEGATIVE_INFINITY);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, digest.getPercentile(0), 0);
+    }
+
+    @Test(expected = OutOfRangeException.class)
+    public void testInvalidPercentile() {
+        new TDigest().getPercentile(101);
+    }
+
+    @Test(expected = OutOfRangeException.class)
+    public void testInvalidResultPercentile() {
+        new TDigest(-1);
+    }
+
+    @Test(expected = NumberIsTooSmallException.class)
+    public void testInvalidCompression() {
+        new TDigest(50, 5);
+    }
+
+    /**
+     * Checks the ranks of estimated percentiles among the values. The ranks
+     * are compared rather than the values, since the accuracy of a t-digest
+     * is best near the extreme quantiles.
+     *
+     * @param digest digest of the values
+     * @param values values
+     */
+    private void checkRanks(final TDigest digest, final double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (final double p : new double[] { 0.1, 1, 10, 50, 90, 99, 99.9 }) {
+            final double estimate = digest.getPercentile(p);
+            int rank = Arrays.binarySearch(sorted, estimate);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            final double q = p / 100;
+            Assert.assertEquals(q, rank / (double) values.length, 0.01 * FastMath.sqrt(q * (1 - q)) + 1.0e-4);
+            Assert.assertEquals(q, digest.getCumulativeProbability(estimate), 0.005);
+        }
+        Assert.assertEquals(sorted[0], digest.getPercentile(0), 0);
+        Assert.assertEquals(sorted[sorted.length - 1], digest.getPercentile(100), 0);
+    }
+
+}
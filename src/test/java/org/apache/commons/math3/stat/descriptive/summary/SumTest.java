@@ -19,6 +19,7 @@ package org.apache.commons.math3.stat.descriptive.summary;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.apache.commons.math3.TestUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -76,5 +77,21 @@ public class SumTest extends StorelessUnivariateStatisticAbstractTest{
         Assert.assertEquals(0, statistic.getResult(), 0);
     }
 
+    /**
+     * Checks that instances serialized before the summation method was
+     * configurable are restored with naive summation.
+     */
+    @Test
+    public void testDeserializeFormerVersion() {
+        final String serialized =
+            "rO0ABXNyADVvcmcuYXBhY2hlLmNvbW1vbnMubWF0aDMuc3RhdC5kZXNjcmlwdGl2ZS5zdW1t" +
+            "YXJ5LlN1bY3CqHOJMaNEAgACSgABbkQABXZhbHVleHAAAAAAAAAAA0AcAAAAAAAA";
+        final Sum sum = (Sum) TestUtils.deserialize(serialized);
+        Assert.assertEquals(3, sum.getN());
+        Assert.assertEquals(7.0, sum.getResult(), 0);
+        sum.increment(8);
+        Assert.assertEquals(15.0, sum.getResult(), 0);
+        Assert.assertEquals(3.0, sum.evaluate(new double[] { 1, 2 }), 0);
+    }
 
 }
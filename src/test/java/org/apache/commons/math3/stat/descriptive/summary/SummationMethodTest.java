@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.summary;
+
+import java.math.BigDecimal;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link SummationMethod} enum.
+ */
+public class SummationMethodTest {
+
+    @Test
+    public void testSmallSums() {
+        final double[] values = { 1, 2, 3, 4, 5, 6, 7 };
+        for (final SummationMethod method : SummationMethod.values()) {
+            Assert.assertEquals(28, method.sum(values, 0, 7), 0);
+            Assert.assertEquals(9, method.sum(values, 1, 3), 0);
+            Assert.assertEquals(0, method.sum(values, 2, 0), 0);
+            Assert.assertEquals(0, method.sumOfDeviations(values, 4, 0, 7), 0);
+            Assert.assertEquals(28, method.sumOfSquaredDeviations(values, 4, 0, 7), 0);
+        }
+    }
+
+    @Test
+    public void testAccuracy() {
+        // many copies of 0.1 (not representable) and a large offset
+        final int n = 1000003;
+        final double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = 0.1;
+        }
+        values[n / 2] = 1.0e10;
+        final double exact = exact(values, 0, 0);
+
+        final double naiveError = FastMath.abs(SummationMethod.NAIVE.sum(values, 0, n) - exact);
+        Assert.assertTrue(naiveError > 1.0e-6);
+        Assert.assertEquals(exact, SummationMethod.KAHAN.sum(values, 0, n), FastMath.ulp(exact));
+        Assert.assertEquals(exact, SummationMethod.NEUMAIER.sum(values, 0, n), FastMath.ulp(exact));
+        Assert.assertTrue(FastMath.abs(SummationMethod.PAIRWISE.sum(values, 0, n) - exact) < naiveError / 100);
+    }
+
+    @Test
+    public void testNeumaierLargeTerm() {
+        // Kahan summation loses the 1 when a term is larger than the sum
+        final double[] values = { 1.0, 1.0e100, 1.0, -1.0e100 };
+        Assert.assertEquals(2.0, SummationMethod.NEUMAIER.sum(values, 0, values.length), 0);
+        Assert.assertEquals(0.0, SummationMethod.NAIVE.sum(values, 0, values.length), 0);
+    }
+
+    @Test
+    public void testDeviations() {
+        final RandomGenerator random = new Well1024a(0x3be5a0c97d1f2648l);
+        final double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0e8 + random.nextDouble();
+        }
+        final double center = 1.0e8 + 0.5;
+        final double exact1 = exact(values, center, 1);
+        final double exact2 = exact(values, center, 2);
+        for (final SummationMethod method : SummationMethod.values()) {
+            Assert.assertEquals(exact1, method.sumOfDeviations(values, center, 0, values.length), 1.0e-10);
+            Assert.assertEquals(exact2, method.sumOfSquaredDeviations(values, center, 0, values.length),
+                                1.0e-10 * exact2);
+        }
+        Assert.assertEquals(exact1,
+                            SummationMethod.NEUMAIER.sumOfDeviations(values, center, 0, values.length),
+                            FastMath.ulp(exact1));
+    }
+
+    @Test
+    public void testSpecialValues() {
+        final double[][] data = {
+            { 1, Double.POSITIVE_INFINITY, 2 },
+            { 1, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY },
+            { Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY },
+            { 1, Double.NaN, 3 },
+            { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE }
+        };
+        for (final double[] values : data) {
+            final double naive = SummationMethod.NAIVE.sum(values, 0, values.length);
+            for (final SummationMethod method : SummationMethod.values()) {
+                Assert.assertEquals(naive, method.sum(values, 0, values.length), 0);
+                final Sum sum = new Sum(method);
+                sum.incrementAll(values);
+                Assert.assertEquals(naive, sum.getResult(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testStorelessSum() {
+        final RandomGenerator random = new Well1024a(0x09c7d2e4f1a385b6l);
+        final double[] values = new double[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * FastMath.pow(10, random.nextInt(16));
+        }
+        for (final SummationMethod method : new SummationMethod[] { SummationMethod.KAHAN, SummationMethod.NEUMAIER }) {
+            // same operations in both modes
+            final Sum sum = new Sum(method);
+            sum.incrementAll(values);
+            Assert.assertEquals(method.sum(values, 0, values.length), sum.getResult(), 0);
+            Assert.assertEquals(method.sum(values, 0, values.length), sum.evaluate(values), 0);
+
+            final Sum copy = sum.copy();
+            Assert.assertEquals(method, copy.getSummationMethod());
+            Assert.assertEquals(sum.getResult(), copy.getResult(), 0);
+            final Sum recovered = (Sum) TestUtils.serializeAndRecover(sum);
+            Assert.assertEquals(sum.getResult(), recovered.getResult(), 0);
+
+            sum.clear();
+            Assert.assertEquals(0, sum.getResult(), 0);
+        }
+        final Sum pairwise = new Sum(SummationMethod.PAIRWISE);
+        pairwise.incrementAll(values);
+        Assert.assertEquals(SummationMethod.NEUMAIER.sum(values, 0, values.length), pairwise.getResult(), 0);
+    }
+
+    /**
+     * Computes a sum exactly, then rounds it.
+     *
+     * @param values values to sum
+     * @param center value subtracted from each value
+     * @param degree 0 for the plain sum, 1 for deviations, 2 for squared deviations
+     * @return the correctly rounded sum
+     */
+    private double exact(final double[] values, final double center, final int degree) {
+        BigDecimal sum = BigDecimal.ZERO;
+        final BigDecimal c = new BigDecimal(center);
+        for (final double value : values) {
+            if (degree == 0) {
+                sum = sum.add(new BigDecimal(value));
+            } else {
+                final BigDecimal dev = new BigDecimal(value).subtract(c);
+                sum = sum.add(degree == 1 ? dev : dev.multiply(dev));
+            }
+        }
+        return sum.doubleValue();
+    }
+
+}
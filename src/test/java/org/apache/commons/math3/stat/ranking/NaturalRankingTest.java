@@ -16,6 +16,9 @@
  */
 package org.apache.commons.math3.stat.ranking;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.Assert;
 
 import org.apache.commons.math3.TestUtils;
@@ -223,4 +226,88 @@ public class NaturalRankingTest {
         TestUtils.assertEquals(data, ranks, 0d);
     }
 
+    @Test
+    public void testLargeInputWithTies() {
+        final RandomGenerator random = new JDKRandomGenerator();
+        random.setSeed(0x2d8e5b13);
+        final int n = 5000;
+        final double[] data = new double[n];
+        final int[] counts = new int[40];
+        for (int i = 0; i < n; i++) {
+            final int v = random.nextInt(counts.length);
+            ++counts[v];
+            data[i] = tieValue(v);
+        }
+        final double[] average = new NaturalRanking(TiesStrategy.AVERAGE).rank(data);
+        final double[] sequential = new NaturalRanking(TiesStrategy.SEQUENTIAL).rank(data);
+        final int[] seen = new int[counts.length];
+        for (int i = 0; i < n; i++) {
+            // number of values strictly smaller than data[i]
+            int smaller = 0;
+            int v = -1;
+            for (int w = 0; w < counts.length; w++) {
+                final int c = Double.compare(tieValue(w), data[i]);
+                if (c < 0) {
+                    smaller += counts[w];
+                } else if (c == 0) {
+                    v = w;
+                }
+            }
+            Assert.assertEquals(smaller + (counts[v] + 1) / 2.0, average[i], 0);
+            // ties are numbered in their original order
+            Assert.assertEquals(smaller + (++seen[v]), sequential[i], 0);
+        }
+    }
+
+    @Test
+    public void testExecutor() {
+        final RandomGenerator random = new JDKRandomGenerator();
+        random.setSeed(0x6b1f3d09);
+        // several sorted blocks, the last one incomplete
+        final int n = 3 * 65536 + 12345;
+        final double[] data = new double[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = (i % 101 == 7) ? Double.NaN : tieValue(random.nextInt(40)) * random.nextInt(1000);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (final NaNStrategy nanStrategy : new NaNStrategy[] {
+                NaNStrategy.MAXIMAL, NaNStrategy.REMOVED, NaNStrategy.FIXED
+            }) {
+                for (final TiesStrategy tiesStrategy : TiesStrategy.values()) {
+                    final NaturalRanking sequential;
+                    final NaturalRanking parallel;
+                    if (tiesStrategy == TiesStrategy.RANDOM) {
+                        final RandomGenerator g1 = new JDKRandomGenerator();
+                        g1.setSeed(0x4a7c);
+                        final RandomGenerator g2 = new JDKRandomGenerator();
+                        g2.setSeed(0x4a7c);
+                        sequential = new NaturalRanking(nanStrategy, g1);
+                        parallel = new NaturalRanking(nanStrategy, g2);
+                    } else {
+                        sequential = new NaturalRanking(nanStrategy, tiesStrategy);
+                        parallel = new NaturalRanking(nanStrategy, tiesStrategy);
+                    }
+                    Assert.assertArrayEquals(nanStrategy + " " + tiesStrategy,
+                                             sequential.rank(data), parallel.rank(data, executor), 0);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertArrayEquals(new NaturalRanking().rank(new double[] { 3, 1, 2 }),
+                                 new NaturalRanking().rank(new double[] { 3, 1, 2 }, null), 0);
+    }
+
+    private double tieValue(int w) {
+        // -0.0 and 0.0 are distinct values for the natural ordering
+        return (w == 0) ? -0.0 : (w == 1) ? 0.0 : w - 20.5;
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertEquals(0, new NaturalRanking().rank(new double[0]).length);
+        Assert.assertEquals(0, new NaturalRanking(NaNStrategy.REMOVED).rank(new double[] { Double.NaN }).length);
+    }
+
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.transform;
+
+import java.util.Random;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.NoDataException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test case for overlap-add convolution.
+ */
+public final class OverlapAddConvolverTest {
+    /** The common seed of all random number generators used in this test. */
+    private final static long SEED = 20161019L;
+
+    @Test
+    public void testConvolveAgainstDirectSum() {
+        final Random random = new Random(SEED);
+        final int[] filterLengths = { 1, 2, 7, 64, 100 };
+        final int[] signalLengths = { 1, 3, 50, 257, 1000 };
+        for (int i = 0; i < filterLengths.length; i++) {
+            final double[] h = createData(random, filterLengths[i]);
+            final OverlapAddConvolver convolver = new OverlapAddConvolver(h);
+            for (int j = 0; j < signalLengths.length; j++) {
+                final double[] x = createData(random, signalLengths[j]);
+                Assert.assertArrayEquals(directConvolution(x, h), convolver.convolve(x), 1.0e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testSmallestFftSize() {
+        final Random random = new Random(SEED);
+        final double[] h = createData(random, 16);
+        final double[] x = createData(random, 77);
+        final OverlapAddConvolver convolver = new OverlapAddConvolver(h, 16);
+        Assert.assertEquals(16, convolver.getFftSize());
+        Assert.assertEquals(16, convolver.getFilterLength());
+        Assert.assertArrayEquals(directConvolution(x, h), convolver.convolve(x), 1.0e-12);
+    }
+
+    @Test
+    public void testStreaming() {
+        final Random random = new Random(SEED);
+        final double[] h = createData(random, 37);
+        final double[] x = createData(random, 1234);
+        final double[] expected = directConvolution(x, h);
+        final OverlapAddConvolver convolver = new OverlapAddConvolver(h, 64);
+
+        // feed the signal in blocks of uneven sizes, including empty ones
+        final int[] blockSizes = { 0, 1, 5, 36, 37, 38, 200, 0, 917 };
+        final double[] actual = new double[expected.length];
+        int offset = 0;
+        for (int i = 0; i < blockSizes.length; i++) {
+            final double[] block = new double[blockSizes[i]];
+            System.arraycopy(x, offset, block, 0, block.length);
+            final double[] out = convolver.process(block);
+            Assert.assertEquals(block.length, out.length);
+            System.arraycopy(out, 0, actual, offset, out.length);
+            offset += out.length;
+        }
+        Assert.assertEquals(x.length, offset);
+        final double[] tail = convolver.flush();
+        Assert.assertEquals(h.length - 1, tail.length);
+        System.arraycopy(tail, 0, actual, offset, tail.length);
+        Assert.assertArrayEquals(expected, actual, 1.0e-12);
+
+        // after a flush, the convolver starts afresh
+        final double[] first = convolver.process(new double[] { 1.0 });
+        Assert.assertEquals(h[0], first[0], 1.0e-15);
+        final double[] rest = convolver.flush();
+        for (int i = 0; i < rest.length; i++) {
+            Assert.assertEquals(h[i + 1], rest[i], 1.0e-15);
+        }
+    }
+
+    @Test
+    public void testStreamingIntoArrays() {
+        final Random random = new Random(SEED);
+        final double[] h = createData(random, 20);
+        final double[] x = createData(random, 700);
+        final double[] expected = directConvolution(x, h);
+        final OverlapAddConvolver convolver = new OverlapAddConvolver(h, 32);
+
+        // single samples use the direct sum, longer blocks the transforms,
+        // and the last block is convolved in place
+        final int[] blockSizes = { 1, 1, 3, 150, 1, 13, 300, 231 };
+        final double[] actual = new double[expected.length];
+        int offset = 0;
+        for (int i = 0; i < blockSizes.length; i++) {
+            final double[] block = new double[blockSizes[i]];
+            System.arraycopy(x, offset, block, 0, block.length);
+            final double[] out = (i == blockSizes.length - 1) ? block : new double[block.length];
+            convolver.process(block, out);
+            System.arraycopy(out, 0, actual, offset, out.length);
+            offset += out.length;
+        }
+        Assert.assertEquals(x.length, offset);
+        final double[] tail = convolver.flush();
+        System.arraycopy(tail, 0, actual, offset, tail.length);
+        Assert.assertArrayEquals(expected, actual, 1.0e-12);
+    }
+
+    @Test(expected=DimensionMismatchException.class)
+    public void testStreamingDimensionMismatch() {
+        new OverlapAddConvolver(new double[] { 1.0, 2.0 }).process(new double[3], new double[2]);
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testNullFilter() {
+        new OverlapAddConvolver(null);
+    }
+
+    @Test(expected=NoDataException.class)
+    public void testEmptyFilter() {
+        new OverlapAddConvolver(new double[0]);
+    }
+
+    @Test(expected=NumberIsTooSmallException.class)
+    public void testFftSizeTooSmall() {
+        new OverlapAddConvolver(new double[20], 16);
+    }
+
+    @Test(expected=MathIllegalArgumentException.class)
+    public void testFftSizeNotAPowerOfTwo() {
+        new OverlapAddConvolver(new double[20], 48);
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testNullSignal() {
+        new OverlapAddConvolver(new double[] { 1.0 }).convolve(null);
+    }
+
+    @Test(expected=NoDataException.class)
+    public void testEmptySignal() {
+        new OverlapAddConvolver(new double[] { 1.0 }).convolve(new double[0]);
+    }
+
+    private static double[] createData(final Random random, final int n) {
+        final double[] data = new double[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = 2 * random.nextDouble() - 1;
+        }
+        return data;
+    }
+
+    private static double[] directConvolution(final double[] x, final double[] h) {
+        final double[] y = new double[x.length + h.length - 1];
+        for (int i = 0; i < x.length; i++) {
+            for (int j = 0; j < h.length; j++) {
+                y[i + j] += x[i] * h[j];
+            }
+        }
+        return y;
+    }
+
+}
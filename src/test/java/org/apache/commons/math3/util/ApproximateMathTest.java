@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ApproximateMathTest {
+
+    private static final int NUMBER_OF_TRIALS = 100000;
+
+    private RandomGenerator generator;
+
+    @Before
+    public void setUp() {
+        generator = new Well1024a(0x3f2e1d0c5b4a3928l);
+    }
+
+    @Test
+    public void testExpAccuracy() {
+        double maxError = 0;
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double x = 1416 * generator.nextDouble() - 708;
+            maxError = FastMath.max(maxError, relativeError(StrictMath.exp(x), ApproximateMath.exp(x)));
+        }
+        Assert.assertTrue("exp error " + maxError, maxError < 1.0e-8);
+    }
+
+    @Test
+    public void testExpSpecialValues() {
+        Assert.assertTrue(Double.isNaN(ApproximateMath.exp(Double.NaN)));
+        Assert.assertEquals(Double.POSITIVE_INFINITY, ApproximateMath.exp(Double.POSITIVE_INFINITY), 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, ApproximateMath.exp(710), 0);
+        Assert.assertEquals(0.0, ApproximateMath.exp(Double.NEGATIVE_INFINITY), 0);
+        Assert.assertEquals(0.0, ApproximateMath.exp(-746), 0);
+        Assert.assertEquals(1.0, ApproximateMath.exp(0.0), 0);
+        Assert.assertEquals(StrictMath.exp(709.5), ApproximateMath.exp(709.5), 1.0e-8 * StrictMath.exp(709.5));
+        Assert.assertEquals(StrictMath.exp(-740), ApproximateMath.exp(-740), 1.0e-3 * StrictMath.exp(-740));
+    }
+
+    @Test
+    public void testLogAccuracy() {
+        double maxError = 0;
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double x = FastMath.scalb(generator.nextDouble() + 0.5, generator.nextInt(2000) - 1000);
+            maxError = FastMath.max(maxError, relativeError(StrictMath.log(x), ApproximateMath.log(x)));
+        }
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            // close to 1, where the logarithm is small
+            final double x = 1 + 1.0e-3 * (generator.nextDouble() - 0.5);
+            maxError = FastMath.max(maxError, relativeError(StrictMath.log(x), ApproximateMath.log(x)));
+        }
+        Assert.assertTrue("log error " + maxError, maxError < 1.0e-9);
+    }
+
+    @Test
+    public void testLogSpecialValues() {
+        Assert.assertTrue(Double.isNaN(ApproximateMath.log(Double.NaN)));
+        Assert.assertTrue(Double.isNaN(ApproximateMath.log(-1.0)));
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, ApproximateMath.log(0.0), 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, ApproximateMath.log(Double.POSITIVE_INFINITY), 0);
+        Assert.assertEquals(0.0, ApproximateMath.log(1.0), 0);
+        Assert.assertEquals(StrictMath.log(Double.MIN_VALUE), ApproximateMath.log(Double.MIN_VALUE), 1.0e-12);
+        Assert.assertEquals(StrictMath.log(Double.MAX_VALUE), ApproximateMath.log(Double.MAX_VALUE), 1.0e-12);
+    }
+
+    @Test
+    public void testPowAccuracy() {
+        double maxError = 0;
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double x = FastMath.scalb(generator.nextDouble() + 0.5, generator.nextInt(200) - 100);
+            final double y = 10 * (generator.nextDouble() - 0.5);
+            final double expected = StrictMath.pow(x, y);
+            if (expected > Double.MIN_NORMAL && expected < Double.MAX_VALUE) {
+                maxError = FastMath.max(maxError, relativeError(expected, ApproximateMath.pow(x, y)));
+            }
+        }
+        Assert.assertTrue("pow error " + maxError, maxError < 1.0e-7);
+    }
+
+    @Test
+    public void testPowSpecialValues() {
+        Assert.assertEquals(1.0, ApproximateMath.pow(Double.NaN, 0.0), 0);
+        Assert.assertTrue(Double.isNaN(ApproximateMath.pow(2.0, Double.NaN)));
+        Assert.assertEquals(-8.0, ApproximateMath.pow(-2.0, 3.0), 0);
+        Assert.assertTrue(Double.isNaN(ApproximateMath.pow(-2.0, 0.5)));
+        Assert.assertEquals(Double.POSITIVE_INFINITY, ApproximateMath.pow(0.0, -1.0), 0);
+        Assert.assertEquals(0.0, ApproximateMath.pow(0.5, Double.POSITIVE_INFINITY), 0);
+    }
+
+    @Test
+    public void testSinCosAccuracy() {
+        double maxError = 0;
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double x = 2.0e6 * (generator.nextDouble() - 0.5);
+            maxError = FastMath.max(maxError, FastMath.abs(StrictMath.sin(x) - ApproximateMath.sin(x)));
+            maxError = FastMath.max(maxError, FastMath.abs(StrictMath.cos(x) - ApproximateMath.cos(x)));
+        }
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double x = 20 * (generator.nextDouble() - 0.5);
+            maxError = FastMath.max(maxError, FastMath.abs(StrictMath.sin(x) - ApproximateMath.sin(x)));
+            maxError = FastMath.max(maxError, FastMath.abs(StrictMath.cos(x) - ApproximateMath.cos(x)));
+        }
+        Assert.assertTrue("sin/cos error " + maxError, maxError < 1.0e-9);
+    }
+
+    @Test
+    public void testSinCosSpecialValues() {
+        Assert.assertTrue(Double.isNaN(ApproximateMath.sin(Double.NaN)));
+        Assert.assertTrue(Double.isNaN(ApproximateMath.cos(Double.POSITIVE_INFINITY)));
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, 1.0 / ApproximateMath.sin(-0.0), 0);
+        Assert.assertEquals(1.0, ApproximateMath.cos(0.0), 0);
+        Assert.assertEquals(StrictMath.sin(1.0e10), ApproximateMath.sin(1.0e10), 0);
+    }
+
+    @Test
+    public void testAtanAccuracy() {
+        double maxError = 0;
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double x = FastMath.scalb(generator.nextDouble() - 0.5, generator.nextInt(40) - 20);
+            maxError = FastMath.max(maxError, relativeError(StrictMath.atan(x), ApproximateMath.atan(x)));
+        }
+        for (int i = 0; i < NUMBER_OF_TRIALS; i++) {
+            final double y = FastMath.scalb(generator.nextDouble() - 0.5, generator.nextInt(40) - 20);
+            final double x = FastMath.scalb(generator.nextDouble() - 0.5, generator.nextInt(40) - 20);
+            maxError = FastMath.max(maxError, relativeError(StrictMath.atan2(y, x), ApproximateMath.atan2(y, x)));
+        }
+        Assert.assertTrue("atan error " + maxError, maxError < 1.0e-9);
+    }
+
+    @Test
+    public void testAtanSpecialValues() {
+        Assert.assertTrue(Double.isNaN(ApproximateMath.atan(Double.NaN)));
+        Assert.assertEquals(0.5 * FastMath.PI, ApproximateMath.atan(Double.POSITIVE_INFINITY), 1.0e-15);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, 1.0 / ApproximateMath.atan(-0.0), 0);
+        Assert.assertTrue(Double.isNaN(ApproximateMath.atan2(Double.NaN, 1.0)));
+        Assert.assertEquals(FastMath.PI, ApproximateMath.atan2(0.0, -1.0), 0);
+        Assert.assertEquals(-0.75 * FastMath.PI,
+                            ApproximateMath.atan2(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY),
+                            1.0e-15);
+    }
+
+    private static double relativeError(final double expected, final double actual) {
+        if (expected == actual) {
+            return 0;
+        }
+        return FastMath.abs((actual - expected) / expected);
+    }
+
+}
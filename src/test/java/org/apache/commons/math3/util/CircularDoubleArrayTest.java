@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.stat.descriptive.summary.Sum;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class contains test cases for the CircularDoubleArray.
+ */
+public class CircularDoubleArrayTest extends DoubleArrayAbstractTest {
+
+    @After
+    public void tearDown() throws Exception {
+        da = null;
+        ra = null;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        da = new CircularDoubleArray();
+        ra = new CircularDoubleArray();
+    }
+
+    @Test
+    public void testConstructors() {
+        CircularDoubleArray testDa = new CircularDoubleArray(2);
+        Assert.assertEquals(0, testDa.getNumElements());
+        Assert.assertEquals(2, testDa.getCapacity());
+
+        testDa = new CircularDoubleArray((double[]) null);
+        Assert.assertEquals(0, testDa.getNumElements());
+
+        final double[] initialArray = new double[] { 0, 1, 2 };
+        testDa = new CircularDoubleArray(initialArray);
+        Assert.assertEquals(3, testDa.getNumElements());
+        Assert.assertEquals(3, testDa.getCapacity());
+        initialArray[0] = 10;
+        Assert.assertEquals(0, testDa.getElement(0), 0);
+
+        final CircularDoubleArray copy = new CircularDoubleArray(testDa);
+        Assert.assertEquals(testDa, copy);
+        copy.addElement(3);
+        Assert.assertEquals(3, testDa.getNumElements());
+        Assert.assertFalse(testDa.equals(copy));
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testZeroCapacity() {
+        new CircularDoubleArray(0);
+    }
+
+    @Test
+    public void testRollingWraparound() {
+        final CircularDoubleArray window = new CircularDoubleArray(5);
+        for (int i = 0; i < 5; i++) {
+            window.addElement(i);
+        }
+        for (int i = 5; i < 23; i++) {
+            Assert.assertEquals(i - 5, window.addElementRolling(i), 0);
+            // the buffer is never reallocated
+            Assert.assertEquals(5, window.getCapacity());
+            Assert.assertEquals(5, window.getNumElements());
+            for (int j = 0; j < 5; j++) {
+                Assert.assertEquals(i - 4 + j, window.getElement(j), 0);
+            }
+            TestUtils.assertEquals(new double[] { i - 4, i - 3, i - 2, i - 1, i },
+                                   window.getElements(), 0);
+            Assert.assertEquals(5 * i - 10, window.compute(new Sum()), 0);
+        }
+    }
+
+    @Test
+    public void testRollingNotFull() {
+        final CircularDoubleArray window = new CircularDoubleArray(4);
+        window.addElement(1);
+        window.addElement(2);
+        for (int i = 3; i < 10; i++) {
+            window.addElementRolling(i);
+            TestUtils.assertEquals(new double[] { i - 1, i }, window.getElements(), 0);
+        }
+        Assert.assertEquals(4, window.getCapacity());
+        Assert.assertEquals(8, window.addElementRolling(7.5), 0);
+    }
+
+    @Test
+    public void testRollingEmpty() {
+        final CircularDoubleArray window = new CircularDoubleArray();
+        Assert.assertEquals(3.0, window.addElementRolling(3.0), 0);
+        Assert.assertEquals(0, window.getNumElements());
+    }
+
+    @Test
+    public void testGrowAfterWraparound() {
+        final CircularDoubleArray array = new CircularDoubleArray(4);
+        for (int i = 0; i < 4; i++) {
+            array.addElement(i);
+        }
+        array.addElementRolling(4);
+        array.addElementRolling(5);
+        for (int i = 6; i < 20; i++) {
+            array.addElement(i);
+        }
+        Assert.assertEquals(32, array.getCapacity());
+        Assert.assertEquals(18, array.getNumElements());
+        for (int i = 0; i < 18; i++) {
+            Assert.assertEquals(i + 2, array.getElement(i), 0);
+        }
+        Assert.assertEquals(189, array.compute(new Sum()), 0);
+    }
+
+    @Test
+    public void testSetElement() {
+        final CircularDoubleArray array = new CircularDoubleArray(4);
+        for (int i = 0; i < 4; i++) {
+            array.addElement(i + 1);
+        }
+        array.discardFrontElements(3);
+        array.setElement(0, 7);
+        array.setElement(5, 9);
+        TestUtils.assertEquals(new double[] { 7, 0, 0, 0, 0, 9 }, array.getElements(), 0);
+        try {
+            array.setElement(-1, 0);
+            Assert.fail("Expecting ArrayIndexOutOfBoundsException");
+        } catch (ArrayIndexOutOfBoundsException ex) {
+            // expected
+        }
+        try {
+            array.getElement(6);
+            Assert.fail("Expecting ArrayIndexOutOfBoundsException");
+        } catch (ArrayIndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDiscardAndSubstitute() {
+        final CircularDoubleArray array = new CircularDoubleArray(new double[] { 1, 2, 3, 4, 5 });
+        array.discardFrontElements(2);
+        array.discardMostRecentElements(1);
+        TestUtils.assertEquals(new double[] { 3, 4 }, array.getElements(), 0);
+        Assert.assertEquals(4, array.substituteMostRecentElement(6), 0);
+        TestUtils.assertEquals(new double[] { 3, 6 }, array.getElements(), 0);
+        try {
+            array.discardFrontElements(3);
+            Assert.fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            array.discardMostRecentElements(-1);
+            Assert.fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException ex) {
+            // expected
+        }
+        array.clear();
+        Assert.assertEquals(0, array.getNumElements());
+        try {
+            array.substituteMostRecentElement(1);
+            Assert.fail("Expecting MathIllegalStateException");
+        } catch (MathIllegalStateException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        final CircularDoubleArray first  = new CircularDoubleArray(3);
+        final CircularDoubleArray second = new CircularDoubleArray(8);
+        for (int i = 0; i < 3; i++) {
+            first.addElement(i);
+        }
+        for (int i = 3; i < 7; i++) {
+            first.addElementRolling(i);
+        }
+        for (int i = 4; i < 7; i++) {
+            second.addElement(i);
+        }
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+        second.substituteMostRecentElement(7);
+        Assert.assertFalse(first.equals(second));
+        Assert.assertFalse(first.equals(new double[] { 4, 5, 6 }));
+    }
+
+    @Test
+    public void testSerial() {
+        final CircularDoubleArray array = new CircularDoubleArray(3);
+        for (int i = 0; i < 10; i++) {
+            if (array.getNumElements() < 3) {
+                array.addElement(i);
+            } else {
+                array.addElementRolling(i);
+            }
+        }
+        final CircularDoubleArray copy = (CircularDoubleArray) TestUtils.serializeAndRecover(array);
+        Assert.assertEquals(array, copy);
+        copy.addElementRolling(10);
+        TestUtils.assertEquals(new double[] { 8, 9, 10 }, copy.getElements(), 0);
+    }
+
+}
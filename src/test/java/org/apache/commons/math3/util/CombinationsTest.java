@@ -16,11 +16,17 @@
  */
 package org.apache.commons.math3.util;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Comparator;
+import java.util.List;
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -141,6 +147,132 @@ public class CombinationsTest {
         Assert.assertFalse(iter.hasNext());
     }
 
+    @Test
+    public void testReusingIterator() {
+        final int[][] nk = { { 5, 3 }, { 8, 1 }, { 9, 8 }, { 4, 0 }, { 4, 4 }, { 12, 5 } };
+        for (final int[] p : nk) {
+            final Combinations c = new Combinations(p[0], p[1]);
+            final Iterator<int[]> expected = c.iterator();
+            final Iterator<int[]> reusing  = c.iterator(true);
+            final Iterator<int[]> utils    = CombinatoricsUtils.combinationsIterator(p[0], p[1], true);
+            int[] previous = null;
+            int[] previousUtils = null;
+            while (expected.hasNext()) {
+                Assert.assertTrue(reusing.hasNext());
+                Assert.assertTrue(utils.hasNext());
+                final int[] current = reusing.next();
+                final int[] currentUtils = utils.next();
+                final int[] next = expected.next();
+                Assert.assertArrayEquals(next, current);
+                Assert.assertArrayEquals(next, currentUtils);
+                if (previous != null) {
+                    Assert.assertSame(previous, current);
+                    Assert.assertSame(previousUtils, currentUtils);
+                }
+                previous = current;
+                previousUtils = currentUtils;
+            }
+            Assert.assertFalse(reusing.hasNext());
+            Assert.assertFalse(utils.hasNext());
+        }
+    }
+
+    @Test
+    public void testRankRanges() {
+        final RandomGenerator random = new Well1024a(0x7c3e19a5d4b8260fl);
+        final int[][] nk = { { 5, 3 }, { 6, 1 }, { 7, 6 }, { 10, 4 }, { 3, 0 }, { 3, 3 }, { 13, 6 } };
+        for (final int[] p : nk) {
+            final Combinations c = new Combinations(p[0], p[1]);
+            final List<int[]> all = new ArrayList<int[]>();
+            for (final int[] combination : c) {
+                all.add(combination);
+            }
+            Assert.assertEquals(all.size(), c.getCount());
+
+            // all the ranges of small sets, sampled ranges of larger ones
+            final int count = all.size();
+            final List<int[]> ranges = new ArrayList<int[]>();
+            if (count <= 12) {
+                for (int from = 0; from <= count; from++) {
+                    for (int to = from; to <= count; to++) {
+                        ranges.add(new int[] { from, to });
+                    }
+                }
+            } else {
+                ranges.add(new int[] { 0, count });
+                ranges.add(new int[] { 0, 1 });
+                ranges.add(new int[] { count - 1, count });
+                ranges.add(new int[] { count, count });
+                for (int i = 0; i < 30; i++) {
+                    final int from = random.nextInt(count + 1);
+                    ranges.add(new int[] { from, from + random.nextInt(count - from + 1) });
+                }
+            }
+            for (final int[] range : ranges) {
+                final int from = range[0];
+                final int to = range[1];
+                final Iterator<int[]> iterator = c.iterator(from, to, from % 2 == 0);
+                for (int rank = from; rank < to; rank++) {
+                    Assert.assertTrue(iterator.hasNext());
+                    Assert.assertArrayEquals(all.get(rank), iterator.next());
+                }
+                Assert.assertFalse(iterator.hasNext());
+            }
+
+            // splits
+            for (final int parts : new int[] { 1, 2, 3, 7, 1000 }) {
+                final List<Iterator<int[]>> split = c.split(parts, true);
+                Assert.assertEquals(parts, split.size());
+                int rank = 0;
+                for (final Iterator<int[]> iterator : split) {
+                    while (iterator.hasNext()) {
+                        Assert.assertArrayEquals(all.get(rank++), iterator.next());
+                    }
+                }
+                Assert.assertEquals(all.size(), rank);
+            }
+        }
+    }
+
+    @Test
+    public void testSplitLarge() {
+        // C(40, 8) = 76904685
+        final Combinations c = new Combinations(40, 8);
+        final long count = c.getCount();
+        Assert.assertEquals(76904685l, count);
+        final List<Iterator<int[]>> split = c.split(5, false);
+        for (int i = 0; i < split.size(); i++) {
+            // check the rank of the first combination of each range
+            final long from = i * (count / 5) + FastMath.min(i, count % 5);
+            final int[] first = split.get(i).next();
+            long rank = 0;
+            for (int j = 0; j < first.length; j++) {
+                if (first[j] > j) {
+                    rank += CombinatoricsUtils.binomialCoefficient(first[j], j + 1);
+                }
+            }
+            Assert.assertEquals(from, rank);
+        }
+        final Iterator<int[]> last = c.iterator(count - 1, count, false);
+        Assert.assertArrayEquals(new int[] { 32, 33, 34, 35, 36, 37, 38, 39 }, last.next());
+        Assert.assertFalse(last.hasNext());
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testRankTooLarge() {
+        new Combinations(5, 2).iterator(0, 11, false);
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testRankRangeReversed() {
+        new Combinations(5, 2).iterator(4, 3, false);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testSplitZeroParts() {
+        new Combinations(5, 2).split(0, false);
+    }
+
     /**
      * Verifies that the iterator generates a lexicographically
      * increasing sequence of b(n,k) arrays, each having length k
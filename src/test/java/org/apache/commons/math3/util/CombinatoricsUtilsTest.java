@@ -16,6 +16,7 @@
  */
 package org.apache.commons.math3.util;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -223,6 +224,89 @@ public class CombinatoricsUtilsTest {
         Assert.assertEquals("0", 0.0d, CombinatoricsUtils.factorialLog(0), 1E-14);
     }
 
+    @Test
+    public void testFactorialLogCache() {
+        final CombinatoricsUtils.FactorialLog uncached = CombinatoricsUtils.FactorialLog.create();
+        final CombinatoricsUtils.FactorialLog cached = uncached.withCache(1000);
+        Assert.assertEquals(0, uncached.getCacheSize());
+        Assert.assertEquals(1000, cached.getCacheSize());
+
+        // request values out of order, so that the cache grows several times
+        final int[] n = { 5, 30, 0, 999, 1000, 1500, 21, 20, 600 };
+        for (int i = 0; i < n.length; i++) {
+            final double expected = uncached.value(n[i]);
+            Assert.assertEquals(Double.doubleToLongBits(expected),
+                                Double.doubleToLongBits(cached.value(n[i])));
+            Assert.assertEquals(Double.doubleToLongBits(expected),
+                                Double.doubleToLongBits(CombinatoricsUtils.factorialLog(n[i])));
+        }
+        for (int i = 0; i < 2000; i++) {
+            Assert.assertEquals(Double.doubleToLongBits(uncached.value(i)),
+                                Double.doubleToLongBits(cached.value(i)));
+        }
+        for (int i = 0; i < 21; i++) {
+            Assert.assertEquals(FastMath.log(factorial(i)), cached.value(i), 0);
+        }
+    }
+
+    @Test(expected=NotPositiveException.class)
+    public void testFactorialLogNegativeCacheSize() {
+        CombinatoricsUtils.FactorialLog.create().withCache(-1);
+    }
+
+    @Test(expected=NotPositiveException.class)
+    public void testFactorialLogNegativeArgument() {
+        CombinatoricsUtils.FactorialLog.create().withCache(10).value(-1);
+    }
+
+    @Test
+    public void testBinomialCoefficientLogCached() {
+        // reference: direct summation of logarithms
+        for (int n = 67; n < 3000; n += 131) {
+            for (int k = 0; k <= n; k += 7) {
+                final int m = FastMath.min(k, n - k);
+                double logSum = 0;
+                for (int i = n - m + 1; i <= n; i++) {
+                    logSum += FastMath.log(i);
+                }
+                for (int i = 2; i <= m; i++) {
+                    logSum -= FastMath.log(i);
+                }
+                Assert.assertEquals(n + " choose " + k, logSum,
+                                    CombinatoricsUtils.binomialCoefficientLog(n, k),
+                                    1e-12 * FastMath.max(1, logSum));
+            }
+        }
+    }
+
+    @Test
+    public void testBinomialCoefficientLogAccuracy() {
+        // reference: logarithm of the exact binomial coefficients
+        for (int n = 67; n < 16384; n += 1523) {
+            BigInteger exact = BigInteger.ONE;
+            for (int k = 1; k <= n / 2; k++) {
+                exact = exact.multiply(BigInteger.valueOf(n - k + 1)).divide(BigInteger.valueOf(k));
+                if (k % 17 == 0 || k == 32 || k == n / 8 || k == n / 2) {
+                    final double expected = log(exact);
+                    Assert.assertEquals(n + " choose " + k, expected,
+                                        CombinatoricsUtils.binomialCoefficientLog(n, k), 2.0e-14 * expected);
+                    Assert.assertEquals(n + " choose " + (n - k), expected,
+                                        CombinatoricsUtils.binomialCoefficientLog(n, n - k), 2.0e-14 * expected);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the natural logarithm of a big positive integer.
+     * @param x big integer
+     * @return log(x)
+     */
+    private static double log(final BigInteger x) {
+        final int shift = FastMath.max(0, x.bitLength() - 62);
+        return FastMath.log(x.shiftRight(shift).doubleValue()) + shift * FastMath.log(2);
+    }
+
     @Test
     public void testFactorialFail() {
         try {
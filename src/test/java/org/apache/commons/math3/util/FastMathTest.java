@@ -22,12 +22,16 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.dfp.Dfp;
 import org.apache.commons.math3.dfp.DfpField;
 import org.apache.commons.math3.dfp.DfpMath;
 import org.apache.commons.math3.exception.MathArithmeticException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.random.MersenneTwister;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well1024a;
@@ -2012,6 +2016,114 @@ public class FastMathTest {
         }
     }
 
+    @Test
+    public void testArrayFunctions() {
+        final double[] x = new double[1000];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = 20 * (generator.nextDouble() - 0.25);
+        }
+        x[0] = 0.0;
+        x[1] = Double.NaN;
+        x[2] = Double.POSITIVE_INFINITY;
+        final double[] y = new double[x.length];
+
+        FastMath.exp(x, y);
+        for (int i = 0; i < x.length; ++i) {
+            Assert.assertEquals(FastMath.exp(x[i]), y[i], 0.0);
+        }
+        FastMath.log(x, y);
+        for (int i = 0; i < x.length; ++i) {
+            Assert.assertEquals(FastMath.log(x[i]), y[i], 0.0);
+        }
+        FastMath.sin(x, y);
+        for (int i = 0; i < x.length; ++i) {
+            Assert.assertEquals(FastMath.sin(x[i]), y[i], 0.0);
+        }
+        FastMath.cos(x, y);
+        for (int i = 0; i < x.length; ++i) {
+            Assert.assertEquals(FastMath.cos(x[i]), y[i], 0.0);
+        }
+        FastMath.sqrt(x, y);
+        for (int i = 0; i < x.length; ++i) {
+            Assert.assertEquals(FastMath.sqrt(x[i]), y[i], 0.0);
+        }
+        for (double p : new double[] { 0.0, -1.0, 2.0, 0.5, -2.5, 7.0, 1.0e20 }) {
+            FastMath.pow(x, p, y);
+            for (int i = 0; i < x.length; ++i) {
+                Assert.assertEquals(FastMath.pow(x[i], p), y[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testArrayFunctionsSlice() {
+        final double[] x = { 1.0, 2.0, 3.0, 4.0, 5.0 };
+        final double[] expected = x.clone();
+        expected[1] = FastMath.exp(2.0);
+        expected[2] = FastMath.exp(3.0);
+        FastMath.exp(x, x, 1, 2);
+        for (int i = 0; i < x.length; ++i) {
+            Assert.assertEquals(expected[i], x[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testArrayFunctionsExecutor() {
+        // several blocks, the last one incomplete
+        final double[] x = new double[3 * 8192 + 123];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = 20 * (generator.nextDouble() - 0.25);
+        }
+        final double[] expected = new double[x.length];
+        final double[] actual = new double[x.length];
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            FastMath.exp(x, expected);
+            FastMath.exp(x, actual, executor);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            FastMath.log(x, expected);
+            FastMath.log(x, actual, executor);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            FastMath.sin(x, expected);
+            FastMath.sin(x, actual, executor);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            FastMath.cos(x, expected);
+            FastMath.cos(x, actual, executor);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            FastMath.sqrt(x, expected);
+            FastMath.sqrt(x, actual, executor);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            for (double p : new double[] { 2.0, -2.5 }) {
+                FastMath.pow(x, p, expected);
+                FastMath.pow(x, p, actual, executor);
+                Assert.assertArrayEquals(expected, actual, 0.0);
+            }
+
+            // in place, without executor
+            final double[] y = x.clone();
+            FastMath.exp(x, expected);
+            FastMath.exp(y, y, null);
+            Assert.assertArrayEquals(expected, y, 0.0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testArrayFunctionsExecutorOutputTooShort() {
+        FastMath.sin(new double[4], new double[3], null);
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testArrayFunctionsOutputTooShort() {
+        FastMath.sin(new double[4], new double[3]);
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testArrayFunctionsNull() {
+        FastMath.cos(null, new double[3]);
+    }
+
     private long poorManFloorDiv(long a, long b) {
 
         // find q0, r0 such that a = q0 b + r0
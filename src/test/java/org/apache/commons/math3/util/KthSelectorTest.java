@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link KthSelector} class.
+ */
+public class KthSelectorTest {
+
+    @Test
+    public void testSelect() {
+        final RandomGenerator random = new Well1024a(0x4b2e9a07c31d85f6l);
+        final double[] data = new double[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextGaussian();
+        }
+        final double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        final KthSelector selector = new KthSelector();
+        for (int k = 0; k < data.length; k += 37) {
+            Assert.assertEquals(sorted[k], selector.select(data.clone(), null, k), 0);
+        }
+    }
+
+    @Test
+    public void testSelectMultiple() {
+        final RandomGenerator random = new Well1024a(0x1f6d3c8b5a704e29l);
+        final PivotingStrategyInterface[] strategies = {
+            new MedianOf3PivotingStrategy(),
+            new CentralPivotingStrategy(),
+            new RandomPivotingStrategy(new Well1024a(0x9e5c2a71d40b36f8l))
+        };
+        for (final int n : new int[] { 1, 10, 100, 1000, 50000 }) {
+            final double[] data = new double[n];
+            for (int i = 0; i < n; i++) {
+                // many duplicates
+                data[i] = random.nextInt(n / 4 + 1);
+            }
+            final double[] sorted = data.clone();
+            Arrays.sort(sorted);
+
+            // percentile-like indices, unsorted and with duplicates
+            final int[] k = new int[201];
+            for (int i = 0; i < k.length; i++) {
+                k[i] = (int) ((long) (n - 1) * ((i * 37) % 101) / 100);
+            }
+
+            for (final PivotingStrategyInterface strategy : strategies) {
+                final double[] work = data.clone();
+                final double[] values = new KthSelector(strategy).selectMultiple(work, k);
+                for (int i = 0; i < k.length; i++) {
+                    Assert.assertEquals(sorted[k[i]], values[i], 0);
+                    Assert.assertEquals(sorted[k[i]], work[k[i]], 0);
+                }
+                final double[] check = work.clone();
+                Arrays.sort(check);
+                Assert.assertArrayEquals(sorted, check, 0);
+            }
+        }
+    }
+
+    @Test
+    public void testSelectMultipleAdversarial() {
+        // sorted, reversed and organ-pipe inputs
+        final int n = 100000;
+        final double[][] inputs = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = n - i;
+            inputs[2][i] = FastMath.min(i, n - i);
+        }
+        final int[] k = new int[99];
+        for (int i = 0; i < k.length; i++) {
+            k[i] = (i + 1) * (n / 100);
+        }
+        for (final double[] input : inputs) {
+            final double[] sorted = input.clone();
+            Arrays.sort(sorted);
+            final double[] values = new KthSelector(new CentralPivotingStrategy()).selectMultiple(input, k);
+            for (int i = 0; i < k.length; i++) {
+                Assert.assertEquals(sorted[k[i]], values[i], 0);
+            }
+        }
+    }
+
+    @Test
+    public void testSelectMultipleAll() {
+        final RandomGenerator random = new Well1024a(0x7d01b59e3a6c48f2l);
+        final double[] data = new double[777];
+        final int[] k = new int[data.length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble();
+            k[i] = data.length - 1 - i;
+        }
+        final double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        new KthSelector().selectMultiple(data, k);
+        Assert.assertArrayEquals(sorted, data, 0);
+    }
+
+    @Test
+    public void testSelectMultipleEmptyIndices() {
+        final double[] data = { 3, 1, 2 };
+        Assert.assertEquals(0, new KthSelector().selectMultiple(data, new int[0]).length);
+        Assert.assertArrayEquals(new double[] { 3, 1, 2 }, data, 0);
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testSelectMultipleIndexTooLarge() {
+        new KthSelector().selectMultiple(new double[3], new int[] { 0, 3 });
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testSelectMultipleNegativeIndex() {
+        new KthSelector().selectMultiple(new double[3], new int[] { -1, 2 });
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testSelectMultipleNull() {
+        new KthSelector().selectMultiple(null, new int[] { 0 });
+    }
+
+}
@@ -14,6 +14,9 @@
 package org.apache.commons.math3.util;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.DimensionMismatchException;
@@ -25,6 +28,8 @@ import org.apache.commons.math3.exception.NotPositiveException;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NotANumberException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well1024a;
 import org.junit.Assert;
 import org.junit.Test;
@@ -130,6 +135,122 @@ public class MathArraysTest {
         }
     }
 
+    @Test(expected=DimensionMismatchException.class)
+    public void testEbeInPlacePrecondition() {
+        MathArrays.ebeAdd(new double[3], new double[3], new double[4]);
+    }
+
+    @Test
+    public void testEbeInPlace() {
+        final double[] a = { 0, 1, 2 };
+        final double[] b = { 3, 5, 7 };
+        final double[] r = new double[a.length];
+
+        MathArrays.ebeAdd(a, b, r);
+        TestUtils.assertEquals(MathArrays.ebeAdd(a, b), r, 0);
+        MathArrays.ebeSubtract(a, b, r);
+        TestUtils.assertEquals(MathArrays.ebeSubtract(a, b), r, 0);
+        MathArrays.ebeMultiply(a, b, r);
+        TestUtils.assertEquals(MathArrays.ebeMultiply(a, b), r, 0);
+        MathArrays.ebeDivide(a, b, r);
+        TestUtils.assertEquals(MathArrays.ebeDivide(a, b), r, 0);
+
+        // result aliasing one of the arguments
+        final double[] expected = MathArrays.ebeMultiply(a, b);
+        MathArrays.ebeMultiply(a, b, b);
+        TestUtils.assertEquals(expected, b, 0);
+    }
+
+    @Test
+    public void testBulkExecutor() {
+        final Well1024a random = new Well1024a(0x18e3f5a9c27d604bl);
+        // several blocks, the last one incomplete
+        final int n = 5 * 16384 + 123;
+        final double[] a = new double[n];
+        final double[] b = new double[n];
+        for (int i = 0; i < n; ++i) {
+            a[i] = FastMath.scalb(random.nextDouble() - 0.5, random.nextInt(60));
+            b[i] = FastMath.scalb(random.nextDouble() - 0.5, random.nextInt(60));
+        }
+        final double[] expected = new double[n];
+        final double[] actual = new double[n];
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            MathArrays.ebeAdd(a, b, expected);
+            MathArrays.ebeAdd(a, b, actual, executor);
+            TestUtils.assertEquals(expected, actual, 0);
+            MathArrays.ebeSubtract(a, b, expected);
+            MathArrays.ebeSubtract(a, b, actual, executor);
+            TestUtils.assertEquals(expected, actual, 0);
+            MathArrays.ebeMultiply(a, b, expected);
+            MathArrays.ebeMultiply(a, b, actual, executor);
+            TestUtils.assertEquals(expected, actual, 0);
+            MathArrays.ebeDivide(a, b, expected);
+            MathArrays.ebeDivide(a, b, actual, executor);
+            TestUtils.assertEquals(expected, actual, 0);
+
+            // reductions do not depend on the executor
+            final double dot = MathArrays.linearCombination(a, b, executor);
+            Assert.assertEquals(MathArrays.linearCombination(a, b, null), dot, 0);
+            Assert.assertEquals(MathArrays.linearCombination(a, b), dot, FastMath.ulp(dot));
+            final double distance = MathArrays.distance(a, b, executor);
+            Assert.assertEquals(MathArrays.distance(a, b, null), distance, 0);
+            Assert.assertEquals(MathArrays.distance(a, b), distance, 1.0e-12 * distance);
+            MathArrays.normalizeArray(a, 3, expected, null);
+            MathArrays.normalizeArray(a, 3, actual, executor);
+            TestUtils.assertEquals(expected, actual, 0);
+            final double[] normalized = MathArrays.normalizeArray(a, 3);
+            for (int i = 0; i < n; ++i) {
+                Assert.assertEquals(normalized[i], actual[i], 1.0e-12 * FastMath.abs(normalized[i]));
+            }
+
+            // outputs computed with the direct sum are exactly the same
+            final double[] x = MathArrays.copyOf(a, 3000);
+            final double[] h = MathArrays.copyOf(b, 200);
+            TestUtils.assertEquals(MathArrays.convolve(x, h), MathArrays.convolve(x, h, executor), 0);
+            TestUtils.assertEquals(MathArrays.convolve(h, x), MathArrays.convolve(h, x, executor), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLinearCombinationExecutorAccuracy() {
+        // the exact result is 1, the naive sum gives 0
+        final int n = 3 * 16384;
+        final double[] a = new double[n];
+        final double[] b = new double[n];
+        a[0] = FastMath.scalb(1.0, 60);
+        b[0] = FastMath.scalb(1.0, 60);
+        a[n / 2] = 1;
+        b[n / 2] = 1;
+        a[n - 1] = -FastMath.scalb(1.0, 60);
+        b[n - 1] = FastMath.scalb(1.0, 60);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Assert.assertEquals(1, MathArrays.linearCombination(a, b, executor), 0);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(0.0, MathArrays.linearCombination(new double[0], new double[0], null), 0);
+        Assert.assertTrue(Double.isNaN(MathArrays.linearCombination(new double[] { 1, Double.NaN },
+                                                                    new double[] { 1, 2 },
+                                                                    null)));
+    }
+
+    @Test(expected=MathIllegalArgumentException.class)
+    public void testNormalizeArrayExecutorInfinite() {
+        final double[] values = new double[3 * 16384];
+        Arrays.fill(values, 1);
+        values[2 * 16384 + 5] = Double.POSITIVE_INFINITY;
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            MathArrays.normalizeArray(values, 1, new double[values.length], executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testL1DistanceDouble() {
         double[] p1 = { 2.5,  0.0 };
@@ -567,6 +688,129 @@ public class MathArraysTest {
         Assert.assertTrue(Arrays.equals(sz, z));
     }
 
+    @Test
+    public void testSortInPlaceLarge() {
+        final RandomGenerator random = new Well1024a(0x62c4e0f93a18d75bl);
+        final double[] special = {
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0.0, -0.0,
+            Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE
+        };
+        for (final int n : new int[] { 0, 1, 10, 32, 33, 1000, 100000 }) {
+            final double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                switch (random.nextInt(3)) {
+                case 0 :
+                    x[i] = special[random.nextInt(special.length)];
+                    break;
+                case 1 :
+                    // many duplicates
+                    x[i] = random.nextInt(10) - 5;
+                    break;
+                default :
+                    x[i] = random.nextGaussian() * FastMath.pow(10, random.nextInt(20) - 10);
+                }
+            }
+            for (final MathArrays.OrderDirection dir : MathArrays.OrderDirection.values()) {
+                // reference: stable sort of boxed indices
+                final Integer[] reference = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    reference[i] = i;
+                }
+                Arrays.sort(reference, new Comparator<Integer>() {
+                    /** {@inheritDoc} */
+                    public int compare(Integer i, Integer j) {
+                        final int c = Double.compare(x[i], x[j]);
+                        return dir == MathArrays.OrderDirection.INCREASING ? c : -c;
+                    }
+                });
+
+                final double[] sorted = x.clone();
+                final double[] y = new double[n];
+                final double[] z = new double[n];
+                for (int i = 0; i < n; i++) {
+                    y[i] = i;
+                    z[i] = -i;
+                }
+                MathArrays.sortInPlace(sorted, dir, y, z);
+                for (int i = 0; i < n; i++) {
+                    final int expected = reference[i];
+                    Assert.assertEquals(Double.doubleToRawLongBits(x[expected]),
+                                        Double.doubleToRawLongBits(sorted[i]));
+                    Assert.assertEquals(expected, y[i], 0);
+                    Assert.assertEquals(-expected, z[i], 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortInPlaceExecutor() {
+        final RandomGenerator random = new Well1024a(0x3d7a91c05e26f8b4l);
+        // several sorted blocks, the last one incomplete
+        final int n = 3 * 65536 + 12345;
+        final double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            // many duplicates, to check the stability of the merges
+            x[i] = (i % 101 == 7) ? Double.NaN : (random.nextInt(2000) - 1000) * 0.25;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (final MathArrays.OrderDirection dir : MathArrays.OrderDirection.values()) {
+                final double[] sequential = x.clone();
+                final double[] parallel = x.clone();
+                final double[] ySequential = new double[n];
+                for (int i = 0; i < n; i++) {
+                    ySequential[i] = i;
+                }
+                final double[] yParallel = ySequential.clone();
+                MathArrays.sortInPlace(sequential, dir, ySequential);
+                MathArrays.sortInPlace(parallel, dir, executor, yParallel);
+                Assert.assertArrayEquals(sequential, parallel, 0);
+                Assert.assertArrayEquals(ySequential, yParallel, 0);
+                // NaN is above all other values in the order of Double.compare
+                Assert.assertTrue(Double.isNaN(parallel[dir == MathArrays.OrderDirection.INCREASING ? n - 1 : 0]));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSortIndices() {
+        final RandomGenerator random = new Well1024a(0x51c7e2a9083bd64fl);
+        final double[] specials = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (final int n : new int[] { 0, 1, 20, 1000, 2 * 65536 + 17 }) {
+                final double[] x = new double[n];
+                final Integer[] boxed = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    x[i] = (i % 13 == 5) ? specials[random.nextInt(specials.length)] : random.nextInt(50) - 25;
+                    boxed[i] = i;
+                }
+                for (final MathArrays.OrderDirection dir : MathArrays.OrderDirection.values()) {
+                    final boolean increasing = dir == MathArrays.OrderDirection.INCREASING;
+                    // reference: the (stable) sort of the boxed indices
+                    final Integer[] expected = boxed.clone();
+                    Arrays.sort(expected, new Comparator<Integer>() {
+                        /** {@inheritDoc} */
+                        public int compare(Integer i, Integer j) {
+                            return increasing ? Double.compare(x[i], x[j]) : Double.compare(x[j], x[i]);
+                        }
+                    });
+                    final int[] sequential = MathArrays.sortIndices(x, dir, null);
+                    final int[] parallel = MathArrays.sortIndices(x, dir, executor);
+                    for (int i = 0; i < n; i++) {
+                        Assert.assertEquals(expected[i].intValue(), sequential[i]);
+                        Assert.assertEquals(expected[i].intValue(), parallel[i]);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testSortInPlaceFailures() {
         final double[] nullArray = null;
@@ -809,6 +1053,55 @@ public class MathArraysTest {
 
     }
 
+    @Test
+    public void testLinearCombinationSlice() {
+        final double[] a = new double[] {
+            17.0,
+            -1321008684645961.0 / 268435456.0,
+            -5774608829631843.0 / 268435456.0,
+            -7645843051051357.0 / 8589934592.0
+        };
+        final double[] b = new double[] {
+            42.0,
+            -5712344449280879.0 / 2097152.0,
+            -4550117129121957.0 / 2097152.0,
+            8846951984510141.0 / 131072.0
+        };
+
+        Assert.assertEquals(-1.8551294182586248737720779899,
+                            MathArrays.linearCombination(a, b, 1, 3), 1.0e-15);
+        Assert.assertEquals(MathArrays.linearCombination(a, b),
+                            MathArrays.linearCombination(a, b, 0, a.length), 0);
+        Assert.assertEquals(0.0, MathArrays.linearCombination(a, b, 2, 0), 0);
+        Assert.assertTrue(Double.isNaN(MathArrays.linearCombination(new double[] { 1, Double.NaN },
+                                                                    new double[] { 1, 2 },
+                                                                    0, 2)));
+        Assert.assertEquals(Double.POSITIVE_INFINITY,
+                            MathArrays.linearCombination(new double[] { 1, Double.POSITIVE_INFINITY },
+                                                         new double[] { 1, 2 },
+                                                         0, 2),
+                            0);
+    }
+
+    @Test
+    public void testLinearCombinationSliceLarge() {
+        final Well1024a random = new Well1024a(0x4d2c1a83e95f7b60l);
+        final double[] a = new double[10000];
+        final double[] b = new double[a.length];
+        for (int i = 0; i < a.length; ++i) {
+            a[i] = FastMath.scalb(random.nextDouble() - 0.5, random.nextInt(60));
+            b[i] = FastMath.scalb(random.nextDouble() - 0.5, random.nextInt(60));
+        }
+        Assert.assertEquals(MathArrays.linearCombination(a, b),
+                            MathArrays.linearCombination(a, b, 0, a.length),
+                            FastMath.ulp(MathArrays.linearCombination(a, b)));
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testLinearCombinationSlicePrecondition() {
+        MathArrays.linearCombination(new double[4], new double[3], 1, 3);
+    }
+
     @Test
     public void testLinearCombinationInfinite() {
         final double[][] a = new double[][] {
@@ -1045,6 +1338,27 @@ public class MathArraysTest {
         } catch (MathIllegalArgumentException ex) {}
     }
 
+    @Test
+    public void testNormalizeArrayInPlace() {
+        final double[] values = new double[] {-1, -1, Double.NaN, 1, Double.NaN};
+        final double[] out = new double[values.length];
+        MathArrays.normalizeArray(values, 1, out);
+        TestUtils.assertEquals(MathArrays.normalizeArray(values, 1), out, Double.MIN_VALUE);
+
+        MathArrays.normalizeArray(values, 2, values);
+        TestUtils.assertEquals(new double[] {2, 2, Double.NaN, -2, Double.NaN}, values, Double.MIN_VALUE);
+
+        try {
+            MathArrays.normalizeArray(new double[] {-1, 1}, 1, new double[2]);
+            Assert.fail("expecting MathArithmeticException");
+        } catch (MathArithmeticException ex) {}
+
+        try {
+            MathArrays.normalizeArray(new double[] {1, 2}, 1, new double[3]);
+            Assert.fail("expecting DimensionMismatchException");
+        } catch (DimensionMismatchException ex) {}
+    }
+
     @Test
     public void testConvolve() {
         /* Test Case (obtained via SciPy)
@@ -1103,6 +1417,70 @@ public class MathArraysTest {
         }
     }
 
+    @Test
+    public void testConvolveFFT() {
+        // long sequences are convolved using FFT
+        final Well1024a random = new Well1024a(0x7f3a5e21c9b04d1bl);
+        final int[][] lengths = { { 64, 64 }, { 1000, 100 }, { 90, 3000 } };
+        for (int[] l : lengths) {
+            final double[] x = new double[l[0]];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = 2 * random.nextDouble() - 1;
+            }
+            final double[] h = new double[l[1]];
+            for (int i = 0; i < h.length; i++) {
+                h[i] = 2 * random.nextDouble() - 1;
+            }
+            final double[] expected = new double[x.length + h.length - 1];
+            for (int i = 0; i < x.length; i++) {
+                for (int j = 0; j < h.length; j++) {
+                    expected[i + j] += x[i] * h[j];
+                }
+            }
+            Assert.assertArrayEquals(expected, MathArrays.convolveFFT(x, h), 1.0e-11);
+        }
+    }
+
+    @Test
+    public void testConvolveLargeExact() {
+        // long sequences are still convolved with the direct sum
+        final Well1024a random = new Well1024a(0x2b9e04d7a1c35f68l);
+        final double[] x = new double[200];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextInt(2000) - 1000;
+        }
+        final double[] h = new double[100];
+        for (int i = 0; i < h.length; i++) {
+            h[i] = random.nextInt(2000) - 1000;
+        }
+        final double[] expected = new double[x.length + h.length - 1];
+        for (int i = 0; i < x.length; i++) {
+            for (int j = 0; j < h.length; j++) {
+                expected[i + j] += x[i] * h[j];
+            }
+        }
+        Assert.assertArrayEquals(expected, MathArrays.convolve(x, h), 0);
+
+        // a huge sample does not spoil the small outputs before it
+        x[150] = 1.0e200;
+        final double[] y = MathArrays.convolve(x, h);
+        for (int n = 0; n < 150; n++) {
+            Assert.assertEquals(expected[n], y[n], 0);
+        }
+
+        // non-finite samples only affect the outputs they contribute to
+        x[150] = Double.NaN;
+        for (final double[] actual : new double[][] { MathArrays.convolve(x, h), MathArrays.convolveFFT(x, h) }) {
+            for (int n = 0; n < expected.length; n++) {
+                if (n >= 150 && n < 150 + h.length) {
+                    Assert.assertTrue(Double.isNaN(actual[n]));
+                } else {
+                    Assert.assertEquals(expected[n], actual[n], 0);
+                }
+            }
+        }
+    }
+
     @Test
     public void testShuffleTail() {
         final int[] orig = new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
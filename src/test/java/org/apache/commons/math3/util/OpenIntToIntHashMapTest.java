@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link OpenIntToIntHashMap}.
+ */
+@SuppressWarnings("boxing")
+public class OpenIntToIntHashMapTest {
+
+    private Map<Integer, Integer> javaMap = new HashMap<Integer, Integer>();
+
+    @Before
+    public void setUp() throws Exception {
+        javaMap.put(50, 100);
+        javaMap.put(0, -1);
+        javaMap.put(1, 0);
+        javaMap.put(-1, -2323);
+        javaMap.put(Integer.MAX_VALUE, 44);
+        javaMap.put(Integer.MIN_VALUE, 45);
+        javaMap.put(23234234, Integer.MAX_VALUE);
+
+        // add a few more to cause the table to rehash
+        final Random r = new Random(0x6f02d4b9a83c51e7l);
+        for (int i = 0; i < 2000; ++i) {
+            javaMap.put(r.nextInt(), r.nextInt());
+        }
+    }
+
+    private OpenIntToIntHashMap createFromJavaMap() {
+        final OpenIntToIntHashMap map = new OpenIntToIntHashMap();
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            map.put(mapEntry.getKey(), mapEntry.getValue());
+        }
+        return map;
+    }
+
+    @Test
+    public void testPutAndGet() {
+        for (final OpenIntToIntHashMap map : new OpenIntToIntHashMap[] { new OpenIntToIntHashMap(0), new OpenIntToIntHashMap(500), new OpenIntToIntHashMap() }) {
+            int size = 0;
+            for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+                Assert.assertEquals(0, map.put(mapEntry.getKey(), mapEntry.getValue()), 0);
+                Assert.assertEquals(++size, map.size());
+                Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+            }
+            for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+                Assert.assertTrue(map.containsKey(mapEntry.getKey()));
+                Assert.assertEquals(mapEntry.getValue(), map.put(mapEntry.getKey(), 7), 0);
+                Assert.assertEquals(7, map.get(mapEntry.getKey()), 0);
+            }
+            Assert.assertEquals(javaMap.size(), map.size());
+        }
+    }
+
+    @Test
+    public void testGetAbsent() {
+        final OpenIntToIntHashMap map = createFromJavaMap();
+        final Random r = new Random(0x6f02d4b9a83c51e7l + 1);
+        for (int i = 0; i < 1000; ++i) {
+            final int key = r.nextInt();
+            if (!javaMap.containsKey(key)) {
+                Assert.assertFalse(map.containsKey(key));
+                Assert.assertEquals(0, map.get(key), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testMissingEntriesValue() {
+        final OpenIntToIntHashMap map = new OpenIntToIntHashMap(4, -5);
+        Assert.assertEquals(-5, map.get(3), 0);
+        Assert.assertEquals(-5, map.remove(3), 0);
+        map.put(3, 8);
+        Assert.assertEquals(8, map.remove(3), 0);
+        Assert.assertEquals(-5, map.get(3), 0);
+        Assert.assertEquals(-3, map.increment(4, 2), 0);
+    }
+
+    @Test
+    public void testRemove() {
+        final OpenIntToIntHashMap map = createFromJavaMap();
+        int size = javaMap.size();
+        int i = 0;
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            if (i++ % 2 == 0) {
+                Assert.assertEquals(mapEntry.getValue(), map.remove(mapEntry.getKey()), 0);
+                Assert.assertEquals(--size, map.size());
+                Assert.assertFalse(map.containsKey(mapEntry.getKey()));
+            }
+        }
+        i = 0;
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(i++ % 2 != 0, map.containsKey(mapEntry.getKey()));
+        }
+        // removed slots can be reused
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            map.put(mapEntry.getKey(), mapEntry.getValue());
+        }
+        Assert.assertEquals(javaMap.size(), map.size());
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+    }
+
+    @Test
+    public void testIncrement() {
+        final OpenIntToIntHashMap map = new OpenIntToIntHashMap();
+        final Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+        final Random r = new Random(0x6f02d4b9a83c51e7l + 2);
+        for (int i = 0; i < 10000; ++i) {
+            final int key = r.nextInt(500) - 250;
+            final int previous = counts.containsKey(key) ? counts.get(key) : 0;
+            counts.put(key, (int) (previous + 3));
+            Assert.assertEquals(previous + 3, map.increment(key, 3), 0);
+        }
+        Assert.assertEquals(counts.size(), map.size());
+        for (Map.Entry<Integer, Integer> mapEntry : counts.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+    }
+
+    @Test
+    public void testPutAll() {
+        final int[] keys = new int[javaMap.size()];
+        final int[] values = new int[javaMap.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            keys[i] = mapEntry.getKey();
+            values[i++] = mapEntry.getValue();
+        }
+        final OpenIntToIntHashMap map = new OpenIntToIntHashMap();
+        map.put(keys[0], 12);
+        map.putAll(keys, values);
+        Assert.assertEquals(javaMap.size(), map.size());
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+        try {
+            map.putAll(keys, new int[1]);
+            Assert.fail("an exception should have been thrown");
+        } catch (DimensionMismatchException dme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        final OpenIntToIntHashMap map = createFromJavaMap();
+        final OpenIntToIntHashMap.Iterator iterator = map.iterator();
+        for (int i = 0; i < map.size(); ++i) {
+            Assert.assertTrue(iterator.hasNext());
+            iterator.advance();
+            final int key = iterator.key();
+            Assert.assertTrue(map.containsKey(key));
+            Assert.assertEquals(javaMap.get(key), iterator.value(), 0);
+            Assert.assertTrue(javaMap.containsKey(key));
+        }
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.advance();
+            Assert.fail("an exception should have been thrown");
+        } catch (NoSuchElementException nsee) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIteratorEmpty() {
+        final OpenIntToIntHashMap.Iterator iterator = new OpenIntToIntHashMap().iterator();
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.key();
+            Assert.fail("an exception should have been thrown");
+        } catch (NoSuchElementException nsee) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        final OpenIntToIntHashMap map = new OpenIntToIntHashMap();
+        map.put(3, 3);
+        map.put(5, 4);
+        map.put(7, 5);
+        final OpenIntToIntHashMap.Iterator iterator = map.iterator();
+        map.put(9, 6);
+        try {
+            iterator.advance();
+            Assert.fail("an exception should have been thrown");
+        } catch (ConcurrentModificationException cme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testKeysAndValues() {
+        final OpenIntToIntHashMap map = createFromJavaMap();
+        final int[] keys = map.keys();
+        final int[] values = map.values();
+        Assert.assertEquals(javaMap.size(), keys.length);
+        Assert.assertEquals(javaMap.size(), values.length);
+        for (int i = 0; i < keys.length; ++i) {
+            Assert.assertEquals(javaMap.get(keys[i]), values[i], 0);
+        }
+    }
+
+    @Test
+    public void testCopyAndSerial() {
+        final OpenIntToIntHashMap map = createFromJavaMap();
+        final OpenIntToIntHashMap copy = new OpenIntToIntHashMap(map);
+        map.put(50, 1);
+        Assert.assertEquals(100, copy.get(50), 0);
+        final OpenIntToIntHashMap recovered = (OpenIntToIntHashMap) TestUtils.serializeAndRecover(copy);
+        Assert.assertEquals(copy.size(), recovered.size());
+        for (Map.Entry<Integer, Integer> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), recovered.get(mapEntry.getKey()), 0);
+        }
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link OpenLongToDoubleHashMap}.
+ */
+@SuppressWarnings("boxing")
+public class OpenLongToDoubleHashMapTest {
+
+    private Map<Long, Double> javaMap = new HashMap<Long, Double>();
+
+    @Before
+    public void setUp() throws Exception {
+        javaMap.put((long) 50, (double) 100);
+        javaMap.put((long) 0, (double) -1);
+        javaMap.put((long) 1, (double) 0);
+        javaMap.put((long) -1, (double) -2323);
+        javaMap.put(Long.MAX_VALUE, (double) 44);
+        javaMap.put(Long.MIN_VALUE, (double) 45);
+        javaMap.put((long) Integer.MAX_VALUE + 1, Double.MAX_VALUE);
+        javaMap.put(1l << 32, -0.1);
+        javaMap.put((1l << 32) + 1, Double.MIN_VALUE);
+
+        // add a few more to cause the table to rehash
+        final Random r = new Random(0x35a8e6c94f1d7b02l);
+        for (int i = 0; i < 2000; ++i) {
+            javaMap.put(r.nextLong(), r.nextDouble());
+        }
+    }
+
+    private OpenLongToDoubleHashMap createFromJavaMap() {
+        final OpenLongToDoubleHashMap map = new OpenLongToDoubleHashMap();
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            map.put(mapEntry.getKey(), mapEntry.getValue());
+        }
+        return map;
+    }
+
+    @Test
+    public void testPutAndGet() {
+        for (final OpenLongToDoubleHashMap map : new OpenLongToDoubleHashMap[] { new OpenLongToDoubleHashMap(0), new OpenLongToDoubleHashMap(500), new OpenLongToDoubleHashMap() }) {
+            int size = 0;
+            for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+                Assert.assertEquals(Double.NaN, map.put(mapEntry.getKey(), mapEntry.getValue()), 0);
+                Assert.assertEquals(++size, map.size());
+                Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+            }
+            for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+                Assert.assertTrue(map.containsKey(mapEntry.getKey()));
+                Assert.assertEquals(mapEntry.getValue(), map.put(mapEntry.getKey(), (double) 7), 0);
+                Assert.assertEquals(7, map.get(mapEntry.getKey()), 0);
+            }
+            Assert.assertEquals(javaMap.size(), map.size());
+        }
+    }
+
+    @Test
+    public void testGetAbsent() {
+        final OpenLongToDoubleHashMap map = createFromJavaMap();
+        final Random r = new Random(0x35a8e6c94f1d7b02l + 1);
+        for (int i = 0; i < 1000; ++i) {
+            final long key = r.nextLong();
+            if (!javaMap.containsKey(key)) {
+                Assert.assertFalse(map.containsKey(key));
+                Assert.assertEquals(Double.NaN, map.get(key), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testMissingEntriesValue() {
+        final OpenLongToDoubleHashMap map = new OpenLongToDoubleHashMap(4, (double) -5);
+        Assert.assertEquals(-5, map.get((long) 3), 0);
+        Assert.assertEquals(-5, map.remove((long) 3), 0);
+        map.put((long) 3, (double) 8);
+        Assert.assertEquals(8, map.remove((long) 3), 0);
+        Assert.assertEquals(-5, map.get((long) 3), 0);
+        Assert.assertEquals(-3, map.increment((long) 4, (double) 2), 0);
+    }
+
+    @Test
+    public void testRemove() {
+        final OpenLongToDoubleHashMap map = createFromJavaMap();
+        int size = javaMap.size();
+        int i = 0;
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            if (i++ % 2 == 0) {
+                Assert.assertEquals(mapEntry.getValue(), map.remove(mapEntry.getKey()), 0);
+                Assert.assertEquals(--size, map.size());
+                Assert.assertFalse(map.containsKey(mapEntry.getKey()));
+            }
+        }
+        i = 0;
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(i++ % 2 != 0, map.containsKey(mapEntry.getKey()));
+        }
+        // removed slots can be reused
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            map.put(mapEntry.getKey(), mapEntry.getValue());
+        }
+        Assert.assertEquals(javaMap.size(), map.size());
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+    }
+
+    @Test
+    public void testIncrement() {
+        final OpenLongToDoubleHashMap map = new OpenLongToDoubleHashMap(16, 0.0);
+        final Map<Long, Double> counts = new HashMap<Long, Double>();
+        final Random r = new Random(0x35a8e6c94f1d7b02l + 2);
+        for (int i = 0; i < 10000; ++i) {
+            final long key = (r.nextInt(500) * (1l << 33));
+            final double previous = counts.containsKey(key) ? counts.get(key) : (double) 0;
+            counts.put(key, (double) (previous + 3));
+            Assert.assertEquals(previous + 3, map.increment(key, (double) 3), 0);
+        }
+        Assert.assertEquals(counts.size(), map.size());
+        for (Map.Entry<Long, Double> mapEntry : counts.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+    }
+
+    @Test
+    public void testPutAll() {
+        final long[] keys = new long[javaMap.size()];
+        final double[] values = new double[javaMap.size()];
+        int i = 0;
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            keys[i] = mapEntry.getKey();
+            values[i++] = mapEntry.getValue();
+        }
+        final OpenLongToDoubleHashMap map = new OpenLongToDoubleHashMap();
+        map.put(keys[0], (double) 12);
+        map.putAll(keys, values);
+        Assert.assertEquals(javaMap.size(), map.size());
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+        try {
+            map.putAll(keys, new double[1]);
+            Assert.fail("an exception should have been thrown");
+        } catch (DimensionMismatchException dme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        final OpenLongToDoubleHashMap map = createFromJavaMap();
+        final OpenLongToDoubleHashMap.Iterator iterator = map.iterator();
+        for (int i = 0; i < map.size(); ++i) {
+            Assert.assertTrue(iterator.hasNext());
+            iterator.advance();
+            final long key = iterator.key();
+            Assert.assertTrue(map.containsKey(key));
+            Assert.assertEquals(javaMap.get(key), iterator.value(), 0);
+            Assert.assertTrue(javaMap.containsKey(key));
+        }
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.advance();
+            Assert.fail("an exception should have been thrown");
+        } catch (NoSuchElementException nsee) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIteratorEmpty() {
+        final OpenLongToDoubleHashMap.Iterator iterator = new OpenLongToDoubleHashMap().iterator();
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.key();
+            Assert.fail("an exception should have been thrown");
+        } catch (NoSuchElementException nsee) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        final OpenLongToDoubleHashMap map = new OpenLongToDoubleHashMap();
+        map.put((long) 3, (double) 3);
+        map.put((long) 5, (double) 4);
+        map.put((long) 7, (double) 5);
+        final OpenLongToDoubleHashMap.Iterator iterator = map.iterator();
+        map.put((long) 9, (double) 6);
+        try {
+            iterator.advance();
+            Assert.fail("an exception should have been thrown");
+        } catch (ConcurrentModificationException cme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testKeysAndValues() {
+        final OpenLongToDoubleHashMap map = createFromJavaMap();
+        final long[] keys = map.keys();
+        final double[] values = map.values();
+        Assert.assertEquals(javaMap.size(), keys.length);
+        Assert.assertEquals(javaMap.size(), values.length);
+        for (int i = 0; i < keys.length; ++i) {
+            Assert.assertEquals(javaMap.get(keys[i]), values[i], 0);
+        }
+    }
+
+    @Test
+    public void testCopyAndSerial() {
+        final OpenLongToDoubleHashMap map = createFromJavaMap();
+        final OpenLongToDoubleHashMap copy = new OpenLongToDoubleHashMap(map);
+        map.put((long) 50, (double) 1);
+        Assert.assertEquals(100, copy.get((long) 50), 0);
+        final OpenLongToDoubleHashMap recovered = (OpenLongToDoubleHashMap) TestUtils.serializeAndRecover(copy);
+        Assert.assertEquals(copy.size(), recovered.size());
+        for (Map.Entry<Long, Double> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), recovered.get(mapEntry.getKey()), 0);
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link OpenLongToLongHashMap}.
+ */
+@SuppressWarnings("boxing")
+public class OpenLongToLongHashMapTest {
+
+    private Map<Long, Long> javaMap = new HashMap<Long, Long>();
+
+    @Before
+    public void setUp() throws Exception {
+        javaMap.put((long) 50, (long) 100);
+        javaMap.put((long) 0, (long) -1);
+        javaMap.put((long) 1, (long) 0);
+        javaMap.put((long) -1, (long) -2323);
+        javaMap.put(Long.MAX_VALUE, (long) 44);
+        javaMap.put(Long.MIN_VALUE, (long) 45);
+        javaMap.put(1l << 32, Long.MAX_VALUE);
+        javaMap.put((1l << 32) + 1, Long.MIN_VALUE);
+
+        // add a few more to cause the table to rehash
+        final Random r = new Random(0x1c7e93a5d0b2f684l);
+        for (int i = 0; i < 2000; ++i) {
+            javaMap.put(r.nextLong(), r.nextLong());
+        }
+    }
+
+    private OpenLongToLongHashMap createFromJavaMap() {
+        final OpenLongToLongHashMap map = new OpenLongToLongHashMap();
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            map.put(mapEntry.getKey(), mapEntry.getValue());
+        }
+        return map;
+    }
+
+    @Test
+    public void testPutAndGet() {
+        for (final OpenLongToLongHashMap map : new OpenLongToLongHashMap[] { new OpenLongToLongHashMap(0), new OpenLongToLongHashMap(500), new OpenLongToLongHashMap() }) {
+            int size = 0;
+            for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+                Assert.assertEquals(0, map.put(mapEntry.getKey(), mapEntry.getValue()), 0);
+                Assert.assertEquals(++size, map.size());
+                Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+            }
+            for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+                Assert.assertTrue(map.containsKey(mapEntry.getKey()));
+                Assert.assertEquals(mapEntry.getValue(), map.put(mapEntry.getKey(), (long) 7), 0);
+                Assert.assertEquals(7, map.get(mapEntry.getKey()), 0);
+            }
+            Assert.assertEquals(javaMap.size(), map.size());
+        }
+    }
+
+    @Test
+    public void testGetAbsent() {
+        final OpenLongToLongHashMap map = createFromJavaMap();
+        final Random r = new Random(0x1c7e93a5d0b2f684l + 1);
+        for (int i = 0; i < 1000; ++i) {
+            final long key = r.nextLong();
+            if (!javaMap.containsKey(key)) {
+                Assert.assertFalse(map.containsKey(key));
+                Assert.assertEquals(0, map.get(key), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testMissingEntriesValue() {
+        final OpenLongToLongHashMap map = new OpenLongToLongHashMap(4, (long) -5);
+        Assert.assertEquals(-5, map.get((long) 3), 0);
+        Assert.assertEquals(-5, map.remove((long) 3), 0);
+        map.put((long) 3, (long) 8);
+        Assert.assertEquals(8, map.remove((long) 3), 0);
+        Assert.assertEquals(-5, map.get((long) 3), 0);
+        Assert.assertEquals(-3, map.increment((long) 4, (long) 2), 0);
+    }
+
+    @Test
+    public void testRemove() {
+        final OpenLongToLongHashMap map = createFromJavaMap();
+        int size = javaMap.size();
+        int i = 0;
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            if (i++ % 2 == 0) {
+                Assert.assertEquals(mapEntry.getValue(), map.remove(mapEntry.getKey()), 0);
+                Assert.assertEquals(--size, map.size());
+                Assert.assertFalse(map.containsKey(mapEntry.getKey()));
+            }
+        }
+        i = 0;
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(i++ % 2 != 0, map.containsKey(mapEntry.getKey()));
+        }
+        // removed slots can be reused
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            map.put(mapEntry.getKey(), mapEntry.getValue());
+        }
+        Assert.assertEquals(javaMap.size(), map.size());
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+    }
+
+    @Test
+    public void testIncrement() {
+        final OpenLongToLongHashMap map = new OpenLongToLongHashMap();
+        final Map<Long, Long> counts = new HashMap<Long, Long>();
+        final Random r = new Random(0x1c7e93a5d0b2f684l + 2);
+        for (int i = 0; i < 10000; ++i) {
+            final long key = (r.nextInt(500) * (1l << 33));
+            final long previous = counts.containsKey(key) ? counts.get(key) : (long) 0;
+            counts.put(key, (long) (previous + 3));
+            Assert.assertEquals(previous + 3, map.increment(key, (long) 3), 0);
+        }
+        Assert.assertEquals(counts.size(), map.size());
+        for (Map.Entry<Long, Long> mapEntry : counts.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+    }
+
+    @Test
+    public void testPutAll() {
+        final long[] keys = new long[javaMap.size()];
+        final long[] values = new long[javaMap.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            keys[i] = mapEntry.getKey();
+            values[i++] = mapEntry.getValue();
+        }
+        final OpenLongToLongHashMap map = new OpenLongToLongHashMap();
+        map.put(keys[0], (long) 12);
+        map.putAll(keys, values);
+        Assert.assertEquals(javaMap.size(), map.size());
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), map.get(mapEntry.getKey()), 0);
+        }
+        try {
+            map.putAll(keys, new long[1]);
+            Assert.fail("an exception should have been thrown");
+        } catch (DimensionMismatchException dme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        final OpenLongToLongHashMap map = createFromJavaMap();
+        final OpenLongToLongHashMap.Iterator iterator = map.iterator();
+        for (int i = 0; i < map.size(); ++i) {
+            Assert.assertTrue(iterator.hasNext());
+            iterator.advance();
+            final long key = iterator.key();
+            Assert.assertTrue(map.containsKey(key));
+            Assert.assertEquals(javaMap.get(key), iterator.value(), 0);
+            Assert.assertTrue(javaMap.containsKey(key));
+        }
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.advance();
+            Assert.fail("an exception should have been thrown");
+        } catch (NoSuchElementException nsee) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIteratorEmpty() {
+        final OpenLongToLongHashMap.Iterator iterator = new OpenLongToLongHashMap().iterator();
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.key();
+            Assert.fail("an exception should have been thrown");
+        } catch (NoSuchElementException nsee) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        final OpenLongToLongHashMap map = new OpenLongToLongHashMap();
+        map.put((long) 3, (long) 3);
+        map.put((long) 5, (long) 4);
+        map.put((long) 7, (long) 5);
+        final OpenLongToLongHashMap.Iterator iterator = map.iterator();
+        map.put((long) 9, (long) 6);
+        try {
+            iterator.advance();
+            Assert.fail("an exception should have been thrown");
+        } catch (ConcurrentModificationException cme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testKeysAndValues() {
+        final OpenLongToLongHashMap map = createFromJavaMap();
+        final long[] keys = map.keys();
+        final long[] values = map.values();
+        Assert.assertEquals(javaMap.size(), keys.length);
+        Assert.assertEquals(javaMap.size(), values.length);
+        for (int i = 0; i < keys.length; ++i) {
+            Assert.assertEquals(javaMap.get(keys[i]), values[i], 0);
+        }
+    }
+
+    @Test
+    public void testCopyAndSerial() {
+        final OpenLongToLongHashMap map = createFromJavaMap();
+        final OpenLongToLongHashMap copy = new OpenLongToLongHashMap(map);
+        map.put((long) 50, (long) 1);
+        Assert.assertEquals(100, copy.get((long) 50), 0);
+        final OpenLongToLongHashMap recovered = (OpenLongToLongHashMap) TestUtils.serializeAndRecover(copy);
+        Assert.assertEquals(copy.size(), recovered.size());
+        for (Map.Entry<Long, Long> mapEntry : javaMap.entrySet()) {
+            Assert.assertEquals(mapEntry.getValue(), recovered.get(mapEntry.getKey()), 0);
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.util.ApproximateMath;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Throughput benchmark for ApproximateMath, against FastMath and Math.
+ * <p>
+ * The last columns give the largest relative difference between
+ * ApproximateMath and Math observed over the benchmark arguments.
+ * </p>
+ */
+public class ApproximateMathTestPerformance {
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","10000000"));
+    private static final double F1 = 1d / RUNS;
+
+    // Header format
+    private static final String FMT_HDR = "%-5s %13s %13s %13s %9s Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-5s %6d %6.1f %6d %6.4f %6d %6.4f %9.2e";
+
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Math","FastMath","Approximate","MaxRelErr",RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        compare("exp", -700, 700,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.exp(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.exp(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.exp(x); }
+                });
+
+        compare("log", 0.01, 1.0e6,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.log(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.log(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.log(x); }
+                });
+
+        compare("pow", 0.01, 100,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.pow(x, 1.7); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.pow(x, 1.7); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.pow(x, 1.7); }
+                });
+
+        compare("sin", -100, 100,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.sin(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.sin(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.sin(x); }
+                });
+
+        compare("cos", -100, 100,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.cos(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.cos(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.cos(x); }
+                });
+
+        compare("atan", -100, 100,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.atan(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.atan(x); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.atan(x); }
+                });
+
+        compare("atan2", -100, 100,
+                new UnivariateFunction() {
+                    public double value(double x) { return Math.atan2(x, 3.0); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return FastMath.atan2(x, 3.0); }
+                },
+                new UnivariateFunction() {
+                    public double value(double x) { return ApproximateMath.atan2(x, 3.0); }
+                });
+    }
+
+    private static void compare(String name, double min, double max,
+                                UnivariateFunction math,
+                                UnivariateFunction fastMath,
+                                UnivariateFunction approximateMath) {
+        final double step = (max - min) * F1;
+
+        double x = 0;
+        long time = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            x += math.value(min + i * step);
+        }
+        long mathTime = System.nanoTime() - time;
+
+        x = 0;
+        time = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            x += fastMath.value(min + i * step);
+        }
+        long fastTime = System.nanoTime() - time;
+
+        x = 0;
+        time = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            x += approximateMath.value(min + i * step);
+        }
+        long approximateTime = System.nanoTime() - time;
+
+        double maxError = 0;
+        for (int i = 0; i < RUNS; i += 97) {
+            final double expected = math.value(min + i * step);
+            final double actual   = approximateMath.value(min + i * step);
+            if (expected != actual) {
+                maxError = Math.max(maxError, Math.abs((actual - expected) / expected));
+            }
+        }
+
+        report(name, mathTime, fastTime, approximateTime, maxError);
+        assertTrue(!Double.isNaN(x));
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long mathTime, long fastMathTime,
+                               long approximateMathTime, double maxError) {
+        long unitTime = mathTime;
+        System.out.println(String.format(FMT_DTL,
+                name,
+                mathTime / RUNS, (double) mathTime / unitTime,
+                fastMathTime / RUNS, (double) fastMathTime / unitTime,
+                approximateMathTime / RUNS, (double) approximateMathTime / unitTime,
+                maxError
+                ));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.distribution.PascalDistribution;
+import org.apache.commons.math3.distribution.PoissonDistribution;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.CombinatoricsUtils;
+
+/**
+ * Benchmark for the binomial coefficients and log-factorials of
+ * {@link CombinatoricsUtils}, and for the distributions relying on them.
+ * <p>
+ * The "uncached" lines use a {@link CombinatoricsUtils.FactorialLog}
+ * without cache, i.e. the computation performed before the introduction of
+ * the caches.
+ * </p>
+ */
+public class CombinatoricsTestPerformance {
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","100000"));
+
+    // Header format
+    private static final String FMT_HDR = "%-30s %12s Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-30s %9.1f ns/call";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/call",RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final CombinatoricsUtils.FactorialLog uncached = CombinatoricsUtils.FactorialLog.create();
+        final CombinatoricsUtils.FactorialLog cached   = uncached.withCache(2000);
+
+        double x = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            x += uncached.value(i % 2000);
+        }
+        report("factorialLog, uncached", System.nanoTime() - start);
+
+        double y = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            y += cached.value(i % 2000);
+        }
+        report("factorialLog, cached", System.nanoTime() - start);
+        assertTrue(x == y);
+
+        long sum = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            final int n = i % 67;
+            sum += CombinatoricsUtils.binomialCoefficient(n, (i / 67) % (n + 1));
+        }
+        report("binomialCoefficient, n < 67", System.nanoTime() - start);
+        assertTrue(sum != 0);
+
+        x = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            final int n = 67 + i % 2000;
+            x += CombinatoricsUtils.binomialCoefficientLog(n, n / 3);
+        }
+        report("binomialCoefficientLog", System.nanoTime() - start);
+        assertTrue(x > 0);
+
+        final PascalDistribution pascal = new PascalDistribution(50, 0.3);
+        x = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            x += pascal.probability(i % 400);
+        }
+        report("PascalDistribution.probability", System.nanoTime() - start);
+        assertTrue(x > 0);
+
+        x = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            x += pascal.logProbability(i % 400);
+        }
+        report("PascalDistribution.logProb.", System.nanoTime() - start);
+        assertTrue(x < 0);
+
+        final PoissonDistribution poisson = new PoissonDistribution(new Well19937c(0x3a5c7e91b2d4f608l), 1000,
+                                                                    PoissonDistribution.DEFAULT_EPSILON,
+                                                                    PoissonDistribution.DEFAULT_MAX_ITERATIONS);
+        sum = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sum += poisson.sample();
+        }
+        report("PoissonDistribution.sample", System.nanoTime() - start);
+        assertTrue(sum > 0);
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time / (double) RUNS));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
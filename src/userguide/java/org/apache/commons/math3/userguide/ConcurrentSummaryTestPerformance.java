@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.stat.descriptive.ConcurrentSummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedSummaryStatistics;
+
+/**
+ * Throughput of {@code addValue} when several threads update the same
+ * {@link SynchronizedSummaryStatistics} or {@link ConcurrentSummaryStatistics}.
+ * <p>
+ * The number of threads defaults to 1, 2, 4 ... up to twice the number of
+ * available processors; the maximum can be changed with the {@code threads}
+ * system property.
+ * </p>
+ */
+public class ConcurrentSummaryTestPerformance {
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","200000"));
+    private static final int THREADS =
+        Integer.parseInt(System.getProperty("threads", Integer.toString(2 * Runtime.getRuntime().availableProcessors())));
+
+    // Header format
+    private static final String FMT_HDR = "%-14s %8s %12s Runs/thread=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-14s %8d %9.2f M/s";
+
+    /** Statistics updated by the benchmark threads. */
+    private interface Target {
+        /** @param value Value to add. */
+        void addValue(double value);
+    }
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Threads","Throughput",RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        for (int threads = 1; threads <= THREADS; threads *= 2) {
+            final SynchronizedSummaryStatistics synchronizedStats = new SynchronizedSummaryStatistics();
+            run("synchronized", threads, new Target() {
+                /** {@inheritDoc} */
+                public void addValue(double value) {
+                    synchronizedStats.addValue(value);
+                }
+            });
+            assertTrue(synchronizedStats.getN() == (long) threads * RUNS);
+
+            final ConcurrentSummaryStatistics concurrentStats = new ConcurrentSummaryStatistics();
+            run("concurrent", threads, new Target() {
+                /** {@inheritDoc} */
+                public void addValue(double value) {
+                    concurrentStats.addValue(value);
+                }
+            });
+            assertTrue(concurrentStats.getN() == (long) threads * RUNS);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void run(String name, int threads, final Target target) throws InterruptedException {
+        final Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < RUNS; i++) {
+                        target.addValue(i);
+                    }
+                }
+            };
+        }
+        final long start = System.nanoTime();
+        for (final Thread worker : workers) {
+            worker.start();
+        }
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        final long time = System.nanoTime() - start;
+        System.out.println(String.format(FMT_DTL, name, threads, 1.0e3 * threads * RUNS / time));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.linear.BlockRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.correlation.Covariance;
+import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Benchmark for the computation of covariance and correlation matrices.
+ * <p>
+ * The covariances of all the pairs of columns computed one at a time are
+ * compared with the blocked computation of the whole matrix, both sequential
+ * and with a fixed thread pool. The number of rows, columns and threads can be
+ * changed with the {@code size}, {@code columns} and {@code threads} system
+ * properties.
+ * </p>
+ */
+public class CovarianceTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","10000"));
+    private static final int COLUMNS = Integer.parseInt(System.getProperty("columns","200"));
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads",
+                                                                           Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Columns=%d Threads=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ms";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/matrix",SIZE,COLUMNS,THREADS,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x52f8d1a0c73e9b46l);
+        final double[][] data = new double[SIZE][COLUMNS];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                data[i][j] = random.nextGaussian() + ((j == 0) ? 0 : 0.5 * data[i][j - 1]);
+            }
+        }
+        final RealMatrix matrix = new BlockRealMatrix(data);
+        final Covariance covariance = new Covariance();
+
+        RealMatrix pairwise = null;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            pairwise = new BlockRealMatrix(COLUMNS, COLUMNS);
+            for (int i = 0; i < COLUMNS; i++) {
+                for (int j = 0; j <= i; j++) {
+                    final double cov = covariance.covariance(matrix.getColumn(i), matrix.getColumn(j));
+                    pairwise.setEntry(i, j, cov);
+                    pairwise.setEntry(j, i, cov);
+                }
+            }
+            time += System.nanoTime() - start;
+        }
+        report("pairwise covariance", time);
+
+        RealMatrix blocked = null;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            blocked = new Covariance(matrix).getCovarianceMatrix();
+            time += System.nanoTime() - start;
+        }
+        report("covariance matrix", time);
+
+        RealMatrix parallel = null;
+        RealMatrix correlation = null;
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            time = 0;
+            for (int run = 0; run < RUNS; run++) {
+                final long start = System.nanoTime();
+                parallel = new Covariance(matrix, true, executor).getCovarianceMatrix();
+                time += System.nanoTime() - start;
+            }
+            report("covariance, executor", time);
+
+            time = 0;
+            for (int run = 0; run < RUNS; run++) {
+                final long start = System.nanoTime();
+                correlation = new PearsonsCorrelation().computeCorrelationMatrix(matrix, executor);
+                time += System.nanoTime() - start;
+            }
+            report("correlation, executor", time);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(blocked.equals(parallel));
+        for (int i = 0; i < COLUMNS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                final double expected = pairwise.getEntry(i, j);
+                assertTrue(FastMath.abs(expected - blocked.getEntry(i, j)) <= 1.0e-10 * FastMath.abs(expected) + 1.0e-12);
+                assertTrue(FastMath.abs(correlation.getEntry(i, j)) <= 1 + 1.0e-15);
+            }
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time * 1.0e-6 / RUNS));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.BetaDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+
+/**
+ * Benchmark for the evaluation of the log density and of the cumulative
+ * probability of distributions, point by point, in bulk and in bulk with
+ * an executor service.
+ * <p>
+ * The number of points and of threads can be changed with the {@code size}
+ * and {@code threads} system properties.
+ * </p>
+ */
+public class DistributionDensityTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","200000"));
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads",
+                                                        Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","5"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s %12s %12s Size=%d Threads=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ns %9.2f ns %9.2f ns";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","scalar","bulk","parallel",SIZE,THREADS,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x3a95e7c1f20d68b4l);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            run("normal", new NormalDistribution(random, 2, 3), executor);
+            run("exponential", new ExponentialDistribution(random, 2), executor);
+            run("gamma(4)", new GammaDistribution(random, 4, 2), executor);
+            run("beta(2,5)", new BetaDistribution(random, 2, 5), executor);
+            run("t(5)", new TDistribution(random, 5), executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void run(String name, AbstractRealDistribution distribution, ExecutorService executor) {
+        final double[] x = distribution.sample(SIZE);
+        final double[] scalar = new double[SIZE];
+        final double[] bulk = new double[SIZE];
+        final double[] parallel = new double[SIZE];
+
+        long scalarTime = 0;
+        long bulkTime = 0;
+        long parallelTime = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < SIZE; i++) {
+                scalar[i] = distribution.logDensity(x[i]);
+            }
+            scalarTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            distribution.logDensity(x, bulk);
+            bulkTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            distribution.logDensity(x, parallel, executor);
+            parallelTime += System.nanoTime() - start;
+        }
+        report(name + " logDensity", scalarTime, bulkTime, parallelTime);
+        check(scalar, bulk, parallel);
+
+        scalarTime = 0;
+        bulkTime = 0;
+        parallelTime = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < SIZE; i++) {
+                scalar[i] = distribution.cumulativeProbability(x[i]);
+            }
+            scalarTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            distribution.cumulativeProbability(x, bulk);
+            bulkTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            distribution.cumulativeProbability(x, parallel, executor);
+            parallelTime += System.nanoTime() - start;
+        }
+        report(name + " cdf", scalarTime, bulkTime, parallelTime);
+        check(scalar, bulk, parallel);
+    }
+
+    private static void check(double[] scalar, double[] bulk, double[] parallel) {
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(Double.compare(scalar[i], bulk[i]) == 0 && Double.compare(bulk[i], parallel[i]) == 0);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long scalarTime, long bulkTime, long parallelTime) {
+        System.out.println(String.format(FMT_DTL, name,
+                                         (double) scalarTime / RUNS / SIZE,
+                                         (double) bulkTime / RUNS / SIZE,
+                                         (double) parallelTime / RUNS / SIZE));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.distribution.AbstractIntegerDistribution;
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.EnumeratedIntegerDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+
+/**
+ * Benchmark for the sampling of distributions, value by value with
+ * {@code sample(int)} and by batch with {@code sample(out, rng)}.
+ * <p>
+ * The sample size can be changed with the {@code size} system property.
+ * </p>
+ */
+public class DistributionSamplingTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","1000000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","5"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %14s %14s Size=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %10.2f M/s %10.2f M/s";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","sample(int)","batch",SIZE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x6f1c3b82d4e0a957l);
+        run("normal", new NormalDistribution(random, 2, 3), random);
+        run("exponential", new ExponentialDistribution(random, 2), random);
+        run("gamma(0.5)", new GammaDistribution(random, 0.5, 2), random);
+        run("gamma(4)", new GammaDistribution(random, 4, 2), random);
+
+        final int[] values = new int[100];
+        final double[] probabilities = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+            probabilities[i] = 1 + (i % 7);
+        }
+        run("enumerated(100)", new EnumeratedIntegerDistribution(random, values, probabilities), random);
+    }
+
+    private static void run(String name, AbstractRealDistribution distribution, RandomGenerator random) {
+        final double[] out = new double[SIZE];
+        double single = 0;
+        double batch = 0;
+        long singleTime = 0;
+        long batchTime = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            final double[] values = distribution.sample(SIZE);
+            singleTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            distribution.sample(out, random);
+            batchTime += System.nanoTime() - start;
+            single = mean(values);
+            batch = mean(out);
+        }
+        report(name, singleTime, batchTime);
+        final double expected = distribution.getNumericalMean();
+        final double tolerance = 10 * Math.sqrt(distribution.getNumericalVariance() / SIZE);
+        assertTrue(Math.abs(single - expected) < tolerance && Math.abs(batch - expected) < tolerance);
+    }
+
+    private static void run(String name, AbstractIntegerDistribution distribution, RandomGenerator random) {
+        final int[] out = new int[SIZE];
+        double single = 0;
+        double batch = 0;
+        long singleTime = 0;
+        long batchTime = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            final int[] values = distribution.sample(SIZE);
+            singleTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            distribution.sample(out, random);
+            batchTime += System.nanoTime() - start;
+            single = mean(values);
+            batch = mean(out);
+        }
+        report(name, singleTime, batchTime);
+        final double expected = distribution.getNumericalMean();
+        final double tolerance = 10 * Math.sqrt(distribution.getNumericalVariance() / SIZE);
+        assertTrue(Math.abs(single - expected) < tolerance && Math.abs(batch - expected) < tolerance);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (final double v : values) {
+            sum += v;
+        }
+        return sum / values.length;
+    }
+
+    private static double mean(int[] values) {
+        double sum = 0;
+        for (final int v : values) {
+            sum += v;
+        }
+        return sum / values.length;
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long singleTime, long batchTime) {
+        System.out.println(String.format(FMT_DTL, name,
+                                         1.0e3 * RUNS * SIZE / singleTime,
+                                         1.0e3 * RUNS * SIZE / batchTime));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
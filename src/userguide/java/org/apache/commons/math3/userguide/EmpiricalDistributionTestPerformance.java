@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.random.EmpiricalDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+
+/**
+ * Benchmark for the loading of an {@link EmpiricalDistribution} from files.
+ * <p>
+ * The stream based loading from a URL is compared with the memory-mapped
+ * loading of the same text file, sequentially and with an executor service,
+ * and with the loading of a binary file. The number of values and of threads
+ * can be changed with the {@code size} and {@code threads} system properties.
+ * </p>
+ */
+public class EmpiricalDistributionTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","2000000"));
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads","4"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Threads=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ns";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) throws IOException {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/value",SIZE,THREADS,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x3b9d6e0f52a8c714l);
+        final File text = File.createTempFile("empirical", ".txt");
+        final File binary = File.createTempFile("empirical", ".bin");
+        text.deleteOnExit();
+        binary.deleteOnExit();
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(text), "US-ASCII"));
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(binary)));
+        try {
+            for (int i = 0; i < SIZE; i++) {
+                final double x = random.nextGaussian();
+                writer.write(Double.toString(x));
+                writer.write('\n');
+                out.writeDouble(x);
+            }
+        } finally {
+            writer.close();
+            out.close();
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final double[] means = new double[4];
+            long[] times = new long[4];
+            for (int run = 0; run < RUNS; run++) {
+                for (int k = 0; k < times.length; k++) {
+                    final EmpiricalDistribution distribution = new EmpiricalDistribution();
+                    final long start = System.nanoTime();
+                    switch (k) {
+                    case 0 :
+                        distribution.load(text.toURI().toURL());
+                        break;
+                    case 1 :
+                        distribution.load(text);
+                        break;
+                    case 2 :
+                        distribution.load(text, executor);
+                        break;
+                    default :
+                        distribution.loadBinary(binary, executor);
+                    }
+                    times[k] += System.nanoTime() - start;
+                    means[k] = distribution.getBinStats().get(500).getMean();
+                }
+            }
+            report("stream (URL)", times[0]);
+            report("mapped text", times[1]);
+            report("mapped text, executor", times[2]);
+            report("mapped binary", times[3]);
+            assertTrue(means[0] == means[1] && means[1] == means[2] && means[2] == means[3]);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, (double) time / RUNS / SIZE));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
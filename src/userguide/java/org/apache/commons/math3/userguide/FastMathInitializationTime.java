@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Measures the cost of the first call to a FastMath function family,
+ * including the loading of the tables it depends on.
+ * <p>
+ * Class initialization only happens once per JVM, so each family must be
+ * measured in a fresh JVM, e.g.:
+ * <pre>
+ *  for f in abs sqrt exp log pow sin atan; do
+ *    mvn -q exec:java -Dexec.mainClass=org.apache.commons.math3.userguide.FastMathInitializationTime -Dexec.args=$f
+ *  done
+ * </pre>
+ * </p>
+ */
+public class FastMathInitializationTime {
+
+    // Detail format
+    private static final String FMT_DTL = "%-5s first call %9.3f ms, second call %9.3f ms";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        final String family = args.length > 0 ? args[0] : "exp";
+        final double x = 0.5 + Math.random();
+
+        long time = System.nanoTime();
+        double y = call(family, x);
+        final long first = System.nanoTime() - time;
+
+        time = System.nanoTime();
+        y += call(family, x);
+        final long second = System.nanoTime() - time;
+
+        System.out.println(String.format(FMT_DTL, family, first * 1.0e-6, second * 1.0e-6));
+        if (Double.isNaN(y)) {
+            System.err.println("unexpected NaN result");
+            System.exit(1);
+        }
+    }
+
+    private static double call(final String family, final double x) {
+        if ("abs".equals(family)) {
+            return FastMath.abs(x);
+        } else if ("sqrt".equals(family)) {
+            return FastMath.sqrt(x);
+        } else if ("exp".equals(family)) {
+            return FastMath.exp(x);
+        } else if ("log".equals(family)) {
+            return FastMath.log(x);
+        } else if ("pow".equals(family)) {
+            return FastMath.pow(x, 1.5);
+        } else if ("sin".equals(family)) {
+            return FastMath.sin(x);
+        } else if ("atan".equals(family)) {
+            return FastMath.atan(x);
+        }
+        throw new IllegalArgumentException("unknown function family: " + family);
+    }
+
+}
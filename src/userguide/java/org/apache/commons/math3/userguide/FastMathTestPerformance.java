@@ -16,6 +16,9 @@
  */
 package org.apache.commons.math3.userguide;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.PerfTestUtils;
 import org.apache.commons.math3.util.FastMath;
 
@@ -26,11 +29,17 @@ import org.apache.commons.math3.util.FastMath;
 public class FastMathTestPerformance {
     private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","10000000"));
     private static final double F1 = 1d / RUNS;
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads",
+                                                        Integer.toString(Runtime.getRuntime().availableProcessors())));
 
     // Header format
     private static final String FMT_HDR = "%-5s %13s %13s %13s Runs=%d Java %s (%s) %s (%s)";
     // Detail format
     private static final String FMT_DTL = "%-5s %6d %6.1f %6d %6.4f %6d %6.4f";
+    // Header format for array functions
+    private static final String FMT_BULK_HDR = "%-5s %13s %13s Elements=%d";
+    // Detail format for array functions
+    private static final String FMT_BULK_DTL = "%-5s %6d %6.1f %6d %6.4f";
 
     public static void main(String[] args) {
         System.out.println(String.format(FMT_HDR,
@@ -61,6 +70,9 @@ public class FastMathTestPerformance {
         testTan();
         testTanh();
 
+        testArrayFunctions();
+        testArrayFunctionsExecutor();
+
     }
 
     @SuppressWarnings("boxing")
@@ -74,6 +86,16 @@ public class FastMathTestPerformance {
                 ));
     }
 
+    @SuppressWarnings("boxing")
+    private static void reportBulk(String name, long scalarTime, long bulkTime) {
+        long unitTime = scalarTime;
+        System.out.println(String.format(FMT_BULK_DTL,
+                name,
+                scalarTime / RUNS, (double) scalarTime / unitTime,
+                bulkTime / RUNS, (double) bulkTime / unitTime
+                ));
+    }
+
     private static void assertTrue(boolean condition) {
         if (!condition) {
             System.err.println("assertion failed!");
@@ -611,6 +633,166 @@ public class FastMathTestPerformance {
         assertTrue(!Double.isNaN(x));
     }
 
+    private static void testArrayFunctionsExecutor() {
+        final int length = Math.min(RUNS, 1 << 20);
+        final int repeats = Math.max(1, RUNS / length);
+        final double[] in = new double[length];
+        final double[] out = new double[length];
+        for (int i = 0; i < length; i++) {
+            in[i] = 0.01 + 10.0 * i / length;
+        }
+
+        System.out.println(String.format(FMT_BULK_HDR + " Threads=%d", "Name", "FastMath[]", "parallel",
+                                         repeats * length, THREADS));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        double x = 0;
+        try {
+            long time = System.nanoTime();
+            for (int j = 0; j < repeats; j++) {
+                FastMath.exp(in, out);
+                x += out[j % length];
+            }
+            long bulkTime = System.nanoTime() - time;
+            time = System.nanoTime();
+            for (int j = 0; j < repeats; j++) {
+                FastMath.exp(in, out, executor);
+                x += out[j % length];
+            }
+            long parallelTime = System.nanoTime() - time;
+            reportBulk("exp", bulkTime, parallelTime);
+
+            time = System.nanoTime();
+            for (int j = 0; j < repeats; j++) {
+                FastMath.sin(in, out);
+                x += out[j % length];
+            }
+            bulkTime = System.nanoTime() - time;
+            time = System.nanoTime();
+            for (int j = 0; j < repeats; j++) {
+                FastMath.sin(in, out, executor);
+                x += out[j % length];
+            }
+            parallelTime = System.nanoTime() - time;
+            reportBulk("sin", bulkTime, parallelTime);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(!Double.isNaN(x));
+    }
+
+    private static void testArrayFunctions() {
+        final int blockSize = 1000;
+        final int blocks = RUNS / blockSize;
+        final double[] in = new double[blockSize];
+        final double[] out = new double[blockSize];
+        for (int i = 0; i < blockSize; i++) {
+            in[i] = 0.01 + 10.0 * i / blockSize;
+        }
+
+        System.out.println(String.format(FMT_BULK_HDR, "Name", "FastMath", "FastMath[]", blocks * blockSize));
+
+        double x = 0;
+        long time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            for (int i = 0; i < blockSize; i++) {
+                out[i] = FastMath.exp(in[i]);
+            }
+            x += out[j % blockSize];
+        }
+        long scalarTime = System.nanoTime() - time;
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            FastMath.exp(in, out);
+            x += out[j % blockSize];
+        }
+        long bulkTime = System.nanoTime() - time;
+        reportBulk("exp", scalarTime, bulkTime);
+
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            for (int i = 0; i < blockSize; i++) {
+                out[i] = FastMath.log(in[i]);
+            }
+            x += out[j % blockSize];
+        }
+        scalarTime = System.nanoTime() - time;
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            FastMath.log(in, out);
+            x += out[j % blockSize];
+        }
+        bulkTime = System.nanoTime() - time;
+        reportBulk("log", scalarTime, bulkTime);
+
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            for (int i = 0; i < blockSize; i++) {
+                out[i] = FastMath.sin(in[i]);
+            }
+            x += out[j % blockSize];
+        }
+        scalarTime = System.nanoTime() - time;
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            FastMath.sin(in, out);
+            x += out[j % blockSize];
+        }
+        bulkTime = System.nanoTime() - time;
+        reportBulk("sin", scalarTime, bulkTime);
+
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            for (int i = 0; i < blockSize; i++) {
+                out[i] = FastMath.cos(in[i]);
+            }
+            x += out[j % blockSize];
+        }
+        scalarTime = System.nanoTime() - time;
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            FastMath.cos(in, out);
+            x += out[j % blockSize];
+        }
+        bulkTime = System.nanoTime() - time;
+        reportBulk("cos", scalarTime, bulkTime);
+
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            for (int i = 0; i < blockSize; i++) {
+                out[i] = FastMath.pow(in[i], 3.0);
+            }
+            x += out[j % blockSize];
+        }
+        scalarTime = System.nanoTime() - time;
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            FastMath.pow(in, 3.0, out);
+            x += out[j % blockSize];
+        }
+        bulkTime = System.nanoTime() - time;
+        reportBulk("pow", scalarTime, bulkTime);
+
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            for (int i = 0; i < blockSize; i++) {
+                out[i] = FastMath.sqrt(in[i]);
+            }
+            x += out[j % blockSize];
+        }
+        scalarTime = System.nanoTime() - time;
+        time = System.nanoTime();
+        for (int j = 0; j < blocks; j++) {
+            FastMath.sqrt(in, out);
+            x += out[j % blockSize];
+        }
+        bulkTime = System.nanoTime() - time;
+        reportBulk("sqrt", scalarTime, bulkTime);
+
+        assertTrue(!Double.isNaN(x));
+    }
+
     @SuppressWarnings("boxing")
     private static void testSimpleBenchmark() {
         final String SM = "StrictMath";
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.Frequency;
+import org.apache.commons.math3.stat.LongFrequency;
+
+/**
+ * Benchmark for the counting of int values in {@link Frequency} and
+ * {@link LongFrequency}, followed by cumulative frequency queries for all
+ * the values in range.
+ * <p>
+ * The number of counted values and the range of the values can be changed
+ * with the {@code size} and {@code range} system properties.
+ * </p>
+ */
+public class FrequencyTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","2000000"));
+    private static final int RANGE = Integer.parseInt(System.getProperty("range","10000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s %14s Size=%d Range=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ns %11.2f ns";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/value","Time/cumFreq",SIZE,RANGE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x71d3c8a5e02f946bl);
+        final int[] data = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            data[i] = random.nextInt(RANGE);
+        }
+
+        long addTime = 0;
+        long queryTime = 0;
+        long reference = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            final Frequency frequency = new Frequency();
+            for (final int v : data) {
+                frequency.addValue(v);
+            }
+            addTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            reference = 0;
+            for (int v = 0; v < RANGE; v++) {
+                reference += frequency.getCumFreq(v);
+            }
+            queryTime += System.nanoTime() - start;
+        }
+        report("Frequency", addTime, queryTime);
+
+        addTime = 0;
+        queryTime = 0;
+        long primitive = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            final LongFrequency frequency = new LongFrequency();
+            for (final int v : data) {
+                frequency.addValue(v);
+            }
+            addTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            primitive = 0;
+            for (int v = 0; v < RANGE; v++) {
+                primitive += frequency.getCumFreq(v);
+            }
+            queryTime += System.nanoTime() - start;
+        }
+        report("LongFrequency", addTime, queryTime);
+
+        assertTrue(reference == primitive);
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long addTime, long queryTime) {
+        System.out.println(String.format(FMT_DTL, name,
+                                         (double) addTime / RUNS / SIZE,
+                                         (double) queryTime / RUNS / RANGE));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.BetaDistribution;
+import org.apache.commons.math3.distribution.FDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.InverseCumulativeProbabilityTable;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+
+/**
+ * Benchmark for quantile queries, with the solver-based
+ * {@code inverseCumulativeProbability} of the distributions and with an
+ * {@link InverseCumulativeProbabilityTable} of the same accuracy.
+ * <p>
+ * The number of queries can be changed with the {@code size} system property.
+ * </p>
+ */
+public class InverseCumulativeProbabilityTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","20000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s %12s %12s Size=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f us %9.2f us %9.2f ms";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","solver","table","table setup",SIZE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x5c2e8a41b97d03f6l);
+        final double[] p = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            p[i] = random.nextDouble();
+        }
+
+        run("gamma(0.5)", new GammaDistribution(0.5, 2), p);
+        run("gamma(4)", new GammaDistribution(4, 2), p);
+        run("beta(2,5)", new BetaDistribution(2, 5), p);
+        run("F(5,10)", new FDistribution(5, 10), p);
+    }
+
+    private static void run(String name, AbstractRealDistribution distribution, double[] p) {
+        final double[] solver = new double[SIZE];
+        final double[] tabulated = new double[SIZE];
+
+        long solverTime = 0;
+        long tableTime = 0;
+        long setupTime = 0;
+        InverseCumulativeProbabilityTable table = null;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < SIZE; i++) {
+                solver[i] = distribution.inverseCumulativeProbability(p[i]);
+            }
+            solverTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            table = new InverseCumulativeProbabilityTable(distribution);
+            setupTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < SIZE; i++) {
+                tabulated[i] = table.inverseCumulativeProbability(p[i]);
+            }
+            tableTime += System.nanoTime() - start;
+        }
+        report(name, solverTime, tableTime, setupTime);
+
+        // both methods are within the solver accuracy of the quantile
+        final double accuracy = table.getAbsoluteAccuracy();
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(Math.abs(solver[i] - tabulated[i]) <= 2 * accuracy);
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long solverTime, long tableTime, long setupTime) {
+        System.out.println(String.format(FMT_DTL, name,
+                                         solverTime * 1.0e-3 / RUNS / SIZE,
+                                         tableTime * 1.0e-3 / RUNS / SIZE,
+                                         setupTime * 1.0e-6 / RUNS));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.linear.BlockRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.correlation.KendallsCorrelation;
+
+/**
+ * Benchmark for the computation of a Kendall's Tau correlation matrix.
+ * <p>
+ * The correlations of all the pairs of columns computed one at a time are
+ * compared with the matrix computation, which sorts each column only once,
+ * both sequentially and with a fixed thread pool. The number of rows, columns
+ * and threads can be changed with the {@code size}, {@code columns} and
+ * {@code threads} system properties.
+ * </p>
+ */
+public class KendallsCorrelationTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","20000"));
+    private static final int COLUMNS = Integer.parseInt(System.getProperty("columns","20"));
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads",
+                                                                           Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Columns=%d Threads=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ms";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/matrix",SIZE,COLUMNS,THREADS,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x3b8f61d2c47e0a95l);
+        final double[][] data = new double[SIZE][COLUMNS];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                data[i][j] = (j % 4 == 0) ? random.nextInt(50) : random.nextGaussian() + 1.0e-4 * i * j;
+            }
+        }
+        final RealMatrix matrix = new BlockRealMatrix(data);
+        final KendallsCorrelation kendall = new KendallsCorrelation();
+
+        RealMatrix pairwise = null;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            pairwise = new BlockRealMatrix(COLUMNS, COLUMNS);
+            for (int i = 0; i < COLUMNS; i++) {
+                for (int j = 0; j < i; j++) {
+                    final double corr = kendall.correlation(matrix.getColumn(i), matrix.getColumn(j));
+                    pairwise.setEntry(i, j, corr);
+                    pairwise.setEntry(j, i, corr);
+                }
+                pairwise.setEntry(i, i, 1d);
+            }
+            time += System.nanoTime() - start;
+        }
+        report("pairwise", time);
+
+        RealMatrix sequential = null;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            sequential = kendall.computeCorrelationMatrix(matrix);
+            time += System.nanoTime() - start;
+        }
+        report("matrix", time);
+
+        RealMatrix parallel = null;
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            time = 0;
+            for (int run = 0; run < RUNS; run++) {
+                final long start = System.nanoTime();
+                parallel = kendall.computeCorrelationMatrix(matrix, executor);
+                time += System.nanoTime() - start;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        report("matrix, executor", time);
+
+        assertTrue(pairwise.equals(sequential));
+        assertTrue(sequential.equals(parallel));
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time * 1.0e-6 / RUNS));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.ranking.NaNStrategy;
+import org.apache.commons.math3.stat.ranking.NaturalRanking;
+import org.apache.commons.math3.stat.ranking.TiesStrategy;
+
+/**
+ * Benchmark for the ranking of values with {@link NaturalRanking}, in the
+ * calling thread and with an executor service, compared with the plain sort
+ * of a copy of the values.
+ * <p>
+ * The number of values, the number of distinct values and the number of
+ * threads can be changed with the {@code size}, {@code range} and
+ * {@code threads} system properties.
+ * </p>
+ */
+public class NaturalRankingTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","2000000"));
+    private static final int RANGE = Integer.parseInt(System.getProperty("range","100000"));
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads",
+                                                        Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","5"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Range=%d Threads=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ns";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/value",SIZE,RANGE,THREADS,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x4e07a9c2d15b38f6l);
+        final double[] data = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            data[i] = random.nextInt(RANGE);
+        }
+
+        double checksum = 0;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            final double[] sorted = data.clone();
+            Arrays.sort(sorted);
+            time += System.nanoTime() - start;
+            checksum += sorted[SIZE / 2];
+        }
+        report("Arrays.sort (copy)", time);
+
+        final NaturalRanking[] rankings = new NaturalRanking[] {
+            new NaturalRanking(NaNStrategy.FAILED, TiesStrategy.AVERAGE),
+            new NaturalRanking(NaNStrategy.FAILED, TiesStrategy.SEQUENTIAL),
+            new NaturalRanking(NaNStrategy.MAXIMAL, TiesStrategy.MINIMUM)
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (final NaturalRanking ranking : rankings) {
+                time = 0;
+                long parallelTime = 0;
+                double sum = 0;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    final double[] ranks = ranking.rank(data);
+                    time += System.nanoTime() - start;
+                    start = System.nanoTime();
+                    final double[] parallelRanks = ranking.rank(data, executor);
+                    parallelTime += System.nanoTime() - start;
+                    assertTrue(Arrays.equals(ranks, parallelRanks));
+                    sum = 0;
+                    for (final double r : ranks) {
+                        sum += r;
+                    }
+                }
+                report(ranking.getTiesStrategy().toString(), time);
+                report(ranking.getTiesStrategy() + " (parallel)", parallelTime);
+                if (ranking.getTiesStrategy() != TiesStrategy.MINIMUM) {
+                    // ranks are a permutation of 1..SIZE, or averages of such ranks
+                    assertTrue(sum == 0.5 * SIZE * (SIZE + 1.0));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(checksum > 0);
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, (double) time / RUNS / SIZE));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+
+/**
+ * Benchmark for the computation of the percentiles p1..p99 of a large array.
+ * <p>
+ * The array size defaults to 50 million elements and can be changed with the
+ * {@code size} system property. The JVM needs a heap of about 1.5 GB for the
+ * default size, e.g. {@code -Xmx2g}.
+ * </p>
+ */
+public class PercentileTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","50000000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.1f ms";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/run",SIZE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x5d3b9c04a1e7f628l);
+        final double[] data = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            data[i] = random.nextGaussian();
+        }
+        final double[] p = new double[99];
+        for (int i = 0; i < p.length; i++) {
+            p[i] = i + 1;
+        }
+        final Percentile percentile = new Percentile();
+
+        double[] single = null;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            single = new double[p.length];
+            for (int i = 0; i < p.length; i++) {
+                single[i] = percentile.evaluate(data, p[i]);
+            }
+            time += System.nanoTime() - start;
+        }
+        report("one evaluate per p", time);
+
+        double[] multiple = null;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            multiple = percentile.evaluate(data, p);
+            time += System.nanoTime() - start;
+        }
+        report("evaluate(double[] p)", time);
+
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            final double[] sorted = data.clone();
+            Arrays.sort(sorted);
+            time += System.nanoTime() - start;
+        }
+        report("full sort", time);
+
+        assertTrue(Arrays.equals(single, multiple));
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time * 1.0e-6 / RUNS));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
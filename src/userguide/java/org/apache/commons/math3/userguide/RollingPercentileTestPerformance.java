@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+
+/**
+ * Benchmark for the p50 and p99 of a rolling window, queried after each
+ * added value.
+ * <p>
+ * The incrementally maintained order statistics of {@link DescriptiveStatistics}
+ * are compared with the evaluation of a {@link Percentile} over a copy of the
+ * window. The window size and the number of added values can be changed with
+ * the {@code window} and {@code size} system properties.
+ * </p>
+ */
+public class RollingPercentileTestPerformance {
+    private static final int WINDOW = Integer.parseInt(System.getProperty("window","10000"));
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","20000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Window=%d Size=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f us";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/value",WINDOW,SIZE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x27e4b90c1d5a3f68l);
+        final double[] data = new double[WINDOW + SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextGaussian();
+        }
+
+        double incremental = 0;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final DescriptiveStatistics stats = new DescriptiveStatistics(WINDOW);
+            for (int i = 0; i < WINDOW; i++) {
+                stats.addValue(data[i]);
+            }
+            final long start = System.nanoTime();
+            incremental = 0;
+            for (int i = WINDOW; i < data.length; i++) {
+                stats.addValue(data[i]);
+                incremental += stats.getPercentile(50) + stats.getPercentile(99);
+            }
+            time += System.nanoTime() - start;
+        }
+        report("order statistic tree", time);
+
+        double copied = 0;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final DescriptiveStatistics stats = new DescriptiveStatistics(WINDOW);
+            final Percentile percentile = new Percentile();
+            for (int i = 0; i < WINDOW; i++) {
+                stats.addValue(data[i]);
+            }
+            final long start = System.nanoTime();
+            copied = 0;
+            for (int i = WINDOW; i < data.length; i++) {
+                stats.addValue(data[i]);
+                final double[] values = stats.getValues();
+                copied += percentile.evaluate(values, 50) + percentile.evaluate(values, 99);
+            }
+            time += System.nanoTime() - start;
+        }
+        report("copy and select", time);
+
+        assertTrue(incremental == copied);
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time * 1.0e-3 / RUNS / SIZE));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.MathArrays;
+
+/**
+ * Benchmark for {@link MathArrays#sortInPlace(double[], double[][])} with two
+ * companion arrays, compared with the former implementation sorting boxed
+ * (key, index) pairs, and with the sort submitted to an executor service.
+ * <p>
+ * The array size defaults to 10 million elements and can be changed with the
+ * {@code size} system property; the number of threads can be changed with
+ * the {@code threads} system property.
+ * </p>
+ */
+public class SortInPlaceTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","10000000"));
+    private static final int THREADS = Integer.parseInt(System.getProperty("threads",
+                                                        Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Threads=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.1f ms";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/run",SIZE,THREADS,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x7c19e4a2d05b3f86l);
+        final double[] x = new double[SIZE];
+        final double[] y = new double[SIZE];
+        final double[] z = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            x[i] = random.nextGaussian();
+            y[i] = i;
+            z[i] = -i;
+        }
+
+        double[][] boxed = null;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            boxed = new double[][] { x.clone(), y.clone(), z.clone() };
+            final long start = System.nanoTime();
+            sortBoxed(boxed[0], boxed[1], boxed[2]);
+            time += System.nanoTime() - start;
+        }
+        report("boxed pairs", time);
+
+        double[][] primitive = null;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            primitive = new double[][] { x.clone(), y.clone(), z.clone() };
+            final long start = System.nanoTime();
+            MathArrays.sortInPlace(primitive[0], primitive[1], primitive[2]);
+            time += System.nanoTime() - start;
+        }
+        report("sortInPlace", time);
+
+        double[][] parallel = null;
+        time = 0;
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int run = 0; run < RUNS; run++) {
+                parallel = new double[][] { x.clone(), y.clone(), z.clone() };
+                final long start = System.nanoTime();
+                MathArrays.sortInPlace(parallel[0], MathArrays.OrderDirection.INCREASING, executor,
+                                       parallel[1], parallel[2]);
+                time += System.nanoTime() - start;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        report("sortInPlace parallel", time);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Arrays.equals(boxed[i], primitive[i]));
+            assertTrue(Arrays.equals(primitive[i], parallel[i]));
+        }
+    }
+
+    /**
+     * Former implementation of sortInPlace, in increasing order.
+     *
+     * @param x Array to sort.
+     * @param y First companion array.
+     * @param z Second companion array.
+     */
+    private static void sortBoxed(final double[] x, final double[] y, final double[] z) {
+        final int len = x.length;
+        final Pair[] pairs = new Pair[len];
+        for (int i = 0; i < len; i++) {
+            pairs[i] = new Pair(x[i], i);
+        }
+        Arrays.sort(pairs, new Comparator<Pair>() {
+            /** {@inheritDoc} */
+            public int compare(Pair o1, Pair o2) {
+                return Double.compare(o1.key, o2.key);
+            }
+        });
+        final int[] indices = new int[len];
+        for (int i = 0; i < len; i++) {
+            x[i] = pairs[i].key;
+            indices[i] = pairs[i].value;
+        }
+        for (final double[] companion : new double[][] { y, z }) {
+            final double[] orig = companion.clone();
+            for (int i = 0; i < len; i++) {
+                companion[i] = orig[indices[i]];
+            }
+        }
+    }
+
+    /** Boxed (key, index) pair. */
+    private static class Pair {
+        /** Key. */
+        private final double key;
+        /** Index. */
+        private final int value;
+
+        /**
+         * @param key Key.
+         * @param value Index.
+         */
+        Pair(double key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time * 1.0e-6 / RUNS));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.correlation.StorelessCovariance;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Benchmark for the streaming computation of a covariance matrix with
+ * {@link StorelessCovariance}, adding rows one at a time, by batches, or
+ * in two partitions appended at the end.
+ * <p>
+ * The number of rows and the dimension can be changed with the {@code size}
+ * and {@code dimension} system properties.
+ * </p>
+ */
+public class StorelessCovarianceTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","2000"));
+    private static final int DIMENSION = Integer.parseInt(System.getProperty("dimension","500"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s Size=%d Dimension=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f us";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/row",SIZE,DIMENSION,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x7c2b5e08f1a4d963l);
+        final double[][] rows = new double[SIZE][DIMENSION];
+        for (int k = 0; k < SIZE; k++) {
+            for (int i = 0; i < DIMENSION; i++) {
+                rows[k][i] = random.nextGaussian() + ((i == 0) ? 0 : 0.5 * rows[k][i - 1]);
+            }
+        }
+
+        // warm-up
+        rowByRow(rows);
+        batch(rows);
+        partitions(rows);
+
+        double[][] single = null;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            single = rowByRow(rows);
+            time += System.nanoTime() - start;
+        }
+        report("row by row", time);
+
+        double[][] batch = null;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            batch = batch(rows);
+            time += System.nanoTime() - start;
+        }
+        report("batch", time);
+
+        double[][] merged = null;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            merged = partitions(rows);
+            time += System.nanoTime() - start;
+        }
+        report("two partitions", time);
+
+        for (int i = 0; i < DIMENSION; i++) {
+            for (int j = 0; j < DIMENSION; j++) {
+                final double tolerance = 1.0e-10 * single[i][i];
+                assertTrue(FastMath.abs(single[i][j] - batch[i][j]) <= tolerance);
+                assertTrue(FastMath.abs(single[i][j] - merged[i][j]) <= tolerance);
+            }
+        }
+    }
+
+    private static double[][] rowByRow(double[][] rows) {
+        final StorelessCovariance covariance = new StorelessCovariance(DIMENSION);
+        for (final double[] row : rows) {
+            covariance.increment(row);
+        }
+        return covariance.getData();
+    }
+
+    private static double[][] batch(double[][] rows) {
+        final StorelessCovariance covariance = new StorelessCovariance(DIMENSION);
+        covariance.increment(rows);
+        return covariance.getData();
+    }
+
+    private static double[][] partitions(double[][] rows) {
+        final double[][] first = new double[rows.length / 2][];
+        final double[][] second = new double[rows.length - first.length][];
+        System.arraycopy(rows, 0, first, 0, first.length);
+        System.arraycopy(rows, first.length, second, 0, second.length);
+        final StorelessCovariance covariance = new StorelessCovariance(DIMENSION);
+        covariance.increment(first);
+        final StorelessCovariance other = new StorelessCovariance(DIMENSION);
+        other.increment(second);
+        covariance.append(other);
+        return covariance.getData();
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time) {
+        System.out.println(String.format(FMT_DTL, name, time * 1.0e-3 / RUNS / SIZE));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.math.BigDecimal;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.descriptive.moment.Variance;
+import org.apache.commons.math3.stat.descriptive.summary.SummationMethod;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Accuracy and throughput of the {@link SummationMethod summation methods}
+ * for sums and variances.
+ * <p>
+ * The values are drawn from a normal distribution with a large offset, so
+ * that the naive summation loses several digits. The error is measured in
+ * units in the last place of the exact result.
+ * </p>
+ */
+public class SummationTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","1000000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","20"));
+
+    // Header format
+    private static final String FMT_HDR = "%-20s %12s %14s Size=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-20s %9.2f ns %14.1f";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/value","Error (ulps)",SIZE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x51d3e8a7c09b42f6l);
+        final double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = 1.0e6 + random.nextGaussian();
+        }
+
+        BigDecimal exact = BigDecimal.ZERO;
+        for (final double value : values) {
+            exact = exact.add(new BigDecimal(value));
+        }
+        final double exactSum = exact.doubleValue();
+        final BigDecimal mean = exact.divide(new BigDecimal(SIZE));
+        BigDecimal exactSquares = BigDecimal.ZERO;
+        for (final double value : values) {
+            final BigDecimal dev = new BigDecimal(value).subtract(mean);
+            exactSquares = exactSquares.add(dev.multiply(dev));
+        }
+        final double exactVariance = exactSquares.doubleValue() / (SIZE - 1);
+
+        for (final SummationMethod method : SummationMethod.values()) {
+            double sum = 0;
+            long start = System.nanoTime();
+            for (int run = 0; run < RUNS; run++) {
+                sum = method.sum(values, 0, SIZE);
+            }
+            report("sum, " + method, System.nanoTime() - start, (sum - exactSum) / FastMath.ulp(exactSum));
+        }
+
+        for (final SummationMethod method : SummationMethod.values()) {
+            final Variance variance = new Variance(true, method);
+            double var = 0;
+            long start = System.nanoTime();
+            for (int run = 0; run < RUNS; run++) {
+                var = variance.evaluate(values);
+            }
+            assertTrue(FastMath.abs(var - exactVariance) < 1.0e-6 * exactVariance);
+            report("variance, " + method, System.nanoTime() - start,
+                   (var - exactVariance) / FastMath.ulp(exactVariance));
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time, double error) {
+        System.out.println(String.format(FMT_DTL, name, time / ((double) RUNS * SIZE), FastMath.abs(error)));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}
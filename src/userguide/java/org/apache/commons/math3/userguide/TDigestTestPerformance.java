@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.userguide;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.descriptive.rank.PSquarePercentile;
+import org.apache.commons.math3.stat.descriptive.rank.TDigest;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Benchmark for the ingestion of log-normal values (as latencies) in
+ * a {@link TDigest}, compared with {@link PSquarePercentile}.
+ * <p>
+ * The rank error of the p50, p99 and p99.9 estimates is displayed
+ * relative to the exact ranks, as well as the serialized size of the
+ * sketches. The number of values can be changed with the {@code size}
+ * system property.
+ * </p>
+ */
+public class TDigestTestPerformance {
+    private static final int SIZE = Integer.parseInt(System.getProperty("size","2000000"));
+    private static final int RUNS = Integer.parseInt(System.getProperty("testRuns","3"));
+    private static final double[] P = { 50, 99, 99.9 };
+
+    // Header format
+    private static final String FMT_HDR = "%-22s %12s %10s %10s %10s %8s Size=%d Runs=%d Java %s (%s) %s (%s)";
+    // Detail format
+    private static final String FMT_DTL = "%-22s %9.2f ns %10.5f %10.5f %10.5f %8d";
+
+    @SuppressWarnings("boxing")
+    public static void main(String[] args) throws IOException {
+        System.out.println(String.format(FMT_HDR,
+                                         "Name","Time/value","p50","p99","p99.9","Bytes",SIZE,RUNS,
+                                         System.getProperty("java.version"),
+                                         System.getProperty("java.runtime.version","?"),
+                                         System.getProperty("java.vm.name"),
+                                         System.getProperty("java.vm.version")
+                                         ));
+
+        final RandomGenerator random = new Well19937c(0x3a7c51e09d2b4f86l);
+        final double[] data = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            data[i] = FastMath.exp(random.nextGaussian());
+        }
+        final double[] sorted = data.clone();
+        Arrays.sort(sorted);
+
+        TDigest digest = null;
+        long time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            digest = new TDigest();
+            for (final double x : data) {
+                digest.increment(x);
+            }
+            digest.getResult();
+            time += System.nanoTime() - start;
+        }
+        final double[] estimates = new double[P.length];
+        for (int i = 0; i < P.length; i++) {
+            estimates[i] = digest.getPercentile(P[i]);
+        }
+        report("TDigest", time, sorted, estimates, digest);
+
+        final int parts = 16;
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            digest = new TDigest();
+            for (int k = 0; k < parts; k++) {
+                final TDigest part = new TDigest();
+                for (int i = k * SIZE / parts; i < (k + 1) * SIZE / parts; i++) {
+                    part.increment(data[i]);
+                }
+                digest.merge(part);
+            }
+            digest.getResult();
+            time += System.nanoTime() - start;
+        }
+        for (int i = 0; i < P.length; i++) {
+            estimates[i] = digest.getPercentile(P[i]);
+        }
+        report("TDigest 16 merged", time, sorted, estimates, digest);
+
+        final PSquarePercentile[] psquare = new PSquarePercentile[P.length];
+        time = 0;
+        for (int run = 0; run < RUNS; run++) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < P.length; i++) {
+                psquare[i] = new PSquarePercentile(P[i]);
+                for (final double x : data) {
+                    psquare[i].increment(x);
+                }
+                estimates[i] = psquare[i].getResult();
+            }
+            time += System.nanoTime() - start;
+        }
+        report("PSquare (one per p)", time, sorted, estimates, psquare);
+
+        assertTrue(digest.getN() == SIZE);
+    }
+
+    @SuppressWarnings("boxing")
+    private static void report(String name, long time, double[] sorted,
+                               double[] estimates, Serializable sketch)
+        throws IOException {
+        final double[] errors = new double[estimates.length];
+        for (int i = 0; i < estimates.length; i++) {
+            int rank = Arrays.binarySearch(sorted, estimates[i]);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            errors[i] = (double) rank / sorted.length - P[i] / 100;
+        }
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final ObjectOutputStream oos = new ObjectOutputStream(bos);
+        oos.writeObject(sketch);
+        oos.close();
+        System.out.println(String.format(FMT_DTL, name, (double) time / RUNS / SIZE,
+                                         errors[0], errors[1], errors[2], bos.size()));
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            System.err.println("assertion failed!");
+            System.exit(1);
+        }
+    }
+
+}